@@ -0,0 +1,36 @@
+package com.jonathan.survivor.benchmarks;
+
+import com.jonathan.survivor.Profile;
+import com.jonathan.survivor.World;
+import com.jonathan.survivor.managers.ItemManager;
+
+/*
+ * Creates headless World instances used by the benchmarks. Every world uses the stubbed assets and a fixed world seed so that runs are comparable.
+ */
+
+public class BenchmarkWorlds
+{
+	/** Stores the world seed used by every benchmark, unless a benchmark specifies its own. */
+	public static final int DEFAULT_WORLD_SEED = 20140111;
+
+	/** Stores the time elapsed per simulated frame, in seconds. Matches a game running at 60 frames per second. */
+	public static final float DELTA_TIME = 1 / 60f;
+
+	/** Creates a headless World generated from the given seed. The world needs no GameScreen, and is never rendered. */
+	public static World create(int worldSeed)
+	{
+		//Installs the stubbed skeleton data before any GameObject is created.
+		StubAssets.install();
+
+		//Creates a new profile, and forces its world seed so that the generated terrain is the same on every run.
+		Profile profile = new Profile(0);
+		profile.setWorldSeed(worldSeed);
+
+		//Creates the world and tells it that no renderer will play its animations. Seeds the item drops, so that every run drops the same items.
+		World world = new World(worldSeed, profile, new ItemManager());
+		world.setHeadless(true);
+		world.setDropSeed(worldSeed);
+
+		return world;
+	}
+}
@@ -0,0 +1,391 @@
+package com.jonathan.survivor.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.Animation;
+import com.esotericsoftware.spine.Animation.ColorTimeline;
+import com.esotericsoftware.spine.Animation.EventTimeline;
+import com.esotericsoftware.spine.Animation.RotateTimeline;
+import com.esotericsoftware.spine.Animation.ScaleTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Animation.TranslateTimeline;
+import com.esotericsoftware.spine.BoneData;
+import com.esotericsoftware.spine.Event;
+import com.esotericsoftware.spine.EventData;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.Skin;
+import com.esotericsoftware.spine.SlotData;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+import com.jonathan.survivor.Assets;
+import com.jonathan.survivor.inventory.Axe;
+import com.jonathan.survivor.inventory.MeleeWeapon;
+import com.jonathan.survivor.inventory.RangedWeapon;
+import com.jonathan.survivor.inventory.Rifle;
+
+/*
+ * Installs an Assets singleton whose skeletons are built in code instead of being read from the Spine exports. The skeletons contain every bone, slot,
+ * attachment and animation looked up by the game logic, and the animations fire the same events as the real ones. Like the Spine rigs, the player and the
+ * zombies have a full body of bones and slots, and every animation keys each bone with eased rotations, translations and scales, so that updating the World
+ * poses the skeletons as it does in the game. Allows the World to be simulated without a GL context or any files.
+ */
+
+public class StubAssets
+{
+	/** Stores the duration of the animations which play once, in seconds. Looping animations share the same duration. */
+	private static final float ANIMATION_DURATION = 0.5f;
+
+	/** Stores the amount of keys of the rotation timelines, and of the translation, scale and color timelines. */
+	private static final int ROTATE_KEYS = 5, TRANSLATE_KEYS = 3;
+	/** Stores how far the animations move the bones from their setup pose: an angle in degrees, an offset in world units, and a change of scale. */
+	private static final float MAX_ANGLE = 20, MAX_OFFSET = 0.05f, MAX_SCALE = 0.1f;
+
+	/** Installs a stubbed Assets singleton inside Assets.instance, unless one was already installed. Returns the installed instance. */
+	public static Assets install()
+	{
+		//If the stubbed assets were already installed, return them. Every GameObject created afterwards shares the same skeleton data.
+		if(Assets.instance != null)
+			return Assets.instance;
+
+		//The Assets constructor reads the screen size. Give libGDX a Graphics implementation which reports an empty screen.
+		Gdx.graphics = stubGraphics();
+		//The Assets constructor looks for the binary skeletons when they are preferred. Queue the JSON skeletons instead, since there are no files to search.
+		Assets.preferBinarySkeletons = false;
+
+		//Creates the Assets singleton. This only queues assets in its AssetManager, which are never loaded.
+		Assets assets = new Assets();
+		Assets.instance = assets;
+
+		//Populates the skeleton data and the animations of every GameObject.
+		stubPlayer(assets);
+		stubZombie(assets);
+		stubInteractiveObjects(assets);
+		stubItemsAndProjectiles(assets);
+
+		//Creates the template sprites copied by the ItemManager. They have no texture, since nothing is drawn.
+		assets.woodSprite = new Sprite();
+		assets.ironSprite = new Sprite();
+		assets.waterSprite = new Sprite();
+		assets.charcoalSprite = new Sprite();
+		assets.saltpeterSprite = new Sprite();
+		assets.sulfurSprite = new Sprite();
+		assets.gunpowderSprite = new Sprite();
+		assets.bulletSprite = new Sprite();
+		assets.teleporterSprite = new Sprite();
+		assets.axeSprite = new Sprite();
+		assets.rifleSprite = new Sprite();
+
+		return assets;
+	}
+
+	/** Creates the player's skeleton data, which holds the bones, slots and attachments used to position his weapons. */
+	private static void stubPlayer(Assets assets)
+	{
+		//Creates the player's body, along with the tip of his gun, whose position is read by the AnimationManager.
+		SkeletonData data = humanoidSkeletonData("player");
+		addBone(data, "Gun_Tip", "R_Hand", 0.9f, 0, 0, 0);
+
+		//Creates the slots holding the player's weapons and teleporter, along with the attachments displayed in them.
+		addSlot(data, MeleeWeapon.WEAPON_SLOT_NAME, "R_Hand", Axe.WEAPON_ATTACHMENT_NAME);
+		addSlot(data, RangedWeapon.WEAPON_SLOT_NAME, "R_Hand", Rifle.WEAPON_ATTACHMENT_NAME);
+		addSlot(data, "Teleporter", "L_Hand", "Teleporter");
+
+		assets.playerSkeletonData = data;
+
+		//Creates the player's animations. The events fired by the CHOP_TREE and MELEE animations match the integers of the real Spine events.
+		assets.playerIdle = animation(data, "Idle");
+		assets.playerIdle_Combat = animation(data, "Idle_Combat");
+		assets.playerBlink = animation(data, "Blink");
+		assets.playerWalk = animation(data, "Walk", "Footstep", 2);
+		assets.playerJump = animation(data, "Jump");
+		assets.playerJump_Combat = animation(data, "Jump_Combat");
+		assets.playerDoubleJump = animation(data, "DoubleJump");
+		assets.playerFall = animation(data, "Fall");
+		assets.playerChopTree = animation(data, "ChopTree", "HitTree", 0);
+		assets.playerChopTree_Start = animation(data, "ChopTree_Start");
+		assets.playerEnterCombat = animation(data, "Enter_Combat");
+		assets.playerMelee = animation(data, "Melee", "HitZombie", 1);
+		assets.playerCharge_Start = animation(data, "Charge_Start");
+		assets.playerCharge = animation(data, "Charge");
+		assets.playerFire = animation(data, "Fire");
+		assets.playerHit = animation(data, "Hit");
+		assets.playerDead = animation(data, "Dead");
+		assets.playerTeleport = animation(data, "Teleport");
+	}
+
+	/** Creates the zombies' skeleton data, along with their animations. The SMASH animation fires the event which spawns an earthquake. */
+	private static void stubZombie(Assets assets)
+	{
+		//Creates the zombie's body, whose hands are used to compute his arm collider, and the slot which displays his alarm symbol.
+		SkeletonData data = humanoidSkeletonData("zombie");
+		addSlot(data, "Alarm", "root", "AlarmSymbol");
+
+		assets.zombieSkeletonData = data;
+
+		//Creates the zombie's animations.
+		assets.zombieIdle = animation(data, "Idle");
+		assets.zombieWalk = animation(data, "Walk");
+		assets.zombieAlerted = animation(data, "Alerted");
+		assets.zombieEnterCombat = animation(data, "Enter_Combat");
+		assets.zombieMelee = animation(data, "Melee");
+		assets.zombieCharge_Start = animation(data, "Charge_Start");
+		assets.zombieCharge = animation(data, "Charge");
+		assets.zombieSmash = animation(data, "Smash", "HitGround", 0);
+		assets.zombieHitHead = animation(data, "Hit_Head");
+		assets.zombieDead = animation(data, "Dead");
+	}
+
+	/** Creates the skeleton data and the animations of the trees and boxes. */
+	private static void stubInteractiveObjects(Assets assets)
+	{
+		//Creates the tree's skeleton, made of a trunk and its leaves, and its animations.
+		assets.treeSkeletonData = skeletonData("tree");
+		addBone(assets.treeSkeletonData, "Trunk", "root", 0, 0, 90, 2);
+		addBone(assets.treeSkeletonData, "Leaves", "Trunk", 2, 0, 0, 1.5f);
+		addBodySlot(assets.treeSkeletonData, "Trunk");
+		addBodySlot(assets.treeSkeletonData, "Leaves");
+		assets.treeIdle = animation(assets.treeSkeletonData, "Idle");
+		assets.treeClicked = animation(assets.treeSkeletonData, "Clicked");
+		assets.treeHit = animation(assets.treeSkeletonData, "Hit");
+		assets.treeScavenged = animation(assets.treeSkeletonData, "Scavenged");
+
+		//Creates the box's skeleton, made of the box and its lid, and its animations.
+		assets.boxSkeletonData = skeletonData("box");
+		addBone(assets.boxSkeletonData, "Box", "root", 0, 0.4f, 0, 0);
+		addBone(assets.boxSkeletonData, "Lid", "Box", 0, 0.4f, 0, 0.8f);
+		addBodySlot(assets.boxSkeletonData, "Box");
+		addBodySlot(assets.boxSkeletonData, "Lid");
+		assets.boxIdle = animation(assets.boxSkeletonData, "Idle");
+		assets.boxClicked = animation(assets.boxSkeletonData, "Clicked");
+		assets.boxScavenged = animation(assets.boxSkeletonData, "Scavenged");
+	}
+
+	/** Creates the skeleton data and the animations of the items dropped on the ground and of the projectiles. */
+	private static void stubItemsAndProjectiles(Assets assets)
+	{
+		//Creates the skeleton and animations of the ItemObjects. The item's image is attached by the renderer, which isn't used here.
+		assets.itemSkeletonData = skeletonData("item");
+		addBone(assets.itemSkeletonData, "Item", "root", 0, 0.3f, 0, 0);
+		assets.itemFly = animation(assets.itemSkeletonData, "Fly");
+		assets.itemGrounded = animation(assets.itemSkeletonData, "Grounded");
+		assets.itemClicked = animation(assets.itemSkeletonData, "Clicked");
+
+		//Creates the skeleton and animation of the projectiles, such as earthquakes.
+		assets.projectileSkeletonData = skeletonData("projectile");
+		addBone(assets.projectileSkeletonData, "Rock", "root", 0, 0.2f, 0, 0);
+		addBodySlot(assets.projectileSkeletonData, "Rock");
+		assets.projectileIdle = animation(assets.projectileSkeletonData, "Idle");
+	}
+
+	/** Creates a SkeletonData instance with a root bone, and no other bones or slots. */
+	private static SkeletonData skeletonData(String name)
+	{
+		//Creates the skeleton data and its default skin, which holds the attachments of every slot.
+		SkeletonData data = new SkeletonData();
+		data.setName(name);
+		data.setDefaultSkin(new Skin("default"));
+
+		//Creates the root bone, placed by the game at the bottom-center of the GameObject.
+		data.addBone(new BoneData("root", null));
+
+		return data;
+	}
+
+	/** Creates the skeleton data of a human body, shaped like the player's and the zombies' Spine rigs. Every body part has a bone, and a slot which
+	 *  displays it. The skeleton is about as tall as the colliders of the humans. */
+	private static SkeletonData humanoidSkeletonData(String name)
+	{
+		SkeletonData data = skeletonData(name);
+
+		//Creates the spine, from the hip up to the head. The hip points upwards, so every bone above it extends upwards.
+		addBone(data, "Hip", "root", 0, 1.1f, 90, 0.1f);
+		addBone(data, "Torso", "Hip", 0.1f, 0, 0, 0.8f);
+		addBone(data, "Head", "Torso", 0.8f, 0, 0, 0.5f);
+
+		//Creates the arms, which hang from the shoulders with their elbows bent forward.
+		addBone(data, "R_Arm", "Torso", 0.7f, -0.1f, 170, 0.45f);
+		addBone(data, "R_Forearm", "R_Arm", 0.45f, 0, 20, 0.4f);
+		addBone(data, "R_Hand", "R_Forearm", 0.4f, 0, 0, 0.15f);
+		addBone(data, "L_Arm", "Torso", 0.7f, 0.1f, 190, 0.45f);
+		addBone(data, "L_Forearm", "L_Arm", 0.45f, 0, -20, 0.4f);
+		addBone(data, "L_Hand", "L_Forearm", 0.4f, 0, 0, 0.15f);
+
+		//Creates the legs, which go down from the hip to the feet.
+		addBone(data, "R_Thigh", "Hip", 0, -0.1f, 180, 0.55f);
+		addBone(data, "R_Shin", "R_Thigh", 0.55f, 0, 0, 0.5f);
+		addBone(data, "R_Foot", "R_Shin", 0.5f, 0, 90, 0.2f);
+		addBone(data, "L_Thigh", "Hip", 0, 0.1f, 180, 0.55f);
+		addBone(data, "L_Shin", "L_Thigh", 0.55f, 0, 0, 0.5f);
+		addBone(data, "L_Foot", "L_Shin", 0.5f, 0, 90, 0.2f);
+
+		//Creates the slots of the body parts, from back to front: the left limbs are drawn behind the body, and the right limbs in front of it.
+		String[] bodyParts = { "L_Thigh", "L_Shin", "L_Foot", "L_Arm", "L_Forearm", "L_Hand", "Hip", "Torso", "Head",
+				"R_Thigh", "R_Shin", "R_Foot", "R_Arm", "R_Forearm", "R_Hand" };
+		for(String bodyPart : bodyParts)
+			addBodySlot(data, bodyPart);
+
+		return data;
+	}
+
+	/** Adds a bone with the given setup pose, relative to its parent, to the skeleton data. The parent must already be in the skeleton. */
+	private static void addBone(SkeletonData data, String name, String parentName, float x, float y, float rotation, float length)
+	{
+		BoneData bone = new BoneData(name, data.findBone(parentName));
+		bone.setX(x);
+		bone.setY(y);
+		bone.setRotation(rotation);
+		bone.setLength(length);
+		data.addBone(bone);
+	}
+
+	/** Adds a slot bound to the bone of the given name, which displays an attachment of the same name in the setup pose. */
+	private static void addBodySlot(SkeletonData data, String boneName)
+	{
+		addSlot(data, boneName, boneName, boneName).setAttachmentName(boneName);
+	}
+
+	/** Adds a slot bound to the given bone, along with a RegionAttachment of the given name inside the skeleton's default skin. Returns the slot. */
+	private static SlotData addSlot(SkeletonData data, String slotName, String boneName, String attachmentName)
+	{
+		//Creates the slot and registers it inside the skeleton data.
+		SlotData slot = new SlotData(slotName, data.findBone(boneName));
+		data.addSlot(slot);
+
+		//Creates a one-unit square attachment, since the game logic only reads the size of the attachments.
+		RegionAttachment attachment = new RegionAttachment(attachmentName);
+		attachment.setWidth(1);
+		attachment.setHeight(1);
+
+		//Registers the attachment inside the default skin, under the index of its slot.
+		data.getDefaultSkin().addAttachment(data.findSlotIndex(slotName), attachmentName, attachment);
+
+		return slot;
+	}
+
+	/** Creates an animation with the given name which moves every bone of the skeleton, and registers it inside the skeleton data. */
+	private static Animation animation(SkeletonData data, String name)
+	{
+		Animation animation = new Animation(name, timelines(data, name), ANIMATION_DURATION);
+		data.addAnimation(animation);
+
+		return animation;
+	}
+
+	/** Creates an animation which fires an event with the given name and integer halfway through the animation. */
+	private static Animation animation(SkeletonData data, String name, String eventName, int eventInt)
+	{
+		//Creates the event's data, which holds the integer read by the AnimationStateListeners.
+		EventData eventData = new EventData(eventName);
+		eventData.setInt(eventInt);
+		data.addEvent(eventData);
+
+		//Creates the event fired halfway through the animation.
+		Event event = new Event(eventData);
+		event.setInt(eventInt);
+		EventTimeline eventTimeline = new EventTimeline(1);
+		eventTimeline.setFrame(0, ANIMATION_DURATION / 2, event);
+
+		//Creates the animation holding the event timeline, along with the timelines which move the bones.
+		Array<Timeline> timelines = timelines(data, name);
+		timelines.add(eventTimeline);
+		Animation animation = new Animation(name, timelines, ANIMATION_DURATION);
+		data.addAnimation(animation);
+
+		return animation;
+	}
+
+	/** Creates the timelines with which an animation poses the skeleton, keyed like a Spine export. Every bone but the root is rotated and translated,
+	 *  the bone under the root is scaled, and the first slot is tinted. The keys are random, but seeded by the names of the skeleton and the animation, so
+	 *  that every run plays the same animations. The last key of each timeline matches the first one, so that looping animations don't jump. */
+	private static Array<Timeline> timelines(SkeletonData data, String name)
+	{
+		Array<Timeline> timelines = new Array<Timeline>();
+		Random random = new Random((data.getName() + "/" + name).hashCode());
+
+		for(int bone = 1; bone < data.getBones().size; bone++)
+		{
+			//Rotates the bone back and forth around its setup rotation, easing from each key into the next.
+			RotateTimeline rotate = new RotateTimeline(ROTATE_KEYS);
+			rotate.setBoneIndex(bone);
+			float firstAngle = randomOffset(random, MAX_ANGLE);
+			for(int key = 0; key < ROTATE_KEYS; key++)
+			{
+				float angle = (key == 0 || key == ROTATE_KEYS - 1)? firstAngle : randomOffset(random, MAX_ANGLE);
+				rotate.setFrame(key, keyTime(key, ROTATE_KEYS), angle);
+				if(key < ROTATE_KEYS - 1)
+					rotate.setCurve(key, 0.25f, 0, 0.75f, 1);
+			}
+			timelines.add(rotate);
+
+			//Moves the bone away from its setup position halfway through the animation.
+			TranslateTimeline translate = new TranslateTimeline(TRANSLATE_KEYS);
+			translate.setBoneIndex(bone);
+			translate.setFrame(0, 0, 0, 0);
+			translate.setFrame(1, keyTime(1, TRANSLATE_KEYS), randomOffset(random, MAX_OFFSET), randomOffset(random, MAX_OFFSET));
+			translate.setFrame(2, ANIMATION_DURATION, 0, 0);
+			timelines.add(translate);
+
+			//Squashes and stretches the bone under the root, which scales the whole body.
+			if(bone == 1)
+			{
+				ScaleTimeline scale = new ScaleTimeline(TRANSLATE_KEYS);
+				scale.setBoneIndex(bone);
+				scale.setFrame(0, 0, 1, 1);
+				scale.setFrame(1, keyTime(1, TRANSLATE_KEYS), 1 + randomOffset(random, MAX_SCALE), 1 + randomOffset(random, MAX_SCALE));
+				scale.setFrame(2, ANIMATION_DURATION, 1, 1);
+				scale.setCurve(0, 0.25f, 0, 0.75f, 1);
+				timelines.add(scale);
+			}
+		}
+
+		//Tints the first slot halfway through the animation, like the flashes of the real animations.
+		if(data.getSlots().size > 0)
+		{
+			ColorTimeline color = new ColorTimeline(TRANSLATE_KEYS);
+			color.setSlotIndex(0);
+			color.setFrame(0, 0, 1, 1, 1, 1);
+			color.setFrame(1, keyTime(1, TRANSLATE_KEYS), 1, 0.5f + random.nextFloat() / 2, 0.5f + random.nextFloat() / 2, 1);
+			color.setFrame(2, ANIMATION_DURATION, 1, 1, 1, 1);
+			timelines.add(color);
+		}
+
+		return timelines;
+	}
+
+	/** Returns the time of the given key of a timeline whose keys are spread evenly across the animation. */
+	private static float keyTime(int key, int keyCount)
+	{
+		return ANIMATION_DURATION * key / (keyCount - 1);
+	}
+
+	/** Returns a random value between -max and max. */
+	private static float randomOffset(Random random, float max)
+	{
+		return (random.nextFloat() * 2 - 1) * max;
+	}
+
+	/** Returns a Graphics implementation whose methods all return default values. Reports a screen of size zero. */
+	private static Graphics stubGraphics()
+	{
+		//Creates a dynamic proxy which returns zero, false or null from every method of the Graphics interface.
+		return (Graphics) Proxy.newProxyInstance(Graphics.class.getClassLoader(), new Class<?>[] { Graphics.class }, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args)
+			{
+				//Returns the default value of the method's return type.
+				Class<?> type = method.getReturnType();
+				if(type == boolean.class) return false;
+				if(type == int.class) return 0;
+				if(type == long.class) return 0L;
+				if(type == float.class) return 0f;
+				return null;
+			}
+		});
+	}
+}
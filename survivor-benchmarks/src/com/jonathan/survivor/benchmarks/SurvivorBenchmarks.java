@@ -0,0 +1,29 @@
+package com.jonathan.survivor.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+ * Runs every benchmark of the module. Reports the average time of each operation in nanoseconds, and the bytes allocated per operation through the
+ * "gc.alloc.rate.norm" metric of JMH's GC profiler. An optional argument filters the benchmarks to run with a regular expression.
+ */
+
+public class SurvivorBenchmarks
+{
+	public static void main(String[] args) throws RunnerException
+	{
+		//Chooses the benchmarks to run. By default, every benchmark in this package is run.
+		String include = args.length > 0 ? args[0] : SurvivorBenchmarks.class.getPackage().getName() + ".*";
+
+		//Runs the benchmarks with the GC profiler, which normalizes the allocation rate to the amount of bytes allocated per operation.
+		Options options = new OptionsBuilder()
+				.include(include)
+				.addProfiler(GCProfiler.class)
+				.build();
+
+		new Runner(options).run();
+	}
+}
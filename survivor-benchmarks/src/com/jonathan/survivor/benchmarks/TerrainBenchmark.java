@@ -0,0 +1,123 @@
+package com.jonathan.survivor.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.jonathan.survivor.TerrainLayer;
+import com.jonathan.survivor.TerrainLayer.TerrainDirection;
+import com.jonathan.survivor.TerrainLayerData;
+import com.jonathan.survivor.TerrainLevel;
+import com.jonathan.survivor.World;
+import com.jonathan.survivor.entity.GameObject;
+
+/*
+ * Measures the TerrainLevel operations performed when the player crosses a layer edge, along with the rebuild of the level's GameObject lists.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class TerrainBenchmark
+{
+	/** Holds the headless world which owns the TerrainLevel. */
+	private World world;
+
+	/** Holds the TerrainLevel of a headless world. */
+	private TerrainLevel terrainLevel;
+
+	/** Stores the center layer of the level, whose objects are regenerated by the resetObjects() benchmark. */
+	private TerrainLayer centerLayer;
+
+	/** Holds the layer data regenerated by the generateLayer() benchmark, along with the column of the next layer generated. */
+	private TerrainLayerData layerData = new TerrainLayerData();
+	private int nextCol;
+
+	/** Creates a headless world and retrieves its TerrainLevel. */
+	@Setup
+	public void setup()
+	{
+		//Creates a headless world generated from the default seed, and stores its level.
+		world = BenchmarkWorlds.create(BenchmarkWorlds.DEFAULT_WORLD_SEED);
+		terrainLevel = world.getTerrainLevel();
+		centerLayer = terrainLevel.getCenterLayer();
+	}
+
+	/** Disposes of the world, which stops its worker thread. */
+	@TearDown
+	public void tearDown()
+	{
+		world.dispose();
+	}
+
+	/** Shifts the level one column to the right, then back to the left. Regenerates two columns of layers per operation. */
+	@Benchmark
+	public Array<GameObject> shiftLayersRightLeft()
+	{
+		terrainLevel.shiftLayersRight();
+		terrainLevel.shiftLayersLeft();
+
+		//Returns the level's GameObjects, which must be rebuilt after a shift.
+		return terrainLevel.getGameObjects();
+	}
+
+	/** Shifts the level one row up, then back down. Regenerates two rows of layers per operation. */
+	@Benchmark
+	public Array<GameObject> shiftLayersUpDown()
+	{
+		terrainLevel.shiftLayersUp();
+		terrainLevel.shiftLayersDown();
+
+		//Returns the level's GameObjects, which must be rebuilt after a shift.
+		return terrainLevel.getGameObjects();
+	}
+
+	/** Frees the GameObjects of the center layer and places them again. */
+	@Benchmark
+	public Array<GameObject> resetObjects()
+	{
+		centerLayer.freeGameObjects();
+		centerLayer.resetObjects();
+
+		return centerLayer.getGameObjects();
+	}
+
+	/** Generates the geometry and the object placements of a layer, as the TerrainPrefetcher does on its worker thread. Each operation generates the next
+	 *  column, so that the seeds differ between operations. */
+	@Benchmark
+	public TerrainLayerData generateLayer()
+	{
+		layerData.setCell(0, nextCol++);
+		layerData.setStartPosition(0, 0, TerrainDirection.RIGHT);
+		layerData.generate(BenchmarkWorlds.DEFAULT_WORLD_SEED);
+
+		return layerData;
+	}
+
+	/** Marks the level's GameObjects as modified by removing and re-adding one of them, then retrieves the rebuilt list. */
+	@Benchmark
+	public Array<GameObject> getGameObjects()
+	{
+		//Retrieves the last GameObject of the level. Removing and re-adding it forces the level to rebuild its lists, like an item drop does.
+		Array<GameObject> gameObjects = terrainLevel.getGameObjects();
+		GameObject gameObject = gameObjects.peek();
+		terrainLevel.removeGameObject(gameObject);
+		terrainLevel.addGameObject(gameObject);
+
+		return terrainLevel.getGameObjects();
+	}
+}
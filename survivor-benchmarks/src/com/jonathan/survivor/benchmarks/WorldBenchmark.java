@@ -0,0 +1,92 @@
+package com.jonathan.survivor.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.jonathan.survivor.World;
+import com.jonathan.survivor.entity.Human.Direction;
+import com.jonathan.survivor.entity.Zombie;
+import com.jonathan.survivor.managers.ZombieManager;
+
+/*
+ * Measures a full World.update() tick, along with the ZombieManager's update of every zombie in the loaded TerrainLayers.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class WorldBenchmark
+{
+	/** Stores whether the player stands still or walks to the right during the benchmark. Walking makes the player cross layers, which shifts the level. */
+	@Param({"IDLE", "WALK"})
+	public String playerAction;
+
+	/** Holds the headless world which is updated every operation. */
+	private World world;
+
+	/** Stores a ZombieManager used to update the zombies independently from the rest of the world. */
+	private ZombieManager zombieManager;
+
+	/** Creates a new world before every iteration, and makes the player walk if the benchmark requires it. A walking player eventually meets a zombie and
+	 *  fights him. Re-creating the world ensures that every iteration starts in exploration mode. */
+	@Setup(Level.Iteration)
+	public void setup()
+	{
+		//Creates a headless world generated from the default seed.
+		world = BenchmarkWorlds.create(BenchmarkWorlds.DEFAULT_WORLD_SEED);
+
+		//Creates a ZombieManager bound to the same world as the one used inside World.update().
+		zombieManager = new ZombieManager(world);
+
+		//Runs the first frame so that every GameObject leaves its SPAWN state before measuring.
+		world.update(BenchmarkWorlds.DELTA_TIME);
+
+		//If the player should be walking, make him walk to the right. He keeps walking until told otherwise.
+		if(playerAction.equals("WALK"))
+			world.walk(world.getPlayer(), Direction.RIGHT);
+	}
+
+	/** Disposes of the world created for the iteration, which stops its worker thread. */
+	@TearDown(Level.Iteration)
+	public void tearDown()
+	{
+		world.dispose();
+	}
+
+	/** Measures a single World.update() call. */
+	@Benchmark
+	public void update()
+	{
+		world.update(BenchmarkWorlds.DELTA_TIME);
+	}
+
+	/** Measures the ZombieManager's update of every zombie contained in the TerrainLevel's loaded layers. */
+	@Benchmark
+	public void updateZombies()
+	{
+		//Retrieves the zombies of every loaded layer. The list is only rebuilt when the level's GameObjects change.
+		world.getTerrainLevel().getGameObjects();
+		Array<Zombie> zombies = world.getTerrainLevel().getZombies();
+
+		//Updates the AI and the game logic of each zombie.
+		for(int i = 0; i < zombies.size; i++)
+			zombieManager.update(zombies.get(i), BenchmarkWorlds.DELTA_TIME);
+	}
+}
@@ -0,0 +1,225 @@
+package com.jonathan.survivor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jonathan.survivor.World.WorldState;
+import com.jonathan.survivor.benchmarks.BenchmarkWorlds;
+import com.jonathan.survivor.entity.Human.Direction;
+
+/*
+ * Checks that the steady-state frames of the game allocate no more than a fixed budget. Each scenario plays a scripted session inside a headless world,
+ * whose skeletons are posed by their animations every frame, and measures the bytes allocated by the test thread during every World.update() call through
+ * the ThreadMXBean. Exactly FRAMES frames are measured per scenario, after WARM_UP_FRAMES unmeasured frames which let the JIT compiler settle. Whenever
+ * the world leaves the state of the scenario, for instance when the exploring player meets a zombie, the scenario restarts in a new world; the frame which
+ * left the state isn't measured. A scenario fails if its average or any single frame is over budget. Garbage created every frame ends up as GC pauses on
+ * Android, where the collector is far slower than on the desktop. Run with -Dsurvivor.printAllocations=true to print the statistics of every scenario.
+ */
+
+public class AllocationRegressionTest
+{
+	/** Stores the amount of steady-state frames measured per scenario. */
+	public static final int FRAMES = 5000;
+
+	/** Stores the amount of frames played before the measured ones, so that the JIT compiler settles. */
+	public static final int WARM_UP_FRAMES = 10000;
+
+	/** Stores the amount of frames skipped when a world is created, while the GameObjects leave their SPAWN states and lazy buffers are created. */
+	public static final int SETTLE_FRAMES = 60;
+
+	/** Stores the most frames the player may walk before meeting a zombie. A world where he meets none fails the combat scenario. */
+	public static final int MAX_FRAMES_TO_COMBAT = 20000;
+
+	/** Stores the system property which, if true, prints the statistics of every scenario, so that the budgets can be revised from them. */
+	public static final String PRINT_PROPERTY = "survivor.printAllocations";
+
+	/** Lists the scripted scenarios, along with the state the world stays in while they are measured, and their budgets. The frame budgets leave room for
+	 *  the few hundred bytes which the JVM itself sometimes allocates on the thread of a frame, when the JIT compiler recompiles the game's code. */
+	public enum Scenario {
+		/** The player stands still in the TerrainLevel while the zombies wander. */
+		IDLE(WorldState.EXPLORING, 16, 2048),
+		/** The player walks to the left across the TerrainLevel, which shifts its layers. A shift allocates the TerrainLayerData of the prefetched layers. */
+		EXPLORE(WorldState.EXPLORING, 16, 4096),
+		/** The player fights the first zombie he meets. */
+		COMBAT(WorldState.COMBAT, 16, 2048);
+
+		/** Stores the state of the world in which the frames are measured. */
+		public final WorldState state;
+		/** Stores the average amount of bytes the scenario may allocate per frame, and the most bytes a single frame may allocate. */
+		public final int averageBudget, frameBudget;
+
+		private Scenario(WorldState state, int averageBudget, int frameBudget)
+		{
+			this.state = state;
+			this.averageBudget = averageBudget;
+			this.frameBudget = frameBudget;
+		}
+	}
+
+	/** Holds the ThreadMXBean used to read the bytes allocated by the test thread. */
+	private com.sun.management.ThreadMXBean threadBean;
+
+	@Before
+	public void setUp()
+	{
+		//Retrieves the ThreadMXBean. The allocated bytes of a thread are only available on HotSpot-based JVMs.
+		assertTrue("The JVM cannot measure the bytes allocated by a thread", ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	@Test
+	public void idleStaysWithinBudget()
+	{
+		assertWithinBudget(Scenario.IDLE);
+	}
+
+	@Test
+	public void exploreStaysWithinBudget()
+	{
+		assertWithinBudget(Scenario.EXPLORE);
+	}
+
+	@Test
+	public void combatStaysWithinBudget()
+	{
+		assertWithinBudget(Scenario.COMBAT);
+	}
+
+	/** Plays the given scenario, and fails if its measured frames allocate more than its budget. */
+	private void assertWithinBudget(Scenario scenario)
+	{
+		//Warms up the scenario, and measures the frames which follow.
+		Session session = new Session(scenario);
+		session.play(WARM_UP_FRAMES, null);
+		FrameStats stats = new FrameStats();
+		session.play(FRAMES, stats);
+		session.dispose();
+
+		//Prints the statistics if asked to, so that the budgets can be revised from them.
+		String summary = scenario + ": " + stats + " (" + session.worlds + " worlds)";
+		if(Boolean.getBoolean(PRINT_PROPERTY))
+			System.out.println(summary);
+
+		assertEquals(summary, FRAMES, stats.frames);
+		assertTrue(summary + ", over the average budget of " + scenario.averageBudget + " B/frame", stats.getAverage() <= scenario.averageBudget);
+		assertTrue(summary + ", over the frame budget of " + scenario.frameBudget + " B", stats.maxBytes <= scenario.frameBudget);
+	}
+
+	/** Plays a scenario in a headless world, which is replaced by a new one whenever the world leaves the state of the scenario. */
+	private class Session
+	{
+		/** Stores the scenario played. */
+		private final Scenario scenario;
+		/** Holds the world being played. */
+		private World world;
+		/** Stores the amount of worlds created. Each world is generated from the next seed, so that every run plays the same worlds. */
+		private int worlds;
+
+		public Session(Scenario scenario)
+		{
+			this.scenario = scenario;
+			start();
+		}
+
+		/** Creates a new world, and brings it to the first frame of the scenario. */
+		private void start()
+		{
+			//Creates a headless world, and runs the first frames so that the GameObjects leave their SPAWN states.
+			world = BenchmarkWorlds.create(BenchmarkWorlds.DEFAULT_WORLD_SEED + worlds);
+			worlds++;
+			for(int i = 0; i < SETTLE_FRAMES; i++)
+				world.update(BenchmarkWorlds.DELTA_TIME);
+
+			//If the player explores or fights, make him walk to the left. He keeps walking until he meets a zombie.
+			if(scenario != Scenario.IDLE)
+				world.walk(world.getPlayer(), Direction.LEFT);
+
+			//If the player must fight, walk until the fight starts. Leaves the fight a few frames to settle.
+			if(scenario == Scenario.COMBAT)
+			{
+				for(int i = 0; world.getWorldState() != WorldState.COMBAT; i++)
+				{
+					if(i == MAX_FRAMES_TO_COMBAT)
+						fail("The player met no zombie in world " + worlds);
+					world.update(BenchmarkWorlds.DELTA_TIME);
+				}
+				for(int i = 0; i < SETTLE_FRAMES; i++)
+					world.update(BenchmarkWorlds.DELTA_TIME);
+			}
+		}
+
+		/** Plays the given amount of frames of the scenario. If stats isn't null, the bytes allocated by each frame are added to it. */
+		public void play(int frames, FrameStats stats)
+		{
+			long threadId = Thread.currentThread().getId();
+			int played = 0;
+			while(played < frames)
+			{
+				//If the world isn't in the state of the scenario, the scenario starts over in a new world.
+				if(world.getWorldState() != scenario.state)
+				{
+					world.dispose();
+					start();
+					continue;
+				}
+
+				//Updates the world, and measures the bytes allocated by the update.
+				long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+				world.update(BenchmarkWorlds.DELTA_TIME);
+				long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+				//A frame which leaves the state of the scenario, such as the one where the player meets a zombie, isn't a steady-state frame.
+				if(world.getWorldState() != scenario.state)
+					continue;
+
+				if(stats != null)
+					stats.add(allocated);
+				played++;
+			}
+		}
+
+		/** Disposes of the world being played, which stops its worker thread. */
+		public void dispose()
+		{
+			world.dispose();
+		}
+	}
+
+	/** Holds the bytes allocated by the measured frames of a scenario. */
+	private static class FrameStats
+	{
+		/** Stores the amount of frames measured, along with the amount which allocated anything. */
+		int frames, allocatingFrames;
+		/** Stores the bytes allocated by every frame, along with the most bytes allocated by a single frame. */
+		long totalBytes, maxBytes;
+
+		/** Adds a frame which allocated the given amount of bytes. */
+		void add(long bytes)
+		{
+			frames++;
+			totalBytes += bytes;
+			maxBytes = Math.max(maxBytes, bytes);
+			if(bytes > 0)
+				allocatingFrames++;
+		}
+
+		/** Returns the average amount of bytes allocated per frame. */
+		double getAverage()
+		{
+			return (frames > 0) ? (double) totalBytes / frames : 0;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "frames=" + frames + " avg=" + Math.round(getAverage() * 10) / 10.0 + " B/frame max=" + maxBytes + " B allocatingFrames=" + allocatingFrames;
+		}
+	}
+}
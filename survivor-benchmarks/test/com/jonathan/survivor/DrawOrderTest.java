@@ -0,0 +1,121 @@
+package com.jonathan.survivor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Array;
+import com.jonathan.survivor.benchmarks.BenchmarkWorlds;
+import com.jonathan.survivor.entity.GameObject;
+import com.jonathan.survivor.entity.Tree;
+
+/*
+ * Checks that the TerrainLevel keeps its GameObjects in draw order: each type from the top row down, so that the GameObjects on the back rows are covered by
+ * the ones in front of them. The order is checked once the level is generated, after every kind of layer shift, and after GameObjects are removed and added.
+ */
+
+public class DrawOrderTest
+{
+	/** Holds the headless world whose level is checked. */
+	private World world;
+	/** Holds the level of the world. */
+	private TerrainLevel level;
+
+	@Before
+	public void setUp()
+	{
+		world = BenchmarkWorlds.create(BenchmarkWorlds.DEFAULT_WORLD_SEED);
+		level = world.getTerrainLevel();
+	}
+
+	@After
+	public void tearDown()
+	{
+		world.dispose();
+	}
+
+	@Test
+	public void generatedLevelIsInDrawOrder()
+	{
+		assertDrawOrder();
+	}
+
+	@Test
+	public void shiftedLevelIsInDrawOrder()
+	{
+		//Shifts the layers in every direction, twice each, and checks the order after every shift.
+		for(int i = 0; i < 2; i++)
+		{
+			level.shiftLayersUp();
+			assertDrawOrder();
+			level.shiftLayersRight();
+			assertDrawOrder();
+			level.shiftLayersDown();
+			assertDrawOrder();
+			level.shiftLayersLeft();
+			assertDrawOrder();
+		}
+
+		//Shifts down until every row of the level was regenerated, so that new GameObjects are added above the old ones.
+		for(int i = 0; i < TerrainLevel.NUM_LAYER_ROWS; i++)
+		{
+			level.shiftLayersDown();
+			assertDrawOrder();
+		}
+	}
+
+	@Test
+	public void removedAndAddedObjectsKeepDrawOrder()
+	{
+		//Removes the first tree of the top row, which used to move the last tree of the bottom row in its place.
+		Array<Tree> trees = level.getRegistry().getTrees();
+		assertTrue("The level holds no trees", trees.size > 1);
+		Tree tree = trees.first();
+		level.removeGameObject(tree);
+		assertDrawOrder();
+
+		//Adds the tree back. It must go after the other trees on its row, but before the trees on the rows below.
+		level.addGameObject(tree);
+		assertDrawOrder();
+		assertTrue(trees.contains(tree, true));
+	}
+
+	/** Fails if the GameObjects of the level are not drawn from the top row down, or if they don't match the GameObjects held by its layers. */
+	private void assertDrawOrder()
+	{
+		GameObjectRegistry registry = level.getRegistry();
+
+		//Checks the array of each type.
+		assertRowsDescending("trees", registry.getTrees());
+		assertRowsDescending("boxes", registry.getBoxes());
+		assertRowsDescending("zombies", registry.getZombies());
+		assertRowsDescending("items", registry.getItemObjects());
+
+		//Counts the GameObjects held by the layers of the level. Every one of them must be in the registry, and nothing else.
+		int layerObjects = 0;
+		for(TerrainLayer[] row : level.getTerrainLayers())
+		{
+			for(TerrainLayer layer : row)
+			{
+				for(GameObject gameObject : layer.getGameObjects())
+					assertTrue(gameObject + " is not in the registry", registry.getGameObjects().contains(gameObject, true));
+				layerObjects += layer.getGameObjects().size;
+			}
+		}
+		assertEquals(layerObjects, registry.getGameObjects().size);
+	}
+
+	/** Fails if a GameObject of the given array is on a higher row than the GameObject before it. */
+	private static void assertRowsDescending(String name, Array<? extends GameObject> gameObjects)
+	{
+		for(int i = 1; i < gameObjects.size; i++)
+		{
+			int previousRow = gameObjects.get(i-1).getTerrainCell().getRow();
+			int row = gameObjects.get(i).getTerrainCell().getRow();
+			assertTrue(name + "[" + i + "] is on row " + row + ", which is drawn over row " + previousRow, row <= previousRow);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.jonathan.survivor.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jonathan.survivor.inventory.Axe;
+import com.jonathan.survivor.inventory.Bullet;
+import com.jonathan.survivor.inventory.Gunpowder;
+import com.jonathan.survivor.inventory.Inventory;
+import com.jonathan.survivor.inventory.ItemRegistry;
+import com.jonathan.survivor.inventory.Wood;
+import com.jonathan.survivor.managers.CraftabilityTracker.Craftability;
+import com.jonathan.survivor.managers.CraftingManager.Recipe;
+
+/*
+ * Checks the craftability of the recipes as items are added to and removed from an inventory: recipes craftable right away, recipes craftable by first crafting
+ * an ingredient (bullets from gunpowder), and recipes re-evaluated only when an item they depend on changes. The quantities are read from the recipes of the
+ * CraftingManager, so that the tests don't depend on the exact recipes.
+ */
+
+public class CraftabilityTrackerTest
+{
+	/** Holds the CraftingManager singleton which holds the recipes. */
+	private CraftingManager craftingManager = CraftingManager.instance;
+
+	/** Holds the inventory whose items are tracked. */
+	private Inventory inventory;
+	/** Holds the tracker under test. */
+	private CraftabilityTracker tracker;
+
+	@Before
+	public void setUp()
+	{
+		inventory = new Inventory();
+		tracker = new CraftabilityTracker(inventory);
+	}
+
+	@After
+	public void tearDown()
+	{
+		tracker.dispose();
+	}
+
+	@Test
+	public void emptyInventoryCraftsNothing()
+	{
+		for(int i = 0; i < craftingManager.getRecipeCount(); i++)
+			assertSame(Craftability.NONE, tracker.getCraftability(i));
+	}
+
+	@Test
+	public void ingredientsCraftNow()
+	{
+		//Adds the ingredients of the gunpowder recipe.
+		addIngredients(getRecipe(Gunpowder.class), 1);
+		assertSame(Craftability.NOW, tracker.getCraftability(Gunpowder.class));
+
+		//Removes one of the ingredients. The recipe can no longer be crafted.
+		Recipe recipe = getRecipe(Gunpowder.class);
+		inventory.addItem(recipe.getItemId(0), -1);
+		assertSame(Craftability.NONE, tracker.getCraftability(Gunpowder.class));
+	}
+
+	@Test
+	public void bulletsCraftViaGunpowder()
+	{
+		//Adds the ingredients of the bullets, except the gunpowder, along with the ingredients of enough gunpowder.
+		Recipe bulletRecipe = getRecipe(Bullet.class);
+		Recipe gunpowderRecipe = getRecipe(Gunpowder.class);
+		int gunpowderId = ItemRegistry.getId(Gunpowder.class);
+		for(int i = 0; i < bulletRecipe.getItemCount(); i++)
+		{
+			if(bulletRecipe.getItemId(i) == gunpowderId)
+				addIngredients(gunpowderRecipe, (bulletRecipe.getQuantity(i) + gunpowderRecipe.getResultQuantity() - 1) / gunpowderRecipe.getResultQuantity());
+			else
+				inventory.addItem(bulletRecipe.getItemId(i), bulletRecipe.getQuantity(i));
+		}
+		assertSame(Craftability.VIA_STEPS, tracker.getCraftability(Bullet.class));
+		assertSame(Craftability.NOW, tracker.getCraftability(Gunpowder.class));
+
+		//Once the gunpowder is crafted, the bullets can be crafted right away.
+		addIngredients(gunpowderRecipe, -1);
+		inventory.addItem(gunpowderId, gunpowderRecipe.getResultQuantity());
+		assertSame(Craftability.NOW, tracker.getCraftability(Bullet.class));
+	}
+
+	@Test
+	public void missingIntermediateIngredientsCraftNothing()
+	{
+		//Adds every ingredient of the bullets except the gunpowder, without anything to craft the gunpowder from.
+		Recipe bulletRecipe = getRecipe(Bullet.class);
+		int gunpowderId = ItemRegistry.getId(Gunpowder.class);
+		for(int i = 0; i < bulletRecipe.getItemCount(); i++)
+			if(bulletRecipe.getItemId(i) != gunpowderId)
+				inventory.addItem(bulletRecipe.getItemId(i), bulletRecipe.getQuantity(i));
+
+		assertSame(Craftability.NONE, tracker.getCraftability(Bullet.class));
+	}
+
+	@Test
+	public void unrelatedChangesAreNotReevaluated()
+	{
+		//Evaluates the gunpowder and bullet recipes once.
+		tracker.getCraftability(Gunpowder.class);
+		tracker.getCraftability(Bullet.class);
+		int evaluations = tracker.getEvaluationCount();
+
+		//Wood is used by the axe, but neither by the gunpowder nor the bullets. Querying them again re-evaluates nothing.
+		inventory.addItem(Wood.class, 10);
+		tracker.getCraftability(Gunpowder.class);
+		tracker.getCraftability(Bullet.class);
+		assertEquals(evaluations, tracker.getEvaluationCount());
+
+		//The axe depends on wood, so it is re-evaluated.
+		tracker.getCraftability(Axe.class);
+		assertEquals(evaluations + 1, tracker.getEvaluationCount());
+
+		//An ingredient of the gunpowder changes the gunpowder, and the bullets crafted from it.
+		inventory.addItem(getRecipe(Gunpowder.class).getItemId(0), 1);
+		tracker.getCraftability(Gunpowder.class);
+		tracker.getCraftability(Bullet.class);
+		assertEquals(evaluations + 3, tracker.getEvaluationCount());
+	}
+
+	@Test
+	public void disposedTrackerStopsListening()
+	{
+		//Evaluates the gunpowder once, and disposes of the tracker.
+		assertSame(Craftability.NONE, tracker.getCraftability(Gunpowder.class));
+		tracker.dispose();
+
+		//Changes to the inventory are no longer seen by the tracker.
+		addIngredients(getRecipe(Gunpowder.class), 1);
+		assertSame(Craftability.NONE, tracker.getCraftability(Gunpowder.class));
+	}
+
+	/** Returns the recipe which crafts the item of the given class. */
+	private Recipe getRecipe(Class<?> itemClass)
+	{
+		return craftingManager.getRecipe(craftingManager.getProducer(ItemRegistry.getId(itemClass)));
+	}
+
+	/** Adds the ingredients needed to craft the given recipe the given amount of times to the inventory. A negative amount removes them. */
+	private void addIngredients(Recipe recipe, int times)
+	{
+		for(int i = 0; i < recipe.getItemCount(); i++)
+			inventory.addItem(recipe.getItemId(i), recipe.getQuantity(i) * times);
+	}
+}
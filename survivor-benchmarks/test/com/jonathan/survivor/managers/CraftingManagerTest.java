@@ -0,0 +1,79 @@
+package com.jonathan.survivor.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.jonathan.survivor.inventory.Axe;
+import com.jonathan.survivor.inventory.Bullet;
+import com.jonathan.survivor.inventory.ItemRegistry;
+import com.jonathan.survivor.inventory.Wood;
+import com.jonathan.survivor.managers.CraftingManager.Item;
+
+/*
+ * Checks that a recipe file replaces the default recipes of the CraftingManager, and that a recipe naming an unknown item is rejected. The recipe files are
+ * written to a temporary file, and the default recipes are restored after each test.
+ */
+
+public class CraftingManagerTest
+{
+	/** Holds the CraftingManager singleton which holds the recipes. */
+	private CraftingManager craftingManager = CraftingManager.instance;
+
+	/** Holds the temporary recipe file. */
+	private FileHandle recipeFile;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		recipeFile = new FileHandle(File.createTempFile("recipes", ".json"));
+	}
+
+	@After
+	public void tearDown()
+	{
+		//Restores the default recipes, which are used by the other tests.
+		craftingManager.load(new JsonReader().parse(CraftingManager.DEFAULT_RECIPES));
+		recipeFile.delete();
+	}
+
+	@Test
+	public void recipeFileReplacesDefaults()
+	{
+		//Loads a file holding a single recipe, which crafts an axe out of wood alone.
+		recipeFile.writeString("[ { result: Axe, quantity: 1, items: { Wood: 3 } } ]", false);
+		craftingManager.load(recipeFile);
+
+		//The recipe of the file is the only one.
+		assertEquals(1, craftingManager.getRecipeCount());
+		assertEquals(0, craftingManager.getProducer(ItemRegistry.getId(Axe.class)));
+		assertEquals(-1, craftingManager.getProducer(ItemRegistry.getId(Bullet.class)));
+
+		//The crafting table crafts the axe out of the wood of the file's recipe.
+		Array<Item> items = new Array<Item>();
+		items.add(craftingManager.new Item(Wood.class, 3));
+		assertSame(Axe.class, craftingManager.getResult(items).getItem());
+
+		//Any other quantity crafts nothing.
+		items.get(0).add(1);
+		assertNull(craftingManager.getResult(items));
+	}
+
+	@Test(expected = GdxRuntimeException.class)
+	public void unknownItemIsRejected()
+	{
+		recipeFile.writeString("[ { result: Axe, quantity: 1, items: { Unobtainium: 3 } } ]", false);
+		craftingManager.load(recipeFile);
+	}
+}
@@ -0,0 +1,365 @@
+package com.jonathan.survivor.tools;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import com.jonathan.survivor.TerrainPrefetcher.Shift;
+import com.jonathan.survivor.utils.TraceListener;
+import com.jonathan.survivor.utils.Tracer;
+
+/*
+ * Writes the events recorded by the Tracer to a JSON file in Chrome's trace event format, which opens in chrome://tracing or ui.perfetto.dev. Timed events,
+ * such as frames and layer shifts, are written as complete events, and the others as instant events. The render thread only fills one of the events allocated
+ * up front and hands it to a queue. A writer thread takes the events from the queue, writes them to the file, and gives them back for reuse. Thus, the render
+ * thread never blocks on the file or allocates. If the writer falls behind and the queue is full, events are dropped and counted.
+ */
+
+public class ChromeTraceWriter implements TraceListener, Closeable
+{
+	/** Stores the amount of events allocated up front. At most this many events can wait to be written. */
+	public static final int QUEUE_CAPACITY = 8192;
+
+	/** Stores the process and thread ids written for every event. Every event is recorded on the render thread. */
+	private static final int PROCESS_ID = 1, THREAD_ID = 1;
+
+	/** Stores the maximum amount of numeric arguments held by an event. */
+	private static final int MAX_NUMBERS = 3;
+
+	/** Holds the events waiting to be written by the writer thread. */
+	private final ArrayBlockingQueue<TraceEvent> queue = new ArrayBlockingQueue<TraceEvent>(QUEUE_CAPACITY + 1);
+	/** Holds the events which are free to be filled by the render thread. */
+	private final ArrayBlockingQueue<TraceEvent> freeEvents = new ArrayBlockingQueue<TraceEvent>(QUEUE_CAPACITY);
+
+	/** Event placed in the queue to tell the writer thread to finish the file. */
+	private final TraceEvent closeEvent = new TraceEvent();
+
+	/** Stores the file where the events are written. Only used by the writer thread. */
+	private final Writer out;
+	/** Holds the thread which writes the events to the file. */
+	private final Thread writerThread;
+
+	/** Stores the time at which the writer was created. The events' timestamps are relative to this time. */
+	private final long startTime = Tracer.now();
+
+	/** Stores the amount of events dropped because the queue was full. Only modified by the render thread. */
+	private volatile int droppedEvents;
+	/** Stores the amount of events written to the file. Only modified by the writer thread. */
+	private volatile int writtenEvents;
+	/** Stores the exception thrown while writing the file, if any. The writer thread stops writing after an exception. */
+	private volatile IOException writeException;
+
+	/** Stores whether or not the writer was closed. */
+	private boolean closed;
+
+	/** Creates a writer which writes the trace to the given file. The writer thread is started right away. */
+	public ChromeTraceWriter(File file) throws IOException
+	{
+		this(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8")));
+	}
+
+	/** Creates a writer which writes the trace to the given Writer. Every call to the Writer is made by the writer thread, which is started right away. */
+	ChromeTraceWriter(Writer out)
+	{
+		this.out = out;
+
+		//Allocates every event up front, so that the render thread never allocates one.
+		for(int i = 0; i < QUEUE_CAPACITY; i++)
+			freeEvents.add(new TraceEvent());
+
+		//Starts the writer thread. It is a daemon, so that it never keeps the game running.
+		writerThread = new Thread(new Runnable() {
+			@Override
+			public void run()
+			{
+				writeEvents();
+			}
+		}, "Trace writer");
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	@Override
+	public void frameEnded(long startTime, long endTime)
+	{
+		TraceEvent event = obtain('X', "frame", "frame", startTime, endTime);
+		submit(event);
+	}
+
+	@Override
+	public void layersShifted(Shift shift, int row, int col, int objectsSpawned, long startTime, long endTime)
+	{
+		TraceEvent event = obtain('X', "layer shift", "terrain", startTime, endTime);
+		if(event == null)
+			return;
+
+		//Stores the direction of the shift, along with the cell of the first new layer and the amount of GameObjects spawned.
+		event.setText("shift", shift.name());
+		event.addNumber("row", row);
+		event.addNumber("col", col);
+		event.addNumber("objectsSpawned", objectsSpawned);
+		submit(event);
+	}
+
+	@Override
+	public void poolMissed(String poolName, int liveObjects)
+	{
+		TraceEvent event = obtain('i', "pool miss", "pools", Tracer.now(), 0);
+		if(event == null)
+			return;
+
+		event.setText("pool", poolName);
+		event.addNumber("liveObjects", liveObjects);
+		submit(event);
+	}
+
+	@Override
+	public void assetsLoaded(String group, long startTime, long endTime)
+	{
+		TraceEvent event = obtain('X', "assets loaded", "assets", startTime, endTime);
+		if(event == null)
+			return;
+
+		event.setText("group", group);
+		submit(event);
+	}
+
+	@Override
+	public void profileSaved(int profileId, long startTime, long endTime)
+	{
+		TraceEvent event = obtain('X', "profile save", "profile", startTime, endTime);
+		if(event == null)
+			return;
+
+		event.addNumber("profileId", profileId);
+		submit(event);
+	}
+
+	@Override
+	public void combatEntered()
+	{
+		TraceEvent event = obtain('i', "combat enter", "combat", Tracer.now(), 0);
+		submit(event);
+	}
+
+	@Override
+	public void combatExited(boolean playerDied)
+	{
+		TraceEvent event = obtain('i', "combat exit", "combat", Tracer.now(), 0);
+		if(event == null)
+			return;
+
+		event.addNumber("playerDied", playerDied? 1 : 0);
+		submit(event);
+	}
+
+	/** Returns a free event filled with the given values, or null if every event is waiting to be written. A null event is counted as dropped. */
+	private TraceEvent obtain(char type, String name, String category, long startTime, long endTime)
+	{
+		//Retrieves a free event. If none are free, the writer has fallen behind, and the event is dropped.
+		TraceEvent event = freeEvents.poll();
+		if(event == null)
+		{
+			droppedEvents++;
+			return null;
+		}
+
+		//Fills the event. Times are stored relative to the creation of the writer.
+		event.type = type;
+		event.name = name;
+		event.category = category;
+		event.timestamp = startTime - this.startTime;
+		event.duration = endTime - startTime;
+		event.textName = null;
+		event.numberCount = 0;
+
+		return event;
+	}
+
+	/** Hands the given event to the writer thread. Does nothing if the event is null, since it was dropped. */
+	private void submit(TraceEvent event)
+	{
+		//The queue holds one more slot than there are events, so that the close event always fits. Thus, the event is always accepted.
+		if(event != null)
+			queue.offer(event);
+	}
+
+	/** Called on the writer thread. Writes the events from the queue to the file until the writer is closed. */
+	private void writeEvents()
+	{
+		try
+		{
+			//Writes the start of the trace, along with the name of the render thread.
+			out.write("{\"traceEvents\":[\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":" + PROCESS_ID + ",\"tid\":" + THREAD_ID
+					+ ",\"args\":{\"name\":\"render\"}}");
+
+			while(true)
+			{
+				//Waits for the next event. If it is the close event, the trace is complete.
+				TraceEvent event = queue.take();
+				if(event == closeEvent)
+					break;
+
+				//Writes the event, unless writing already failed, and gives the event back for reuse.
+				if(writeException == null)
+					write(event);
+				freeEvents.offer(event);
+			}
+
+			//Ends the trace, and closes the file.
+			if(writeException == null)
+				out.write("\n]}\n");
+			out.close();
+		}
+		catch(InterruptedException e)
+		{
+			//The thread was interrupted. The file is left without its end, which chrome://tracing still accepts.
+			Thread.currentThread().interrupt();
+		}
+		catch(IOException e)
+		{
+			writeException = e;
+		}
+	}
+
+	/** Writes the given event to the file. Called on the writer thread. */
+	private void write(TraceEvent event)
+	{
+		try
+		{
+			//Writes the fields common to every event. Timestamps are written in microseconds.
+			out.write(",\n{\"name\":\"");
+			out.write(event.name);
+			out.write("\",\"cat\":\"");
+			out.write(event.category);
+			out.write("\",\"ph\":\"");
+			out.write(event.type);
+			out.write("\",\"ts\":");
+			writeMicroseconds(event.timestamp);
+
+			//Complete events store their duration. Instant events are drawn across the whole process.
+			if(event.type == 'X')
+			{
+				out.write(",\"dur\":");
+				writeMicroseconds(event.duration);
+			}
+			else
+				out.write(",\"s\":\"p\"");
+
+			out.write(",\"pid\":" + PROCESS_ID + ",\"tid\":" + THREAD_ID + ",\"args\":{");
+
+			//Writes the text argument, followed by the numeric arguments.
+			boolean first = true;
+			if(event.textName != null)
+			{
+				out.write("\"" + event.textName + "\":\"" + escape(event.textValue) + "\"");
+				first = false;
+			}
+			for(int i = 0; i < event.numberCount; i++)
+			{
+				out.write((first? "\"" : ",\"") + event.numberNames[i] + "\":" + event.numberValues[i]);
+				first = false;
+			}
+			out.write("}}");
+
+			writtenEvents++;
+		}
+		catch(IOException e)
+		{
+			writeException = e;
+		}
+	}
+
+	/** Writes the given time, in nanoseconds, as microseconds with three decimals. */
+	private void writeMicroseconds(long nanoseconds) throws IOException
+	{
+		out.write(Long.toString(nanoseconds / 1000));
+		out.write('.');
+		String fraction = Long.toString(Math.abs(nanoseconds % 1000));
+		for(int i = fraction.length(); i < 3; i++)
+			out.write('0');
+		out.write(fraction);
+	}
+
+	/** Escapes the quotes and backslashes of the given string, so that it can be written inside a JSON string. */
+	private static String escape(String text)
+	{
+		return text.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	/** Writes the events still waiting in the queue, ends the trace, and closes the file. Blocks until the writer thread is done. */
+	@Override
+	public void close() throws IOException
+	{
+		//If the writer is already closed, there's nothing to do.
+		if(closed)
+			return;
+		closed = true;
+
+		//Tells the writer thread to finish once it reaches the end of the queue, and waits for it.
+		queue.offer(closeEvent);
+		try
+		{
+			writerThread.join();
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+
+		//If writing failed, report why.
+		if(writeException != null)
+			throw writeException;
+	}
+
+	/** Returns the amount of events dropped because the writer thread fell behind. */
+	public int getDroppedEvents()
+	{
+		return droppedEvents;
+	}
+
+	/** Returns the amount of events written to the file so far. */
+	public int getWrittenEvents()
+	{
+		return writtenEvents;
+	}
+
+	/** Holds one event waiting to be written. Events are allocated up front and reused. */
+	private static class TraceEvent
+	{
+		/** Stores the type of the event: 'X' for an event with a duration, or 'i' for an instant event. */
+		char type;
+		/** Stores the name and the category of the event, shown by chrome://tracing. */
+		String name, category;
+		/** Stores the start time and the duration of the event, in nanoseconds. */
+		long timestamp, duration;
+
+		/** Stores the name and value of the event's text argument. The name is null if the event has none. */
+		String textName, textValue;
+
+		/** Stores the names and values of the event's numeric arguments, along with their amount. */
+		final String[] numberNames = new String[MAX_NUMBERS];
+		final long[] numberValues = new long[MAX_NUMBERS];
+		int numberCount;
+
+		/** Sets the text argument of the event. */
+		void setText(String name, String value)
+		{
+			textName = name;
+			textValue = value;
+		}
+
+		/** Adds a numeric argument to the event. */
+		void addNumber(String name, long value)
+		{
+			numberNames[numberCount] = name;
+			numberValues[numberCount] = value;
+			numberCount++;
+		}
+	}
+}
@@ -0,0 +1,244 @@
+package com.jonathan.survivor.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.jonathan.survivor.TerrainPrefetcher.Shift;
+import com.jonathan.survivor.utils.Tracer;
+
+/*
+ * Checks that the ChromeTraceWriter leaves every write to its writer thread, that it writes every queued event before it closes, and that the trace it writes
+ * is complete JSON in Chrome's trace event format. The trace is written to a Writer which records the threads calling it, and which can hold the writer
+ * thread back until the test releases it.
+ */
+
+public class ChromeTraceWriterTest
+{
+	/** Stores the amount of milliseconds after which a test fails, in case a listener call blocks on the held writer thread. */
+	private static final long TIMEOUT = 10000;
+
+	/** Stores the name of the thread which writes the trace. */
+	private static final String WRITER_THREAD = "Trace writer";
+
+	/** Holds the Writer receiving the trace. */
+	private RecordingWriter out;
+	/** Holds the trace writer under test. */
+	private ChromeTraceWriter writer;
+
+	@Before
+	public void setUp()
+	{
+		out = new RecordingWriter();
+		writer = new ChromeTraceWriter(out);
+	}
+
+	@After
+	public void tearDown() throws IOException
+	{
+		//Lets the writer thread finish, in case the test failed while it was held.
+		out.release();
+		writer.close();
+	}
+
+	@Test(timeout = TIMEOUT)
+	public void listenerCallsDoNoIo() throws IOException
+	{
+		//Records one event of each kind while the writer thread is held. The calls must return without waiting for the file.
+		recordEveryEvent();
+		assertEquals(0, writer.getWrittenEvents());
+		assertEquals(0, writer.getDroppedEvents());
+
+		//Lets the writer thread write the events, and closes the file.
+		out.release();
+		writer.close();
+		assertEquals(7, writer.getWrittenEvents());
+		assertTrue("The trace was not closed", out.closed);
+
+		//Neither the constructor nor the listener calls touched the Writer. Only the writer thread did.
+		assertFalse("The Writer was called by the test thread", out.threads.contains(Thread.currentThread()));
+		for(Thread thread : out.threads)
+			assertEquals(WRITER_THREAD, thread.getName());
+	}
+
+	@Test(timeout = TIMEOUT)
+	public void closeWritesEveryQueuedEvent() throws IOException
+	{
+		//Fills every event while the writer thread is held, so that they are all still queued when the writer is closed.
+		long time = Tracer.now();
+		for(int i = 0; i < ChromeTraceWriter.QUEUE_CAPACITY; i++)
+			writer.frameEnded(time + i, time + i + 1);
+
+		out.release();
+		writer.close();
+
+		//Every event was written to the trace, after its metadata event.
+		assertEquals(0, writer.getDroppedEvents());
+		assertEquals(ChromeTraceWriter.QUEUE_CAPACITY, writer.getWrittenEvents());
+		assertEquals(ChromeTraceWriter.QUEUE_CAPACITY + 1, parseTrace().size);
+	}
+
+	@Test(timeout = TIMEOUT)
+	public void fullQueueDropsEvents() throws IOException
+	{
+		//Records more events than the queue holds while the writer thread is held. The extra events are dropped instead of blocking.
+		long time = Tracer.now();
+		for(int i = 0; i < ChromeTraceWriter.QUEUE_CAPACITY + 10; i++)
+			writer.frameEnded(time, time + 1);
+		assertEquals(10, writer.getDroppedEvents());
+
+		out.release();
+		writer.close();
+
+		//The events which fit in the queue were written, and the trace is still complete.
+		assertEquals(ChromeTraceWriter.QUEUE_CAPACITY, writer.getWrittenEvents());
+		assertEquals(ChromeTraceWriter.QUEUE_CAPACITY + 1, parseTrace().size);
+	}
+
+	@Test(timeout = TIMEOUT)
+	public void traceIsValidJson() throws IOException
+	{
+		recordEveryEvent();
+		out.release();
+		writer.close();
+
+		//The trace must be a complete JSON object, ending with the end of its array of events.
+		assertTrue("The trace is incomplete", out.text.toString().endsWith("]}\n"));
+		JsonValue events = parseTrace();
+		assertEquals(8, events.size);
+
+		//The first event names the render thread.
+		JsonValue metadata = events.get(0);
+		assertEquals("thread_name", metadata.getString("name"));
+		assertEquals("M", metadata.getString("ph"));
+		assertEquals("render", metadata.get("args").getString("name"));
+
+		//Every other event holds the fields read by chrome://tracing. Complete events hold a duration, and instant events a scope.
+		for(int i = 1; i < events.size; i++)
+		{
+			JsonValue event = events.get(i);
+			assertNotNull(event.getString("name"));
+			assertNotNull(event.getString("cat"));
+			assertTrue(event.getDouble("ts") >= 0);
+			assertEquals(1, event.getInt("pid"));
+			assertEquals(1, event.getInt("tid"));
+			assertTrue(event.get("args").isObject());
+			if(event.getString("ph").equals("X"))
+				assertTrue(event.getDouble("dur") >= 0);
+			else
+				assertEquals("p", event.getString("s"));
+		}
+
+		//The frame lasted 2.5 ms, written in microseconds.
+		JsonValue frame = events.get(1);
+		assertEquals("frame", frame.getString("name"));
+		assertEquals("X", frame.getString("ph"));
+		assertEquals(2500, frame.getDouble("dur"), 0.0005);
+
+		//The layer shift holds its direction, its cell and the amount of objects spawned.
+		JsonValue shift = events.get(2).get("args");
+		assertEquals("UP", shift.getString("shift"));
+		assertEquals(3, shift.getInt("row"));
+		assertEquals(-2, shift.getInt("col"));
+		assertEquals(5, shift.getInt("objectsSpawned"));
+
+		//The pool's name is escaped, so that its quote and backslash survive.
+		JsonValue poolMiss = events.get(3);
+		assertEquals("i", poolMiss.getString("ph"));
+		assertEquals("Tree\"s\\", poolMiss.get("args").getString("pool"));
+		assertEquals(42, poolMiss.get("args").getInt("liveObjects"));
+
+		assertEquals("game", events.get(4).get("args").getString("group"));
+		assertEquals(2, events.get(5).get("args").getInt("profileId"));
+		assertEquals("combat enter", events.get(6).getString("name"));
+		assertEquals(1, events.get(7).get("args").getInt("playerDied"));
+	}
+
+	/** Records one event of each kind, as the Tracer does during a session. */
+	private void recordEveryEvent()
+	{
+		long time = Tracer.now();
+		writer.frameEnded(time, time + 2500000);
+		writer.layersShifted(Shift.UP, 3, -2, 5, time, time + 1000);
+		writer.poolMissed("Tree\"s\\", 42);
+		writer.assetsLoaded("game", time, time + 1000);
+		writer.profileSaved(2, time, time + 1000);
+		writer.combatEntered();
+		writer.combatExited(true);
+	}
+
+	/** Parses the written trace, and returns its array of events. */
+	private JsonValue parseTrace()
+	{
+		JsonValue events = new JsonReader().parse(out.text.toString()).get("traceEvents");
+		assertTrue("The trace holds no array of events", events != null && events.isArray());
+		return events;
+	}
+
+	/** Writer which stores the trace in memory and records the threads calling it. Writes from the writer thread wait until the Writer is released. Writes
+	 *  from any other thread go through, so that a write from the test thread fails the test instead of blocking it. */
+	private static class RecordingWriter extends Writer
+	{
+		/** Holds the text written so far. Read once the writer thread has finished. */
+		final StringBuilder text = new StringBuilder();
+		/** Holds every thread which called the Writer. */
+		final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+		/** Stores whether or not the Writer was closed. */
+		volatile boolean closed;
+
+		/** Holds the latch which the writes wait on until the writer is released. */
+		private final CountDownLatch released = new CountDownLatch(1);
+
+		/** Lets the writes go through. */
+		void release()
+		{
+			released.countDown();
+		}
+
+		@Override
+		public void write(char[] buffer, int offset, int length) throws IOException
+		{
+			threads.add(Thread.currentThread());
+
+			//Holds the writer thread until the test releases the Writer.
+			try
+			{
+				if(Thread.currentThread().getName().equals(WRITER_THREAD))
+					released.await();
+			}
+			catch(InterruptedException e)
+			{
+				throw new IOException(e);
+			}
+
+			text.append(buffer, offset, length);
+		}
+
+		@Override
+		public void flush()
+		{
+			threads.add(Thread.currentThread());
+		}
+
+		@Override
+		public void close()
+		{
+			threads.add(Thread.currentThread());
+			closed = true;
+		}
+	}
+}
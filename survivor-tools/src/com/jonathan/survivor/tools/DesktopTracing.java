@@ -0,0 +1,64 @@
+package com.jonathan.survivor.tools;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+import com.jonathan.survivor.utils.TraceListener;
+import com.jonathan.survivor.utils.Tracer;
+
+/*
+ * Registers a trace writer to the Tracer from a desktop launcher. Flight Recorder events are recorded when the JVM supports them, and a Chrome trace file is
+ * written otherwise. Setting the "survivor.trace" system property to "chrome" or "jfr" picks the writer explicitly.
+ *
+ * Usage: call DesktopTracing.install(new File("trace.json")) before the game is created, and DesktopTracing.uninstall() once it is disposed.
+ */
+
+public class DesktopTracing
+{
+	/** Stores the name of the system property used to pick the writer. */
+	public static final String TRACE_PROPERTY = "survivor.trace";
+
+	/** Registers a trace writer to the Tracer, and returns it. The Chrome trace, if chosen, is written to the given file. */
+	public static TraceListener install(File chromeTraceFile) throws IOException
+	{
+		//Reads the writer requested by the system property, if any.
+		String mode = System.getProperty(TRACE_PROPERTY, "");
+
+		//Uses Flight Recorder, unless the Chrome trace was requested or the JVM doesn't support Flight Recorder.
+		TraceListener listener;
+		if(!mode.equals("chrome") && (mode.equals("jfr") || isFlightRecorderAvailable()))
+			listener = new JfrTraceListener();
+		else
+			listener = new ChromeTraceWriter(chromeTraceFile);
+
+		Tracer.setListener(listener);
+		return listener;
+	}
+
+	/** Stops tracing. If a Chrome trace was being written, the file is completed and closed. */
+	public static void uninstall() throws IOException
+	{
+		//Removes the listener from the Tracer, so that no more events are recorded.
+		TraceListener listener = Tracer.getListener();
+		Tracer.setListener(null);
+
+		//Closes the writer, if it writes to a file.
+		if(listener instanceof Closeable)
+			((Closeable)listener).close();
+	}
+
+	/** Returns true if the JVM supports Flight Recorder events. Looked up by name, so that this class loads on JVMs without Flight Recorder. */
+	private static boolean isFlightRecorderAvailable()
+	{
+		try
+		{
+			Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+			return (Boolean) flightRecorder.getMethod("isAvailable").invoke(null);
+		}
+		catch(Exception e)
+		{
+			return false;
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package com.jonathan.survivor.tools;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import com.jonathan.survivor.TerrainPrefetcher.Shift;
+import com.jonathan.survivor.utils.TraceListener;
+
+/*
+ * Records the events of the Tracer as JDK Flight Recorder events, which open in JDK Mission Control under the "Survivor" category. The JVM buffers the events
+ * per thread and writes them to the recording on its own threads, so committing an event never blocks on a file. Events are only stored while a recording is
+ * running, for instance when the game is started with -XX:StartFlightRecording. The events' durations are stored in an "elapsed" field, since the Tracer
+ * reports them once they are over. Requires Java 11 or later.
+ */
+
+public class JfrTraceListener implements TraceListener
+{
+	@Override
+	public void frameEnded(long startTime, long endTime)
+	{
+		FrameEvent event = new FrameEvent();
+		event.elapsed = endTime - startTime;
+		event.commit();
+	}
+
+	@Override
+	public void layersShifted(Shift shift, int row, int col, int objectsSpawned, long startTime, long endTime)
+	{
+		LayerShiftEvent event = new LayerShiftEvent();
+		event.shift = shift.name();
+		event.row = row;
+		event.col = col;
+		event.objectsSpawned = objectsSpawned;
+		event.elapsed = endTime - startTime;
+		event.commit();
+	}
+
+	@Override
+	public void poolMissed(String poolName, int liveObjects)
+	{
+		PoolMissEvent event = new PoolMissEvent();
+		event.pool = poolName;
+		event.liveObjects = liveObjects;
+		event.commit();
+	}
+
+	@Override
+	public void assetsLoaded(String group, long startTime, long endTime)
+	{
+		AssetLoadEvent event = new AssetLoadEvent();
+		event.group = group;
+		event.elapsed = endTime - startTime;
+		event.commit();
+	}
+
+	@Override
+	public void profileSaved(int profileId, long startTime, long endTime)
+	{
+		ProfileSaveEvent event = new ProfileSaveEvent();
+		event.profileId = profileId;
+		event.elapsed = endTime - startTime;
+		event.commit();
+	}
+
+	@Override
+	public void combatEntered()
+	{
+		new CombatEnterEvent().commit();
+	}
+
+	@Override
+	public void combatExited(boolean playerDied)
+	{
+		CombatExitEvent event = new CombatExitEvent();
+		event.playerDied = playerDied;
+		event.commit();
+	}
+
+	/** Recorded once a frame has been updated and drawn. */
+	@Name("survivor.Frame") @Label("Frame") @Category("Survivor")
+	static class FrameEvent extends Event
+	{
+		@Label("Elapsed") @Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	/** Recorded when the TerrainLevel shifts its layers. */
+	@Name("survivor.LayerShift") @Label("Layer Shift") @Category("Survivor")
+	static class LayerShiftEvent extends Event
+	{
+		@Label("Shift")
+		String shift;
+		@Label("Row")
+		int row;
+		@Label("Column")
+		int col;
+		@Label("Objects Spawned")
+		int objectsSpawned;
+		@Label("Elapsed") @Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	/** Recorded when a GameObject pool had to create an object mid-game. */
+	@Name("survivor.PoolMiss") @Label("Pool Miss") @Category("Survivor")
+	static class PoolMissEvent extends Event
+	{
+		@Label("Pool")
+		String pool;
+		@Label("Live Objects")
+		int liveObjects;
+	}
+
+	/** Recorded once a group of assets has been loaded. */
+	@Name("survivor.AssetLoad") @Label("Asset Load") @Category("Survivor")
+	static class AssetLoadEvent extends Event
+	{
+		@Label("Group")
+		String group;
+		@Label("Elapsed") @Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	/** Recorded once a profile has been saved. */
+	@Name("survivor.ProfileSave") @Label("Profile Save") @Category("Survivor")
+	static class ProfileSaveEvent extends Event
+	{
+		@Label("Profile ID")
+		int profileId;
+		@Label("Elapsed") @Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	/** Recorded when the player enters combat. */
+	@Name("survivor.CombatEnter") @Label("Combat Enter") @Category("Survivor")
+	static class CombatEnterEvent extends Event
+	{
+	}
+
+	/** Recorded when the player leaves combat. */
+	@Name("survivor.CombatExit") @Label("Combat Exit") @Category("Survivor")
+	static class CombatExitEvent extends Event
+	{
+		@Label("Player Died")
+		boolean playerDied;
+	}
+}
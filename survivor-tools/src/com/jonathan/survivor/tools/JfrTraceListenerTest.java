@@ -0,0 +1,94 @@
+package com.jonathan.survivor.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;
+
+import com.jonathan.survivor.TerrainPrefetcher.Shift;
+
+/*
+ * Checks that the JfrTraceListener records one Flight Recorder event per Tracer event, with the fields given to the listener. The events are recorded inside
+ * a recording started by the test, dumped to a temporary file and read back.
+ */
+
+public class JfrTraceListenerTest
+{
+	@Test
+	public void recordsEveryEvent() throws IOException
+	{
+		JfrTraceListener listener = new JfrTraceListener();
+
+		//Records one event of each kind inside a recording.
+		Recording recording = new Recording();
+		recording.start();
+		listener.frameEnded(1000, 3500);
+		listener.layersShifted(Shift.LEFT, -4, 7, 3, 0, 1000);
+		listener.poolMissed("Zombie", 15);
+		listener.assetsLoaded("fonts", 0, 2000);
+		listener.profileSaved(1, 0, 3000);
+		listener.combatEntered();
+		listener.combatExited(false);
+		recording.stop();
+
+		//Reads back the events of the game, keyed by their names.
+		Map<String, RecordedEvent> events = readEvents(recording);
+		assertEquals(7, events.size());
+
+		assertEquals(2500, events.get("survivor.Frame").getLong("elapsed"));
+
+		RecordedEvent shift = events.get("survivor.LayerShift");
+		assertEquals("LEFT", shift.getString("shift"));
+		assertEquals(-4, shift.getInt("row"));
+		assertEquals(7, shift.getInt("col"));
+		assertEquals(3, shift.getInt("objectsSpawned"));
+		assertEquals(1000, shift.getLong("elapsed"));
+
+		RecordedEvent poolMiss = events.get("survivor.PoolMiss");
+		assertEquals("Zombie", poolMiss.getString("pool"));
+		assertEquals(15, poolMiss.getInt("liveObjects"));
+
+		assertEquals("fonts", events.get("survivor.AssetLoad").getString("group"));
+		assertEquals(1, events.get("survivor.ProfileSave").getInt("profileId"));
+		assertTrue(events.containsKey("survivor.CombatEnter"));
+		assertFalse(events.get("survivor.CombatExit").getBoolean("playerDied"));
+	}
+
+	/** Dumps the given recording to a temporary file, and returns the events of the game it holds, keyed by their names. Closes the recording. */
+	private static Map<String, RecordedEvent> readEvents(Recording recording) throws IOException
+	{
+		Path file = Files.createTempFile("survivor", ".jfr");
+		try
+		{
+			recording.dump(file);
+			List<RecordedEvent> recordedEvents = RecordingFile.readAllEvents(file);
+
+			//Keeps the events of the game, and leaves out the events of the JVM.
+			Map<String, RecordedEvent> events = new HashMap<String, RecordedEvent>();
+			for(RecordedEvent event : recordedEvents)
+			{
+				String name = event.getEventType().getName();
+				if(name.startsWith("survivor."))
+					events.put(name, event);
+			}
+			return events;
+		}
+		finally
+		{
+			recording.close();
+			Files.delete(file);
+		}
+	}
+}
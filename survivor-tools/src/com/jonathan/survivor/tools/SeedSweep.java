@@ -0,0 +1,302 @@
+package com.jonathan.survivor.tools;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.jonathan.survivor.TerrainLayer;
+import com.jonathan.survivor.TerrainLayer.TerrainDirection;
+import com.jonathan.survivor.TerrainLayer.TerrainType;
+import com.jonathan.survivor.TerrainLayerData;
+import com.jonathan.survivor.TerrainLayerData.ObjectType;
+
+/*
+ * Generates the layers of many world seeds without launching the game, and prints histograms of their terrain types, slopes, amplitudes, objects and
+ * zombies. Every (seed, row, column) cell is generated by a TerrainLayerData, which touches no GameObject, pool or profile. The seeds are split between the
+ * threads of a ForkJoinPool, each of which generates its cells with its own TerrainLayerData. Every cell starts at the origin, since the start position of a
+ * layer does not change its geometry or its objects, only where they are placed.
+ *
+ * Also counts the distinct terrains generated in column 0 and in column 1 across the seeds. Since the terrain seed is 'col * worldSeed', every world has the
+ * same terrain in column 0.
+ *
+ * Usage: SeedSweep <first seed> <seed count> [rows] [columns]. The rows and columns are centered on zero, and default to 64.
+ */
+
+public class SeedSweep
+{
+	/** Stores the amount of rows and columns swept per seed, unless given as arguments. */
+	public static final int DEFAULT_ROWS = 64, DEFAULT_COLS = 64;
+
+	/** Stores the maximum amount of seeds generated by a single fork-join task. Larger ranges are split in two. */
+	private static final int SEEDS_PER_TASK = 4;
+
+	/** Stores the amount of bins of the slope and amplitude histograms. */
+	private static final int BINS = 10;
+	/** Stores the highest amount of objects counted by the object histograms. Layers with more objects are counted in the last bin. */
+	private static final int MAX_OBJECTS = (int) (TerrainLayer.LAYER_WIDTH / TerrainLayer.OBJECT_SPACING);
+
+	public static void main(String[] args)
+	{
+		//If the seeds weren't given, print the usage of the tool.
+		if(args.length < 2)
+		{
+			System.out.println("Usage: SeedSweep <first seed> <seed count> [rows] [columns]");
+			return;
+		}
+
+		//Reads the seeds to sweep, along with the amount of rows and columns of each world.
+		int firstSeed = Integer.parseInt(args[0]);
+		int seedCount = Integer.parseInt(args[1]);
+		int rows = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROWS;
+		int cols = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_COLS;
+
+		//Sweeps every cell of every seed in parallel, and times the sweep.
+		ForkJoinPool pool = new ForkJoinPool();
+		long startTime = System.nanoTime();
+		SweepStats stats = pool.invoke(new SweepTask(firstSeed, seedCount, rows, cols));
+		double seconds = (System.nanoTime() - startTime) / 1e9;
+
+		//Prints the statistics of the sweep.
+		System.out.println("Swept " + stats.cells + " cells (" + seedCount + " seeds, " + rows + " rows, " + cols + " columns) in "
+				+ Math.round(seconds * 100) / 100.0 + " s on " + pool.getParallelism() + " threads");
+		stats.print();
+
+		//Shows how many different terrains the seeds generate in the first two columns.
+		System.out.println();
+		System.out.println("Distinct terrains in column 0: " + countDistinctTerrains(firstSeed, seedCount, 0) + " of " + seedCount + " seeds");
+		System.out.println("Distinct terrains in column 1: " + countDistinctTerrains(firstSeed, seedCount, 1) + " of " + seedCount + " seeds");
+	}
+
+	/** Returns the amount of different terrains generated in the given column by the given seeds. Two terrains are the same if their type, slope and
+	 *  amplitude are the same. */
+	private static int countDistinctTerrains(int firstSeed, int seedCount, int col)
+	{
+		TerrainLayerData data = new TerrainLayerData();
+		Set<String> terrains = new HashSet<String>();
+
+		//Generates the layer at row 0 of the given column for each seed, and stores its terrain. The terrain doesn't depend on the row.
+		for(int seed = firstSeed; seed < firstSeed + seedCount; seed++)
+		{
+			generate(data, seed, 0, col);
+			terrains.add(data.getTerrainType() + " " + data.getSlope() + " " + data.getAmplitude());
+		}
+
+		return terrains.size();
+	}
+
+	/** Generates the layer at the given cell of the given seed inside the given data. The layer starts at the origin and goes from left to right. */
+	private static void generate(TerrainLayerData data, int seed, int row, int col)
+	{
+		data.setCell(row, col);
+		data.setStartPosition(0, 0, TerrainDirection.RIGHT);
+		data.generate(seed);
+	}
+
+	/** Sweeps a range of seeds. Splits the range in two until it holds at most SEEDS_PER_TASK seeds, which are then generated on the current thread. */
+	private static class SweepTask extends RecursiveTask<SweepStats>
+	{
+		/** Stores the version of the task's serialized form. Tasks are never serialized, but RecursiveTask is Serializable. */
+		private static final long serialVersionUID = 1L;
+
+		/** Stores the first seed of the range, along with the amount of seeds in the range. */
+		private final int firstSeed, seedCount;
+		/** Stores the amount of rows and columns swept per seed. */
+		private final int rows, cols;
+
+		public SweepTask(int firstSeed, int seedCount, int rows, int cols)
+		{
+			this.firstSeed = firstSeed;
+			this.seedCount = seedCount;
+			this.rows = rows;
+			this.cols = cols;
+		}
+
+		@Override
+		protected SweepStats compute()
+		{
+			//If the range is too large, sweep each half in parallel, and merge their statistics.
+			if(seedCount > SEEDS_PER_TASK)
+			{
+				int half = seedCount / 2;
+				SweepTask left = new SweepTask(firstSeed, half, rows, cols);
+				SweepTask right = new SweepTask(firstSeed + half, seedCount - half, rows, cols);
+
+				left.fork();
+				SweepStats stats = right.compute();
+				stats.merge(left.join());
+				return stats;
+			}
+
+			//Else, generate every cell of the range with a single TerrainLayerData, which is only used by this thread.
+			SweepStats stats = new SweepStats();
+			TerrainLayerData data = new TerrainLayerData();
+			for(int seed = firstSeed; seed < firstSeed + seedCount; seed++)
+			{
+				for(int row = -rows/2; row < rows - rows/2; row++)
+				{
+					for(int col = -cols/2; col < cols - cols/2; col++)
+					{
+						generate(data, seed, row, col);
+						stats.add(data);
+					}
+				}
+			}
+
+			return stats;
+		}
+	}
+
+	/** Holds the statistics of the swept layers. The statistics of two sweeps can be merged. */
+	private static class SweepStats
+	{
+		/** Stores the amount of layers swept. */
+		long cells;
+		/** Stores the amount of layers of each terrain type, indexed by the type's ordinal. */
+		final long[] terrainTypes = new long[TerrainType.values().length];
+		/** Stores the amount of layers on which a zombie spawns. */
+		long zombies;
+
+		/** Holds the distribution of the slopes of the LINEAR layers, and of the absolute amplitudes of the COSINE layers. */
+		final Histogram slopes = new Histogram(TerrainLayer.MIN_SLOPE, TerrainLayer.MAX_SLOPE, BINS);
+		final Histogram amplitudes = new Histogram(TerrainLayer.MIN_AMPLITUDE, TerrainLayer.MAX_AMPLITUDE, BINS);
+		/** Holds the distribution of the amount of objects, trees and boxes per layer. Each bin holds a single count. */
+		final Histogram objects = new Histogram(0, MAX_OBJECTS + 1, MAX_OBJECTS + 1);
+		final Histogram trees = new Histogram(0, MAX_OBJECTS + 1, MAX_OBJECTS + 1);
+		final Histogram boxes = new Histogram(0, MAX_OBJECTS + 1, MAX_OBJECTS + 1);
+
+		/** Adds the given layer to the statistics. */
+		void add(TerrainLayerData data)
+		{
+			cells++;
+			terrainTypes[data.getTerrainType().ordinal()]++;
+
+			//Adds the slope or the amplitude of the layer, depending on its type.
+			if(data.getTerrainType() == TerrainType.LINEAR)
+				slopes.add(data.getSlope());
+			else if(data.getTerrainType() == TerrainType.COSINE)
+				amplitudes.add(Math.abs(data.getAmplitude()));
+
+			//Counts the trees and boxes placed on the layer.
+			int treeCount = 0, boxCount = 0;
+			for(int i = 0; i < data.getObjectCount(); i++)
+			{
+				if(data.getObjectType(i) == ObjectType.TREE)
+					treeCount++;
+				else
+					boxCount++;
+			}
+			objects.add(data.getObjectCount());
+			trees.add(treeCount);
+			boxes.add(boxCount);
+
+			if(data.isZombieSpawned())
+				zombies++;
+		}
+
+		/** Adds the statistics of another sweep to these ones. */
+		void merge(SweepStats other)
+		{
+			cells += other.cells;
+			for(int i = 0; i < terrainTypes.length; i++)
+				terrainTypes[i] += other.terrainTypes[i];
+			zombies += other.zombies;
+
+			slopes.merge(other.slopes);
+			amplitudes.merge(other.amplitudes);
+			objects.merge(other.objects);
+			trees.merge(other.trees);
+			boxes.merge(other.boxes);
+		}
+
+		/** Prints the statistics to the standard output. */
+		void print()
+		{
+			System.out.println();
+			System.out.println("Terrain types:");
+			for(TerrainType type : TerrainType.values())
+				System.out.println("  " + type + ": " + percent(terrainTypes[type.ordinal()], cells));
+			System.out.println("Zombies: " + percent(zombies, cells) + " of layers");
+
+			slopes.print("Slopes (LINEAR layers)");
+			amplitudes.print("Absolute amplitudes (COSINE layers)");
+			objects.print("Objects per layer");
+			trees.print("Trees per layer");
+			boxes.print("Boxes per layer");
+		}
+	}
+
+	/** Counts values inside evenly-sized bins between a minimum and a maximum. Values outside the range are counted in the first or last bin. */
+	private static class Histogram
+	{
+		/** Stores the width of the bar drawn for the largest bin, in characters. */
+		private static final int BAR_WIDTH = 50;
+
+		/** Stores the lower and upper bounds of the histogram. */
+		private final float min, max;
+		/** Stores the amount of values counted in each bin. */
+		private final long[] bins;
+		/** Stores the amount of values counted. */
+		private long count;
+
+		public Histogram(float min, float max, int binCount)
+		{
+			this.min = min;
+			this.max = max;
+			bins = new long[binCount];
+		}
+
+		/** Counts the given value inside its bin. */
+		void add(float value)
+		{
+			int bin = (int) ((value - min) / (max - min) * bins.length);
+			bins[Math.max(0, Math.min(bin, bins.length - 1))]++;
+			count++;
+		}
+
+		/** Adds the counts of another histogram with the same bins to this one. */
+		void merge(Histogram other)
+		{
+			for(int i = 0; i < bins.length; i++)
+				bins[i] += other.bins[i];
+			count += other.count;
+		}
+
+		/** Prints the histogram under the given title. Each bin is printed with its lower bound, its share of the values and a bar. */
+		void print(String title)
+		{
+			System.out.println();
+			System.out.println(title + ":");
+
+			//Finds the largest bin, which is drawn with the longest bar.
+			long largest = 1;
+			for(long bin : bins)
+				largest = Math.max(largest, bin);
+
+			for(int i = 0; i < bins.length; i++)
+			{
+				StringBuilder line = new StringBuilder("  ");
+				line.append(pad(Float.toString(Math.round((min + i * (max - min) / bins.length) * 1000) / 1000f), 6)).append(' ');
+				line.append(pad(percent(bins[i], count), 7)).append(' ');
+				for(int j = 0; j < bins[i] * BAR_WIDTH / largest; j++)
+					line.append('#');
+				System.out.println(line);
+			}
+		}
+	}
+
+	/** Returns the given share of the total as a percentage with one decimal. */
+	private static String percent(long share, long total)
+	{
+		return (total > 0 ? Math.round(share * 1000.0 / total) / 10.0 : 0) + "%";
+	}
+
+	/** Pads the given text with spaces on the left, up to the given width. */
+	private static String pad(String text, int width)
+	{
+		StringBuilder padded = new StringBuilder();
+		for(int i = text.length(); i < width; i++)
+			padded.append(' ');
+		return padded.append(text).toString();
+	}
+}
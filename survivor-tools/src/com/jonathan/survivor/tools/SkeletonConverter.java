@@ -0,0 +1,419 @@
+package com.jonathan.survivor.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.SerializationException;
+import com.esotericsoftware.spine.SkeletonBinary;
+import com.esotericsoftware.spine.SkeletonJson;
+import com.esotericsoftware.spine.attachments.AttachmentType;
+
+/*
+ * Converts the JSON skeletons exported by Spine into the binary format read by SkeletonBinary. The binary file holds the same data as the JSON file, written
+ * in the exact order SkeletonBinary reads it. Thus, the game can read its skeletons without parsing any JSON. The values are written unscaled, since the
+ * scale is applied by the SkeletonBinary when the file is read. Runs offline on the desktop, and does not need the texture atlases.
+ *
+ * Usage: SkeletonConverter <file or directory>... Every "*.json" file found is converted into a ".skel" file placed next to it.
+ */
+
+public class SkeletonConverter
+{
+	/** Stores the extension of the JSON skeletons, and of the binary skeletons created from them. */
+	public static final String JSON_EXTENSION = ".json", BINARY_EXTENSION = ".skel";
+
+	/** Converts every JSON skeleton inside the files and directories given as arguments. */
+	public static void main(String[] args) throws IOException
+	{
+		//If no file was given, print the usage of the converter.
+		if(args.length == 0)
+		{
+			System.out.println("Usage: SkeletonConverter <file or directory>...");
+			return;
+		}
+
+		//Converts every JSON skeleton found in the given files and directories.
+		SkeletonConverter converter = new SkeletonConverter();
+		for(String path : args)
+			converter.convertAll(new File(path));
+	}
+
+	/** Converts the given JSON skeleton, or every JSON skeleton inside the given directory and its sub-directories. */
+	public void convertAll(File file) throws IOException
+	{
+		//If the file is a directory, convert the files inside it.
+		if(file.isDirectory())
+		{
+			File[] children = file.listFiles();
+			for(int i = 0; children != null && i < children.length; i++)
+				convertAll(children[i]);
+		}
+		//Else, if the file is a JSON skeleton, write its binary version next to it.
+		else if(file.getName().endsWith(JSON_EXTENSION))
+		{
+			String path = file.getPath();
+			File output = new File(path.substring(0, path.length() - JSON_EXTENSION.length()) + BINARY_EXTENSION);
+			convert(file, output);
+
+			System.out.println(file + " -> " + output + " (" + file.length() + " -> " + output.length() + " bytes)");
+		}
+	}
+
+	/** Reads the given JSON skeleton and writes it to the given file in the binary format. */
+	public void convert(File input, File output) throws IOException
+	{
+		//Parses the JSON skeleton.
+		JsonValue root = new JsonReader().parse(new FileHandle(input));
+
+		//Writes the skeleton into the output file.
+		DataOutput out = new DataOutput(new BufferedOutputStream(new FileOutputStream(output)));
+		try
+		{
+			write(root, out);
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+
+	/** Writes the parsed JSON skeleton in the binary format, in the order the sections are read by SkeletonBinary.readSkeletonData(). */
+	public void write(JsonValue root, DataOutput out) throws IOException
+	{
+		//Maps the names of the bones, slots and events to their indices, which replace the names in the binary format.
+		ObjectIntMap<String> boneIndices = new ObjectIntMap<String>();
+		ObjectIntMap<String> slotIndices = new ObjectIntMap<String>();
+		ObjectIntMap<String> eventIndices = new ObjectIntMap<String>();
+
+		//Writes the bones. A bone's parent is always written before the bone.
+		JsonValue bones = root.get("bones");
+		out.writeInt(size(bones), true);
+		for(JsonValue boneMap = child(bones); boneMap != null; boneMap = boneMap.next())
+		{
+			String name = boneMap.getString("name");
+			out.writeString(name);
+			out.writeInt(indexOf(boneIndices, boneMap.getString("parent", null), "Parent bone") + 1, true);
+			out.writeFloat(boneMap.getFloat("x", 0));
+			out.writeFloat(boneMap.getFloat("y", 0));
+			out.writeFloat(boneMap.getFloat("scaleX", 1));
+			out.writeFloat(boneMap.getFloat("scaleY", 1));
+			out.writeFloat(boneMap.getFloat("rotation", 0));
+			out.writeFloat(boneMap.getFloat("length", 0));
+			out.writeByte(boneMap.getBoolean("inheritScale", true) ? 1 : 0);
+			out.writeByte(boneMap.getBoolean("inheritRotation", true) ? 1 : 0);
+
+			boneIndices.put(name, boneIndices.size);
+		}
+
+		//Writes the slots.
+		JsonValue slots = root.get("slots");
+		out.writeInt(size(slots), true);
+		for(JsonValue slotMap = child(slots); slotMap != null; slotMap = slotMap.next())
+		{
+			String name = slotMap.getString("name");
+			out.writeString(name);
+			out.writeInt(indexOf(boneIndices, slotMap.getString("bone"), "Slot bone"), true);
+			out.writeInt(color(slotMap.getString("color", null)));
+			out.writeString(slotMap.getString("attachment", null));
+			out.writeByte(slotMap.getBoolean("additive", false) ? 1 : 0);
+
+			slotIndices.put(name, slotIndices.size);
+		}
+
+		//Writes the default skin first, followed by the other skins. A skin without attachments is written as an empty skin.
+		JsonValue skins = root.get("skins");
+		JsonValue defaultSkin = (skins != null) ? skins.get("default") : null;
+		writeSkin(defaultSkin, slotIndices, out);
+		out.writeInt(size(skins) - (defaultSkin != null ? 1 : 0), true);
+		for(JsonValue skinMap = child(skins); skinMap != null; skinMap = skinMap.next())
+		{
+			if(skinMap == defaultSkin)
+				continue;
+
+			out.writeString(skinMap.name());
+			writeSkin(skinMap, slotIndices, out);
+		}
+
+		//Writes the events, along with their default values.
+		JsonValue events = root.get("events");
+		out.writeInt(size(events), true);
+		for(JsonValue eventMap = child(events); eventMap != null; eventMap = eventMap.next())
+		{
+			out.writeString(eventMap.name());
+			out.writeInt(eventMap.getInt("int", 0), false);
+			out.writeFloat(eventMap.getFloat("float", 0));
+			out.writeString(eventMap.getString("string", null));
+
+			eventIndices.put(eventMap.name(), eventIndices.size);
+		}
+
+		//Writes the animations.
+		JsonValue animations = root.get("animations");
+		out.writeInt(size(animations), true);
+		for(JsonValue animationMap = child(animations); animationMap != null; animationMap = animationMap.next())
+		{
+			out.writeString(animationMap.name());
+			writeAnimation(animationMap, boneIndices, slotIndices, eventIndices, events, out);
+		}
+	}
+
+	/** Writes the attachments of a skin, grouped by slot. A null skin is written as a skin without any slots. */
+	private void writeSkin(JsonValue skinMap, ObjectIntMap<String> slotIndices, DataOutput out) throws IOException
+	{
+		out.writeInt(size(skinMap), true);
+		for(JsonValue slotEntry = child(skinMap); slotEntry != null; slotEntry = slotEntry.next())
+		{
+			out.writeInt(indexOf(slotIndices, slotEntry.name(), "Skin slot"), true);
+			out.writeInt(slotEntry.size, true);
+			for(JsonValue entry = slotEntry.child(); entry != null; entry = entry.next())
+			{
+				out.writeString(entry.name());
+				writeAttachment(entry, out);
+			}
+		}
+	}
+
+	/** Writes an attachment. The name and path are only written if they differ from the attachment's key, since SkeletonBinary falls back to the key. */
+	private void writeAttachment(JsonValue map, DataOutput out) throws IOException
+	{
+		//Writes the name of the attachment, or null if it is the same as its key.
+		String name = map.getString("name", null);
+		out.writeString(name);
+		if(name == null)
+			name = map.name();
+
+		//Writes the type of the attachment.
+		AttachmentType type = AttachmentType.valueOf(map.getString("type", AttachmentType.region.name()));
+		out.writeByte(type.ordinal());
+
+		switch(type)
+		{
+		case region:
+			out.writeString(map.getString("path", null));
+			out.writeFloat(map.getFloat("x", 0));
+			out.writeFloat(map.getFloat("y", 0));
+			out.writeFloat(map.getFloat("scaleX", 1));
+			out.writeFloat(map.getFloat("scaleY", 1));
+			out.writeFloat(map.getFloat("rotation", 0));
+			out.writeFloat(map.getFloat("width"));
+			out.writeFloat(map.getFloat("height"));
+			out.writeInt(color(map.getString("color", null)));
+			break;
+		case boundingbox:
+			writeFloatArray(map.require("vertices"), out);
+			break;
+		case mesh:
+			out.writeString(map.getString("path", null));
+			writeFloatArray(map.require("vertices"), out);
+			writeShortArray(map.require("triangles"), out);
+			writeFloatArray(map.require("uvs"), out);
+			out.writeInt(color(map.getString("color", null)));
+			//The hull and the size of the mesh are only stored along with its edges.
+			JsonValue edges = map.get("edges");
+			writeIntArray(edges, out);
+			if(size(edges) > 0)
+			{
+				out.writeInt(map.getInt("hull", 0), true);
+				out.writeFloat(map.getFloat("width", 0));
+				out.writeFloat(map.getFloat("height", 0));
+			}
+			break;
+		default:
+			throw new SerializationException("Unsupported attachment type: " + type + " (" + name + ")");
+		}
+	}
+
+	/** Writes the timelines of an animation, in the order they are read by SkeletonBinary.readAnimation(). */
+	private void writeAnimation(JsonValue map, ObjectIntMap<String> boneIndices, ObjectIntMap<String> slotIndices, ObjectIntMap<String> eventIndices,
+			JsonValue events, DataOutput out) throws IOException
+	{
+		//Writes the timelines of each bone.
+		JsonValue bones = map.get("bones");
+		out.writeInt(size(bones), true);
+		for(JsonValue boneMap = child(bones); boneMap != null; boneMap = boneMap.next())
+		{
+			out.writeInt(indexOf(boneIndices, boneMap.name(), "Animated bone"), true);
+			out.writeInt(boneMap.size, true);
+			for(JsonValue timelineMap = boneMap.child(); timelineMap != null; timelineMap = timelineMap.next())
+			{
+				String timelineName = timelineMap.name();
+				boolean rotate = timelineName.equals(SkeletonJson.TIMELINE_ROTATE);
+
+				//Writes the type of the timeline, along with its amount of keys.
+				if(rotate)
+					out.writeByte(SkeletonBinary.TIMELINE_ROTATE);
+				else if(timelineName.equals(SkeletonJson.TIMELINE_TRANSLATE))
+					out.writeByte(SkeletonBinary.TIMELINE_TRANSLATE);
+				else if(timelineName.equals(SkeletonJson.TIMELINE_SCALE))
+					out.writeByte(SkeletonBinary.TIMELINE_SCALE);
+				else
+					throw new SerializationException("Invalid timeline type for a bone: " + timelineName + " (" + boneMap.name() + ")");
+				out.writeInt(timelineMap.size, true);
+
+				//Writes the keys of the timeline. The curve is not stored for the last key.
+				for(JsonValue valueMap = timelineMap.child(); valueMap != null; valueMap = valueMap.next())
+				{
+					out.writeFloat(valueMap.getFloat("time"));
+					if(rotate)
+						out.writeFloat(valueMap.getFloat("angle"));
+					else
+					{
+						out.writeFloat(valueMap.getFloat("x", 0));
+						out.writeFloat(valueMap.getFloat("y", 0));
+					}
+					if(valueMap.next() != null)
+						writeCurve(valueMap, out);
+				}
+			}
+		}
+
+		//Writes the timelines of each slot.
+		JsonValue slots = map.get("slots");
+		out.writeInt(size(slots), true);
+		for(JsonValue slotMap = child(slots); slotMap != null; slotMap = slotMap.next())
+		{
+			out.writeInt(indexOf(slotIndices, slotMap.name(), "Animated slot"), true);
+			out.writeInt(slotMap.size, true);
+			for(JsonValue timelineMap = slotMap.child(); timelineMap != null; timelineMap = timelineMap.next())
+			{
+				String timelineName = timelineMap.name();
+				if(timelineName.equals(SkeletonJson.TIMELINE_COLOR))
+				{
+					out.writeByte(SkeletonBinary.TIMELINE_COLOR);
+					out.writeInt(timelineMap.size, true);
+					for(JsonValue valueMap = timelineMap.child(); valueMap != null; valueMap = valueMap.next())
+					{
+						out.writeFloat(valueMap.getFloat("time"));
+						out.writeInt(color(valueMap.getString("color")));
+						if(valueMap.next() != null)
+							writeCurve(valueMap, out);
+					}
+				}
+				else if(timelineName.equals(SkeletonJson.TIMELINE_ATTACHMENT))
+				{
+					out.writeByte(SkeletonBinary.TIMELINE_ATTACHMENT);
+					out.writeInt(timelineMap.size, true);
+					for(JsonValue valueMap = timelineMap.child(); valueMap != null; valueMap = valueMap.next())
+					{
+						out.writeFloat(valueMap.getFloat("time"));
+						out.writeString(valueMap.getString("name", null));
+					}
+				}
+				else
+					throw new SerializationException("Invalid timeline type for a slot: " + timelineName + " (" + slotMap.name() + ")");
+			}
+		}
+
+		//Writes the event keys. Their values default to the values of their event.
+		JsonValue eventsMap = map.get("events");
+		out.writeInt(size(eventsMap), true);
+		for(JsonValue eventMap = child(eventsMap); eventMap != null; eventMap = eventMap.next())
+		{
+			String eventName = eventMap.getString("name");
+			int eventIndex = indexOf(eventIndices, eventName, "Event");
+			JsonValue eventData = events.get(eventName);
+
+			out.writeFloat(eventMap.getFloat("time"));
+			out.writeInt(eventIndex, true);
+			out.writeInt(eventMap.getInt("int", eventData.getInt("int", 0)), false);
+			out.writeFloat(eventMap.getFloat("float", eventData.getFloat("float", 0)));
+			//The string is only stored if the key overrides the event's string.
+			out.writeBoolean(eventMap.has("string"));
+			if(eventMap.has("string"))
+				out.writeString(eventMap.getString("string"));
+		}
+
+		//Writes the draw order keys. Each key stores the slots which moved, along with the amount they moved by.
+		JsonValue drawOrdersMap = map.get("draworder");
+		out.writeInt(size(drawOrdersMap), true);
+		for(JsonValue drawOrderMap = child(drawOrdersMap); drawOrderMap != null; drawOrderMap = drawOrderMap.next())
+		{
+			JsonValue offsets = drawOrderMap.get("offsets");
+			out.writeInt(size(offsets), true);
+			for(JsonValue offsetMap = child(offsets); offsetMap != null; offsetMap = offsetMap.next())
+			{
+				out.writeInt(indexOf(slotIndices, offsetMap.getString("slot"), "Draw order slot"), true);
+				out.writeInt(offsetMap.getInt("offset"), true);
+			}
+			out.writeFloat(drawOrderMap.getFloat("time"));
+		}
+	}
+
+	/** Writes the curve of a key: linear, stepped, or a bezier curve followed by its four control values. */
+	private void writeCurve(JsonValue valueMap, DataOutput out) throws IOException
+	{
+		JsonValue curve = valueMap.get("curve");
+		if(curve != null && curve.isString() && curve.asString().equals("stepped"))
+			out.writeByte(SkeletonBinary.CURVE_STEPPED);
+		else if(curve != null && curve.isArray())
+		{
+			out.writeByte(SkeletonBinary.CURVE_BEZIER);
+			for(int i = 0; i < 4; i++)
+				out.writeFloat(curve.getFloat(i));
+		}
+		else
+			out.writeByte(SkeletonBinary.CURVE_LINEAR);
+	}
+
+	/** Writes an array of floats, preceded by its length. */
+	private void writeFloatArray(JsonValue array, DataOutput out) throws IOException
+	{
+		out.writeInt(array.size, true);
+		for(JsonValue value = array.child(); value != null; value = value.next())
+			out.writeFloat(value.asFloat());
+	}
+
+	/** Writes an array of shorts, preceded by its length. */
+	private void writeShortArray(JsonValue array, DataOutput out) throws IOException
+	{
+		out.writeInt(array.size, true);
+		for(JsonValue value = array.child(); value != null; value = value.next())
+			out.writeShort(value.asInt());
+	}
+
+	/** Writes an array of positive ints, preceded by its length. A null array is written as an empty array. */
+	private void writeIntArray(JsonValue array, DataOutput out) throws IOException
+	{
+		out.writeInt(size(array), true);
+		for(JsonValue value = child(array); value != null; value = value.next())
+			out.writeInt(value.asInt(), true);
+	}
+
+	/** Returns the given "rrggbbaa" color as an RGBA8888 int. A null color is white, like in SkeletonJson. */
+	private static int color(String hex)
+	{
+		return (hex != null) ? Color.rgba8888(Color.valueOf(hex)) : Color.rgba8888(Color.WHITE);
+	}
+
+	/** Returns the index of the given name, or -1 if the name is null. Throws an exception if the name was never written. */
+	private static int indexOf(ObjectIntMap<String> indices, String name, String description)
+	{
+		if(name == null)
+			return -1;
+
+		int index = indices.get(name, -1);
+		if(index == -1)
+			throw new SerializationException(description + " not found: " + name);
+
+		return index;
+	}
+
+	/** Returns the amount of children of the given value, or zero if the value is null. */
+	private static int size(JsonValue value)
+	{
+		return (value != null) ? value.size : 0;
+	}
+
+	/** Returns the first child of the given value, or null if the value is null. */
+	private static JsonValue child(JsonValue value)
+	{
+		return (value != null) ? value.child() : null;
+	}
+}
@@ -0,0 +1,401 @@
+package com.jonathan.survivor.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.Animation;
+import com.esotericsoftware.spine.Bone;
+import com.esotericsoftware.spine.BoneData;
+import com.esotericsoftware.spine.Event;
+import com.esotericsoftware.spine.EventData;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonBinary;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.SkeletonJson;
+import com.esotericsoftware.spine.Skin;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.SlotData;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.AttachmentLoader;
+import com.esotericsoftware.spine.attachments.BoundingBoxAttachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+/*
+ * Converts a JSON skeleton with the SkeletonConverter, then reads the JSON file with SkeletonJson and the binary file with SkeletonBinary, and checks that
+ * both give the same SkeletonData: bones, slots and their colors, skins and their attachments, events, and the poses and events of every animation. The
+ * skeleton uses every feature the converter writes: bone inheritance flags, slot colors and additive blending, a second skin, region, mesh and bounding box
+ * attachments, curves, slot timelines, event keys which override their event, and draw order keys.
+ */
+
+public class SkeletonConverterTest
+{
+	/** Stores the scale at which both skeletons are read. Checks that the converter writes unscaled values. */
+	private static final float SCALE = 0.5f;
+
+	/** Stores the largest difference allowed between two floats read from the JSON and binary files. */
+	private static final float EPSILON = 0.0001f;
+
+	/** Stores the amount of times at which each animation is posed. */
+	private static final int POSES_PER_ANIMATION = 60;
+
+	/** Stores the skeleton converted by the test. Single quotes are replaced with double quotes before the file is written. */
+	private static final String SKELETON_JSON = "{"
+			+ "'bones':["
+			+ "  {'name':'root'},"
+			+ "  {'name':'hip','parent':'root','x':10.5,'y':-20,'rotation':12,'length':40},"
+			+ "  {'name':'arm','parent':'hip','x':30,'y':5,'rotation':-45,'scaleX':1.5,'scaleY':0.75,'length':25,'inheritScale':false,'inheritRotation':false}"
+			+ "],"
+			+ "'slots':["
+			+ "  {'name':'body','bone':'hip','attachment':'body'},"
+			+ "  {'name':'hand','bone':'arm','color':'ff8040c0','attachment':'fist','additive':true},"
+			+ "  {'name':'hitbox','bone':'root','attachment':'box'}"
+			+ "],"
+			+ "'skins':{"
+			+ "  'default':{"
+			+ "    'body':{"
+			+ "      'body':{'x':2,'y':3,'rotation':90,'width':64,'height':32,'color':'80ff80ff'},"
+			+ "      'torso':{'type':'mesh','path':'torso-mesh','vertices':[0,0,10,0,10,10,0,10],'triangles':[0,1,2,2,3,0],'uvs':[0,1,1,1,1,0,0,0],"
+			+ "               'hull':4,'edges':[0,2,2,4,4,6,6,0],'width':10,'height':10}"
+			+ "    },"
+			+ "    'hand':{"
+			+ "      'fist':{'scaleX':0.5,'scaleY':2,'width':16,'height':16},"
+			+ "      'palm':{'name':'open-hand','path':'hands/palm','width':18,'height':12}"
+			+ "    },"
+			+ "    'hitbox':{'box':{'type':'boundingbox','vertices':[-5,-5,5,-5,5,5,-5,5]}}"
+			+ "  },"
+			+ "  'bloody':{'body':{'body':{'path':'body-bloody','width':64,'height':32}}}"
+			+ "},"
+			+ "'events':{'step':{'int':1,'float':0.5,'string':'left'},'hit':{}},"
+			+ "'animations':{"
+			+ "  'walk':{"
+			+ "    'bones':{"
+			+ "      'hip':{"
+			+ "        'rotate':[{'time':0,'angle':0,'curve':[0.25,0,0.75,1]},{'time':0.5,'angle':30,'curve':'stepped'},{'time':1,'angle':-10}],"
+			+ "        'translate':[{'time':0,'x':0,'y':0},{'time':1,'x':20,'y':-4}]"
+			+ "      },"
+			+ "      'arm':{'scale':[{'time':0,'x':1,'y':1,'curve':[0.1,0.2,0.3,0.9]},{'time':0.8,'x':2,'y':0.5}]}"
+			+ "    },"
+			+ "    'slots':{"
+			+ "      'hand':{"
+			+ "        'color':[{'time':0,'color':'ffffffff'},{'time':0.6,'color':'ff000080','curve':'stepped'},{'time':1,'color':'00ff00ff'}],"
+			+ "        'attachment':[{'time':0,'name':'fist'},{'time':0.4,'name':'palm'},{'time':0.9,'name':null}]"
+			+ "      }"
+			+ "    },"
+			+ "    'events':[{'time':0.25,'name':'step'},{'time':0.75,'name':'step','int':2,'float':1.5,'string':'right'},{'time':0.9,'name':'hit'}],"
+			+ "    'draworder':[{'time':0.3,'offsets':[{'slot':'hitbox','offset':-2}]},{'time':0.7,'offsets':[{'slot':'body','offset':1}]},{'time':0.95}]"
+			+ "  },"
+			+ "  'idle':{'bones':{'root':{'translate':[{'time':0,'x':0,'y':0},{'time':2,'x':0,'y':3}]}}}"
+			+ "}"
+			+ "}";
+
+	/** Holds the JSON skeleton, along with the binary skeleton converted from it. */
+	private File jsonFile, binaryFile;
+	/** Holds the SkeletonData read from the JSON and the binary files. */
+	private SkeletonData jsonData, binaryData;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		//Writes the JSON skeleton to a temporary file, and converts it into a binary skeleton next to it.
+		jsonFile = File.createTempFile("skeleton", SkeletonConverter.JSON_EXTENSION);
+		binaryFile = new File(jsonFile.getPath().replace(SkeletonConverter.JSON_EXTENSION, SkeletonConverter.BINARY_EXTENSION));
+		Writer writer = new OutputStreamWriter(new FileOutputStream(jsonFile), "UTF-8");
+		writer.write(SKELETON_JSON.replace('\'', '"'));
+		writer.close();
+		new SkeletonConverter().convert(jsonFile, binaryFile);
+
+		//Reads both files at the same scale. The attachments are created without texture regions.
+		SkeletonJson json = new SkeletonJson(new RegionlessAttachmentLoader());
+		json.setScale(SCALE);
+		jsonData = json.readSkeletonData(new FileHandle(jsonFile));
+
+		SkeletonBinary binary = new SkeletonBinary(new RegionlessAttachmentLoader());
+		binary.setScale(SCALE);
+		binaryData = binary.readSkeletonData(new FileHandle(binaryFile));
+	}
+
+	@After
+	public void tearDown()
+	{
+		jsonFile.delete();
+		binaryFile.delete();
+	}
+
+	@Test
+	public void bonesMatch()
+	{
+		assertEquals(3, binaryData.getBones().size);
+		assertEquals(jsonData.getBones().size, binaryData.getBones().size);
+
+		for(int i = 0; i < jsonData.getBones().size; i++)
+		{
+			BoneData expected = jsonData.getBones().get(i), actual = binaryData.getBones().get(i);
+			assertEquals(expected.getName(), actual.getName());
+			assertEquals(name(expected.getParent()), name(actual.getParent()));
+			assertEquals(expected.getName(), expected.getLength(), actual.getLength(), EPSILON);
+			assertEquals(expected.getName(), expected.getX(), actual.getX(), EPSILON);
+			assertEquals(expected.getName(), expected.getY(), actual.getY(), EPSILON);
+			assertEquals(expected.getName(), expected.getRotation(), actual.getRotation(), EPSILON);
+			assertEquals(expected.getName(), expected.getScaleX(), actual.getScaleX(), EPSILON);
+			assertEquals(expected.getName(), expected.getScaleY(), actual.getScaleY(), EPSILON);
+			assertEquals(expected.getInheritScale(), actual.getInheritScale());
+			assertEquals(expected.getInheritRotation(), actual.getInheritRotation());
+		}
+
+		//The binary skeleton must be scaled when it is read, and not when it is converted.
+		assertEquals(10.5f * SCALE, binaryData.findBone("hip").getX(), EPSILON);
+	}
+
+	@Test
+	public void slotsMatch()
+	{
+		assertEquals(3, binaryData.getSlots().size);
+		assertEquals(jsonData.getSlots().size, binaryData.getSlots().size);
+
+		for(int i = 0; i < jsonData.getSlots().size; i++)
+		{
+			SlotData expected = jsonData.getSlots().get(i), actual = binaryData.getSlots().get(i);
+			assertEquals(expected.getName(), actual.getName());
+			assertEquals(expected.getBoneData().getName(), actual.getBoneData().getName());
+			assertColor(expected.getName(), expected.getColor(), actual.getColor());
+			assertEquals(expected.getAttachmentName(), actual.getAttachmentName());
+			assertEquals(expected.getAdditiveBlending(), actual.getAdditiveBlending());
+		}
+
+		assertEquals(Color.valueOf("ff8040c0"), binaryData.findSlot("hand").getColor());
+	}
+
+	@Test
+	public void skinsMatch()
+	{
+		assertEquals(2, binaryData.getSkins().size);
+		assertEquals(jsonData.getSkins().size, binaryData.getSkins().size);
+		assertEquals("default", binaryData.getDefaultSkin().getName());
+
+		for(Skin expected : jsonData.getSkins())
+		{
+			Skin actual = binaryData.findSkin(expected.getName());
+			assertNotNull("Skin not found: " + expected.getName(), actual);
+
+			//Compares the attachments of every slot, looked up by their keys.
+			for(int slotIndex = 0; slotIndex < jsonData.getSlots().size; slotIndex++)
+			{
+				Array<String> expectedNames = new Array<String>(), actualNames = new Array<String>();
+				expected.findNamesForSlot(slotIndex, expectedNames);
+				actual.findNamesForSlot(slotIndex, actualNames);
+				assertEquals(expected.getName() + " slot " + slotIndex, expectedNames.size, actualNames.size);
+
+				for(String name : expectedNames)
+					assertAttachment(expected.getAttachment(slotIndex, name), actual.getAttachment(slotIndex, name));
+			}
+		}
+	}
+
+	@Test
+	public void eventsMatch()
+	{
+		assertEquals(2, binaryData.getEvents().size);
+		assertEquals(jsonData.getEvents().size, binaryData.getEvents().size);
+
+		for(EventData expected : jsonData.getEvents())
+		{
+			EventData actual = binaryData.findEvent(expected.getName());
+			assertNotNull("Event not found: " + expected.getName(), actual);
+			assertEquals(expected.getInt(), actual.getInt());
+			assertEquals(expected.getFloat(), actual.getFloat(), EPSILON);
+			assertEquals(expected.getString(), actual.getString());
+		}
+	}
+
+	@Test
+	public void posesMatch()
+	{
+		assertEquals(2, binaryData.getAnimations().size);
+		assertEquals(jsonData.getAnimations().size, binaryData.getAnimations().size);
+
+		Skeleton expectedSkeleton = new Skeleton(jsonData), actualSkeleton = new Skeleton(binaryData);
+		Array<Event> expectedEvents = new Array<Event>(), actualEvents = new Array<Event>();
+
+		for(Animation expected : jsonData.getAnimations())
+		{
+			Animation actual = binaryData.findAnimation(expected.getName());
+			assertNotNull("Animation not found: " + expected.getName(), actual);
+			assertEquals(expected.getName(), expected.getDuration(), actual.getDuration(), EPSILON);
+			assertEquals(expected.getName(), expected.getTimelines().size, actual.getTimelines().size);
+
+			//Plays the animation on both skeletons, and compares their poses, along with the events fired since the last pose.
+			expectedSkeleton.setToSetupPose();
+			actualSkeleton.setToSetupPose();
+			float lastTime = 0;
+			for(int i = 1; i <= POSES_PER_ANIMATION; i++)
+			{
+				float time = expected.getDuration() * i / POSES_PER_ANIMATION;
+				expectedEvents.clear();
+				actualEvents.clear();
+				expected.apply(expectedSkeleton, lastTime, time, false, expectedEvents);
+				actual.apply(actualSkeleton, lastTime, time, false, actualEvents);
+				expectedSkeleton.updateWorldTransform();
+				actualSkeleton.updateWorldTransform();
+
+				assertPose(expected.getName() + " at " + time, expectedSkeleton, actualSkeleton);
+				assertEvents(expected.getName() + " at " + time, expectedEvents, actualEvents);
+				lastTime = time;
+			}
+		}
+	}
+
+	/** Fails if the bones, slots or draw order of the given skeletons differ. */
+	private static void assertPose(String message, Skeleton expected, Skeleton actual)
+	{
+		for(int i = 0; i < expected.getBones().size; i++)
+		{
+			Bone expectedBone = expected.getBones().get(i), actualBone = actual.getBones().get(i);
+			String boneMessage = message + ", bone " + expectedBone.getData().getName();
+			assertEquals(boneMessage, expectedBone.getX(), actualBone.getX(), EPSILON);
+			assertEquals(boneMessage, expectedBone.getY(), actualBone.getY(), EPSILON);
+			assertEquals(boneMessage, expectedBone.getRotation(), actualBone.getRotation(), EPSILON);
+			assertEquals(boneMessage, expectedBone.getScaleX(), actualBone.getScaleX(), EPSILON);
+			assertEquals(boneMessage, expectedBone.getScaleY(), actualBone.getScaleY(), EPSILON);
+			assertEquals(boneMessage, expectedBone.getWorldX(), actualBone.getWorldX(), EPSILON);
+			assertEquals(boneMessage, expectedBone.getWorldY(), actualBone.getWorldY(), EPSILON);
+			assertEquals(boneMessage, expectedBone.getWorldRotation(), actualBone.getWorldRotation(), EPSILON);
+		}
+
+		for(int i = 0; i < expected.getSlots().size; i++)
+		{
+			Slot expectedSlot = expected.getSlots().get(i), actualSlot = actual.getSlots().get(i);
+			String slotMessage = message + ", slot " + expectedSlot.getData().getName();
+			assertColor(slotMessage, expectedSlot.getColor(), actualSlot.getColor());
+			assertEquals(slotMessage, name(expectedSlot.getAttachment()), name(actualSlot.getAttachment()));
+		}
+
+		for(int i = 0; i < expected.getDrawOrder().size; i++)
+			assertEquals(message + ", draw order " + i, expected.getDrawOrder().get(i).getData().getName(), actual.getDrawOrder().get(i).getData().getName());
+	}
+
+	/** Fails if the given events differ. */
+	private static void assertEvents(String message, Array<Event> expected, Array<Event> actual)
+	{
+		assertEquals(message, expected.size, actual.size);
+		for(int i = 0; i < expected.size; i++)
+		{
+			assertEquals(message, expected.get(i).getData().getName(), actual.get(i).getData().getName());
+			assertEquals(message, expected.get(i).getInt(), actual.get(i).getInt());
+			assertEquals(message, expected.get(i).getFloat(), actual.get(i).getFloat(), EPSILON);
+			assertEquals(message, expected.get(i).getString(), actual.get(i).getString());
+		}
+	}
+
+	/** Fails if the given attachments differ in type, name, path, geometry or color. */
+	private static void assertAttachment(Attachment expected, Attachment actual)
+	{
+		assertNotNull(expected.getName(), actual);
+		assertSame(expected.getClass(), actual.getClass());
+		assertEquals(expected.getName(), actual.getName());
+
+		if(expected instanceof RegionAttachment)
+		{
+			RegionAttachment expectedRegion = (RegionAttachment)expected, actualRegion = (RegionAttachment)actual;
+			assertEquals(expectedRegion.getPath(), actualRegion.getPath());
+			assertEquals(expected.getName(), expectedRegion.getX(), actualRegion.getX(), EPSILON);
+			assertEquals(expected.getName(), expectedRegion.getY(), actualRegion.getY(), EPSILON);
+			assertEquals(expected.getName(), expectedRegion.getScaleX(), actualRegion.getScaleX(), EPSILON);
+			assertEquals(expected.getName(), expectedRegion.getScaleY(), actualRegion.getScaleY(), EPSILON);
+			assertEquals(expected.getName(), expectedRegion.getRotation(), actualRegion.getRotation(), EPSILON);
+			assertEquals(expected.getName(), expectedRegion.getWidth(), actualRegion.getWidth(), EPSILON);
+			assertEquals(expected.getName(), expectedRegion.getHeight(), actualRegion.getHeight(), EPSILON);
+			assertColor(expected.getName(), expectedRegion.getColor(), actualRegion.getColor());
+			assertFloats(expected.getName(), expectedRegion.getOffset(), actualRegion.getOffset());
+		}
+		else if(expected instanceof MeshAttachment)
+		{
+			MeshAttachment expectedMesh = (MeshAttachment)expected, actualMesh = (MeshAttachment)actual;
+			assertEquals(expectedMesh.getPath(), actualMesh.getPath());
+			assertFloats(expected.getName(), expectedMesh.getVertices(), actualMesh.getVertices());
+			assertEquals(expected.getName(), expectedMesh.getTriangles().length, actualMesh.getTriangles().length);
+			for(int i = 0; i < expectedMesh.getTriangles().length; i++)
+				assertEquals(expected.getName(), expectedMesh.getTriangles()[i], actualMesh.getTriangles()[i]);
+			//The world vertices hold the uvs of the mesh.
+			assertFloats(expected.getName(), expectedMesh.getWorldVertices(), actualMesh.getWorldVertices());
+			assertEquals(expectedMesh.getHullLength(), actualMesh.getHullLength());
+			assertEquals(expectedMesh.getEdges().length, actualMesh.getEdges().length);
+			for(int i = 0; i < expectedMesh.getEdges().length; i++)
+				assertEquals(expected.getName(), expectedMesh.getEdges()[i], actualMesh.getEdges()[i]);
+			assertEquals(expected.getName(), expectedMesh.getWidth(), actualMesh.getWidth(), EPSILON);
+			assertEquals(expected.getName(), expectedMesh.getHeight(), actualMesh.getHeight(), EPSILON);
+			assertColor(expected.getName(), expectedMesh.getColor(), actualMesh.getColor());
+		}
+		else if(expected instanceof BoundingBoxAttachment)
+			assertFloats(expected.getName(), ((BoundingBoxAttachment)expected).getVertices(), ((BoundingBoxAttachment)actual).getVertices());
+	}
+
+	/** Fails if the given arrays differ in length, or if any of their values differ. */
+	private static void assertFloats(String message, float[] expected, float[] actual)
+	{
+		assertEquals(message, expected.length, actual.length);
+		for(int i = 0; i < expected.length; i++)
+			assertEquals(message + "[" + i + "]", expected[i], actual[i], EPSILON);
+	}
+
+	/** Fails if the components of the given colors differ by more than the precision of an RGBA8888 color. */
+	private static void assertColor(String message, Color expected, Color actual)
+	{
+		assertEquals(message, expected.r, actual.r, 1 / 255f);
+		assertEquals(message, expected.g, actual.g, 1 / 255f);
+		assertEquals(message, expected.b, actual.b, 1 / 255f);
+		assertEquals(message, expected.a, actual.a, 1 / 255f);
+	}
+
+	/** Returns the name of the given bone, or null if there is no bone. */
+	private static String name(BoneData bone)
+	{
+		return (bone != null) ? bone.getName() : null;
+	}
+
+	/** Returns the name of the given attachment, or null if there is no attachment. */
+	private static String name(Attachment attachment)
+	{
+		return (attachment != null) ? attachment.getName() : null;
+	}
+
+	/** Creates attachments without texture regions, so that the skeletons can be read without a texture atlas. The path of each attachment is kept. */
+	private static class RegionlessAttachmentLoader implements AttachmentLoader
+	{
+		@Override
+		public RegionAttachment newRegionAttachment(Skin skin, String name, String path)
+		{
+			RegionAttachment attachment = new RegionAttachment(name);
+			attachment.setPath(path);
+			return attachment;
+		}
+
+		@Override
+		public MeshAttachment newMeshAttachment(Skin skin, String name, String path)
+		{
+			MeshAttachment attachment = new MeshAttachment(name);
+			attachment.setPath(path);
+			return attachment;
+		}
+
+		@Override
+		public BoundingBoxAttachment newBoundingBoxAttachment(Skin skin, String name)
+		{
+			return new BoundingBoxAttachment(name);
+		}
+	}
+}
@@ -43,6 +43,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.NumberUtils;
 
 public class SkeletonRenderer {
 	static private final short[] quadTriangle = {0, 1, 2, 2, 3, 0};
@@ -52,9 +53,6 @@ public class SkeletonRenderer {
 	public void draw (PolygonSpriteBatch batch, Skeleton skeleton) {
 		boolean premultipliedAlpha = this.premultipliedAlpha;
 		int srcFunc = premultipliedAlpha ? GL11.GL_ONE : GL11.GL_SRC_ALPHA;
-		batch.setBlendFunction(srcFunc, GL11.GL_ONE_MINUS_SRC_ALPHA);
-
-		boolean additive = false;
 
 		float[] vertices;
 		short[] triangles;
@@ -69,15 +67,7 @@ public class SkeletonRenderer {
 				vertices = region.getWorldVertices();
 				triangles = quadTriangle;
 				texture = region.getRegion().getTexture();
-
-				if (slot.data.getAdditiveBlending() != additive) {
-					additive = !additive;
-					if (additive)
-						batch.setBlendFunction(srcFunc, GL11.GL_ONE);
-					else
-						batch.setBlendFunction(srcFunc, GL11.GL_ONE_MINUS_SRC_ALPHA);
-				}
-
+				setBlending(batch, srcFunc, slot.data.getAdditiveBlending(), vertices);
 				batch.draw(texture, vertices, 0, vertices.length, triangles, 0, triangles.length);
 
 			} else if (attachment instanceof MeshAttachment) {
@@ -86,6 +76,7 @@ public class SkeletonRenderer {
 				vertices = mesh.getWorldVertices();
 				triangles = mesh.getTriangles();
 				texture = mesh.getRegion().getTexture();
+				setBlending(batch, srcFunc, slot.data.getAdditiveBlending(), vertices);
 				batch.draw(texture, vertices, 0, vertices.length, triangles, 0, triangles.length);
 
 			} else if (attachment instanceof SkeletonAttachment) {
@@ -117,9 +108,6 @@ public class SkeletonRenderer {
 	public void draw (Batch batch, Skeleton skeleton) {
 		boolean premultipliedAlpha = this.premultipliedAlpha;
 		int srcFunc = premultipliedAlpha ? GL11.GL_ONE : GL11.GL_SRC_ALPHA;
-		batch.setBlendFunction(srcFunc, GL11.GL_ONE_MINUS_SRC_ALPHA);
-
-		boolean additive = false;
 
 		Array<Slot> drawOrder = skeleton.drawOrder;
 		for (int i = 0, n = drawOrder.size; i < n; i++) {
@@ -129,13 +117,7 @@ public class SkeletonRenderer {
 				RegionAttachment regionAttachment = (RegionAttachment)attachment;
 				regionAttachment.updateWorldVertices(slot, premultipliedAlpha);
 				float[] vertices = regionAttachment.getWorldVertices();
-				if (slot.data.getAdditiveBlending() != additive) {
-					additive = !additive;
-					if (additive)
-						batch.setBlendFunction(srcFunc, GL11.GL_ONE);
-					else
-						batch.setBlendFunction(srcFunc, GL11.GL_ONE_MINUS_SRC_ALPHA);
-				}
+				setBlending(batch, srcFunc, slot.data.getAdditiveBlending(), vertices);
 				batch.draw(regionAttachment.getRegion().getTexture(), vertices, 0, 20);
 			} else if (attachment instanceof SkeletonAttachment) {
 				Skeleton attachmentSkeleton = ((SkeletonAttachment)attachment).getSkeleton();
@@ -163,7 +145,34 @@ public class SkeletonRenderer {
 		}
 	}
 
+	/** Sets the batch's blend function for a slot's vertices. The blend function is only changed when it differs from the batch's current one, since changing it
+	 * flushes the batch. Thus, the blend state carries over between skeletons, and consecutive skeletons are drawn in one batch. */
+	private void setBlending (Batch batch, int srcFunc, boolean additive, float[] vertices) {
+		int dstFunc = getBlendDstFunc(additive, vertices);
+		if (batch.getBlendSrcFunc() != srcFunc || batch.getBlendDstFunc() != dstFunc) batch.setBlendFunction(srcFunc, dstFunc);
+	}
+
+	/** Sets the batch's blend function for a slot's vertices. The PolygonSpriteBatch has no getters for its blend function, but it ignores unchanged functions
+	 * itself. */
+	private void setBlending (PolygonSpriteBatch batch, int srcFunc, boolean additive, float[] vertices) {
+		batch.setBlendFunction(srcFunc, getBlendDstFunc(additive, vertices));
+	}
+
+	/** Returns the destination blend function for a slot's vertices. With premultiplied alpha, an additive slot keeps the normal blend function: its vertices are
+	 * given a zero alpha, so that their color is added to the destination without switching blend functions. */
+	private int getBlendDstFunc (boolean additive, float[] vertices) {
+		if (!additive) return GL11.GL_ONE_MINUS_SRC_ALPHA;
+		if (!premultipliedAlpha) return GL11.GL_ONE;
+		for (int i = 2, n = vertices.length; i < n; i += 5)
+			vertices[i] = NumberUtils.intToFloatColor(NumberUtils.floatToIntColor(vertices[i]) & 0x00ffffff);
+		return GL11.GL_ONE_MINUS_SRC_ALPHA;
+	}
+
 	public void setPremultipliedAlpha (boolean premultipliedAlpha) {
 		this.premultipliedAlpha = premultipliedAlpha;
 	}
+
+	public boolean getPremultipliedAlpha () {
+		return premultipliedAlpha;
+	}
 }
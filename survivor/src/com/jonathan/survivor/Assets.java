@@ -2,6 +2,7 @@ package com.jonathan.survivor;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
@@ -23,11 +24,14 @@ import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
 import com.badlogic.gdx.scenes.scene2d.utils.SpriteDrawable;
 import com.esotericsoftware.spine.Animation;
 import com.esotericsoftware.spine.SkeletonData;
-import com.esotericsoftware.spine.SkeletonJson;
 import com.esotericsoftware.spine.SkeletonRenderer;
 import com.jonathan.survivor.inventory.Axe;
 import com.jonathan.survivor.inventory.Rifle;
+import com.jonathan.survivor.managers.CraftingManager;
+import com.jonathan.survivor.utils.SkeletonDataLoader;
+import com.jonathan.survivor.utils.SkeletonDataLoader.SkeletonDataParameter;
 import com.jonathan.survivor.utils.SpriteUtils;
+import com.jonathan.survivor.utils.Tracer;
 
 /** Loads all visual/audio assets needed by the game and stores them in public static variables. An asset is fetched from this class whenever something needs
  *  to be drawn on screen or played to the speakers.
@@ -54,8 +58,20 @@ public class Assets
 {
 	/** Stores a singleton instance of the Assets class. All assets are loaded and stored in one instance for easy access. */
 	public static Assets instance;	
+	/** Stores true if the skeletons are read from their binary files when they exist. Reading a binary skeleton is faster, and creates less garbage, than parsing
+	 *  its JSON file. If false, or if a skeleton has no binary file, its JSON file is read instead. */
+	public static boolean preferBinarySkeletons = true;
+	/** Stores true if the skeletons' atlases were packed with premultiplied alpha. If so, the SkeletonRenderer draws additive slots with the same blend function as
+	 *  the other slots, so that the batch is never flushed to switch blending between skeletons. Must match the settings used to pack the atlases. */
+	public static boolean premultipliedAlpha = false;
+	
+	/** Stores the parameter used to load the player's skeleton. The player's atlas is loaded by the splash screen, outside of the AssetManager, so it is given to
+	 *  the parameter once it is loaded. */
+	private SkeletonDataParameter playerSkeletonParameter;
 	/** Stores an AssetManager instance. This allows for loading on a separate thread from the render thread. All assets are loaded through object.*/
 	private AssetManager manager = new AssetManager();	
+	/** Stores the time at which the AssetManager started loading the queued assets, or zero if it isn't loading. Recorded by the Tracer. */
+	private long loadingStartTime;
 	
 	/** Stores a file extension (i.e., "@4x", "@2x", "")  telling us which atlases to load depending on screen size. */
 	public final String scaleExtension;	
@@ -79,6 +95,9 @@ public class Assets
 	public static final float VERSUS_ANIM_SKELETON_SCALE = 0.25f * Survivor.WORLD_SCALE;
 	public static final float KO_ANIM_SKELETON_SCALE = 0.25f * Survivor.WORLD_SCALE;
 	
+	/** Stores the extensions of the skeletons exported by Spine, and of the binary skeletons created from them by the SkeletonConverter tool. */
+	public static final String SKELETON_JSON_EXTENSION = ".json", SKELETON_BINARY_EXTENSION = ".skel";
+	
 	/** Holds the width and height of an item's sprite in an inventory. Used to resize sprites to the correct scale for inventories. */
 	public static final float INVENTORY_ITEM_WIDTH = 32, INVENTORY_ITEM_HEIGHT = 32;
 	
@@ -156,17 +175,14 @@ public class Assets
 	public LabelStyle gameOverLabelStyle;
 	
 	public TextureAtlas versusAnimAtlas;
-	public SkeletonJson versusAnimSkeletonJson;
 	public SkeletonData versusAnimSkeletonData;
 	public Animation versusPlay;
 	
 	public TextureAtlas koAnimAtlas;
-	public SkeletonJson koAnimSkeletonJson;
 	public SkeletonData koAnimSkeletonData;
 	public Animation koPlay;
 	
 	public TextureAtlas playerAtlas;
-	public SkeletonJson playerSkeletonJson;
 	public SkeletonData playerSkeletonData;
 	public SkeletonData playerSkeletonData_UI; //Stores the SkeletonData used for the player drawn in UIs. The only difference is that the skeleton is scaled in pixel units.
 	public Animation playerIdle;
@@ -191,7 +207,6 @@ public class Assets
 	public Animation playerSleep_Alert;
 	
 	public TextureAtlas zombieAtlas;
-	public SkeletonJson zombieSkeletonJson;
 	public SkeletonData zombieSkeletonData;
 	public Animation zombieIdle;
 	public Animation zombieWalk;
@@ -206,26 +221,22 @@ public class Assets
 	
 	public TextureAtlas interactableObjectAtlas;
 	public TextureAtlas itemAtlas;
-	public SkeletonJson treeSkeletonJson;
 	public SkeletonData treeSkeletonData;
 	public Animation treeIdle;
 	public Animation treeClicked;
 	public Animation treeHit;
 	public Animation treeScavenged;
 	
-	public SkeletonJson boxSkeletonJson;
 	public SkeletonData boxSkeletonData;
 	public Animation boxIdle;
 	public Animation boxClicked;
 	public Animation boxScavenged;
 	
-	public SkeletonJson itemSkeletonJson;
 	public SkeletonData itemSkeletonData;
 	public Animation itemFly;
 	public Animation itemGrounded;
 	public Animation itemClicked;
 	
-	public SkeletonJson projectileSkeletonJson;
 	public SkeletonData projectileSkeletonData;
 	public Animation projectileIdle;
 	
@@ -311,6 +322,9 @@ public class Assets
 			scaleFactor = 1;
 		}
 		
+		//Lets the AssetManager load Spine skeletons, which are parsed on its loading thread.
+		manager.setLoader(SkeletonData.class, new SkeletonDataLoader(new InternalFileHandleResolver()));
+		
 		//Queue all of the assets for loading. We have to queue assets inside the AssetManager instance before actually loading them.
 		queueAssetsForLoading();
 	}
@@ -320,6 +334,9 @@ public class Assets
 	 */
 	public void loadInitialAssets()
 	{
+		//Times the loading of the assets, which is recorded if the session is traced.
+		long traceStart = Tracer.now();
+		
 		//Loads the atlases and sprites used by the loading screen and company splash screens.
 		loadingScreenAtlas = new TextureAtlas(Gdx.files.internal("ui/loading screen/loading_items_atlas" + scaleExtension + ".txt"));
 		companyLogo = loadingScreenAtlas.createSprite("Company Logo");
@@ -330,11 +347,17 @@ public class Assets
 		//resolution.
 		companyLogo.setSize(companyLogo.getWidth()/scaleFactor, companyLogo.getHeight()/scaleFactor);
 		mugishaLogo.setSize(mugishaLogo.getWidth()/scaleFactor, mugishaLogo.getHeight()/scaleFactor);
+		
+		//Records the time taken to load the assets, if the session is traced.
+		Tracer.assetsLoaded("initial", traceStart);
 	}
 	
 	/** Loads the assets which are needed for the loading screen. They are loaded when the splash screen is shown. */ 
 	public void loadSplashScreenAssets()
 	{
+		//Times the loading of the assets, which is recorded if the session is traced.
+		long traceStart = Tracer.now();
+		
 		//Loads the sprites which the splash screen need to load before switching to the loading screen. For instance, the player atlas needs to be loaded to be shown in the loading screen.
 		playerAtlas = new TextureAtlas(Gdx.files.internal("game/player/atlas/player_atlas" + scaleExtension + ".txt"));
 		loadingBackground = loadingScreenAtlas.createSprite("Loading Background");
@@ -342,10 +365,13 @@ public class Assets
 		//Resizes the loaded sprites to ensure that they are the same scale no matter the atlas size chosen. Ensures that they always take the same screen space.
 		loadingBackground.setSize(loadingBackground.getWidth()/scaleFactor, loadingBackground.getHeight()/scaleFactor);
 		
-		//Sets up the Spine data used to display and animate the player in the loading screen.
-		playerSkeletonJson = new SkeletonJson(playerAtlas);
-		playerSkeletonJson.setScale(PLAYER_SKELETON_UI_SCALE);	//Re-scale the skeleton to fit GUI camera units. 
-		playerSkeletonData_UI = playerSkeletonJson.readSkeletonData(Gdx.files.internal("game/player/skeleton/player_skeleton.json"));		
+		//Gives the player's atlas to the AssetManager's parameter for the player's skeleton, which is loaded along with the other game assets.
+		playerSkeletonParameter.atlas = playerAtlas;
+		
+		//Sets up the Spine data used to display and animate the player in the loading screen. Re-scales the skeleton to fit GUI camera units. This skeleton is
+		//needed before the loading screen is shown, so it is read right away.
+		playerSkeletonData_UI = SkeletonDataLoader.read(Gdx.files.internal(getSkeletonFileName("game/player/skeleton/player_skeleton")), playerAtlas, 
+				PLAYER_SKELETON_UI_SCALE);		
 		//Stores the player's animations which are needed for the loading screen.
 		playerIdle = playerSkeletonData_UI.findAnimation("Combat_Idle");
 		playerSleep = playerSkeletonData_UI.findAnimation("Sleep");
@@ -365,6 +391,11 @@ public class Assets
 		
 		//Creates a new skeleton renderer to draw Spine skeletons using a SpriteBatch instance.
 		skeletonRenderer = new SkeletonRenderer();
+		//Tells the renderer whether or not the skeletons' atlases have premultiplied alpha.
+		skeletonRenderer.setPremultipliedAlpha(premultipliedAlpha);
+		
+		//Records the time taken to load the assets, if the session is traced.
+		Tracer.assetsLoaded("splash screen", traceStart);
 	}
 	
 	/** Queues all assets for loading. Loading is performed every time the updateLoading() method is called. Before calling updateLoading(), the AssetManager must know
@@ -427,6 +458,25 @@ public class Assets
 		manager.load("ui/hud/versus_hud/atlas/versus_hud_atlas" + scaleExtension + ".txt", TextureAtlas.class);
 		manager.load("ui/hud/ko_hud/atlas/ko_hud_atlas" + scaleExtension + ".txt", TextureAtlas.class);
 		
+		//Puts the Spine skeletons to queue. Each skeleton is loaded after the atlas holding its attachments, and is scaled to fit world units. The player's atlas 
+		//is given to its parameter once the splash screen has loaded it.
+		playerSkeletonParameter = new SkeletonDataParameter((TextureAtlas)null, PLAYER_SKELETON_SCALE);
+		manager.load(getSkeletonFileName("game/player/skeleton/player_skeleton"), SkeletonData.class, playerSkeletonParameter);
+		manager.load(getSkeletonFileName("game/zombie/skeleton/zombie_skeleton"), SkeletonData.class, 
+				new SkeletonDataParameter("game/zombie/atlas/zombie_atlas" + scaleExtension + ".txt", ZOMBIE_SKELETON_SCALE));
+		manager.load(getSkeletonFileName("game/interactable_objects/tree/tree_skeleton"), SkeletonData.class, 
+				new SkeletonDataParameter("game/interactable_objects/atlas/interactable_objects_atlas" + scaleExtension + ".txt", TREE_SKELETON_SCALE));
+		manager.load(getSkeletonFileName("game/interactable_objects/box/box_skeleton"), SkeletonData.class, 
+				new SkeletonDataParameter("game/interactable_objects/atlas/interactable_objects_atlas" + scaleExtension + ".txt", BOX_SKELETON_SCALE));
+		manager.load(getSkeletonFileName("game/item/skeleton/item_skeleton"), SkeletonData.class, 
+				new SkeletonDataParameter("game/item/atlas/item_atlas" + scaleExtension + ".txt", ITEM_SKELETON_SCALE));
+		manager.load(getSkeletonFileName("game/projectile/skeleton/projectile_skeleton"), SkeletonData.class, 
+				new SkeletonDataParameter("game/zombie/atlas/zombie_atlas" + scaleExtension + ".txt", PROJECTILE_SKELETON_SCALE));
+		manager.load(getSkeletonFileName("ui/hud/versus_hud/skeleton/versus_hud_skeleton"), SkeletonData.class, 
+				new SkeletonDataParameter("ui/hud/versus_hud/atlas/versus_hud_atlas" + scaleExtension + ".txt", VERSUS_ANIM_SKELETON_SCALE));
+		manager.load(getSkeletonFileName("ui/hud/ko_hud/skeleton/ko_hud_skeleton"), SkeletonData.class, 
+				new SkeletonDataParameter("ui/hud/ko_hud/atlas/ko_hud_atlas" + scaleExtension + ".txt", KO_ANIM_SKELETON_SCALE));
+		
 		//Puts music assets to queue inside the AssetManager using AssetManager.load("fileName", class).
 		manager.load("sound/music/Exploring Theme.ogg", Music.class);
 		manager.load("sound/music/Zombie Alert Music.ogg", Music.class);
@@ -462,14 +512,24 @@ public class Assets
 	 */
 	public boolean updateLoading()
 	{
+		//If this is the first update since assets were queued, store the time at which loading started.
+		if(loadingStartTime == 0)
+			loadingStartTime = Tracer.now();
+		
 		//Calls the manager.update() method, which loads the assets queued inside this AssetManager instance. The assets were queued in queueAssetsForLoading(). The method
 		//returns true if the loading is complete.
 		boolean loadingComplete = manager.update();
 		
 		//If the loading is complete
 		if(loadingComplete)
+		{
+			//Records the time taken by the AssetManager to load the queued assets, if the session is traced.
+			Tracer.assetsLoaded("asset manager", loadingStartTime);
+			loadingStartTime = 0;
+			
 			//Store the loaded assets into the object's local variables. Like this, any class can easily get a hold of all assets using the Assets singleton.
 			storeLoadedAssets();
+		}
 		
 		//Return true if the loading has completed.
 		return loadingComplete;
@@ -535,6 +595,16 @@ public class Assets
 		versusAnimAtlas = manager.get("ui/hud/versus_hud/atlas/versus_hud_atlas" + scaleExtension + ".txt");
 		koAnimAtlas = manager.get("ui/hud/ko_hud/atlas/ko_hud_atlas" + scaleExtension + ".txt");
 		
+		//Retrieves the Spine skeletons parsed by the AssetManager.
+		playerSkeletonData = manager.get(getSkeletonFileName("game/player/skeleton/player_skeleton"), SkeletonData.class);
+		zombieSkeletonData = manager.get(getSkeletonFileName("game/zombie/skeleton/zombie_skeleton"), SkeletonData.class);
+		treeSkeletonData = manager.get(getSkeletonFileName("game/interactable_objects/tree/tree_skeleton"), SkeletonData.class);
+		boxSkeletonData = manager.get(getSkeletonFileName("game/interactable_objects/box/box_skeleton"), SkeletonData.class);
+		itemSkeletonData = manager.get(getSkeletonFileName("game/item/skeleton/item_skeleton"), SkeletonData.class);
+		projectileSkeletonData = manager.get(getSkeletonFileName("game/projectile/skeleton/projectile_skeleton"), SkeletonData.class);
+		versusAnimSkeletonData = manager.get(getSkeletonFileName("ui/hud/versus_hud/skeleton/versus_hud_skeleton"), SkeletonData.class);
+		koAnimSkeletonData = manager.get(getSkeletonFileName("ui/hud/ko_hud/skeleton/ko_hud_skeleton"), SkeletonData.class);
+		
 		//Retrieves loaded music files.
 		exploringMusic = manager.get("sound/music/Exploring Theme.ogg");
 		zombieAlertMusic = manager.get("sound/music/Zombie Alert Music.ogg");
@@ -582,6 +652,9 @@ public class Assets
 	/** Loads and stores the general assets used by most screens in the game. Loads the assets which couldn't be loaded with the AssetManager. */
 	public void loadGeneralAssets()
 	{
+		//Times the loading of the assets, which is recorded if the session is traced.
+		long traceStart = Tracer.now();
+		
 		//Creates the Moon Flower Bold 54pt font. This must be done after the loading is finished because AssetManagers can't load FreeTypeFontGenerators.
 		moonFlowerBoldGenerator = new FreeTypeFontGenerator(Gdx.files.internal("ui/fonts/moon flower bold/Moon Flower Bold.ttf"));
 		moonFlowerBold_54 = moonFlowerBoldGenerator.generateFont((int)(54 * fontScale));
@@ -651,12 +724,18 @@ public class Assets
 		
 		//Creates the WindowStyle used to define the look of the confirm dialog. The only useful argument is the last, which defines the background of the dialog.
 		confirmDialogWindowStyle = new WindowStyle(moonFlowerBold_54, new Color(0.2941f, 0.3216f, 0.2316f, 1f), new NinePatchDrawable(confirmDialogNinePatch));
+		
+		//Records the time taken to load the assets, if the session is traced.
+		Tracer.assetsLoaded("general", traceStart);
 	}
 	
 	/** Loads the assets used only by the main menu which can't be loaded by the Asset Manager in the updateLoading() method, such as TTF fonts or button styles. MUST be called after
 	 *  loading in the loading screen is complete, and and after updateLoading() returns true. These assets will be disposed of when the user exits the main menu screens. */
 	public void loadMainMenuAssets()
 	{		
+		//Times the loading of the assets, which is recorded if the session is traced.
+		long traceStart = Tracer.now();
+		
 		//Retrieves the TextureRegions which form the background for the screens in the main menu.
 		mainMenuBgRegion_0 = mainMenuBgAtlas_1.findRegion("MainMenu_BG");	//"_#" removed by TexturePacker from the end of the name.
 		mainMenuBgRegion_1 = mainMenuBgAtlas_0.findRegion("MainMenu_BG"); //Note: TexturePacker puts the second image in atlas 0 automatically.
@@ -672,13 +751,23 @@ public class Assets
 		SpriteUtils.fixBleeding(gameSelectBgRegion_1);
 		SpriteUtils.fixBleeding(worldSelectBgRegion_0);
 		SpriteUtils.fixBleeding(worldSelectBgRegion_1);
+		
+		//Records the time taken to load the assets, if the session is traced.
+		Tracer.assetsLoaded("main menu", traceStart);
 	}
 	
-	/** Loads the assets used in-game which couldn't be loaded by the Asset Manager in the updateLoading() method, such as SkeletonJson files. MUST be called after
+	/** Loads the assets used in-game which couldn't be loaded by the Asset Manager in the updateLoading() method, such as fonts and skins. MUST be called after
 	 *  loading in the loading screen is complete, and and after updateLoading() returns true. Otherwise, there will be certain atlases and assets that won't be loaded
 	 *  that will cause NullPointerExceptions. */
 	public void loadGameAssets()
 	{		
+		//Times the loading of the assets, which is recorded if the session is traced.
+		long traceStart = Tracer.now();
+		
+		//Replaces the default crafting recipes with the ones in the recipe file, if the file is shipped with the game.
+		if(Gdx.files.internal(CraftingManager.RECIPE_FILE).exists())
+			CraftingManager.instance.load(Gdx.files.internal(CraftingManager.RECIPE_FILE));
+		
 		//Loads the assets needed for the HUD
 		hudSkin = new Skin(hudAtlas);
 		
@@ -841,23 +930,12 @@ public class Assets
 		gameOverLabelStyle.font = moonFlowerBold_54;
 		gameOverLabelStyle.fontColor = Color.WHITE;
 
-		//Sets up the Spine data used to display the portion of the UI used to show the versus Hud.
-		versusAnimSkeletonJson = new SkeletonJson(versusAnimAtlas);
-		versusAnimSkeletonJson.setScale(VERSUS_ANIM_SKELETON_SCALE);	//Re-scale the skeleton to fit world-units. 
-		versusAnimSkeletonData = versusAnimSkeletonJson.readSkeletonData(Gdx.files.internal("ui/hud/versus_hud/skeleton/versus_hud_skeleton.json"));		
-		//Gets the animations from the SpineUI's SkeletonData instance.
+		//Gets the animations from the SpineUI's SkeletonData instance, used to show the versus Hud. The skeletons were loaded by the AssetManager.
 		versusPlay = versusAnimSkeletonData.findAnimation("Play");
 		
-		//Sets up the Spine data used to display the KO animation when someone dies in COMBAT mode
-		koAnimSkeletonJson = new SkeletonJson(koAnimAtlas);
-		koAnimSkeletonJson.setScale(KO_ANIM_SKELETON_SCALE);	//Re-scale the skeleton to fit world-units. 
-		koAnimSkeletonData = koAnimSkeletonJson.readSkeletonData(Gdx.files.internal("ui/hud/ko_hud/skeleton/ko_hud_skeleton.json"));		
-		//Gets the animations from the SpineUI's SkeletonData instance.
+		//Gets the animations from the SpineUI's SkeletonData instance, used to display the KO animation when someone dies in COMBAT mode.
 		koPlay = koAnimSkeletonData.findAnimation("Play");
 
-		//Sets up the Spine data used to display and animate the player in the world. Note that the skeleton JSON was already created inside loadSplashScreenAssets().
-		playerSkeletonJson.setScale(PLAYER_SKELETON_SCALE);	//Re-scale the skeleton to fit world-units. Atlas data is read the same no matter the scale of the SkeletonJson.
-		playerSkeletonData = playerSkeletonJson.readSkeletonData(Gdx.files.internal("game/player/skeleton/player_skeleton.json"));		
 		//Gets the player's animations from the Player's SkeletonData instance.
 		playerIdle = playerSkeletonData.findAnimation("Idle");
 		playerIdle_Combat = playerSkeletonData.findAnimation("Idle_Combat");
@@ -878,10 +956,6 @@ public class Assets
 		playerDead = playerSkeletonData.findAnimation("Dead");
 		playerTeleport = playerSkeletonData.findAnimation("Teleport");
 		
-		//Sets up the Spine data used to display and animate the zombie.
-		zombieSkeletonJson = new SkeletonJson(zombieAtlas);
-		zombieSkeletonJson.setScale(ZOMBIE_SKELETON_SCALE);	//Re-scale the skeleton to fit world-units. Atlas data is read the same no matter the scale of the SkeletonJson.
-		zombieSkeletonData = zombieSkeletonJson.readSkeletonData(Gdx.files.internal("game/zombie/skeleton/zombie_skeleton.json"));		
 		//Gets the animations from the Zombie's SkeletonData instance.
 		zombieIdle = zombieSkeletonData.findAnimation("Idle");
 		zombieWalk = zombieSkeletonData.findAnimation("Walk");
@@ -895,39 +969,23 @@ public class Assets
 		zombieDead = zombieSkeletonData.findAnimation("Dead");
 		
 		
-		//Sets up the Spine data used to display and animate the trees.
-		treeSkeletonJson = new SkeletonJson(interactableObjectAtlas);
-		treeSkeletonJson.setScale(TREE_SKELETON_SCALE);
-		treeSkeletonData = treeSkeletonJson.readSkeletonData(Gdx.files.internal("game/interactable_objects/tree/tree_skeleton.json"));
 		//Loads the animations used by the trees
 		treeIdle = treeSkeletonData.findAnimation("Idle");
 		treeClicked = treeSkeletonData.findAnimation("Clicked");
 		treeHit = treeSkeletonData.findAnimation("Hit");
 		treeScavenged = treeSkeletonData.findAnimation("Scavenged");
 		
-		//Sets up the Spine information needed to animate and display boxes.
-		boxSkeletonJson = new SkeletonJson(interactableObjectAtlas);
-		boxSkeletonJson.setScale(BOX_SKELETON_SCALE);
-		boxSkeletonData = boxSkeletonJson.readSkeletonData(Gdx.files.internal("game/interactable_objects/box/box_skeleton.json"));
 		//Fetches the animations that the boxes will use.
 		boxIdle = boxSkeletonData.findAnimation("Idle");
 		boxClicked = boxSkeletonData.findAnimation("Clicked");
 		boxScavenged = boxSkeletonData.findAnimation("Scavenged");
 		
-		//Sets up the skeleton used by the item GameObjects the user collects on the ground. 
-		itemSkeletonJson = new SkeletonJson(itemAtlas);
-		itemSkeletonJson.setScale(ITEM_SKELETON_SCALE);
-		itemSkeletonData = itemSkeletonJson.readSkeletonData(Gdx.files.internal("game/item/skeleton/item_skeleton.json"));
-		//Stores the animations of an item's skeleton.
+		//Stores the animations of the skeleton used by the item GameObjects the user collects on the ground.
 		itemFly = itemSkeletonData.findAnimation("Fly");
 		itemGrounded = itemSkeletonData.findAnimation("Grounded");
 		itemClicked = itemSkeletonData.findAnimation("Clicked");
 		
-		//Sets up the skeleton used to display projectiles such as an earthquake. 
-		projectileSkeletonJson = new SkeletonJson(zombieAtlas);
-		projectileSkeletonJson.setScale(PROJECTILE_SKELETON_SCALE);
-		projectileSkeletonData = projectileSkeletonJson.readSkeletonData(Gdx.files.internal("game/projectile/skeleton/projectile_skeleton.json"));
-		//Stores the animations of the projectile's skeleton.
+		//Stores the animations of the skeleton used to display projectiles such as an earthquake.
 		projectileIdle = projectileSkeletonData.findAnimation("Idle");
 		
 		//Creates the sprites displayed in the inventory for each item. These are template sprites which are copied to be placed inside pools.
@@ -958,6 +1016,21 @@ public class Assets
 		snow2.setSize(BACKGROUND_TILE_SCALE * snow2.getWidth()/scaleFactor, BACKGROUND_TILE_SCALE * snow2.getHeight()/scaleFactor);
 		snow3.setSize(BACKGROUND_TILE_SCALE * snow3.getWidth()/scaleFactor, BACKGROUND_TILE_SCALE * snow3.getHeight()/scaleFactor);
 		snow4.setSize(BACKGROUND_TILE_SCALE * snow4.getWidth()/scaleFactor, BACKGROUND_TILE_SCALE * snow4.getHeight()/scaleFactor);
+		
+		//Records the time taken to load the assets, if the session is traced.
+		Tracer.assetsLoaded("game", traceStart);
+	}
+	
+	/** Returns the file name of the Spine skeleton stored at the given path, which excludes the file's extension. Returns the skeleton's binary file if it exists
+	 *  and binary skeletons are preferred. Otherwise, returns its JSON file. */
+	private String getSkeletonFileName(String path)
+	{
+		//If binary skeletons are preferred and the skeleton has a binary file, created by the SkeletonConverter tool, return the binary file.
+		if(preferBinarySkeletons && Gdx.files.internal(path + SKELETON_BINARY_EXTENSION).exists())
+			return path + SKELETON_BINARY_EXTENSION;
+		
+		//Else, return the skeleton's JSON file.
+		return path + SKELETON_JSON_EXTENSION;
 	}
 	
 	/** Returns the loading progress for the assets. Note that this method will return zero if the updateLoading() method has not been called yet. 
@@ -0,0 +1,148 @@
+package com.jonathan.survivor;
+
+import com.badlogic.gdx.utils.Array;
+import com.jonathan.survivor.entity.Box;
+import com.jonathan.survivor.entity.GameObject;
+import com.jonathan.survivor.entity.ItemObject;
+import com.jonathan.survivor.entity.Tree;
+import com.jonathan.survivor.entity.Zombie;
+
+/*
+ * Holds every GameObject contained in a level, split by type. Each array is kept in draw order: GameObjects on upper rows come first, since they are further
+ * back, and GameObjects on the same row keep the order they were added in. This is the order in which the TerrainLevel used to collect its GameObjects from its
+ * layers, from the top row down. Every change increments a generation counter, which lets the users of the registry know when the lists they copied have
+ * become stale.
+ */
+
+public class GameObjectRegistry
+{
+	/** Holds the GameObjects of each type, in draw order. These arrays are never re-allocated, so they can be kept by the renderers. */
+	private Array<Tree> trees = new Array<Tree>();
+	private Array<Box> boxes = new Array<Box>();
+	private Array<Zombie> zombies = new Array<Zombie>();
+	private Array<ItemObject> itemObjects = new Array<ItemObject>();
+
+	/** Stores the amount of times GameObjects were added to or removed from the registry. */
+	private int generation;
+
+	/** Holds every GameObject in the order they are drawn: trees, boxes, zombies, then items. Only re-populated when the generation has changed. */
+	private Array<GameObject> gameObjects = new Array<GameObject>();
+	/** Stores the generation of the registry when the gameObjects array was last populated. */
+	private int gameObjectsGeneration = -1;
+
+	/** Adds the given GameObject to the registry. Throws an exception if the GameObject's type cannot be held by a TerrainLevel. */
+	public void add(GameObject gameObject)
+	{
+		//Adds the GameObject to the array holding GameObjects of the same type.
+		if(gameObject instanceof Tree)
+			insert(trees, (Tree)gameObject);
+		else if(gameObject instanceof Box)
+			insert(boxes, (Box)gameObject);
+		else if(gameObject instanceof Zombie)
+			insert(zombies, (Zombie)gameObject);
+		else if(gameObject instanceof ItemObject)
+			insert(itemObjects, (ItemObject)gameObject);
+		//Else, the TerrainLevel cannot hold this type of GameObject.
+		else
+			throw new IllegalArgumentException("A TerrainLevel cannot contain GameObjects of type " + gameObject.getClass());
+
+		//Tells the users of the registry that its contents changed.
+		generation++;
+	}
+
+	/** Inserts the GameObject into the given array, after every GameObject on its row or on an upper row. Keeps the array in draw order. */
+	private <T extends GameObject> void insert(Array<T> array, T gameObject)
+	{
+		//Stores the row of the GameObject.
+		int row = gameObject.getTerrainCell().getRow();
+
+		//Finds the first GameObject on a lower row, searching from the end since GameObjects are usually added to the bottom of their row.
+		int index = array.size;
+		while(index > 0 && array.get(index-1).getTerrainCell().getRow() < row)
+			index--;
+
+		//Inserts the GameObject in front of the GameObjects on lower rows.
+		array.insert(index, gameObject);
+	}
+
+	/** Removes the given GameObject from the registry. Does nothing if the GameObject is not inside the registry. */
+	public void remove(GameObject gameObject)
+	{
+		//Removes the GameObject from the array holding GameObjects of the same type. The following GameObjects are shifted, so that the draw order is kept.
+		boolean removed = false;
+		if(gameObject instanceof Tree)
+			removed = trees.removeValue((Tree)gameObject, true);
+		else if(gameObject instanceof Box)
+			removed = boxes.removeValue((Box)gameObject, true);
+		else if(gameObject instanceof Zombie)
+			removed = zombies.removeValue((Zombie)gameObject, true);
+		else if(gameObject instanceof ItemObject)
+			removed = itemObjects.removeValue((ItemObject)gameObject, true);
+
+		//If the GameObject was registered, tell the users of the registry that its contents changed.
+		if(removed)
+			generation++;
+	}
+
+	/** Removes every GameObject from the registry. */
+	public void clear()
+	{
+		trees.clear();
+		boxes.clear();
+		zombies.clear();
+		itemObjects.clear();
+
+		generation++;
+	}
+
+	/** Returns an array holding every GameObject in the registry, in the order they are drawn: trees, boxes, zombies, then items, each from the top row down. The array is a copy which is
+	 *  only refreshed when the registry changed since the last call. Thus, GameObjects can be added or removed while the array is being iterated. */
+	public Array<GameObject> getGameObjects()
+	{
+		//If GameObjects were added or removed since the array was last populated
+		if(gameObjectsGeneration != generation)
+		{
+			//Re-populates the array from the arrays of each type, in the order they are drawn.
+			gameObjects.clear();
+			gameObjects.addAll(trees);
+			gameObjects.addAll(boxes);
+			gameObjects.addAll(zombies);
+			gameObjects.addAll(itemObjects);
+
+			//The array now matches the current generation of the registry.
+			gameObjectsGeneration = generation;
+		}
+
+		return gameObjects;
+	}
+
+	/** Returns the amount of times GameObjects were added to or removed from the registry. If this value has not changed, neither have the GameObjects. */
+	public int getGeneration()
+	{
+		return generation;
+	}
+
+	/** Returns the trees in the registry. The array is modified as trees are added and removed, so it should not be iterated while doing so. */
+	public Array<Tree> getTrees()
+	{
+		return trees;
+	}
+
+	/** Returns the boxes in the registry. The array is modified as boxes are added and removed, so it should not be iterated while doing so. */
+	public Array<Box> getBoxes()
+	{
+		return boxes;
+	}
+
+	/** Returns the zombies in the registry. The array is modified as zombies are added and removed, so it should not be iterated while doing so. */
+	public Array<Zombie> getZombies()
+	{
+		return zombies;
+	}
+
+	/** Returns the ItemObjects in the registry. The array is modified as ItemObjects are added and removed, so it should not be iterated while doing so. */
+	public Array<ItemObject> getItemObjects()
+	{
+		return itemObjects;
+	}
+}
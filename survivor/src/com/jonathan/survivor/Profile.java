@@ -1,20 +1,19 @@
 package com.jonathan.survivor;
 
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Scanner;
-import java.util.Set;
 
+import com.badlogic.gdx.utils.Bits;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.Json.Serializable;
 import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.LongMap.Entry;
 import com.jonathan.survivor.entity.GameObject;
 import com.jonathan.survivor.inventory.Charcoal;
 import com.jonathan.survivor.inventory.Inventory;
 import com.jonathan.survivor.inventory.Iron;
+import com.jonathan.survivor.inventory.ItemRegistry;
 import com.jonathan.survivor.inventory.Loadout;
 import com.jonathan.survivor.inventory.Saltpeter;
 import com.jonathan.survivor.inventory.Sulfur;
@@ -48,9 +47,8 @@ public class Profile implements Serializable
 	/** Stores the world seed. Each profile has a different seed. The same seed creates the same world. */
 	private int worldSeed;
 	
-	/** Stores a HashMap containing lists of scavenged objects in each TerrainLayer. First key is the layer's row, second is the layer's column. The
-	 *  array stores the list of objectIds for all GameObjects that have been scavenged on that layer. */
-	private HashMap<Integer, HashMap<Integer, ArrayList<Integer>>> scavengedLayerObjects;
+	/** Stores the objectIds of the GameObjects scavenged in each TerrainLayer, indexed by the layer's row and column. */
+	private ScavengedIndex scavengedLayerObjects;
 	
 	/** Stores the player's loadout so that it stays constants when re-entering the game. */
 	private Loadout loadout;
@@ -88,8 +86,8 @@ public class Profile implements Serializable
 		//Creates a random seed for the world, dictating its terrain and layout.
 		worldSeed = (int)(Math.random() * MAX_WORLD_SEED);
 		
-		//Creates the empty HashMap needed to store the GameObjects scavenged by the player.
-		scavengedLayerObjects = new HashMap<Integer, HashMap<Integer, ArrayList<Integer>>>();
+		//Creates the empty index needed to store the GameObjects scavenged by the player.
+		scavengedLayerObjects = new ScavengedIndex();
 		
 		//Creates a default, empty loadout for the player.
 		loadout = new Loadout();
@@ -194,7 +192,8 @@ public class Profile implements Serializable
 
 	/* Methods implemented from Serializable */
 	
-	/** Indicates how a Profile object is converted to a JSON file. */
+	/** Indicates how a Profile object is converted to a JSON file. Profiles are now saved using the ProfileCodec; JSON is only kept to read the profiles
+	 *  saved by older versions of the game. */
 	@Override
 	public void write(Json json) 
 	{
@@ -212,7 +211,7 @@ public class Profile implements Serializable
 		json.writeValue("lastXPos", lastXPos);
 		
 		json.writeValue("loadout", loadout);
-		json.writeValue("inventory", inventory.getItemMap());	//Store only the inventory's itemMap for easy parsing.
+		json.writeValue("inventory", getItemMap());	//Store only the quantity of each item, keyed by name, for easy parsing.
 		
 		writeScavengedLayerObjects(json);
 	}
@@ -229,7 +228,7 @@ public class Profile implements Serializable
 		terrainRowOffset = json.readValue("terrainRowOffset", Integer.class, jsonData);
 		terrainColOffset = json.readValue("terrainColOffset", Integer.class, jsonData);
 		
-		lastXPos = json.readValue("lastXPos", Integer.class, jsonData);
+		lastXPos = json.readValue("lastXPos", Float.class, jsonData);
 		
 		loadout = json.readValue("loadout", Loadout.class, jsonData);
 		
@@ -237,63 +236,29 @@ public class Profile implements Serializable
 		readScavengedLayerObjects(json, jsonData);
 	}
 
-	/** Converts the scavengedLayerObjects HashMap into a String and writes it to the Profile's JSON file. */
+	/** Converts the scavengedLayerObjects index into a String and writes it to the Profile's JSON file. Each TerrainLayer is written on its own line. */
 	private void writeScavengedLayerObjects(Json json)
 	{
-		//Stores the String to write inside the JSON file.
-		String string = "";
+		//Stores the String to write inside the JSON file. A StringBuilder is used, since concatenating Strings copies the entire String for every objectId.
+		StringBuilder string = new StringBuilder();
 		
-		//Stores all of the keys inside the scavengedLayerObjects Hashmap, which each represent containers for a row.
-		Set<Integer> rows = scavengedLayerObjects.keySet();
-		
-		//Synchronize the Set to avoid ConcurrentModificationExceptions. Note: This may be useless.
-		rows = Collections.synchronizedSet(rows);
-		
-		//Synchronize operations on the 'rows' set to avoid ConcurrentModicationExceptions.
-		synchronized(rows)
+		//Cycle through each TerrainLayer where objects were scavenged and converts its data into a string.
+		for(Entry<Bits> layer:scavengedLayerObjects.layers())
 		{
-			//Cycle through each row in the HashMap and converts its data into a string.
-			for(int row:rows)
-			{
-				//Stores the row number as the first integer in the line
-				string += row + " ";
-				
-				//Creates a set to cycle through each column key in the HashMap
-				Set<Integer> cols = scavengedLayerObjects.get(row).keySet();
-				
-				//Cycles through the columns of the HashMap, which each contain an Integer array.
-				for(int col:cols)
-				{			
-					//Start the column definition with the column number.
-					string += col + ": ";
-					
-					//Stores the Integer array containing all of the objectIds of scavenged objects in the given (row, col)
-					ArrayList<Integer> array = scavengedLayerObjects.get(row).get(col);
-					
-					//Stores the length of the array.
-					int len = array.size();
-					
-					//Each column number is followed by an open bracket to indicate the beginning of an array
-					string += "[ ";
-					
-					//Cycles through the elements of the array.
-					for(int i = 0; i < len; i++)
-					{
-						//Adds each array element into the string sequentially
-						string += array.get(i) + " ";
-					}
-					
-					//Ends each array definition with a closed bracket.
-					string += "] ";
-				}
-				
-				//Skip a line for each row.
-				string += "\n";
-			}
+			//Starts the line with the layer's row and column, followed by an open bracket to indicate the beginning of an array.
+			string.append(ScavengedIndex.unpackRow(layer.key)).append(' ');
+			string.append(ScavengedIndex.unpackCol(layer.key)).append(": [ ");
+			
+			//Adds each scavenged objectId into the string sequentially.
+			for(int id = layer.value.nextSetBit(0); id >= 0; id = layer.value.nextSetBit(id+1))
+				string.append(id).append(' ');
+			
+			//Ends each array definition with a closed bracket, and skips a line for each layer.
+			string.append("]\n");
 		}
 		
 		//Write the string in the "scavengedLayerObjects" entry of the profile's JSON file.
-		json.writeValue("scavengedLayerObjects", string);
+		json.writeValue("scavengedLayerObjects", string.toString());
 	}
 	
 	/** Reads the inventory from the Profile's JSON file and converts it into an Inventory instance, so that the user can have his saved Inventory back. */
@@ -306,105 +271,85 @@ public class Profile implements Serializable
 		//Creates an empty inventory for the player. It will be populated in this method with the player's old items.
 		inventory = new Inventory();
 		
-		//Creates a set to cycle through each key in the HashMap from the JSON file.
-		Set<String> classSet = tempMap.keySet();
-		//Creates the itemMap which will contain the information from the JSON HashMap, parsed into the correct data format.
-		HashMap<Class, Integer> itemMap = new HashMap<Class, Integer>();
-		
 		//Cycles through each key in the HashMap.
-		for(String key:classSet)
+		for(String key:tempMap.keySet())
 		{
-			try 
-			{
-				//First, take the key, which is a string, and convert it into a Class instance, which stores the class of the Item stored in the map.
-				//Then, take the value for the class, and parse it into an integer. This must be done since JSON HashMaps and their keys and values
-				//are converted to strings.
-				itemMap.put(Class.forName(key), Integer.valueOf(tempMap.get(key)));
-			}
-			catch (ClassNotFoundException e) 
-			{
-				e.printStackTrace();
-			}
+			//First, take the key, which is a string, and convert it into an item id using the ItemRegistry, which avoids reflection.
+			int itemId = ItemRegistry.getId(key);
+			
+			//If the item no longer exists, skip it.
+			if(itemId == -1)
+				continue;
+			
+			//Then, take the value for the item, and parse it into an integer. This must be done since JSON HashMaps and their keys and values
+			//are converted to strings.
+			inventory.setQuantity(itemId, Integer.valueOf(tempMap.get(key)));
 		}
 		
-		//Set the inventory's ItemMap to the parsed itemMap read from the JSON file.
-		inventory.setItemMap(itemMap);
+	}
+	
+	/** Returns a map holding the quantity of each item inside the inventory, keyed by the item's saved name. Used to write the inventory to the JSON file. */
+	private HashMap<String, Integer> getItemMap()
+	{
+		//Creates the map, and adds every item present in the inventory.
+		HashMap<String, Integer> itemMap = new HashMap<String, Integer>();
+		for(int itemId = 0; itemId < ItemRegistry.getItemCount(); itemId++)
+			if(inventory.getQuantity(itemId) != 0)
+				itemMap.put(ItemRegistry.getName(itemId), inventory.getQuantity(itemId));
 		
+		return itemMap;
 	}
 	
-	/** Reads the String stored inside the JSON file and converts it into a HashMap for the scavengedLayerObjects variable. */
+	/** Reads the String stored inside the JSON file and converts it into the index stored in the scavengedLayerObjects variable. */
 	private void readScavengedLayerObjects(Json json, JsonValue jsonData)
 	{
 		//Creates a new instance for scavengedLayerObjects, which will be populated as the JSON String is read.
-		this.scavengedLayerObjects = new HashMap<Integer, HashMap<Integer, ArrayList<Integer>>>();
+		this.scavengedLayerObjects = new ScavengedIndex();
+		
+		//Splits the string with name "scavengedLayerObjects" inside the JSON file into its tokens. Each row is written as "row col: [ ids ] col: [ ids ]".
+		String[] tokens = json.readValue("scavengedLayerObjects", String.class, jsonData).trim().split("\\s+");
 		
-		//Creates a Scanner to read the string with name "scavengedLayerObjects" inside the JSON file.
-		Scanner scanner = new Scanner(json.readValue("scavengedLayerObjects", String.class, jsonData));
+		//Stores the index of the token being read.
+		int index = 0;
 		
-		//While the String isn't empty
-		while(scanner.hasNext())
+		//Stores the row being read.
+		int row = 0;
+		
+		//Cycles through the tokens of the String, as long as it isn't empty.
+		while(index < tokens.length && tokens[index].length() > 0)
 		{
-			//Read the next line of the String, which represents the values of the first keys inside the scavengedLayerObjects HashMap.
-			Scanner line = new Scanner(scanner.nextLine());
-			
-			//The first integer in the line is the row number.
-			int row = line.nextInt();
+			//Stores the token being read.
+			String token = tokens[index++];
 			
-			//Create a new HashMap for the row.
-			scavengedLayerObjects.put(row, new HashMap<Integer, ArrayList<Integer>>());
-			
-			while(line.hasNext())
+			//If the token does not end with a colon, it is the number of a new row.
+			if(!token.endsWith(":"))
 			{
-				//Stores the string containing the next column.
-				String columnString = line.next();
-				
-				//Truncates the colon from the column and converts it into an integer.
-				int col = Integer.parseInt(columnString.substring(0, columnString.length()-1));
-				
-				//Stores the array containing the objectIds of the current row and column.
-				ArrayList<Integer> array = new ArrayList<Integer>();
+				row = Integer.parseInt(token);
+				continue;
+			}
+			
+			//Truncates the colon from the column and converts it into an integer.
+			int col = Integer.parseInt(token.substring(0, token.length()-1));
 			
-				//The next token is an open bracket "[".
-				line.next();
+			//Skips the open bracket "[" which starts the array.
+			index++;
 			
-				//Stores the first element of the array, or a "]", if the array is empty.
-				String token = line.next();
-				
-				//Keep on cycling through the array's elements until the closing bracket is encountered, which indicates the end of the array.
-				while(!token.equals("]"))
-				{
-					//Parse the array element into an integer and add it to the array.
-					array.add(Integer.valueOf(token));
-					//Cycle to the next element in the array
-					token = line.next();
-				}
-				
-				//Place the array inside the correct row and column of the HashMap.
-				scavengedLayerObjects.get(row).put(col, array);
+			//Keep on cycling through the array's elements until the closing bracket is encountered, which indicates the end of the array.
+			while(!tokens[index].equals("]"))
+			{
+				//Parse the array element into an integer and add it to the index, under the current row and column.
+				scavengedLayerObjects.add(row, col, Integer.parseInt(tokens[index++]));
 			}
 			
+			//Skips the closing bracket.
+			index++;
 		}
 	}
 	
-	/** Returns a list of all of the objectIds that have been scavenged on the given TerrainLayer, denoted by its row and column. */
-	public ArrayList<Integer> getScavengedLayerObjects(int row, int col)
+	/** Returns true if the GameObject with the given objectId has been scavenged on the given TerrainLayer, denoted by its row and column. */
+	public boolean isScavenged(int row, int col, int objectId)
 	{
-		//If no HashMap exists for the given row
-		if(scavengedLayerObjects.get((Integer)row) == null)
-		{
-			//Create a new HashMap for the row, where the key is the column number, and the value is a list of scavenged objectIds.
-			scavengedLayerObjects.put(new Integer(row), new HashMap<Integer, ArrayList<Integer>>());
-		}
-		
-		//If no Array exists for the given column
-		if(scavengedLayerObjects.get((Integer)row).get((Integer)col) == null)
-		{
-			//Populate the row and column's HashMap with an empty array of integers.
-			scavengedLayerObjects.get((Integer)row).put(new Integer(col), new ArrayList<Integer>());
-		}
-		
-		//Returns the Array containing the objectIds of GameObjects scavenged on the TerrainLayer.
-		return scavengedLayerObjects.get((Integer)row).get((Integer)col);
+		return scavengedLayerObjects.contains(row, col, objectId);
 	}
 	
 	/** Adds the given GameObject as a scavenged GameObject. It is added as a scavenged GameObject at the TerrainLayer where it resides, so that the GameObject
@@ -419,10 +364,8 @@ public class Profile implements Serializable
 	 *  Makes it so that the GameObject won't respawn the next time the layer is displayed. */
 	public void addScavengedLayerObject(int row, int col, int objectId)
 	{
-		//Adds the objectId of the scavenged GameObject to the correct position in the HashMap. The first key of the Hashmap indicates the TerrainLayer row
-		//where the object resides, and the second key holds the column where the same object resides. The value returned is an array of all objectIds that 
-		//have been scavenged in that layer, to which the given objectId is added.
-		scavengedLayerObjects.get(row).get(col).add(objectId);
+		//Adds the objectId of the scavenged GameObject to the index, under the row and column of the TerrainLayer where the object resides.
+		scavengedLayerObjects.add(row, col, objectId);
 	}
 	
 	/** Gets the loadout used by the player. */
@@ -445,15 +388,13 @@ public class Profile implements Serializable
 		this.inventory = inventory;
 	}
 
-	/** Returns a HashMap containing an array for each TerrainLayer. This array specifies the objectIds of the GameObjects that have been scavenged on that
-	 *  layer. First key is the TerrainLayer's row, and second is the TerrainLayer's column. */
-	public HashMap<Integer, HashMap<Integer, ArrayList<Integer>>> getScavengedLayerObjects() {
+	/** Returns the index holding the objectIds of the GameObjects that have been scavenged on each TerrainLayer. */
+	public ScavengedIndex getScavengedLayerObjects() {
 		return scavengedLayerObjects;
 	}
 
-	/** Sets the HashMap containing objectId arrays for each TerrainLayer. These array specify the objectIds of the GameObjects that have been scavenged on a
-	 *  certain layer. */
-	public void setScavengedLayerObjects(HashMap<Integer, HashMap<Integer, ArrayList<Integer>>> scavengedLayerObjects) {
+	/** Sets the index holding the objectIds of the GameObjects that have been scavenged on each TerrainLayer. */
+	public void setScavengedLayerObjects(ScavengedIndex scavengedLayerObjects) {
 		this.scavengedLayerObjects = scavengedLayerObjects;
 	}
 
@@ -0,0 +1,87 @@
+package com.jonathan.survivor;
+
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.LongMap.Entries;
+
+/*
+ * Stores the objectIds of the GameObjects scavenged on each TerrainLayer. The row and column of a layer are packed into a single long, which maps to a set of
+ * bits where each set bit is the objectId of a scavenged GameObject. Checking whether an object was scavenged is a single map lookup followed by a bit test,
+ * without boxing any integers.
+ */
+
+public class ScavengedIndex
+{
+	/** Maps the packed cell of each TerrainLayer to the bits of the objectIds scavenged on it. Only contains the layers where an object was scavenged. */
+	private LongMap<Bits> layers = new LongMap<Bits>();
+
+	/** Marks the GameObject with the given objectId as scavenged on the TerrainLayer at the given row and column. */
+	public void add(int row, int col, int objectId)
+	{
+		//Retrieves the bits of the layer's scavenged objects.
+		long cell = packCell(row, col);
+		Bits objectIds = layers.get(cell);
+
+		//If no object has been scavenged on the layer yet, create its bits.
+		if(objectIds == null)
+		{
+			objectIds = new Bits();
+			layers.put(cell, objectIds);
+		}
+
+		//Sets the bit of the scavenged object.
+		objectIds.set(objectId);
+	}
+
+	/** Returns true if the GameObject with the given objectId was scavenged on the TerrainLayer at the given row and column. */
+	public boolean contains(int row, int col, int objectId)
+	{
+		//Retrieves the bits of the layer's scavenged objects. If there are none, the object was not scavenged.
+		Bits objectIds = layers.get(packCell(row, col));
+		return objectIds != null && objectIds.get(objectId);
+	}
+
+	/** Returns the bits of the objectIds scavenged on the TerrainLayer at the given row and column, or null if no object was scavenged there. A set bit at an
+	 *  index means that the GameObject with that objectId was scavenged. Should not be modified. */
+	public Bits getLayer(int row, int col)
+	{
+		return layers.get(packCell(row, col));
+	}
+
+	/** Returns an iterator over every TerrainLayer where an object was scavenged. The key of each entry is the layer's packed cell, which can be unpacked with
+	 *  unpackRow() and unpackCol(). The iterator is re-used by every call, and thus should not be nested. */
+	public Entries<Bits> layers()
+	{
+		return layers.entries();
+	}
+
+	/** Returns the amount of TerrainLayers where at least one object was scavenged. */
+	public int getLayerCount()
+	{
+		return layers.size;
+	}
+
+	/** Removes every scavenged object from the index. */
+	public void clear()
+	{
+		layers.clear();
+	}
+
+	/** Packs the given row and column into a single long. The row is stored in the upper 32 bits and the column in the lower 32 bits. */
+	public static long packCell(int row, int col)
+	{
+		return ((long)row << 32) | (col & 0xFFFFFFFFL);
+	}
+
+	/** Returns the row stored inside the given packed cell. */
+	public static int unpackRow(long cell)
+	{
+		return (int)(cell >> 32);
+	}
+
+	/** Returns the column stored inside the given packed cell. */
+	public static int unpackCol(long cell)
+	{
+		return (int)cell;
+	}
+}
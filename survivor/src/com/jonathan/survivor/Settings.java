@@ -6,6 +6,12 @@ import com.jonathan.survivor.managers.ProfileManager;
 
 public class Settings 
 {
+	/** Stores the default number of times per second that the world is updated. */
+	public static final int DEFAULT_TICK_RATE = 60;
+	
+	/** Stores the number of times per second that the world is updated. Lower tick rates reduce the cost of the simulation on weak devices. */
+	private int tickRate = DEFAULT_TICK_RATE;
+	
 	/** Stores the profile where data will be saved. */
 	private Profile profile;
 	/** Used to save the profile held by the Settings instance. */
@@ -115,4 +121,17 @@ public class Settings
 	public void setWorld(World world) {
 		this.world = world;
 	}
+
+	/** Gets the number of times per second that the world is updated. */
+	public int getTickRate() {
+		return tickRate;
+	}
+
+	/** Sets the number of times per second that the world is updated. Must be greater than zero. */
+	public void setTickRate(int tickRate) {
+		if(tickRate <= 0)
+			throw new IllegalArgumentException("The tick rate must be greater than zero: " + tickRate);
+		
+		this.tickRate = tickRate;
+	}
 }
@@ -0,0 +1,149 @@
+package com.jonathan.survivor;
+
+import com.badlogic.gdx.utils.Array;
+import com.jonathan.survivor.entity.GameObject;
+import com.jonathan.survivor.math.Vector2;
+
+/*
+ * Keeps the GameObjects of a TerrainLayer sorted by the left edge of their colliders. Since a layer is one-dimensional, the GameObjects overlapping an x-range
+ * are found with a binary search, instead of testing every GameObject on the layer. The GameObjects move by small amounts each tick, so their order barely
+ * changes. Thus, re-sorting them with an insertion sort after each tick takes linear time.
+ */
+
+public class SpatialIndex
+{
+	/** Holds the GameObjects of the layer, sorted by the left edge of their colliders. Backed by a GameObject[] so that sort() can access it directly. */
+	private Array<GameObject> gameObjects = new Array<GameObject>(true, 16, GameObject.class);
+
+	/** Stores the width of the widest collider in the index. Any collider overlapping an x-position must start at most this far to its left. */
+	private float maxWidth;
+
+	/** Adds the given GameObject to the index, at the position dictated by its collider. */
+	public void add(GameObject gameObject)
+	{
+		//Inserts the GameObject before the first GameObject whose collider starts at or after its own.
+		gameObjects.insert(lowerBound(left(gameObject)), gameObject);
+
+		//Widens the range searched by the queries if the GameObject is wider than every other GameObject.
+		maxWidth = Math.max(maxWidth, width(gameObject));
+	}
+
+	/** Removes the given GameObject from the index. */
+	public void remove(GameObject gameObject)
+	{
+		gameObjects.removeValue(gameObject, true);
+	}
+
+	/** Removes every GameObject from the index. */
+	public void clear()
+	{
+		gameObjects.clear();
+		maxWidth = 0;
+	}
+
+	/** Re-sorts the GameObjects after they have moved. Must be called once the GameObjects' colliders have been updated, and before the index is queried. */
+	public void sort()
+	{
+		//Resets the width of the widest collider, since it is re-computed below.
+		maxWidth = 0;
+
+		//Stores the backing array of the GameObjects for quicker access.
+		GameObject[] items = gameObjects.items;
+
+		//Performs an insertion sort, which is linear when the GameObjects are almost sorted.
+		for(int i = 0; i < gameObjects.size; i++)
+		{
+			//Stores the GameObject to place, along with the left edge of its collider.
+			GameObject gameObject = items[i];
+			float left = left(gameObject);
+
+			//Shifts the GameObjects which start after this GameObject one index to the right.
+			int j = i - 1;
+			while(j >= 0 && left(items[j]) > left)
+			{
+				items[j+1] = items[j];
+				j--;
+			}
+
+			//Places the GameObject after the last GameObject which starts before it.
+			items[j+1] = gameObject;
+
+			//Updates the width of the widest collider.
+			maxWidth = Math.max(maxWidth, width(gameObject));
+		}
+	}
+
+	/** Adds every GameObject whose collider overlaps the x-range [minX, maxX] to the given array. The GameObjects are added in order of their left edges. */
+	public void query(float minX, float maxX, Array<GameObject> result)
+	{
+		//Cycles from the first GameObject which may reach minX, up to the last GameObject which starts before maxX.
+		for(int i = lowerBound(minX - maxWidth); i < gameObjects.size; i++)
+		{
+			//Stores the GameObject to test.
+			GameObject gameObject = gameObjects.get(i);
+
+			//If the GameObject starts after the range, so do the GameObjects which follow it.
+			if(left(gameObject) > maxX)
+				break;
+
+			//If the GameObject's collider reaches the range, it overlaps the range.
+			if(left(gameObject) + width(gameObject) >= minX)
+				result.add(gameObject);
+		}
+	}
+
+	/** Adds every GameObject whose collider contains the given point to the given array. */
+	public void query(Vector2 point, Array<GameObject> result)
+	{
+		//Cycles from the first GameObject which may reach the point, up to the last GameObject which starts before it.
+		for(int i = lowerBound(point.x - maxWidth); i < gameObjects.size; i++)
+		{
+			//Stores the GameObject to test.
+			GameObject gameObject = gameObjects.get(i);
+
+			//If the GameObject starts after the point, so do the GameObjects which follow it.
+			if(left(gameObject) > point.x)
+				break;
+
+			//If the GameObject's collider contains the point, add it to the result.
+			if(gameObject.getCollider().intersects(point))
+				result.add(gameObject);
+		}
+	}
+
+	/** Returns the amount of GameObjects in the index. */
+	public int size()
+	{
+		return gameObjects.size;
+	}
+
+	/** Returns the index of the first GameObject whose collider starts at or after the given x-position. */
+	private int lowerBound(float x)
+	{
+		//Performs a binary search over the sorted GameObjects.
+		int low = 0, high = gameObjects.size;
+		while(low < high)
+		{
+			int mid = (low + high) >>> 1;
+
+			if(left(gameObjects.get(mid)) < x)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+
+		return low;
+	}
+
+	/** Returns the x-position of the left edge of the GameObject's collider. */
+	private static float left(GameObject gameObject)
+	{
+		return gameObject.getCollider().getPosition().x;
+	}
+
+	/** Returns the width of the GameObject's collider. */
+	private static float width(GameObject gameObject)
+	{
+		return gameObject.getCollider().getWidth();
+	}
+}
@@ -1,10 +1,8 @@
 package com.jonathan.survivor;
 
-import java.util.ArrayList;
-import java.util.Random;
-
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.jonathan.survivor.TerrainLayerData.ObjectType;
 import com.jonathan.survivor.entity.Box;
 import com.jonathan.survivor.entity.GameObject;
 import com.jonathan.survivor.entity.InteractiveObject.InteractiveState;
@@ -52,50 +50,28 @@ public class TerrainLayer
 	/** Holds the probability rate (0: lowest chance, 1: highest chance) that a zombie gets spawned on the TerrainLayer. */
 	public static final float ZOMBIE_PROBABILITY_RATE = 0.5f;
 	
-	/** Stores the position of the bottom-left and bottom-right ends of the layer. */
-	private final Vector2 leftPoint, rightPoint;
-	
-	/** Stores the slope of the layer if it is linear */
-	private float slope;	
-	/** Stores the amplitude of the layer if it is a cosine function */
-	private float amplitude;
-	/** Stores the 'h' variable of the cosine function if the layer is a cosine function */
-	private float cosineXOffset;
-	/** Stores the 'k' variable of the cosine function if the layer is a cosine function */
-	private float cosineYOffset;
+	/** Stores the geometry of the layer, along with the placement of its objects. Swapped with prefetched data when the layer is re-purposed. */
+	private TerrainLayerData data;
 	
 	public enum TerrainType {
 		CONSTANT, LINEAR, COSINE
 	}
 	
-	/** Stores the type of the terrain layer */
-	private TerrainType terrainType;
-	
 	public enum TerrainDirection {
 		RIGHT, LEFT
 	};
 	
-	/** Stores whether the terrain goes from left to right or from right to left. */
-	private TerrainDirection terrainDirection;
-	
 	/** Stores the world seed used to randomly generate the geometry of the layer. */
 	private int worldSeed;
 	
 	/** Stores the GameObjectManager used to fetch GameObjects to populate the TerrainLayer with objects. */
 	private GameObjectManager goManager;
 	
-	/** Stores the random object used to define the terrain geometry of the layer. */
-	private Random terrainRand;
-	/** Stores the random object used to define the objects stacked on the layer. */
-	private Random objectRand;
-	
 	/** Stores the profile used to create the TerrainLayer. Specifies the world seed, and the GameObjects already scavenged on each layer. */
 	private Profile profile;
 	
-	/** Stores an array of all the GameObjects that are on this layer. If gameObjectsStored==true, the array is already populated. Helper array to avoid GC. */
+	/** Stores an array of all the GameObjects that are on this layer. Kept up-to-date as GameObjects are spawned, added, removed and freed. */
 	private Array<GameObject> gameObjects = new Array<GameObject>();
-	/** Stores true if the gameObjects array has already been populated with the correct objects. Prevents having to re-populate the array every frame. */
-	private boolean gameObjectsStored = false;
 	
 	/** Holds arrays containing the different types of GameObjects on the layer. */
 	private Array<Tree> trees = new Array<Tree>();
@@ -104,6 +80,9 @@ public class TerrainLayer
 	/** Stores an array of all the ItemObjects that have been dropped on this TerrainLayer. These items can be picked up. */
 	private Array<ItemObject> itemObjects = new Array<ItemObject>();
 	
+	/** Holds the layer's GameObjects sorted by x-position. Used to find the GameObjects at a given x-position without testing every GameObject on the layer. */
+	private SpatialIndex spatialIndex = new SpatialIndex();
+	
 	/** Constructor used to create a terrain layer.
 	 * 
 	 * @param row The row of the layer
@@ -122,9 +101,8 @@ public class TerrainLayer
 		this.row = row;
 		this.col = col;
 		
-		//Creates new Vector2s to store the left end-point of the layer and the right end-point of the layer.
-		leftPoint = new Vector2();
-		rightPoint = new Vector2();
+		//Creates the data which stores the geometry of the layer and the placement of its objects.
+		data = new TerrainLayerData();
 		
 		//Sets the start position of the layer, essentially specifying where in world coordinates the layer should be placed.
 		setStartPosition(startX, startY, terrainDirection);
@@ -138,10 +116,6 @@ public class TerrainLayer
 		//Stores the GameObjectManager instance used by the world in order to populate the terrain with GameObjects.
 		this.goManager = goManager;
 		
-		//Creates a new Random object to define the geometry of the layer and the objects it contains.
-		terrainRand = new Random();
-		objectRand = new Random();
-		
 		//Resets the layer by computing its geometry and the objects placed on it.
 		resetLayer();
 	}
@@ -156,193 +130,98 @@ public class TerrainLayer
 		resetObjects();
 	}
 	
-	/** Resets and re-calculates the terrain geometry according to the world seed and the column number of the layer. */ 
-	public void resetTerrain()
+	/** Re-purposes the layer using data which was generated ahead of time by a TerrainPrefetcher. The layer takes the cell of the data, along with its geometry, and
+	 *  spawns the GameObjects placed on it. Returns the layer's old data, which can be reused to generate another layer. */
+	public TerrainLayerData resetLayer(TerrainLayerData newData)
 	{
-		//Stores the seed used for the terrain's geometry. Only the column and the worldSeed are used so that layers in the same column will have the same geometry.
-		int terrainSeed = col * worldSeed;
-		//Sets the seed of the terrainRand instance to the new seed. Numbers will be generated to define the geometry of the layer.
-		terrainRand.setSeed(terrainSeed);
+		//Stores the data held by the layer before it is swapped.
+		TerrainLayerData oldData = data;
 		
-		//Gets a random float from [0,1] to define the type of the terrain.
-		float randType = terrainRand.nextFloat();
-		//If the random number is above this value
-		if(randType > 0.5f) //Original: 0.5f
-		{
-			//Make the terrain layer have a COSINE geometry by setting its type to COSINE.
-			terrainType = TerrainType.COSINE;
-			
-			//Generates a random amplitude for the cosine function between MIN_AMPLITUDE and MAX_AMPLITUDE.
-			amplitude = MIN_AMPLITUDE + (terrainRand.nextFloat() * (MAX_AMPLITUDE - MIN_AMPLITUDE));
-			
-			//If a new random float is greater than '0.5', make the amplitude negative to flip the cosine function.
-			if(terrainRand.nextFloat() > 0.5f)
-				//Flip the cosine function upside down.
-				amplitude *= -1;
-			
-			//If the terrain goes from left to right
-			if(terrainDirection == TerrainDirection.RIGHT)
-			{
-				//Set the right end-point of the layer to the left end-point, plus the width of the layer. Needs to be set since only leftPoint contains a valid value.
-				rightPoint.set(leftPoint).add(LAYER_WIDTH, 0);
-			}
-			//If the terrain goes from right to left
-			else
-			{
-				//Set the left end-point of the layer to be the right end-point, minus layer's width. Needs to be initialized since only 'leftPoint' contains a valid value.
-				leftPoint.set(rightPoint).sub(LAYER_WIDTH, 0);
-			}
-			
-			//Offsets the cosine function by the x-position of the left of the layer. This places the cosine function at the right place in the world.
-			cosineXOffset = leftPoint.x;
-			//Offsets the cosine function by the y-position of either end point of the layer, minus the cosine's amplitude. This places the cosine function at the right yPos.
-			cosineYOffset = leftPoint.y - amplitude;
-		}
-		//Else, if the random float is greater than this value
-		else if(randType > 0.2f)
-		{
-			//Make the terrain a linear terrain, modeled by a linear equation.
-			terrainType = TerrainType.LINEAR;
-			
-			//Generate a random slope for the layer.
-			slope = MIN_SLOPE + (terrainRand.nextFloat() * (MAX_SLOPE-MIN_SLOPE));
-			
-			//if(terrainRand.nextFloat() > 0.5f)
-				//slope *= -1;
-			
-			//If the terrain goes from left to right
-			if(terrainDirection == TerrainDirection.RIGHT)
-			{
-				//Find the x-position of the right end point of the layer by adding the layer width to the left end-point's x-position.
-				float x = leftPoint.x + LAYER_WIDTH;
-				//Find the y-position of the right end point of the layer using y = ax + b, by multiplying the line's slope by the x position from the y-intercept, which
-				//is LAYER_WIDTH, since the left end-point's x-position is the origin, and leftPoint.y is the y-intercept.
-				float y = slope * LAYER_WIDTH + leftPoint.y;
-				
-				//Set the right end-point of the layer to the calculated position.
-				rightPoint.set(x, y);
-			}
-			//If the terrain goes from right to left
-			else
-			{
-				//Find the x-position of the left end point of the layer by subtracting the layer width from the right end-point's x-position.
-				float x = rightPoint.x - LAYER_WIDTH;
-				//Find the y-position of the left end point of the layer using y = ax + b, by multiplying the line's slope by the x position from the y-intercept, which
-				//is x = -LAYER_WIDTH, since the right end-point's x-position is the origin, and leftPoint.x is at x = 0. 
-				float y = slope * -LAYER_WIDTH + rightPoint.y;
-				
-				//Sets the left end-point's position for the layer to the computed position above.
-				leftPoint.set(x, y);
-			}
-		}
-		//Else, if we are here, the random number stored in randType:float dictates that the layer should be a constant function.
-		else
-		{
-			//Set the terrain type of the layer to be a constant function.
-			terrainType = TerrainType.CONSTANT;
-			
-			//Set the slope of the line to zero.
-			slope = 0;
-			
-			//If the terrain goes from left to right
-			if(terrainDirection == TerrainDirection.RIGHT)
-			{
-				//Set the right end-point of the layer to the left end-point, plus the width of the layer. Needs to be set since only leftPoint contains a valid value.
-				rightPoint.set(leftPoint).add(LAYER_WIDTH, 0);
-			}
-			//If the terrain goes from right to left
-			else
-			{
-				//Set the left end-point of the layer to be the right end-point, minus layer's width. Needs to be initialized since only 'leftPoint' contains a valid value.
-				leftPoint.set(rightPoint).sub(LAYER_WIDTH, 0);
-			}
-		}		
+		//The layer now uses the prefetched geometry, and takes the cell the data was generated for.
+		data = newData;
+		row = newData.getRow();
+		col = newData.getCol();
 		
+		//Spawns the objects placed on the layer.
+		resetObjects();
+		
+		//Returns the layer's old data so that it can be reused.
+		return oldData;
+	}
+	
+	/** Resets and re-calculates the terrain geometry according to the world seed and the column number of the layer. */ 
+	public void resetTerrain()
+	{
+		//Sets the cell of the layer's data, which defines the seeds used to generate the layer.
+		data.setCell(row, col);
+		//Generates the geometry of the layer, along with the placement of its objects.
+		data.generate(worldSeed);
 	}
 	
 	/** Resets the objects placed on the layer. This essentially places the correct objects on the layer depending on its column and row. */
 	public void resetObjects()
 	{
-		//The object seed is determined by the row and the column of the layer. To make sure every world's layers have different objects, we
-		//add the world seed to the sum of the row and the column.
-		int objectSeed = row + col + worldSeed;
-		//Sets the seed of the objectRand instance to the new seed. Numbers will be generated to define the which objects are on the layer.
-		objectRand.setSeed(objectSeed);
-		
-		//Stores a list of objectIds for the GameObjects that have already been scavenged on this layer. 
-		ArrayList<Integer> scavengedObjects = profile.getScavengedLayerObjects(row, col);
-		
-		//Stores the index of the object being placed on the layer. Starts at 0 for the left-most object, and increments by one for each object.
-		int objectIndex = 0;
+		//Stores the bits of the objectIds for the GameObjects that have already been scavenged on this layer. Null if nothing was scavenged on the layer.
+		Bits scavengedObjects = profile.getScavengedLayerObjects().getLayer(row, col);
 		
-		//Cycles from the left-most x-point of the layer, plus an offset, and increments by the object spacing until the end x-point is reached.
-		for(float x = leftPoint.x + OBJECT_SPACING; x < rightPoint.x; x += OBJECT_SPACING)
+		//Cycles through the objects placed on the layer. The index of an object is its object id, which identifies the scavenged GameObjects in save data.
+		for(int objectIndex = 0; objectIndex < data.getObjectCount(); objectIndex++)
 		{
-			//Stores a random number between 0 and 1 to determine which object will be placed next on the layer.
-			float randObject = objectRand.nextFloat();
+			//If the object has already been scavenged, skip it. It should not re-appear on the TerrainLayer.
+			if(scavengedObjects != null && scavengedObjects.get(objectIndex))
+				continue;
 			
-			if(randObject > 0.5f)
+			//Stores the x-position where the object is placed.
+			float x = data.getObjectX(objectIndex);
+			
+			//If the object placed at this position is a tree
+			if(data.getObjectType(objectIndex) == ObjectType.TREE)
 			{
-				//If the object we want to place has not been scavenged, place it on the TerrainLayer. 
-				if(!scavengedObjects.contains(objectIndex))
-				{
-					//Retrieves a tree GameObject from a pool inside the GameObjectManager.
-					Tree tree = goManager.getGameObject(Tree.class);
-					//Tell the tree that it has just spawned
-					tree.setInteractiveState(InteractiveState.SPAWN);
-					//Sets the terrain cell to the layer's row and column so that the tree knows which layer it is in.
-					tree.setTerrainCell(row, col);
-					//Positions the tree at the current x-position, and the correct y-position according to the object height at the given x-position.
-					tree.setPosition(x, getObjectHeight(x));
-					//Set the object id of the tree to the current object index. Used to identify a scavenged GameObject in save data.
-					tree.setObjectId(objectIndex);
-					
-					//Add the tree GameObject to the array of trees held by the layer.
-					trees.add(tree);
-				}
-				
-				//Increment the object index for the next GameObject to be placed on the layer. 
-				objectIndex++;
+				//Retrieves a tree GameObject from a pool inside the GameObjectManager.
+				Tree tree = goManager.getGameObject(Tree.class);
+				//Tell the tree that it has just spawned
+				tree.setInteractiveState(InteractiveState.SPAWN);
+				//Sets the terrain cell to the layer's row and column so that the tree knows which layer it is in.
+				tree.setTerrainCell(row, col);
+				//Positions the tree at the current x-position, and the correct y-position according to the object height at the given x-position.
+				tree.setPosition(x, getObjectHeight(x));
+				//Set the object id of the tree to the current object index. Used to identify a scavenged GameObject in save data.
+				tree.setObjectId(objectIndex);
 				
-				//Increment x by the width of the tree so that the next object doesn't overlap.
-				x += Tree.COLLIDER_WIDTH / 2;
+				//Add the tree GameObject to the array of trees held by the layer, along with the layer's spatial index.
+				trees.add(tree);
+				gameObjects.add(tree);
+				spatialIndex.add(tree);
 			}
-			else if(randObject > 0.45f)
+			//Else, if the object placed at this position is a box
+			else
 			{
-				//If the object we want to place has not yet been scavenged, place it on the TerrainLayer. 
-				if(!scavengedObjects.contains(objectIndex))
-				{
-					//Retrieves a box GameObject from a pool inside the GameObjectManager.
-					Box box = goManager.getGameObject(Box.class);
-					//Tell the box that it has just spawned
-					box.setInteractiveState(InteractiveState.SPAWN);
-					//Sets the terrain cell to the layer's row and column so that the box knows which layer it is in.
-					box.setTerrainCell(row, col);
-					//Positions the box at the current x-position, and the correct y-position according to the object height at the given x-position.
-					box.setPosition(x, getObjectHeight(x));
-					//Set the object id of the box to the current object index. Used to identify a scavenged GameObject in save data.
-					box.setObjectId(objectIndex);
-					
-					//Add the box GameObject to the array of boxes held by the layer.
-					boxes.add(box);
-				}
-				
-				//Increment the object index for the next GameObject to be placed on the layer. 
-				objectIndex++;
+				//Retrieves a box GameObject from a pool inside the GameObjectManager.
+				Box box = goManager.getGameObject(Box.class);
+				//Tell the box that it has just spawned
+				box.setInteractiveState(InteractiveState.SPAWN);
+				//Sets the terrain cell to the layer's row and column so that the box knows which layer it is in.
+				box.setTerrainCell(row, col);
+				//Positions the box at the current x-position, and the correct y-position according to the object height at the given x-position.
+				box.setPosition(x, getObjectHeight(x));
+				//Set the object id of the box to the current object index. Used to identify a scavenged GameObject in save data.
+				box.setObjectId(objectIndex);
 				
-				//Increment x by the width of the box's collider so that the next object doesn't overlap with this box.
-				x += Box.COLLIDER_WIDTH / 2;
+				//Add the box GameObject to the array of boxes held by the layer, along with the layer's spatial index.
+				boxes.add(box);
+				gameObjects.add(box);
+				spatialIndex.add(box);
 			}
 		}
 		
-		//Generates a new random number between 0 and 1 which dictates whether or not a zombie will be spawned in the center of the TerrainLayer.
-		float randZombie = objectRand.nextFloat();
+		//Stores the object id of the zombie, which comes after every object placed along the layer.
+		int zombieIndex = data.getObjectCount();
 		
-		//If the random number is less than the zombie probability rate, place a zombie on the layer. However, the layer has to be checked to make sure that a zombie can spawn on it.
-		if(randZombie < ZOMBIE_PROBABILITY_RATE && canSpawnZombie())
+		//If the layer's data dictates that a zombie is spawned, place a zombie on the layer. However, the layer has to be checked to make sure that a zombie can spawn on it.
+		if(data.isZombieSpawned() && canSpawnZombie())
 		{
 			//If the zombie has not yet been killed on the TerrainLayer, spawn him there.
-			if(!scavengedObjects.contains(objectIndex))
+			if(scavengedObjects == null || !scavengedObjects.get(zombieIndex))
 			{
 				//Retrieves a Zombie GameObject from the GameObjectManager.
 				Zombie zombie = goManager.getGameObject(Zombie.class);
@@ -351,14 +230,13 @@ public class TerrainLayer
 				//Places the zombie at the center of the TerrainLayer.
 				zombie.setPosition(getCenterX() - 2, getGroundHeight(getCenterX() - 2));
 				//Set the object id of the box to the current object index. Used to identify a scavenged GameObject in save data.
-				zombie.setObjectId(objectIndex);
+				zombie.setObjectId(zombieIndex);
 				
-				//Add the zombie into the list of zombies inside the layer.
+				//Add the zombie into the list of zombies inside the layer, along with the layer's spatial index.
 				zombies.add(zombie);
+				gameObjects.add(zombie);
+				spatialIndex.add(zombie);
 			}
-				
-			//Increment the object index for the next GameObject that is placed on the layer. 
-			objectIndex++;
 		}
 		
 	}
@@ -410,11 +288,11 @@ public class TerrainLayer
 		boxes.clear();
 		zombies.clear();
 		itemObjects.clear();
+		//Removes the freed GameObjects from the layer's spatial index.
+		spatialIndex.clear();
 		
 		//Clears the array which contains a list of all the GameObjects on this layer. Allows us to repopulate the array once the layer is reused.
 		gameObjects.clear();
-		//Tells the getGameObjects() that it has to re-populate its gameObjects array since there we just cleared it.
-		gameObjectsStored = false;
 	}
 	
 	/** Adds the given GameObject to the list of GameObjects contained by the TerrainLayer. This way, the GameObjectRenderer will know to render this GameObject. */
@@ -429,8 +307,9 @@ public class TerrainLayer
 			//Adds the zombie to the list of zombies contained in the layer.
 			zombies.add((Zombie)gameObject);
 		
-		//Add the GameObject to the list of all GameObjects contained in the TerrainLayer.
+		//Add the GameObject to the list of all GameObjects contained in the TerrainLayer, along with the layer's spatial index.
 		gameObjects.add(gameObject);
+		spatialIndex.add(gameObject);
 	}
 	
 	/** Removes the given GameObject from the list of GameObjects contained by the TerrainLayer. The GameObjectRenderer will know that it should not render the GameObject. */
@@ -449,27 +328,26 @@ public class TerrainLayer
 			zombies.removeValue((Zombie)gameObject, true);
 		}
 
-		//Removes the GameObject from the list of all GameObjects contained in the TerrainLayer.
+		//Removes the GameObject from the list of all GameObjects contained in the TerrainLayer, along with the layer's spatial index.
 		gameObjects.removeValue(gameObject, true);
+		spatialIndex.remove(gameObject);
+	}
+	
+	/** Returns the spatial index holding the layer's GameObjects sorted by x-position. Only up-to-date after updateSpatialIndex() is called. */
+	public SpatialIndex getSpatialIndex()
+	{
+		return spatialIndex;
+	}
+	
+	/** Re-sorts the layer's spatial index once its GameObjects have moved. Must be called after the GameObjects' colliders have been updated. */
+	public void updateSpatialIndex()
+	{
+		spatialIndex.sort();
 	}
 	
 	/** Returns an array of all GameObjects contained in this layer. */
 	public Array<GameObject> getGameObjects()
 	{
-		//If the gameObjects array hasn't yet been populated 
-		if(!gameObjectsStored)
-		{
-			//Add all the GameObjects from the layer into the gameObjects array.
-			gameObjects.addAll(trees);
-			gameObjects.addAll(boxes);
-			gameObjects.addAll(zombies);
-			gameObjects.addAll(itemObjects);
-			
-			//Tell the layer that all of its GameObjects have been stored inside the array, to avoid doing so every frame.
-			gameObjectsStored = true;
-		}
-		
-		//Returns the array containing all of the layer's GameObjects.
 		return gameObjects;
 	}
 	
@@ -508,7 +386,7 @@ public class TerrainLayer
 		float xPos = gameObject.getX();
 		
 		//If the GameObject is within 'EDGE_MARGIN' distance from either end point of the layer, it is considered "close to the edge"
-		if(rightPoint.x - xPos < EDGE_MARGIN || xPos - leftPoint.x < EDGE_MARGIN)
+		if(getRightPoint().x - xPos < EDGE_MARGIN || xPos - getLeftPoint().x < EDGE_MARGIN)
 		{
 			//Thus, return true, since the GameObject is close to the edge
 			return true;
@@ -522,7 +400,7 @@ public class TerrainLayer
 	public float getCenterX()
 	{
 		//Returns the x-position of the left end-point, plus half the width of the layer.
-		return leftPoint.x + LAYER_WIDTH/2;
+		return getLeftPoint().x + LAYER_WIDTH/2;
 	}
 	
 	/** Gets the height of the ground at the center of the layer in world units. */
@@ -554,29 +432,38 @@ public class TerrainLayer
 		return getBottomLayerHeight(xPos) + LAYER_HEIGHT;
 	}
 	
-	/** Retrieves the height of the bottom portion of the layer at a specified x-position. */
+	/** Retrieves the height of the bottom portion of the layer at a specified x-position. The height is linearly interpolated from the layer's height table. */
 	public float getBottomLayerHeight(float xPos)
 	{
+		//Ensures that the x-position is within the bounds of the layer.
+		checkBounds(xPos);
+		
+		//Looks up the height of the layer inside the height table of the layer's data.
+		return data.lookupBottomHeight(xPos);
+	}
+	
+	/** Computes the exact height of the bottom portion of the layer at a specified x-position using the equation which models the layer's geometry. Slower
+	 *  than getBottomLayerHeight(), which looks up the height inside a precomputed table. */
+	public float getExactBottomLayerHeight(float xPos)
+	{
+		//Ensures that the x-position is within the bounds of the layer.
+		checkBounds(xPos);
+		
+		//Computes the height of the layer using the equation stored in the layer's data.
+		return data.computeBottomHeight(xPos);
+	}
+	
+	/** Throws an exception if the given x-position is beyond the bounds of the layer. */
+	private void checkBounds(float xPos)
+	{
+		//Stores the end-points of the layer.
+		Vector2 leftPoint = data.getLeftPoint();
+		Vector2 rightPoint = data.getRightPoint();
+		
 		//If the x-position is beyond the bounds of the layer, throw an exception.
 		if(xPos < leftPoint.x || xPos > rightPoint.x)
 			throw new IllegalArgumentException("X-Position out of bounds of level layer (" + row + ", " + col + "). Position " 
 				+ xPos + " not between " + leftPoint.x + " and " + rightPoint.x);
-		
-		//If the terrain is modeled using a cosine function
-		if(terrainType == TerrainType.COSINE)
-		{
-			//Return the y-position of the layer at a specified x-position using the equation y = acos(b(x - h)) + k. This is the bottom portion since cosineYOffset
-			//specifies the y-position of the bottom-most point of the layer.
-			return amplitude * MathUtils.cos(COSINE_FREQUENCY * (xPos - cosineXOffset)) + cosineYOffset;
-		}
-		else if(terrainType == TerrainType.LINEAR)
-		{
-			//Retrieve and return the y-position of the bottom portion of the layer at a given x using y = ax + b, where 'b' is the y-position of the left end-point.
-			return slope * (xPos - leftPoint.x) + leftPoint.y;
-		}
-
-		//Else, if we are here, the layer is modeled using a constant function. Thus, the y-position of any point on the bottom half of the layer is left/rightPoint.y
-		return leftPoint.y;
 	}
 	
 	/** Sets the cell coordinates of the layer. The resetLayer() method must be called after this. */
@@ -616,45 +503,31 @@ public class TerrainLayer
 	 */
 	public void setStartPosition(float startX, float startY, TerrainDirection terrainDirection)
 	{
-		//Stores the terrainDirection passed from the method.
-		this.terrainDirection = terrainDirection;
-		
-		//If the desired terrain direction is from left to right
-		if(terrainDirection == TerrainDirection.RIGHT)
-		{
-			//The (startX,startY) parameters specify the bottom-left point of the layer.
-			leftPoint.set(startX, startY);
-		}
-		//Else, if the desired terrain direction is from right to left
-		else
-		{
-			//The (startX,startY) parameters specify the bottom-right end-point of the layer.
-			rightPoint.set(startX, startY);
-		}
-		
+		//Stores the start position inside the layer's data, which is re-generated once resetLayer() is called.
+		data.setStartPosition(startX, startY, terrainDirection);
 	}
 	
 	/** Returns the bottom-left end point of the layer in world coordinates. */
 	public Vector2 getLeftPoint()
 	{
-		return leftPoint;
+		return data.getLeftPoint();
 	}
 	
 	/** Returns the bottom-right end point of the layer in world coordinates. */
 	public Vector2 getRightPoint()
 	{
-		return rightPoint;
+		return data.getRightPoint();
 	}
 	
 	/** Gets the terrain type of the layer, dictating what type of equation models its geometry. */
 	public TerrainType getTerrainType()
 	{
-		return terrainType;
+		return data.getTerrainType();
 	}
 	
 	public String toString()
 	{
-		return "Left Point: " + leftPoint + ", Right Point: " + rightPoint;
+		return "Left Point: " + getLeftPoint() + ", Right Point: " + getRightPoint();
 	}
 	
 }
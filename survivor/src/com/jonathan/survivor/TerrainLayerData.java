@@ -0,0 +1,379 @@
+package com.jonathan.survivor;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.jonathan.survivor.TerrainLayer.TerrainDirection;
+import com.jonathan.survivor.TerrainLayer.TerrainType;
+import com.jonathan.survivor.entity.Box;
+import com.jonathan.survivor.entity.Tree;
+import com.jonathan.survivor.math.Vector2;
+
+/*
+ * Holds the geometry of a TerrainLayer, along with the placement of the objects on it. The data is generated purely from the layer's cell, its start position and
+ * the world seed. It never touches a GameObject, a pool or the profile. Thus, it can be generated ahead of time on a worker thread by the TerrainPrefetcher,
+ * or in bulk by the SeedSweep tool. The TerrainLayer then spawns its GameObjects from the placements.
+ */
+
+public class TerrainLayerData
+{
+	/** Lists the types of objects which can be placed along a layer. */
+	public enum ObjectType {
+		TREE, BOX
+	}
+
+	/** Stores the number of segments in the layer's height table. The bottom height of the layer is sampled at HEIGHT_SAMPLES + 1 evenly-spaced x-positions. */
+	public static final int HEIGHT_SAMPLES = 128;
+	/** Stores the horizontal distance between two samples of the layer's height table, in world units. */
+	private static final float HEIGHT_SAMPLE_WIDTH = TerrainLayer.LAYER_WIDTH / HEIGHT_SAMPLES;
+
+	/** Stores the row and column of the layer that this data was generated for. */
+	private int row, col;
+
+	/** Stores the start position given to setStartPosition(). Used to check whether the data matches a layer's requested position. */
+	private float startX, startY;
+	/** Stores whether the terrain goes from left to right or from right to left. */
+	private TerrainDirection terrainDirection;
+
+	/** Stores the position of the bottom-left and bottom-right ends of the layer. */
+	private final Vector2 leftPoint, rightPoint;
+
+	/** Stores the type of the terrain layer */
+	private TerrainType terrainType;
+	/** Stores the slope of the layer if it is linear */
+	private float slope;
+	/** Stores the amplitude of the layer if it is a cosine function */
+	private float amplitude;
+	/** Stores the 'h' variable of the cosine function if the layer is a cosine function */
+	private float cosineXOffset;
+	/** Stores the 'k' variable of the cosine function if the layer is a cosine function */
+	private float cosineYOffset;
+
+	/** Stores the bottom height of the layer sampled at evenly-spaced x-positions, from the left end-point to the right end-point. */
+	private final float[] heightTable = new float[HEIGHT_SAMPLES + 1];
+
+	/** Stores the type and the x-position of each object placed on the layer, from left to right. The index of an object is its object id. */
+	private final Array<ObjectType> objectTypes = new Array<ObjectType>();
+	private final FloatArray objectXPositions = new FloatArray();
+	/** Holds true if the layer's random numbers dictate that a zombie spawns in the center of the layer. */
+	private boolean zombieSpawned;
+
+	/** Stores the random object used to define the terrain geometry of the layer. */
+	private final Random terrainRand;
+	/** Stores the random object used to define the objects stacked on the layer. */
+	private final Random objectRand;
+
+	/** Creates an empty TerrainLayerData instance. Its start position and cell must be set before calling generate(). */
+	public TerrainLayerData()
+	{
+		//Creates new Vector2s to store the left end-point of the layer and the right end-point of the layer.
+		leftPoint = new Vector2();
+		rightPoint = new Vector2();
+
+		//Creates new Random objects to define the geometry of the layer and the objects it contains.
+		terrainRand = new Random();
+		objectRand = new Random();
+	}
+
+	/** Sets the cell coordinates of the layer. The generate() method must be called after this. */
+	public void setCell(int row, int col)
+	{
+		this.row = row;
+		this.col = col;
+	}
+
+	/** Sets the start position of the layer. If terrainDirection == TerrainDirection.RIGHT, (startX,startY) is the bottom-left end-point of the layer. Otherwise,
+	 *  it is the bottom-right end-point. The generate() method must be called after this. */
+	public void setStartPosition(float startX, float startY, TerrainDirection terrainDirection)
+	{
+		//Stores the requested start position, along with the direction of the terrain.
+		this.startX = startX;
+		this.startY = startY;
+		this.terrainDirection = terrainDirection;
+
+		//If the desired terrain direction is from left to right
+		if(terrainDirection == TerrainDirection.RIGHT)
+		{
+			//The (startX,startY) parameters specify the bottom-left point of the layer.
+			leftPoint.set(startX, startY);
+		}
+		//Else, if the desired terrain direction is from right to left
+		else
+		{
+			//The (startX,startY) parameters specify the bottom-right end-point of the layer.
+			rightPoint.set(startX, startY);
+		}
+	}
+
+	/** Generates the geometry of the layer and the placement of its objects according to its cell, its start position and the given world seed. */
+	public void generate(int worldSeed)
+	{
+		//Computes the geometry of the layer.
+		generateTerrain(worldSeed);
+		//Samples the layer's new geometry inside the height table, which is used to look up the heights of the layer.
+		generateHeightTable();
+		//Places the objects along the layer.
+		generateObjects(worldSeed);
+	}
+
+	/** Computes the geometry of the layer according to the world seed and the column number of the layer. */
+	private void generateTerrain(int worldSeed)
+	{
+		//Stores the seed used for the terrain's geometry. Only the column and the worldSeed are used so that layers in the same column will have the same geometry.
+		int terrainSeed = col * worldSeed;
+		//Sets the seed of the terrainRand instance to the new seed. Numbers will be generated to define the geometry of the layer.
+		terrainRand.setSeed(terrainSeed);
+
+		//Gets a random float from [0,1] to define the type of the terrain.
+		float randType = terrainRand.nextFloat();
+		//If the random number is above this value
+		if(randType > 0.5f) //Original: 0.5f
+		{
+			//Make the terrain layer have a COSINE geometry by setting its type to COSINE.
+			terrainType = TerrainType.COSINE;
+
+			//Generates a random amplitude for the cosine function between MIN_AMPLITUDE and MAX_AMPLITUDE.
+			amplitude = TerrainLayer.MIN_AMPLITUDE + (terrainRand.nextFloat() * (TerrainLayer.MAX_AMPLITUDE - TerrainLayer.MIN_AMPLITUDE));
+
+			//If a new random float is greater than '0.5', make the amplitude negative to flip the cosine function.
+			if(terrainRand.nextFloat() > 0.5f)
+				//Flip the cosine function upside down.
+				amplitude *= -1;
+
+			//If the terrain goes from left to right
+			if(terrainDirection == TerrainDirection.RIGHT)
+			{
+				//Set the right end-point of the layer to the left end-point, plus the width of the layer. Needs to be set since only leftPoint contains a valid value.
+				rightPoint.set(leftPoint).add(TerrainLayer.LAYER_WIDTH, 0);
+			}
+			//If the terrain goes from right to left
+			else
+			{
+				//Set the left end-point of the layer to be the right end-point, minus layer's width. Needs to be initialized since only 'leftPoint' contains a valid value.
+				leftPoint.set(rightPoint).sub(TerrainLayer.LAYER_WIDTH, 0);
+			}
+
+			//Offsets the cosine function by the x-position of the left of the layer. This places the cosine function at the right place in the world.
+			cosineXOffset = leftPoint.x;
+			//Offsets the cosine function by the y-position of either end point of the layer, minus the cosine's amplitude. This places the cosine function at the right yPos.
+			cosineYOffset = leftPoint.y - amplitude;
+		}
+		//Else, if the random float is greater than this value
+		else if(randType > 0.2f)
+		{
+			//Make the terrain a linear terrain, modeled by a linear equation.
+			terrainType = TerrainType.LINEAR;
+
+			//Generate a random slope for the layer.
+			slope = TerrainLayer.MIN_SLOPE + (terrainRand.nextFloat() * (TerrainLayer.MAX_SLOPE - TerrainLayer.MIN_SLOPE));
+
+			//If the terrain goes from left to right
+			if(terrainDirection == TerrainDirection.RIGHT)
+			{
+				//Find the x-position of the right end point of the layer by adding the layer width to the left end-point's x-position.
+				float x = leftPoint.x + TerrainLayer.LAYER_WIDTH;
+				//Find the y-position of the right end point of the layer using y = ax + b, by multiplying the line's slope by the x position from the y-intercept, which
+				//is LAYER_WIDTH, since the left end-point's x-position is the origin, and leftPoint.y is the y-intercept.
+				float y = slope * TerrainLayer.LAYER_WIDTH + leftPoint.y;
+
+				//Set the right end-point of the layer to the calculated position.
+				rightPoint.set(x, y);
+			}
+			//If the terrain goes from right to left
+			else
+			{
+				//Find the x-position of the left end point of the layer by subtracting the layer width from the right end-point's x-position.
+				float x = rightPoint.x - TerrainLayer.LAYER_WIDTH;
+				//Find the y-position of the left end point of the layer using y = ax + b, by multiplying the line's slope by the x position from the y-intercept, which
+				//is x = -LAYER_WIDTH, since the right end-point's x-position is the origin, and leftPoint.x is at x = 0.
+				float y = slope * -TerrainLayer.LAYER_WIDTH + rightPoint.y;
+
+				//Sets the left end-point's position for the layer to the computed position above.
+				leftPoint.set(x, y);
+			}
+		}
+		//Else, if we are here, the random number stored in randType:float dictates that the layer should be a constant function.
+		else
+		{
+			//Set the terrain type of the layer to be a constant function.
+			terrainType = TerrainType.CONSTANT;
+
+			//Set the slope of the line to zero.
+			slope = 0;
+
+			//If the terrain goes from left to right
+			if(terrainDirection == TerrainDirection.RIGHT)
+			{
+				//Set the right end-point of the layer to the left end-point, plus the width of the layer. Needs to be set since only leftPoint contains a valid value.
+				rightPoint.set(leftPoint).add(TerrainLayer.LAYER_WIDTH, 0);
+			}
+			//If the terrain goes from right to left
+			else
+			{
+				//Set the left end-point of the layer to be the right end-point, minus layer's width. Needs to be initialized since only 'leftPoint' contains a valid value.
+				leftPoint.set(rightPoint).sub(TerrainLayer.LAYER_WIDTH, 0);
+			}
+		}
+	}
+
+	/** Samples the bottom height of the layer at evenly-spaced x-positions and stores them inside the height table. */
+	private void generateHeightTable()
+	{
+		//Cycles through each sample of the height table.
+		for(int i = 0; i <= HEIGHT_SAMPLES; i++)
+		{
+			//Computes the exact bottom height of the layer at the x-position of the sample. The last sample is placed exactly on the right end-point of the layer.
+			float xPos = (i == HEIGHT_SAMPLES)? rightPoint.x : leftPoint.x + i * HEIGHT_SAMPLE_WIDTH;
+			heightTable[i] = computeBottomHeight(xPos);
+		}
+	}
+
+	/** Places the objects along the layer according to its row, its column and the world seed. Objects which were already scavenged are filtered out by the TerrainLayer. */
+	private void generateObjects(int worldSeed)
+	{
+		//Clears the placements of the objects which were previously on the layer.
+		objectTypes.clear();
+		objectXPositions.clear();
+
+		//The object seed is determined by the row and the column of the layer. To make sure every world's layers have different objects, we
+		//add the world seed to the sum of the row and the column.
+		int objectSeed = row + col + worldSeed;
+		//Sets the seed of the objectRand instance to the new seed. Numbers will be generated to define the which objects are on the layer.
+		objectRand.setSeed(objectSeed);
+
+		//Cycles from the left-most x-point of the layer, plus an offset, and increments by the object spacing until the end x-point is reached.
+		for(float x = leftPoint.x + TerrainLayer.OBJECT_SPACING; x < rightPoint.x; x += TerrainLayer.OBJECT_SPACING)
+		{
+			//Stores a random number between 0 and 1 to determine which object will be placed next on the layer.
+			float randObject = objectRand.nextFloat();
+
+			if(randObject > 0.5f)
+			{
+				//Places a tree at the current x-position.
+				objectTypes.add(ObjectType.TREE);
+				objectXPositions.add(x);
+
+				//Increment x by the width of the tree so that the next object doesn't overlap.
+				x += Tree.COLLIDER_WIDTH / 2;
+			}
+			else if(randObject > 0.45f)
+			{
+				//Places a box at the current x-position.
+				objectTypes.add(ObjectType.BOX);
+				objectXPositions.add(x);
+
+				//Increment x by the width of the box's collider so that the next object doesn't overlap with this box.
+				x += Box.COLLIDER_WIDTH / 2;
+			}
+		}
+
+		//Generates a new random number between 0 and 1 which dictates whether or not a zombie will be spawned in the center of the TerrainLayer.
+		zombieSpawned = objectRand.nextFloat() < TerrainLayer.ZOMBIE_PROBABILITY_RATE;
+	}
+
+	/** Computes the exact height of the bottom portion of the layer at a specified x-position using the equation which models the layer's geometry. */
+	public float computeBottomHeight(float xPos)
+	{
+		//If the terrain is modeled using a cosine function
+		if(terrainType == TerrainType.COSINE)
+		{
+			//Return the y-position of the layer at a specified x-position using the equation y = acos(b(x - h)) + k. This is the bottom portion since cosineYOffset
+			//specifies the y-position of the bottom-most point of the layer.
+			return amplitude * MathUtils.cos(TerrainLayer.COSINE_FREQUENCY * (xPos - cosineXOffset)) + cosineYOffset;
+		}
+		else if(terrainType == TerrainType.LINEAR)
+		{
+			//Retrieve and return the y-position of the bottom portion of the layer at a given x using y = ax + b, where 'b' is the y-position of the left end-point.
+			return slope * (xPos - leftPoint.x) + leftPoint.y;
+		}
+
+		//Else, if we are here, the layer is modeled using a constant function. Thus, the y-position of any point on the bottom half of the layer is left/rightPoint.y
+		return leftPoint.y;
+	}
+
+	/** Looks up the height of the bottom portion of the layer at a specified x-position, linearly interpolated from the layer's height table. */
+	public float lookupBottomHeight(float xPos)
+	{
+		//Computes the position of the x-coordinate inside the height table, in samples.
+		float samplePos = (xPos - leftPoint.x) / HEIGHT_SAMPLE_WIDTH;
+		//Stores the index of the sample to the left of the x-position. Clamped so that the right end-point of the layer interpolates from the last segment.
+		int index = Math.min((int)samplePos, HEIGHT_SAMPLES - 1);
+
+		//Linearly interpolates between the two samples surrounding the x-position.
+		return heightTable[index] + (heightTable[index+1] - heightTable[index]) * (samplePos - index);
+	}
+
+	/** Returns true if this data was generated for the given cell and start position. */
+	public boolean matches(int row, int col, float startX, float startY, TerrainDirection terrainDirection)
+	{
+		return this.row == row && this.col == col && this.startX == startX && this.startY == startY && this.terrainDirection == terrainDirection;
+	}
+
+	/** Gets the row of the layer. */
+	public int getRow()
+	{
+		return row;
+	}
+
+	/** Gets the column of the layer. */
+	public int getCol()
+	{
+		return col;
+	}
+
+	/** Returns the bottom-left end point of the layer in world coordinates. */
+	public Vector2 getLeftPoint()
+	{
+		return leftPoint;
+	}
+
+	/** Returns the bottom-right end point of the layer in world coordinates. */
+	public Vector2 getRightPoint()
+	{
+		return rightPoint;
+	}
+
+	/** Gets the terrain type of the layer, dictating what type of equation models its geometry. */
+	public TerrainType getTerrainType()
+	{
+		return terrainType;
+	}
+
+	/** Gets the slope of the layer. Only meaningful if the layer is LINEAR. Zero for CONSTANT layers. */
+	public float getSlope()
+	{
+		return slope;
+	}
+
+	/** Gets the amplitude of the layer. Only meaningful if the layer is a COSINE function. Negative if the cosine function is flipped upside down. */
+	public float getAmplitude()
+	{
+		return amplitude;
+	}
+
+	/** Returns the number of objects placed on the layer, including those which were already scavenged. */
+	public int getObjectCount()
+	{
+		return objectTypes.size;
+	}
+
+	/** Returns the type of the object with the given index. */
+	public ObjectType getObjectType(int index)
+	{
+		return objectTypes.get(index);
+	}
+
+	/** Returns the x-position of the object with the given index. */
+	public float getObjectX(int index)
+	{
+		return objectXPositions.get(index);
+	}
+
+	/** Returns true if a zombie spawns in the center of the layer, provided that the layer is allowed to contain one. */
+	public boolean isZombieSpawned()
+	{
+		return zombieSpawned;
+	}
+}
@@ -2,6 +2,7 @@ package com.jonathan.survivor;
 
 import com.badlogic.gdx.utils.Array;
 import com.jonathan.survivor.TerrainLayer.TerrainDirection;
+import com.jonathan.survivor.TerrainPrefetcher.Shift;
 import com.jonathan.survivor.entity.Box;
 import com.jonathan.survivor.entity.GameObject;
 import com.jonathan.survivor.entity.ItemObject;
@@ -9,6 +10,9 @@ import com.jonathan.survivor.entity.Tree;
 import com.jonathan.survivor.entity.Zombie;
 import com.jonathan.survivor.managers.GameObjectManager;
 import com.jonathan.survivor.math.Cell;
+import com.jonathan.survivor.utils.Profiler;
+import com.jonathan.survivor.utils.Profiler.Phase;
+import com.jonathan.survivor.utils.Tracer;
 
 /** 
  * A Terrain Level is essentially a container of TerrainLayers. It is composed of a 2d array of TerrainLayers, which makes up the geometry of the level.
@@ -28,17 +32,14 @@ public class TerrainLevel implements Level
 	/** Stores the Profile instance used to create the TerrainLevel. This profile dictates where the player should start, and where the TerrainLevel last left off. */
 	private Profile profile;
 	
-	/** Holds arrays containing the different types of GameObjects on the layer. */
-	private Array<Tree> trees = new Array<Tree>();
-	private Array<Box> boxes = new Array<Box>();
-	private Array<Zombie> zombies = new Array<Zombie>();
-	/** Stores an array of all the ItemObjects that have been dropped on this TerrainLayer. These items can be picked up. */
-	private Array<ItemObject> itemObjects = new Array<ItemObject>();
+	/** Holds every GameObject contained in the level's layers, split by type. Updated whenever a layer's GameObjects change. */
+	private GameObjectRegistry registry = new GameObjectRegistry();
 	
-	/** Helper array used to store all the GameObjects in the level. Avoids activating the garbage collector. */
-	private Array<GameObject> gameObjects = new Array<GameObject>();
-	/** Stores true if the gameObjects array has already been populated with the GameObjects contained in the level. Prevents having to re-populate the array every frame. */
-	private boolean gameObjectsStored = false;
+	/** Stores the TerrainPrefetcher which generates the layers of the level's next shift ahead of time, on a worker thread. */
+	private TerrainPrefetcher prefetcher;
+	
+	/** Stores the amount of GameObjects spawned on the layers re-purposed by the current shift. Recorded by the Tracer. */
+	private int spawnedObjects;
 	
 	/** Stores the 2d array of TerrainLayers which make up the level's geometry. Note that [0][0] is the bottom-left layer and that
 	 *  [NUM_LAYER_ROWS-1][NUM_LAYER_COLS-1] is always the top-right-most layer. */
@@ -50,6 +51,9 @@ public class TerrainLevel implements Level
 		//Stores the given constructor arguments in their respective member variables.
 		this.profile = profile;
 		
+		//Creates the prefetcher which generates the layers of the level's upcoming shifts using the profile's world seed.
+		prefetcher = new TerrainPrefetcher(profile.getWorldSeed());
+		
 		//Generate the level's terrain layers out of the profile, which indicates how the layers should be laid out, along with the gameObjectManager.
 		generateLayers(goManager);
 	}
@@ -58,8 +62,13 @@ public class TerrainLevel implements Level
 	 *  GameObjectManager used by the world. This allows each TerrainLayer to populate itself with pooled GameObjects. */
 	public void generateLayers(GameObjectManager goManager)
 	{		
+		//Discards any prefetched layers, since they were generated for the previous layers.
+		prefetcher.clear();
+		
 		//Creates the 2d array of TerrainLayers to store the level geometry.
 		layers = new TerrainLayer[NUM_LAYER_ROWS][NUM_LAYER_COLS];
+		//Removes the GameObjects of the previous layers from the level.
+		registry.clear();
 		
 		//Stores the world seed which determines the geometry of each terrain layer.
 		int worldSeed = profile.getWorldSeed();
@@ -89,6 +98,8 @@ public class TerrainLevel implements Level
 				//lets the layer know which GameObjects have already been scavenged where the game last left off. Allows the layers to be created the way they were when
 				//the profile was last saved.
 				layers[i][j] = new TerrainLayer(i + rowOffset, j + colOffset, x, y, TerrainDirection.RIGHT, profile, goManager);
+				//Adds the GameObjects spawned on the layer to the level.
+				registerGameObjects(layers[i][j]);
 				
 				//Updates the y-position for the next layer. We want it to start at the end point of the previous layer, so we specify the y-position of the right end 
 				//point of the previous layer using TerrainLayer.getRightPoint().y
@@ -104,6 +115,11 @@ public class TerrainLevel implements Level
 	/** Shifts the bottom TerrainLayers to the top. Called when the user moves up a layer. */
 	public void shiftLayersUp()
 	{
+		//Measures the time taken to shift the layers, which includes generating the new layers if they weren't prefetched.
+		Profiler.begin(Phase.TERRAIN_SHIFT);
+		long traceStart = Tracer.now();
+		spawnedObjects = 0;
+		
 		//Stores the bottom TerrainLayers, stored in the first row of the layers:TerrainLayer[][] array.
 		TerrainLayer[] bottomLayers = layers[0];
 		//Computes the new row for the bottom layers. We choose the row of the top layers, plus one.
@@ -119,32 +135,38 @@ public class TerrainLevel implements Level
 		//Update the last row of the layers:TerrainLayer[][] array to hold the bottom layers.
 		layers[layers.length-1] = bottomLayers;
 		
+		//Retrieves the layers generated ahead of time for this shift, if any.
+		Array<TerrainLayerData> prefetchedLayers = prefetcher.take(Shift.UP);
+		
 		//Cycles through the TerrainLayers we just shifted to the top of the level
 		for(int i = 0; i < bottomLayers.length; i++)
 		{
 			//Stores the layer
 			TerrainLayer layer = bottomLayers[i];
-			//Sets the row of the layer to its new row.
-			layer.setRow(newRow);
-			//Sets the start position of the layer to its old x-position, as it has not changed, and the new y-position. This specifies the bottom-left (x,y) coordinate
-			//of the layer. Therefore, we set the last argument to RIGHT to tell the method that the layer is going from left to right.
-			layer.setStartPosition(layer.getLeftPoint().x, newYPos, TerrainDirection.RIGHT);
-			//Frees the GameObjects belonging to the layer back into their respective pools so that they can be reused after.
-			layer.freeGameObjects();
-			//Resets the layer so that its geometry and GameObjects match its new row.
-			layer.resetLayer();
+			//Re-purposes the layer to its new row, at its old x-position, as it has not changed, and the new y-position. This specifies the bottom-left (x,y) coordinate
+			//of the layer. Therefore, we pass RIGHT to tell the method that the layer is going from left to right.
+			resetLayer(layer, newRow, layer.getCol(), layer.getLeftPoint().x, newYPos, TerrainDirection.RIGHT, prefetchedLayers, i);
 			
 			//Update the y-position of the next layer to start at the right end-point of the old layer.
 			newYPos = layer.getRightPoint().y;
 		}
 		
-		//Tells the level that its gameObjects:Array<GameObject> has to be re-populated since the top layers have different GameObjects now.
-		gameObjectsStored = false;
+		//Discards the other prefetched layers, since they were generated for the old layers.
+		prefetcher.clear();
+		
+		//Records the shift, along with the GameObjects spawned on the new layers, if the session is traced.
+		Tracer.layersShifted(Shift.UP, newRow, bottomLayers[0].getCol(), spawnedObjects, traceStart);
+		Profiler.end(Phase.TERRAIN_SHIFT);
 	}
 	
 	/** Shifts the top TerrainLayers to the bottom. Called when the user moves up a layer. */
 	public void shiftLayersDown()
 	{
+		//Measures the time taken to shift the layers, which includes generating the new layers if they weren't prefetched.
+		Profiler.begin(Phase.TERRAIN_SHIFT);
+		long traceStart = Tracer.now();
+		spawnedObjects = 0;
+		
 		//Stores the top TerrainLayers of the level, stored in the last row of the layers:TerrainLayer[][] array.
 		TerrainLayer[] topLayers = layers[layers.length-1];
 		//Computes the new row for the top layers. We choose the row of the bottom layers, minus one.
@@ -160,37 +182,46 @@ public class TerrainLevel implements Level
 		//Update the first row of the layers:TerrainLayer[][] array to hold the bottom layers.
 		layers[0] = topLayers;
 		
+		//Retrieves the layers generated ahead of time for this shift, if any.
+		Array<TerrainLayerData> prefetchedLayers = prefetcher.take(Shift.DOWN);
+		
 		//Cycles through the TerrainLayers we just shifted to the bottom of the level
 		for(int i = 0; i < topLayers.length; i++)
 		{
 			//Stores the layer
 			TerrainLayer layer = topLayers[i];
-			//Sets the layer to its new, pre-calculated row.
-			layer.setRow(newRow);
-			//Sets the start position of the layer to its old x-position, as it has not changed, and its new y-position. The start position we set is the bottom-left (x,y)
-			//coordinate of the layer. Therefore, we set the last argument to RIGHT to tell the method that the layer is going from left to right.
-			layer.setStartPosition(layer.getLeftPoint().x, newYPos, TerrainDirection.RIGHT);
-			//Frees the GameObjects belonging to the layer back into their respective pools so that they can be reused after.
-			layer.freeGameObjects();
-			//Resets the layer so that its geometry and GameObjects match its new row.
-			layer.resetLayer();
+			//Re-purposes the layer to its new, pre-calculated row, at its old x-position, as it has not changed, and its new y-position. The start position we set is 
+			//the bottom-left (x,y) coordinate of the layer. Therefore, we pass RIGHT to tell the method that the layer is going from left to right.
+			resetLayer(layer, newRow, layer.getCol(), layer.getLeftPoint().x, newYPos, TerrainDirection.RIGHT, prefetchedLayers, i);
 			
 			//Update the y-position of the next layer to start at the right end-point of the old layer.
 			newYPos = layer.getRightPoint().y;
 		}
 		
-		//Tells the level that its gameObjects:Array<GameObject> has to be re-populated since the bottom layers have different GameObjects now.
-		gameObjectsStored = false;
+		//Discards the other prefetched layers, since they were generated for the old layers.
+		prefetcher.clear();
+		
+		//Records the shift, along with the GameObjects spawned on the new layers, if the session is traced.
+		Tracer.layersShifted(Shift.DOWN, newRow, topLayers[0].getCol(), spawnedObjects, traceStart);
+		Profiler.end(Phase.TERRAIN_SHIFT);
 	}
 	
 	/** Shifts the left TerrainLayers to the right. Called when the user moves to the right of the center layer. */
 	public void shiftLayersRight()
 	{
+		//Measures the time taken to shift the layers, which includes generating the new layers if they weren't prefetched.
+		Profiler.begin(Phase.TERRAIN_SHIFT);
+		long traceStart = Tracer.now();
+		spawnedObjects = 0;
+		
 		//Computes the new column for the left layers. We choose the column of the right layers, plus one.
 		int newCol = layers[0][NUM_LAYER_COLS-1].getCol()+1;
 		//Finds the new x position for the left layers. We choose the bottom-right layer's right-most x-position to offset the top layers to the right the old ones.
 		float newXPos = layers[0][NUM_LAYER_COLS-1].getRightPoint().x;
 		
+		//Retrieves the layers generated ahead of time for this shift, if any.
+		Array<TerrainLayerData> prefetchedLayers = prefetcher.take(Shift.RIGHT);
+		
 		//Shifts the layers to the left and inserts the new layers to the right.
 		for(int i = 0; i < layers.length; i++)
 		{
@@ -206,32 +237,38 @@ public class TerrainLevel implements Level
 				layers[i][j] = layers[i][j+1];
 			}
 			
-			//Sets the layer to its new, pre-calculated column.
-			leftLayer.setCol(newCol);
-			//Sets the start position of the layer to its new x-position and y-position. The start position we set is the bottom-left (x,y) coordinate of the layer. Since the
-			//left point is given, we set the last argument to RIGHT to tell the method that the layer is going from left to right.
-			leftLayer.setStartPosition(newXPos, newYPos, TerrainDirection.RIGHT);
-			//Frees the GameObjects belonging to the layer back into their respective pools so that they can be reused after.
-			leftLayer.freeGameObjects();
-			//Resets the layer so that its geometry and GameObjects match its new column.
-			leftLayer.resetLayer();
+			//Re-purposes the layer to its new, pre-calculated column, at its new x-position and y-position. The start position we set is the bottom-left (x,y) coordinate 
+			//of the layer. Since the left point is given, we pass RIGHT to tell the method that the layer is going from left to right.
+			resetLayer(leftLayer, leftLayer.getRow(), newCol, newXPos, newYPos, TerrainDirection.RIGHT, prefetchedLayers, i);
 			
 			//Insert the left-most column to the right-most column, effectively rotating the columns to the left.
 			layers[i][NUM_LAYER_COLS-1] = leftLayer;
 		}
 		
-		//Tells the level that its gameObjects:Array<GameObject> has to be re-populated since the bottom layers have different GameObjects now.
-		gameObjectsStored = false;
+		//Discards the other prefetched layers, since they were generated for the old layers.
+		prefetcher.clear();
+		
+		//Records the shift, along with the GameObjects spawned on the new layers, if the session is traced.
+		Tracer.layersShifted(Shift.RIGHT, layers[0][NUM_LAYER_COLS-1].getRow(), newCol, spawnedObjects, traceStart);
+		Profiler.end(Phase.TERRAIN_SHIFT);
 	}
 	
 	/** Shifts the right-most TerrainLayers to the left. Called when the user moves to the left of the center layer. */
 	public void shiftLayersLeft()
 	{
+		//Measures the time taken to shift the layers, which includes generating the new layers if they weren't prefetched.
+		Profiler.begin(Phase.TERRAIN_SHIFT);
+		long traceStart = Tracer.now();
+		spawnedObjects = 0;
+		
 		//Computes the new column for the right layers. We choose the column of the left-most layers, minus one.
 		int newCol = layers[0][0].getCol()-1;
 		//Finds the new x position for the right layers. We choose the bottom-left layer's left-most x-position to offset the top layers to the left of the old ones.
 		float newXPos = layers[0][0].getLeftPoint().x;
 		
+		//Retrieves the layers generated ahead of time for this shift, if any.
+		Array<TerrainLayerData> prefetchedLayers = prefetcher.take(Shift.LEFT);
+		
 		//Shifts the layers to the right and inserts the new layers to the left.
 		for(int i = 0; i < layers.length; i++)
 		{
@@ -247,22 +284,170 @@ public class TerrainLevel implements Level
 				layers[i][j] = layers[i][j-1];
 			}
 			
-			//Sets the layer to its new, pre-calculated column.
-			rightLayer.setCol(newCol);
-			//Sets the start position of the layer to its new x-position and y-position. The start position we set is the bottom-right (x,y) coordinate of the layer.
-			//Since the layer's right point is given, we set the last argument to LEFT to tell the method that the layer is going from right to left.
-			rightLayer.setStartPosition(newXPos, newYPos, TerrainDirection.LEFT);
-			//Frees the GameObjects belonging to the layer back into their respective pools so that they can be reused for other layers.
-			rightLayer.freeGameObjects();
-			//Resets the layer so that its geometry and GameObjects match its new column.
-			rightLayer.resetLayer();
+			//Re-purposes the layer to its new, pre-calculated column, at its new x-position and y-position. The start position we set is the bottom-right (x,y) coordinate
+			//of the layer. Since the layer's right point is given, we pass LEFT to tell the method that the layer is going from right to left.
+			resetLayer(rightLayer, rightLayer.getRow(), newCol, newXPos, newYPos, TerrainDirection.LEFT, prefetchedLayers, i);
 			
 			//Insert the left-most column to the right-most column, effectively rotating the columns to the left.
 			layers[i][0] = rightLayer;
 		}
 		
-		//Tells the level that its gameObjects:Array<GameObject> has to be re-populated since the bottom layers have different GameObjects now.
-		gameObjectsStored = false;
+		//Discards the other prefetched layers, since they were generated for the old layers.
+		prefetcher.clear();
+		
+		//Records the shift, along with the GameObjects spawned on the new layers, if the session is traced.
+		Tracer.layersShifted(Shift.LEFT, layers[0][0].getRow(), newCol, spawnedObjects, traceStart);
+		Profiler.end(Phase.TERRAIN_SHIFT);
+	}
+	
+	/** Re-purposes the given layer to fit the given cell and start position. If the layer at the given index of the prefetched layers was generated for the same
+	 *  cell and start position, it is swapped inside the layer. Otherwise, the layer is generated on the spot. */
+	private void resetLayer(TerrainLayer layer, int row, int col, float startX, float startY, TerrainDirection terrainDirection, 
+							Array<TerrainLayerData> prefetchedLayers, int index)
+	{
+		//Removes the layer's GameObjects from the level, then frees them back into their respective pools so that they can be reused after.
+		unregisterGameObjects(layer);
+		layer.freeGameObjects();
+		
+		//Stores the layer data generated ahead of time for this layer, if any.
+		TerrainLayerData prefetchedData = (prefetchedLayers != null && index < prefetchedLayers.size)? prefetchedLayers.get(index) : null;
+		
+		//If the layer was prefetched for the same cell and start position
+		if(prefetchedData != null && prefetchedData.matches(row, col, startX, startY, terrainDirection))
+		{
+			//Swap the prefetched data inside the layer, which spawns its GameObjects. The layer's old data is given back to the prefetcher for later reuse.
+			prefetcher.free(layer.resetLayer(prefetchedData));
+		}
+		//Else, if the layer was not prefetched
+		else
+		{
+			//If the prefetched data was generated for another layer, give it back to the prefetcher for later reuse.
+			if(prefetchedData != null)
+				prefetcher.free(prefetchedData);
+			
+			//Sets the layer to its new cell and start position.
+			layer.setCell(row, col);
+			layer.setStartPosition(startX, startY, terrainDirection);
+			//Resets the layer so that its geometry and GameObjects match its new cell.
+			layer.resetLayer();
+		}
+		
+		//Adds the GameObjects spawned on the layer's new cell to the level.
+		registerGameObjects(layer);
+	}
+	
+	/** Adds every GameObject contained in the given layer to the level's registry. */
+	private void registerGameObjects(TerrainLayer layer)
+	{
+		//Stores the GameObjects contained in the layer.
+		Array<GameObject> layerObjects = layer.getGameObjects();
+		
+		//Cycles through the GameObjects of the layer and adds them to the registry.
+		for(int i = 0; i < layerObjects.size; i++)
+			registry.add(layerObjects.get(i));
+		
+		//Counts the GameObjects spawned during the current shift.
+		spawnedObjects += layerObjects.size;
+	}
+	
+	/** Removes every GameObject contained in the given layer from the level's registry. */
+	private void unregisterGameObjects(TerrainLayer layer)
+	{
+		//Stores the GameObjects contained in the layer.
+		Array<GameObject> layerObjects = layer.getGameObjects();
+		
+		//Cycles through the GameObjects of the layer and removes them from the registry.
+		for(int i = 0; i < layerObjects.size; i++)
+			registry.remove(layerObjects.get(i));
+	}
+	
+	/** Prefetches the layers which will be created by the level's next shifts. Called every frame while the player explores the level. Either row can be reached
+	 *  at any time, so both vertical shifts are prefetched. The horizontal shift is predicted from the player's velocity, or from his position on the center
+	 *  layer if he is standing still. */
+	public void prefetchLayers(GameObject player)
+	{
+		//If the upper and lower rows have not yet been prefetched, start generating them on the worker thread.
+		if(!prefetcher.isPrefetched(Shift.UP))
+			prefetchShiftUp();
+		if(!prefetcher.isPrefetched(Shift.DOWN))
+			prefetchShiftDown();
+		
+		//Stores the player's horizontal velocity.
+		float velocityX = player.getVelocity().x;
+		
+		//The player is predicted to cross the right edge of the center layer if he is walking right, or if he is standing on the right half of the layer.
+		boolean movingRight = (velocityX != 0)? velocityX > 0 : player.getX() > getCenterLayer().getCenterX();
+		
+		//If the player is heading right and the right column has not yet been prefetched, start generating it on the worker thread.
+		if(movingRight && !prefetcher.isPrefetched(Shift.RIGHT))
+			prefetchShiftRight();
+		//Else, if the player is heading left and the left column has not yet been prefetched, start generating it on the worker thread.
+		else if(!movingRight && !prefetcher.isPrefetched(Shift.LEFT))
+			prefetchShiftLeft();
+	}
+	
+	/** Prefetches the row of layers created by shiftLayersUp(). Mirrors the positions computed by shiftLayersUp(). */
+	private void prefetchShiftUp()
+	{
+		//Computes the new row and the starting y-position of the row, just like shiftLayersUp().
+		int newRow = layers[layers.length-1][0].getRow()+1;
+		float newYPos = layers[layers.length-1][0].getLeftPoint().y + TerrainLayer.LAYER_HEIGHT;
+		
+		//Describes the layers that will be created from the bottom layers. Each layer keeps its x-position and column. Only the first layer's y-position is known
+		//in advance; the others start at the right end-point of the previous layer.
+		prefetcher.begin(Shift.UP);
+		for(int i = 0; i < NUM_LAYER_COLS; i++)
+			prefetcher.addLayer(newRow, layers[0][i].getCol(), layers[0][i].getLeftPoint().x, newYPos, TerrainDirection.RIGHT);
+		prefetcher.submit(true);
+	}
+	
+	/** Prefetches the row of layers created by shiftLayersDown(). Mirrors the positions computed by shiftLayersDown(). */
+	private void prefetchShiftDown()
+	{
+		//Computes the new row and the starting y-position of the row, just like shiftLayersDown().
+		int newRow = layers[0][0].getRow()-1;
+		float newYPos = layers[0][0].getLeftPoint().y - TerrainLayer.LAYER_HEIGHT;
+		
+		//Describes the layers that will be created from the top layers. Each layer keeps its x-position and column. Only the first layer's y-position is known
+		//in advance; the others start at the right end-point of the previous layer.
+		prefetcher.begin(Shift.DOWN);
+		for(int i = 0; i < NUM_LAYER_COLS; i++)
+			prefetcher.addLayer(newRow, layers[layers.length-1][i].getCol(), layers[layers.length-1][i].getLeftPoint().x, newYPos, TerrainDirection.RIGHT);
+		prefetcher.submit(true);
+	}
+	
+	/** Prefetches the column of layers created by shiftLayersRight(). Mirrors the positions computed by shiftLayersRight(). */
+	private void prefetchShiftRight()
+	{
+		//Computes the new column and the starting x-position of the column, just like shiftLayersRight().
+		int newCol = layers[0][NUM_LAYER_COLS-1].getCol()+1;
+		float newXPos = layers[0][NUM_LAYER_COLS-1].getRightPoint().x;
+		
+		//Describes the layers that will be created from the left layers. Each layer starts at the right end-point of the right-most layer in its row.
+		prefetcher.begin(Shift.RIGHT);
+		for(int i = 0; i < layers.length; i++)
+			prefetcher.addLayer(layers[i][0].getRow(), newCol, newXPos, layers[i][NUM_LAYER_COLS-1].getRightPoint().y, TerrainDirection.RIGHT);
+		prefetcher.submit(false);
+	}
+	
+	/** Prefetches the column of layers created by shiftLayersLeft(). Mirrors the positions computed by shiftLayersLeft(). */
+	private void prefetchShiftLeft()
+	{
+		//Computes the new column and the starting x-position of the column, just like shiftLayersLeft().
+		int newCol = layers[0][0].getCol()-1;
+		float newXPos = layers[0][0].getLeftPoint().x;
+		
+		//Describes the layers that will be created from the right layers. Each layer ends at the left end-point of the left-most layer in its row.
+		prefetcher.begin(Shift.LEFT);
+		for(int i = 0; i < layers.length; i++)
+			prefetcher.addLayer(layers[i][NUM_LAYER_COLS-1].getRow(), newCol, newXPos, layers[i][0].getLeftPoint().y, TerrainDirection.LEFT);
+		prefetcher.submit(false);
+	}
+	
+	/** Stops the worker thread used to prefetch the level's layers. The level must not be shifted after this method is called. */
+	public void dispose()
+	{
+		prefetcher.dispose();
 	}
 	
 	/** Adds the given GameObject to the TerrainLayer where it belongs. Allows the GameObject to be added to the list of GameObjects contained by the correct TerrainLayer. */
@@ -271,11 +456,8 @@ public class TerrainLevel implements Level
 		//Add the GameObject to the TerrainLayer where it is contained. Allows the TerrainLayer to be aware of the GameObjects it contains.
 		getTerrainLayer(gameObject.getTerrainCell()).addGameObject(gameObject);
 		
-		//Tells the level that its gameObjects:Array<GameObject> has to be re-populated since a new GameObject has been added to a layer.
-		gameObjectsStored = false;
-		
-		//Add the GameObject to the list of GameObjects contained inside the Level. Otherwise, the World won't know it exists.
-		//gameObjects.add(gameObject);
+		//Add the GameObject to the GameObjects contained inside the Level. Otherwise, the World won't know it exists.
+		registry.add(gameObject);
 	}
 	
 	/** Removes the given GameObject from the TerrainLayer where it belongs. Allows the GameObject to be removed from the list of GameObjects of the correct TerrainLayer. */
@@ -284,53 +466,21 @@ public class TerrainLevel implements Level
 		//Remove the GameObject from the TerrainLayer where it is contained. Allows the TerrainLayer to be aware of the GameObject it no longer contains.
 		getTerrainLayer(gameObject.getTerrainCell()).removeGameObject(gameObject);
 		
-		//Tells the level that its gameObjects:Array<GameObject> has to be re-populated since a new GameObject has been removed from a layer.
-		gameObjectsStored = false;
-		
-		//Removes the GameObject from the list of GameObjects contained inside the Level. Like this, the GameObject will no longer be rendered or updated by the World.
-		//gameObjects.removeValue(gameObject, true);
+		//Removes the GameObject from the GameObjects contained inside the Level. Like this, the GameObject will no longer be rendered or updated by the World.
+		registry.remove(gameObject);
 	}
 	
-	/** Returns an array of all the GameObjects contained in the level. */
+	/** Returns an array of all the GameObjects contained in the level, in the order they are drawn. The array is only re-populated when GameObjects have been
+	 *  added or removed since the last call, and is not modified while it is iterated. */
 	public Array<GameObject> getGameObjects()
 	{
-		//If the gameObjects:Array<GameObject> has not yet been populated with the correct GameObjects contained in the level's layers
-		if(!gameObjectsStored)
-		{
-			//Clears the current GameObject list.
-			gameObjects.clear();
-			//Clears the various lists of GameObjects in the level so as to re-populate them.
-			trees.clear();
-			boxes.clear();
-			zombies.clear();
-			itemObjects.clear();
-			
-			//Cycle through the rows of TerrainLayers.
-			for(int i = layers.length-1; i >= 0; i--)
-			{
-				//Cycle through the columns of the row
-				for(int j = 0; j < layers[i].length; j++)
-				{
-					//Add all the GameObjects from the layer into their respective arrays which hold the GameObjects of the level.
-					trees.addAll(layers[i][j].getTrees());
-					boxes.addAll(layers[i][j].getBoxes());
-					zombies.addAll(layers[i][j].getZombies());
-					itemObjects.addAll(layers[i][j].getItemObjects());
-				}
-			}
-			
-			//Places the GameObjects into the high-level 'gameObjects' container. Adds them in the order they are drawn.
-			gameObjects.addAll(trees);
-			gameObjects.addAll(boxes);
-			gameObjects.addAll(zombies);
-			gameObjects.addAll(itemObjects);
-			
-			//Tells the level that its gameObjects array has been populated with the correct GameObjects. The array will not be re-populated until invalidated.
-			gameObjectsStored = true;
-		}
-		
-		//Return the Array of all the GameObjects on the level.
-		return gameObjects;
+		return registry.getGameObjects();
+	}
+	
+	/** Returns the registry holding the GameObjects of the level, split by type. Its generation tells whether the level's GameObjects have changed. */
+	public GameObjectRegistry getRegistry()
+	{
+		return registry;
 	}
 	
 	/** Returns the terrain layer with the given cell coordinates. Note that the layer must exist in the current level's layer matrix. */
@@ -401,6 +551,15 @@ public class TerrainLevel implements Level
 		return layers[NUM_LAYER_ROWS/2][NUM_LAYER_COLS/2];
 	}
 	
+	/** Re-sorts the spatial index of every layer once the level's GameObjects have moved. Called by the World after its GameObjects are updated. */
+	public void updateSpatialIndices()
+	{
+		//Cycles through each layer of the level and re-sorts its spatial index.
+		for(int i = 0; i < layers.length; i++)
+			for(int j = 0; j < layers[i].length; j++)
+				layers[i][j].updateSpatialIndex();
+	}
+	
 	/** Returns an array of all the TerrainLayers in the middle of the level, in terms of height. */
 	public TerrainLayer[] getMiddleLayers()
 	{
@@ -497,25 +656,31 @@ public class TerrainLevel implements Level
 	{
 		//Sets the 2d array of TerrainLayers.
 		this.layers = layers;
+		
+		//Replaces the level's GameObjects with the GameObjects of the new layers.
+		registry.clear();
+		for(int i = 0; i < layers.length; i++)
+			for(int j = 0; j < layers[i].length; j++)
+				registerGameObjects(layers[i][j]);
 	}
 
 	/** Gets the list of all trees contained in the level. */
 	public Array<Tree> getTrees() {
-		return trees;
+		return registry.getTrees();
 	}
 
 	/** Gets the list of all boxes contained in the level. */
 	public Array<Box> getBoxes() {
-		return boxes;
+		return registry.getBoxes();
 	}
 
 	/** Gets the list of all zombies contained in the level. */
 	public Array<Zombie> getZombies() {
-		return zombies;
+		return registry.getZombies();
 	}
 
 	/** Gets the list of all ItemObjects contained in the level. */
 	public Array<ItemObject> getItemObjects() {
-		return itemObjects;
+		return registry.getItemObjects();
 	}
 }
@@ -0,0 +1,231 @@
+package com.jonathan.survivor;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.jonathan.survivor.TerrainLayer.TerrainDirection;
+
+/*
+ * Generates the TerrainLayerData needed by the TerrainLevel's next shift ahead of time, on a worker thread. When the shift happens, the TerrainLevel takes the
+ * prefetched data and swaps it inside its layers, instead of re-generating the layers on the spot. Only the layer data is generated on the worker thread. The
+ * GameObjects are still obtained from their pools on the render thread, since pools and Spine skeletons are not thread-safe. On GWT, the AsyncExecutor runs
+ * the tasks immediately.
+ */
+
+public class TerrainPrefetcher implements Disposable
+{
+	/** Lists the ways the TerrainLevel can shift its layers. */
+	public enum Shift {
+		UP, DOWN, LEFT, RIGHT
+	}
+
+	/** Stores the world seed used to generate the layers. */
+	private int worldSeed;
+
+	/** Stores the executor which generates the layers on a worker thread. */
+	private AsyncExecutor executor;
+
+	/** Holds the batches which were submitted for the TerrainLevel's current layers. Each batch holds the layers created by one shift. */
+	private Array<Batch> batches = new Array<Batch>();
+	/** Stores the batch which was taken by the TerrainLevel. Recycled once the TerrainLevel calls clear(). */
+	private Batch takenBatch;
+	/** Holds the batches which are no longer valid, but which may still be running on the worker thread. Recycled once they are done. */
+	private Array<Batch> discardedBatches = new Array<Batch>();
+	/** Holds the batch currently being described by begin() and addLayer(). */
+	private Batch pendingBatch;
+
+	/** Stores the batches and the layer data which can be reused to prefetch layers. Avoids activating the garbage collector. */
+	private Array<Batch> freeBatches = new Array<Batch>();
+	private Array<TerrainLayerData> freeData = new Array<TerrainLayerData>();
+
+	/** Creates a TerrainPrefetcher which generates layers using the given world seed. */
+	public TerrainPrefetcher(int worldSeed)
+	{
+		//Stores the world seed used to generate the layers.
+		this.worldSeed = worldSeed;
+
+		//Creates the executor which generates the layers on a single worker thread.
+		executor = new AsyncExecutor(1);
+	}
+
+	/** Returns true if the layers created by the given shift have already been submitted to the worker thread. */
+	public boolean isPrefetched(Shift shift)
+	{
+		//Cycles through the submitted batches.
+		for(int i = 0; i < batches.size; i++)
+		{
+			//If the batch holds the layers created by the given shift, the shift has been prefetched.
+			if(batches.get(i).shift == shift)
+				return true;
+		}
+
+		//If this statement is reached, the shift has not been prefetched.
+		return false;
+	}
+
+	/** Starts describing the layers created by the given shift. Each layer must be added with addLayer(), after which submit() must be called. */
+	public void begin(Shift shift)
+	{
+		//Recycles the discarded batches which have finished running on the worker thread.
+		recycleDiscardedBatches();
+
+		//Retrieves a batch to hold the layers created by the shift.
+		pendingBatch = (freeBatches.size > 0)? freeBatches.pop() : new Batch();
+		pendingBatch.shift = shift;
+	}
+
+	/** Adds a layer to the batch being described. The layer will be generated for the given cell and start position. */
+	public void addLayer(int row, int col, float startX, float startY, TerrainDirection terrainDirection)
+	{
+		//Retrieves a TerrainLayerData instance to generate the layer.
+		TerrainLayerData data = (freeData.size > 0)? freeData.pop() : new TerrainLayerData();
+
+		//Sets the cell and the start position of the layer to generate.
+		data.setCell(row, col);
+		data.setStartPosition(startX, startY, terrainDirection);
+
+		//Adds the layer to the batch being described.
+		pendingBatch.layers.add(data);
+	}
+
+	/** Submits the batch being described to the worker thread. If 'chainHeights' is true, each layer after the first starts at the height of the right end-point of
+	 *  the previous layer, which is only known once the previous layer is generated. Used when a full row is created, since the layers of a row connect together. */
+	public void submit(boolean chainHeights)
+	{
+		//Tells the batch whether or not the start heights of its layers depend on the previous layers.
+		pendingBatch.chainHeights = chainHeights;
+
+		//Submits the batch to the worker thread, which generates its layers.
+		pendingBatch.result = executor.submit(pendingBatch);
+		//Registers the batch as prefetched for the TerrainLevel's current layers.
+		batches.add(pendingBatch);
+
+		//The batch is no longer being described.
+		pendingBatch = null;
+	}
+
+	/** Returns the layer data generated for the given shift, or null if the shift was not prefetched. Waits for the worker thread if the layers are still being
+	 *  generated. The layers are returned in the order they were added. clear() must be called once the TerrainLevel has finished shifting its layers. */
+	public Array<TerrainLayerData> take(Shift shift)
+	{
+		//Cycles through the submitted batches.
+		for(int i = 0; i < batches.size; i++)
+		{
+			//Stores the batch being cycled through.
+			Batch batch = batches.get(i);
+
+			//If the batch holds the layers created by the given shift
+			if(batch.shift == shift)
+			{
+				//Wait for the worker thread to finish generating the layers.
+				batch.result.get();
+
+				//Removes the batch from the list of prefetched batches. It will be recycled when clear() is called.
+				batches.removeIndex(i);
+				takenBatch = batch;
+
+				//Returns the generated layers.
+				return batch.layers;
+			}
+		}
+
+		//If this statement is reached, the shift was not prefetched.
+		return null;
+	}
+
+	/** Returns a TerrainLayerData instance which is no longer used by a TerrainLayer. It will be reused to prefetch other layers. */
+	public void free(TerrainLayerData data)
+	{
+		freeData.add(data);
+	}
+
+	/** Discards every prefetched layer. Must be called whenever the TerrainLevel's layers change, since the prefetched layers were generated for the old layers. */
+	public void clear()
+	{
+		//If the TerrainLevel took a batch, its layers now belong to the TerrainLevel. Thus, only the batch itself is recycled.
+		if(takenBatch != null)
+		{
+			takenBatch.layers.clear();
+			freeBatches.add(takenBatch);
+			takenBatch = null;
+		}
+
+		//Discards the batches which were not taken. They are recycled once the worker thread has finished with them.
+		discardedBatches.addAll(batches);
+		batches.clear();
+
+		//Recycles the discarded batches which have already finished running.
+		recycleDiscardedBatches();
+	}
+
+	/** Recycles the discarded batches which have finished running on the worker thread, along with their layer data. */
+	private void recycleDiscardedBatches()
+	{
+		//Cycles through the discarded batches in reverse order, since batches are removed from the array.
+		for(int i = discardedBatches.size-1; i >= 0; i--)
+		{
+			//Stores the batch being cycled through.
+			Batch batch = discardedBatches.get(i);
+
+			//If the worker thread is done generating the batch's layers
+			if(batch.result.isDone())
+			{
+				//Retrieves the batch's result to ensure that the worker thread's changes are visible before the data is reused.
+				batch.result.get();
+
+				//Recycles the batch's layer data, along with the batch itself.
+				freeData.addAll(batch.layers);
+				batch.layers.clear();
+				freeBatches.add(batch);
+				discardedBatches.removeIndex(i);
+			}
+		}
+	}
+
+	/** Waits for the worker thread to finish its current task, then destroys it. The prefetcher cannot be used after this method is called. */
+	@Override
+	public void dispose()
+	{
+		executor.dispose();
+	}
+
+	/** Holds the layers created by one shift of the TerrainLevel. The layers are generated on the worker thread when the batch is submitted. */
+	private class Batch implements AsyncTask<Void>
+	{
+		/** Stores the shift which creates the batch's layers. */
+		Shift shift;
+		/** Holds true if each layer after the first starts at the height of the previous layer's right end-point. */
+		boolean chainHeights;
+		/** Holds the data of each layer created by the shift. */
+		final Array<TerrainLayerData> layers = new Array<TerrainLayerData>();
+		/** Stores the result of the batch's task, used to know when its layers are generated. */
+		AsyncResult<Void> result;
+
+		/** Generates the batch's layers. Called on the worker thread. */
+		@Override
+		public Void call()
+		{
+			//Cycles through the layers of the batch.
+			for(int i = 0; i < layers.size; i++)
+			{
+				//Stores the layer to generate.
+				TerrainLayerData data = layers.get(i);
+
+				//If the layer must start at the height of the previous layer
+				if(chainHeights && i > 0)
+				{
+					//Starts the layer at the right end-point's height of the previous layer. The layer's x-position was already given.
+					float startY = layers.get(i-1).getRightPoint().y;
+					data.setStartPosition(data.getLeftPoint().x, startY, TerrainDirection.RIGHT);
+				}
+
+				//Generates the geometry of the layer, along with the placement of its objects.
+				data.generate(worldSeed);
+			}
+
+			return null;
+		}
+	}
+}
@@ -1,8 +1,6 @@
 package com.jonathan.survivor;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Set;
+import java.util.Random;
 
 import com.badlogic.gdx.utils.Array;
 import com.esotericsoftware.spine.Bone;
@@ -23,11 +21,17 @@ import com.jonathan.survivor.entity.PlayerListener;
 import com.jonathan.survivor.entity.Projectile;
 import com.jonathan.survivor.entity.Tree;
 import com.jonathan.survivor.entity.Zombie;
+import com.jonathan.survivor.inventory.DropTable;
 import com.jonathan.survivor.inventory.Item;
+import com.jonathan.survivor.managers.AnimationManager;
 import com.jonathan.survivor.managers.GameObjectManager;
 import com.jonathan.survivor.managers.ItemManager;
 import com.jonathan.survivor.managers.ZombieManager;
+import com.jonathan.survivor.managers.ZombieScheduler;
 import com.jonathan.survivor.math.Vector2;
+import com.jonathan.survivor.utils.Profiler;
+import com.jonathan.survivor.utils.Profiler.Phase;
+import com.jonathan.survivor.utils.Tracer;
 
 public class World
 {
@@ -56,6 +60,11 @@ public class World
 	
 	/** Stores the ZombieManager which updates zombies every game tick and controls their AI. */
 	private ZombieManager zombieManager;
+	/** Holds the ZombieScheduler which decides how often each zombie is updated by the ZombieManager, according to its distance from the player. */
+	private ZombieScheduler zombieScheduler;
+	
+	/** Advances the animations of the player, the zombies and the interactive objects, and dispatches their animation events back to the world. */
+	private AnimationManager animationManager;
 	
 	/** Holds the ItemManager instance. Used to pool and retrieve Item instances given to every ItemObject spawned in the world.. */
 	private ItemManager itemManager;
@@ -81,6 +90,17 @@ public class World
 	
 	/** Helper Vector2 used to store the world coordinates of the last known touch. */
 	private Vector2 touchPoint;
+	/** Helper array which holds the GameObjects found under the last touch. */
+	private Array<GameObject> touchedObjects = new Array<GameObject>();
+	
+	/** Stores the amount of time the world has been updated for, in seconds. Advances by the same amount as the stateTime of every GameObject in the level. */
+	private float elapsedTime;
+	
+	/** Holds the random number generator which decides which items drop from scavenged objects. Can be seeded to make drops reproducible. */
+	private Random dropRandom = new Random();
+	
+	/** Stores true if the world is simulated without a GameScreen. In this mode, the versus and KO animations are skipped, since no renderer plays them. */
+	private boolean headless;
 
 	/** Accepts the world seed from which terrain is generated, the profile from which save data is retrieved, and the ItemManager from which 
 	 *  Item instances are retrieved and given to ItemObjects which are spawned in the world.
@@ -124,6 +144,12 @@ public class World
 		//Sets the eventListener to listen for the player's events.
 		player.setListener(eventListener);
 		
+		//Creates the AnimationManager which advances the animations of the GameObjects and receives their animation events. Must be created after the player.
+		animationManager = new AnimationManager(this, player);
+		
+		//Creates the scheduler which updates the zombies close to the player every tick, and the other zombies less often.
+		zombieScheduler = new ZombieScheduler(this, zombieManager, animationManager);
+		
 		//Creates a Vector2 instance to hold the coordinates of the latest touch.
 		touchPoint = new Vector2();
 	}
@@ -131,10 +157,29 @@ public class World
 	/** Called every frame to update the world and its GameObjects. */
 	public void update(float deltaTime)
 	{		
+		//Advances the world's clock, which the renderers use as a common time reference for the GameObjects' animations.
+		elapsedTime += deltaTime;
+		
+		Profiler.begin(Phase.WORLD);
+		
 		//Updates the player, his movement, and his game logic.
+		Profiler.begin(Phase.PLAYER);
 		updatePlayer(deltaTime);
+		Profiler.end(Phase.PLAYER);
 		//Updates the GameObjects contained by the world's level, such as trees.
+		Profiler.begin(Phase.LEVEL_OBJECTS);
 		updateLevelObjects(deltaTime);
+		Profiler.end(Phase.LEVEL_OBJECTS);
+		
+		//If the player is exploring the TerrainLevel, re-sort the spatial indices of its layers, since its GameObjects may have moved.
+		if(level == terrainLevel)
+		{
+			Profiler.begin(Phase.SPATIAL_INDICES);
+			terrainLevel.updateSpatialIndices();
+			Profiler.end(Phase.SPATIAL_INDICES);
+		}
+		
+		Profiler.end(Phase.WORLD);
 	}
 	
 	/**Updates the player, his movement, and his game logic. */
@@ -154,13 +199,22 @@ public class World
 		
 		//Updates the position of the player based on his velocity and updates his collider's position.
 		player.update(deltaTime);
+		
+		//Advances the player's animations. Animation events, such as the player hitting a tree, are dispatched from here.
+		animationManager.updatePlayer(deltaTime);
+		
+		//If the player is exploring the TerrainLevel, generate the layers he is about to reach on a worker thread. Avoids a hitch when the level shifts its layers.
+		if(player.getMode() == Mode.EXPLORING && level == terrainLevel)
+			terrainLevel.prefetchLayers(player);
 	}
 
 	/** Updates the player in the world when he's in EXPLORATION state, and is traversing the world. */
 	private void updatePlayerExploring() 
 	{
 		//Check if the player has collided with anything of importance.
+		Profiler.begin(Phase.COLLISIONS);
 		checkPlayerCollisions();
+		Profiler.end(Phase.COLLISIONS);
 		
 		//If the player is in IDLE state
 		if(player.getState() == State.IDLE)
@@ -217,7 +271,9 @@ public class World
 	private void updatePlayerCombat() 
 	{
 		//Check if the player has collided with anything of importance.
+		Profiler.begin(Phase.COLLISIONS);
 		checkPlayerCollisions();
+		Profiler.end(Phase.COLLISIONS);
 		
 		//Else, if the player's y-velocity is non-zero, the player is currently jumping
 		if(player.getVelocity().y != 0)
@@ -255,6 +311,9 @@ public class World
 		//Stores true if there exists a zombie that is alert. If true, the zombie alert music plays.
 		boolean zombieAlert = false;
 		
+		//Starts a new tick for the zombie scheduler, which decides which zombies are updated this tick.
+		zombieScheduler.begin();
+		
 		//Cycle through all of the GameObjects contained in the level
 		for(int i = 0; i < gameObjects.size; i++)
 		{
@@ -279,8 +338,11 @@ public class World
 				//Stores the zombie that needs to be updated
 				Zombie zombie = (Zombie) go;
 
-				//Update the zombie's game logic.
-				zombieManager.update(zombie, deltaTime);
+				//Update the zombie's game logic and advance its animations, if the scheduler decides it is due this tick. Animation events, such as the zombie
+				//spawning an earthquake, are dispatched from here.
+				Profiler.begin(Phase.ZOMBIES);
+				zombieScheduler.update(zombie, deltaTime);
+				Profiler.end(Phase.ZOMBIES);
 				
 				//If the zombie that is being updated is alert
 				if(zombie.isAlerted())
@@ -292,6 +354,10 @@ public class World
 			{	
 				//Update the GameObject.
 				go.update(deltaTime);
+				
+				//If the GameObject is a tree or a box, update the states which depend on the timing of its animations.
+				if(go instanceof InteractiveObject)
+					animationManager.updateInteractiveObject((InteractiveObject) go);
 			}
 		}
 		
@@ -383,6 +449,10 @@ public class World
 		{
 			//Sets the WorldState to KO_ANIMATION, telling the AnimationRenderer to play the Ko Animation.
 			setWorldState(WorldState.KO_ANIMATION);
+			
+			//If no renderer is playing the KO animation, exit combat right away.
+			if(headless)
+				exitCombat();
 		}		
 	}
 	
@@ -488,6 +558,13 @@ public class World
 		//Start playing the enter combat music.
 		playSound(Sound.ENTER_COMBAT_MUSIC);
 		
+		//If the world is simulated without a GameScreen, no renderer plays the versus animation. Thus, enter combat right away.
+		if(headless)
+		{
+			enterCombat();
+			return;
+		}
+		
 		//Tells the GameScreen to pause the game until the versus animation stops playing.
 		worldListener.onPlayAnimation();		
 	}
@@ -496,10 +573,12 @@ public class World
 	public void enterCombat() 
 	{
 		//Tells the GameScreen to resume the game since the versus animation is complete and we would like to switch to combat mode.
-		worldListener.onAnimationComplete();
+		if(worldListener != null)
+			worldListener.onAnimationComplete();
 		
 		//Informs the GameScreen that it should switch to the combat HUD. Like this, the right UI widgets will be shown for combat.
-		worldListener.switchToCombat();
+		if(worldListener != null)
+			worldListener.switchToCombat();
 		
 		//Sets the world to COMBAT state. As such, the world's game logic will be handled differently, and the Combat Hud will be displayed instead of the Exploration one.
 		setWorldState(WorldState.COMBAT);
@@ -517,17 +596,24 @@ public class World
 		
 		//Tell the world to use the combat level. This level will now be rendered and used as the playing surface for all GameObjects.
 		setLevel(combatLevel);
+		
+		//Records the player entering combat, if the session is traced.
+		Tracer.combatEntered();
 	}
 	
 	/** Makes the player leave COMBAT mode with the zombie he is fighting. Called after the KO animation plays. */
 	public void exitCombat() 
 	{
 		//Tell the GameScreen to switch back to the Exploration HUD.
-		worldListener.switchToExploration();
+		if(worldListener != null)
+			worldListener.switchToExploration();
 		
 		//Set the world to EXPLORING state, so that the camera updates normally.
 		setWorldState(WorldState.EXPLORING);
 		
+		//Records the player leaving combat, if the session is traced.
+		Tracer.combatExited(player.getState() == State.DEAD);
+		
 		//If the player was killed in the fight
 		if(player.getState() == State.DEAD)
 		{
@@ -535,7 +621,8 @@ public class World
 			setWorldState(WorldState.GAME_OVER);
 			
 			//Tells the GameScreen to switch to the GameOverHud.
-			worldListener.gameOver();
+			if(worldListener != null)
+				worldListener.gameOver();
 		}
 		//Else, if the zombie was killed in the fight
 		else
@@ -657,7 +744,7 @@ public class World
 				projectile.hit(player);
 				
 				//Free the Earthquake instance back into the GameObjectManager's internal pools for later reuse.
-				goManager.freeGameObject(projectile, Earthquake.class);
+				goManager.freeGameObject((Earthquake)projectile, Earthquake.class);
 				
 				//Remove the projectile from the level so that it disappears from the level and stops being updated.
 				level.removeGameObject(projectile);
@@ -674,7 +761,7 @@ public class World
 		//Adds the scavenged GameObject to the profile. Like this, if, say, a tree was just scavenged, it will never re-appear in the same TerrainLayer.
 		profile.addScavengedLayerObject(scavengedObject);
 		
-		//Spawn items from the given scavenged object. Spawns them according to the InteractiveObject's itemProbabilityMap:HashMap.
+		//Spawn items from the given scavenged object. Spawns them according to the InteractiveObject's dropTable.
 		spawnItems(scavengedObject);
 		
 	}
@@ -793,20 +880,20 @@ public class World
 	/** Spawns items at the GameObject's location. Called when a tree is chopped down or any other GameObject is scavenged/destroyed. */
 	public void spawnItems(GameObject gameObject)
 	{
-		//Stores the HashMap which indicates which items can be dropped once the object is scavenged.
-		HashMap<Class, Float> itemProbabilityMap = null; 
+		//Stores the table which indicates which items can be dropped once the object is scavenged.
+		DropTable dropTable = null; 
 		
 		//If the gameObject to spawn items from is an InteractiveObject
 		if(gameObject instanceof InteractiveObject)
 		{
-			//Grab the itemProbabilityMap from the InteractiveObject.
-			itemProbabilityMap = ((InteractiveObject)gameObject).getItemProbabilityMap();
+			//Grab the dropTable shared by every object of the InteractiveObject's type.
+			dropTable = ((InteractiveObject)gameObject).getDropTable();
 		}
 		//Else, if the gameObject from which items should be spawned is a zombie.
 		else if(gameObject instanceof Zombie)
 		{
-			//Grab the itemProbabilityMap from the Zombie.
-			itemProbabilityMap = ((Zombie)gameObject).getItemProbabilityMap();
+			//Grab the dropTable shared by every zombie.
+			dropTable = ((Zombie)gameObject).getDropTable();
 		}
 			
 		playSound(Sound.ITEM_DROP);
@@ -814,70 +901,56 @@ public class World
 		//Stores the amount of items that have been spawned. Allows items to fly further if items have already been spawned.
 		int itemsSpawned = 0;
 		
-		//Creates a set out of each key of the probability map. Each key is an Item subclass. Each key is an item that has a probability of being dropped from the 
-		//Interactive GameObject.
-		Set<Class> keys = itemProbabilityMap.keySet();
-		
-		keys = Collections.synchronizedSet(keys);
-		
-		synchronized(keys)
-		{
-			//Cycles through each possible item type that can be dropped from the scavenged GameObject.
-			for(Class key:keys)
-			{						
-				//Check if a random number is less than the probability of the item dropping. The probability of the item to drop is stored in the key of the HashMap,
-				//where the key is the Item subclass that has a probability of being dropped. Note that the value of the key can be between 0 and 1, where 1 means that
-				//the item will be dropped no matter the circumstances.
-				if(Math.random() < itemProbabilityMap.get(key))
+		//Cycles through each possible item type that can be dropped from the scavenged GameObject.
+		for(int i = 0; i < dropTable.getEntryCount(); i++)
+		{						
+			//Check if a random number is less than the probability of the item dropping. Note that the probability of each entry is between 0 and 1, where 1 
+			//means that the item will be dropped no matter the circumstances.
+			if(dropTable.drops(i, dropRandom))
+			{
+				//Spawns an ItemObject at the position of the destroyed GameObject. The first two arguments indicate the (x,y) position where the items will be
+				//spawned. Third argument is a velocity multiplier, allowing items to fly further depending on how many items have already been spawned. Last 
+				//argument specifies that the items should fly the same direction that the player is facing.
+				ItemObject itemObject = goManager.spawnItemObject(gameObject.getPosition().x, gameObject.getPosition().y, 1 + itemsSpawned*0.6f, player.getDirection());
+				
+				//Stores the previous Item instance held by the ItemObject. This is because ItemObjects are pooled, and thus may have an old Item instance.
+				Item previousItem = itemObject.getItem();
+				
+				//If the ItemObject's previous item is not null
+				if(previousItem != null)
 				{
-					//Stores the ItemObject spawned in the world.
-					ItemObject itemObject = null;
-					
-					//The Class.newInstance() method may cause an exception.
-					try 
-					{
-						//Spawns an ItemObject at the position of the destroyed GameObject. The first two arguments indicate the (x,y) position where the items will be
-						//spawned. Third argument is a velocity multiplier, allowing items to fly further depending on how many items have already been spawned. Last 
-						//argument specifies that the items should fly the same direction that the player is facing.
-						itemObject = goManager.spawnItemObject(gameObject.getPosition().x, gameObject.getPosition().y, 1 + itemsSpawned*0.6f, player.getDirection());
-						
-						//Stores the previous Item instance held by the ItemObject. This is because ItemObjects are pooled, and thus may have an old Item instance.
-						Item previousItem = itemObject.getItem();
-						
-						//If the ItemObject's previous item is not null
-						if(previousItem != null)
-						{
-							//Free the item back into the itemManager's pools for later reuse. Prevents the previous item from being garbage collected.
-							itemManager.freeItem(previousItem);
-						}
-						
-						//Obtains a new item of the given class from the itemManager, and sets it as the item the ItemObject represents.
-						itemObject.setItem(itemManager.obtainItem(key));
-					}
-					catch (Exception ex) 
-					{
-						ex.printStackTrace();
-					}
-					
-					//Tells the ItemObject that it is on the same TerrainCell as the GameObject which dropped this item. Allows the object to know which TerrainLayer it 
-					//belongs to.
-					itemObject.setTerrainCell(gameObject.getTerrainCell().getRow(), gameObject.getTerrainCell().getCol());
-					
-					//Adds the spawned ItemObject to the list of ItemObjects inside the level. It is added to the correct TerrainLayer if the user is on a TerrainLevel.
-					level.addGameObject(itemObject);
-					
-					//Increments the amount of items that have been spawned at the GameObject.
-					itemsSpawned++;
-					
-					//If the GameObject has spawned three or more items already
-					if(itemsSpawned >= 3)
-						//Return the method. A GameObject can spawn a maximum of three items.
-						return;
+					//Free the item back into the itemManager's pools for later reuse. Prevents the previous item from being garbage collected.
+					itemManager.freeItem(previousItem);
 				}
+				
+				//Obtains a new item of the given class from the itemManager, and sets it as the item the ItemObject represents.
+				itemObject.setItem(itemManager.obtainItem(dropTable.getItemClass(i)));
+				
+				//Tells the ItemObject that it is on the same TerrainCell as the GameObject which dropped this item. Allows the object to know which TerrainLayer it 
+				//belongs to.
+				itemObject.setTerrainCell(gameObject.getTerrainCell().getRow(), gameObject.getTerrainCell().getCol());
+				
+				//Adds the spawned ItemObject to the list of ItemObjects inside the level. It is added to the correct TerrainLayer if the user is on a TerrainLevel.
+				level.addGameObject(itemObject);
+				
+				//Increments the amount of items that have been spawned at the GameObject.
+				itemsSpawned++;
+				
+				//If the GameObject has spawned three or more items already
+				if(itemsSpawned >= 3)
+					//Return the method. A GameObject can spawn a maximum of three items.
+					return;
 			}
 		}
 	}
 	
+	/** Seeds the random number generator which decides which items drop from scavenged objects, so that the same items drop every time the world is 
+	 *  simulated with the same seed. */
+	public void setDropSeed(long seed)
+	{
+		dropRandom.setSeed(seed);
+	}
+	
 	/** Makes the user pick up the given Item GameObject, removing the GameObject from the world and adding it to the inventory. */
 	public void collectItemObject(ItemObject itemObject)
 	{
@@ -932,29 +1005,43 @@ public class World
 			//Cycle through the middle layers of the level
 			for(int i = 0; i < middleLayers.length; i++)
 			{
-				//Store the GameObjects residing in the middle layer
-				Array<GameObject> gameObjects = middleLayers[i].getGameObjects();
+				//Finds the GameObjects of the middle layer whose colliders contain the touch point, using the layer's spatial index.
+				touchedObjects.clear();
+				middleLayers[i].getSpatialIndex().query(touchPoint, touchedObjects);
+				
+				//If no GameObject on this layer was touched, check the next layer.
+				if(touchedObjects.size == 0)
+					continue;
 				
-				//Cycle through the GameObjects of the middle layer. Starts from the end of the list since those are the gameObjects at the front of the screen.
-				for(int j = gameObjects.size-1; j >= 0; j--)
+				//Stores the touched GameObject drawn at the front of the screen. Items are drawn in front of zombies, which are drawn in front of boxes and trees.
+				GameObject frontObject = touchedObjects.get(0);
+				for(int j = 1; j < touchedObjects.size; j++)
 				{
-					//Store the GameObject
-					GameObject go = gameObjects.get(j);
-					
-					//If the touch point is inside the GameObject's collider, report a touched GameObject.
-					if(go.getCollider().intersects(touchPoint))
-					{
-						//The GameObject has been clicked.
-						gameObjectClicked(go);
-						
-						//Only allow one object to be touched with one click.
-						return;
-					}
+					if(getDrawLayer(touchedObjects.get(j)) >= getDrawLayer(frontObject))
+						frontObject = touchedObjects.get(j);
 				}
+				
+				//The GameObject has been clicked. Only allow one object to be touched with one click.
+				gameObjectClicked(frontObject);
+				return;
 			}
 		}
 	}
 	
+	/** Returns the order in which the given GameObject is drawn by the GameObjectRenderer. GameObjects with a higher order are drawn in front. */
+	private int getDrawLayer(GameObject gameObject)
+	{
+		//Matches the order in which the TerrainLevel lists its GameObjects: trees, boxes, zombies, then items.
+		if(gameObject instanceof ItemObject)
+			return 3;
+		else if(gameObject instanceof Zombie)
+			return 2;
+		else if(gameObject instanceof Box)
+			return 1;
+		
+		return 0;
+	}
+	
 	/** Sets up the player's initial variables to ensure that the player is placed at the right location. */
 	public void setupPlayer()
 	{
@@ -973,7 +1060,15 @@ public class World
 	public void winGame() 
 	{
 		//Saves the game inside GameScreen and transitions the usedr to the main menu.
-		worldListener.winGame();
+		if(worldListener != null)
+			worldListener.winGame();
+	}
+	
+	/** Releases the resources held by the world, such as the worker thread which prefetches the TerrainLevel's layers. Called when the world is no longer used. */
+	public void dispose()
+	{
+		//Stops the thread which generates the TerrainLevel's layers ahead of time.
+		terrainLevel.dispose();
 	}
 	
 	/** Returns true if the GameObject is close to the left or right edges of his TerrainLayer. */
@@ -993,8 +1088,9 @@ public class World
 	/** Plays the given sound. Delegates an event to the GameScreen through the soundListener to play the particular sound. */
 	public void playSound(Sound sound)
 	{
-		//Tells the GameScreen to play the given sound, since the soundListener is registered from the GameScreen
-		soundListener.play(sound);
+		//Tells the GameScreen to play the given sound, since the soundListener is registered from the GameScreen. A headless world has no listener.
+		if(soundListener != null)
+			soundListener.play(sound);
 	}
 	
 	/** Returns the currently active level of the world used to dictate the walkable area the world. */
@@ -1030,6 +1126,12 @@ public class World
 		return combatLevel;
 	}
 	
+	/** Returns the amount of time the world has been updated for, in seconds. */
+	public float getElapsedTime()
+	{
+		return elapsedTime;
+	}
+	
 	/** Returns the state of the world, used to tell the GameScreen how to render its GUI. */
 	public WorldState getWorldState() 
 	{
@@ -1054,6 +1156,12 @@ public class World
 		this.goManager = goManager;
 	}
 	
+	/** Returns the ZombieScheduler which decides how often each zombie is updated. Exposes the amount of zombies in each update tier. */
+	public ZombieScheduler getZombieScheduler()
+	{
+		return zombieScheduler;
+	}
+	
 	/** Gets the player the user is controlling in the world. */
 	public Player getPlayer()
 	{
@@ -1084,5 +1192,15 @@ public class World
 	/** Sets the SoundListener which delegates events to the GameScreen whenever a sound effect needs to be played. */
 	public void setSoundListener(SoundListener soundListener) {
 		this.soundListener = soundListener;
-	}	
+	}
+	
+	/** Returns true if the world is simulated without a GameScreen, in which case animations which pause the game are skipped. */
+	public boolean isHeadless() {
+		return headless;
+	}
+	
+	/** Sets whether the world is simulated without a GameScreen. A headless world needs no WorldListener or SoundListener, and can be updated without rendering. */
+	public void setHeadless(boolean headless) {
+		this.headless = headless;
+	}
 }
@@ -0,0 +1,202 @@
+package com.jonathan.survivor.components;
+
+/*
+ * Stores every component of one type, as a sparse set. The dense arrays hold the components and the handles of their entities contiguously, so that
+ * iterating a pool touches packed memory. The sparse array maps the index of an entity to the position of its component in the dense arrays. Adding, removing
+ * and retrieving a component are constant-time, and removing a component moves the last component into its slot. Iterate from the end of the pool to
+ * remove components safely while iterating.
+ */
+
+public class ComponentPool<T extends Component>
+{
+	/** Stores the value of the sparse array for an entity which has no component in the pool. */
+	private static final int NONE = -1;
+
+	/** Stores the class of the components held in the pool. */
+	private final Class<T> componentClass;
+
+	/** Maps the index of an entity to the position of its component in the dense arrays, or NONE if the entity has no component in the pool. */
+	private int[] sparse;
+	/** Holds the handle of the entity owning each component, in the same order as the components. */
+	private int[] entities;
+	/** Holds the components, packed at the start of the array. Stored as Objects, since an array of a generic type can't be created. Class.cast() isn't used to
+	 *  retrieve them, since it is not available on every backend. */
+	private Object[] components;
+	/** Stores the amount of components in the pool. */
+	private int size;
+
+	/** Creates an empty pool holding components of the given class. */
+	public ComponentPool(Class<T> componentClass)
+	{
+		this(componentClass, 16);
+	}
+
+	/** Creates an empty pool holding components of the given class, with room for the given amount of components before growing. */
+	public ComponentPool(Class<T> componentClass, int capacity)
+	{
+		this.componentClass = componentClass;
+
+		//Creates the sparse and dense arrays. No entity has a component at first.
+		sparse = new int[capacity];
+		entities = new int[capacity];
+		components = new Object[capacity];
+		fill(sparse, 0, capacity);
+	}
+
+	/** Gives the component to the given entity. Replaces the entity's previous component of this type, if any. */
+	public void add(int entity, T component)
+	{
+		//Stores the index of the entity, and ensures that the sparse array can hold it.
+		int index = EntityManager.getIndex(entity);
+		ensureSparseCapacity(index + 1);
+
+		//If the entity's index already has a component, replace it. The handle is also replaced, in case it belonged to a destroyed entity with the same index.
+		int position = sparse[index];
+		if(position != NONE)
+		{
+			entities[position] = entity;
+			components[position] = component;
+			return;
+		}
+
+		//Grows the dense arrays if they are full.
+		if(size == entities.length)
+		{
+			int capacity = Math.max(8, size * 2);
+			entities = copyOf(entities, capacity);
+			Object[] newComponents = new Object[capacity];
+			System.arraycopy(components, 0, newComponents, 0, size);
+			components = newComponents;
+		}
+
+		//Appends the component at the end of the dense arrays.
+		sparse[index] = size;
+		entities[size] = entity;
+		components[size] = component;
+		size++;
+	}
+
+	/** Removes the given entity's component from the pool, and returns it. Returns null if the entity has no component in the pool. */
+	public T remove(int entity)
+	{
+		//If the entity has no component in the pool, there is nothing to remove.
+		int position = getPosition(entity);
+		if(position == NONE)
+			return null;
+
+		//Stores the removed component, so that it can be returned.
+		T component = componentAt(position);
+
+		//Moves the last component into the removed component's slot, keeping the dense arrays packed.
+		int last = --size;
+		int lastEntity = entities[last];
+		entities[position] = lastEntity;
+		components[position] = components[last];
+		sparse[EntityManager.getIndex(lastEntity)] = position;
+
+		//Clears the last slot, and marks the entity as having no component.
+		components[last] = null;
+		sparse[EntityManager.getIndex(entity)] = NONE;
+
+		return component;
+	}
+
+	/** Returns the given entity's component, or null if the entity has no component in the pool. */
+	public T get(int entity)
+	{
+		int position = getPosition(entity);
+		return (position == NONE) ? null : componentAt(position);
+	}
+
+	/** Returns true if the given entity has a component in the pool. */
+	public boolean has(int entity)
+	{
+		return getPosition(entity) != NONE;
+	}
+
+	/** Returns the position of the given entity's component in the dense arrays, or NONE if the entity has no component in the pool. A handle of a destroyed
+	 *  entity never matches, since its generation differs from the handle stored in the pool. */
+	private int getPosition(int entity)
+	{
+		//If the entity's index is outside of the sparse array, the entity never received a component.
+		int index = EntityManager.getIndex(entity);
+		if(entity < 0 || index >= sparse.length)
+			return NONE;
+
+		//Returns the position of the component only if it belongs to this exact handle.
+		int position = sparse[index];
+		return (position != NONE && entities[position] == entity) ? position : NONE;
+	}
+
+	/** Returns the amount of components in the pool. */
+	public int size()
+	{
+		return size;
+	}
+
+	/** Returns the handle of the entity owning the component at the given position, between 0 and size()-1. */
+	public int getEntity(int position)
+	{
+		return entities[position];
+	}
+
+	/** Returns the component at the given position, between 0 and size()-1. */
+	public T getComponent(int position)
+	{
+		return componentAt(position);
+	}
+
+	/** Returns the component at the given position of the dense array, cast to the type of the pool. The cast is safe, since add() only stores Ts. */
+	@SuppressWarnings("unchecked")
+	private T componentAt(int position)
+	{
+		return (T)components[position];
+	}
+
+	/** Returns the class of the components held in the pool. */
+	public Class<T> getComponentClass()
+	{
+		return componentClass;
+	}
+
+	/** Removes every component from the pool. */
+	public void clear()
+	{
+		//Marks every entity as having no component, and releases the components.
+		for(int i = 0; i < size; i++)
+		{
+			sparse[EntityManager.getIndex(entities[i])] = NONE;
+			components[i] = null;
+		}
+
+		size = 0;
+	}
+
+	/** Grows the sparse array so that it can hold at least the given amount of entity indices. */
+	private void ensureSparseCapacity(int capacity)
+	{
+		//If the sparse array is big enough, it doesn't need to grow.
+		if(capacity <= sparse.length)
+			return;
+
+		//Doubles the array, or more if needed, and marks the new indices as having no component.
+		int oldLength = sparse.length;
+		sparse = copyOf(sparse, Math.max(capacity, oldLength * 2));
+		fill(sparse, oldLength, sparse.length);
+	}
+
+	/** Returns a copy of the given array, with the given length. */
+	private static int[] copyOf(int[] array, int length)
+	{
+		int[] copy = new int[length];
+		System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+		return copy;
+	}
+
+	/** Marks the given range of the sparse array as having no components. */
+	private static void fill(int[] array, int start, int end)
+	{
+		for(int i = start; i < end; i++)
+			array[i] = NONE;
+	}
+}
@@ -1,105 +1,200 @@
 package com.jonathan.survivor.components;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
 
-import com.badlogic.gdx.Gdx;
+/*
+ * Creates entities and stores their components. An entity is an int handle made of an index and a generation. The index of a destroyed entity is re-used by a
+ * later entity with a higher generation, so that the handles of destroyed entities are never mistaken for live ones. Each type of component is stored in its
+ * own ComponentPool, which maps entity indices to components through primitive arrays.
+ */
 
-public class EntityManager 
+public class EntityManager
 {
-	private int nextUnusedEntity = 0;
-	
-	private HashMap<Class, HashMap<Integer, ? extends Component>> componentMap;
-	private HashMap<Integer, String> entityNames;
-	
-	private List<Integer> entities;
-	
-	public EntityManager()
+	/** Stores the amount of bits of a handle holding the entity's index. The remaining bits hold its generation. */
+	private static final int INDEX_BITS = 20;
+	/** Stores the mask extracting the index of an entity from its handle. */
+	private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+	/** Stores the mask applied to generations. Keeps the sign bit clear, so that every valid handle is positive. */
+	private static final int GENERATION_MASK = (1 << (31 - INDEX_BITS)) - 1;
+
+	/** Stores the handle which never refers to an entity. */
+	public static final int NULL_ENTITY = -1;
+
+	/** Holds the current generation of each entity index. Incremented every time the entity using the index is destroyed. */
+	private int[] generations = new int[64];
+	/** Holds whether or not each entity index is used by a live entity. */
+	private boolean[] alive = new boolean[64];
+	/** Stores the amount of entity indices ever used. Indices below this value are either alive or in the free list. */
+	private int indexCount;
+	/** Holds the indices of destroyed entities, which are re-used before new indices are created. */
+	private IntArray freeIndices = new IntArray();
+	/** Stores the amount of live entities. */
+	private int entityCount;
+
+	/** Maps each component class to the pool storing its components. */
+	private ObjectMap<Class<?>, ComponentPool<?>> pools = new ObjectMap<Class<?>, ComponentPool<?>>();
+	/** Holds every pool, so that destroying an entity doesn't iterate the map. */
+	private Array<ComponentPool<?>> poolList = new Array<ComponentPool<?>>();
+
+	/** Maps the index of named entities to their names. Only used to debug. */
+	private IntMap<String> entityNames = new IntMap<String>();
+
+	/** Creates a new entity with no components, and returns its handle. */
+	public int createEntity()
 	{
-		componentMap = new HashMap<Class, HashMap<Integer, ? extends Component>>();
-		entityNames = new HashMap<Integer, String>();
-		
-		entities = new ArrayList<Integer>();
+		//Re-uses the index of a destroyed entity if there is one. Else, uses a new index.
+		int index;
+		if(freeIndices.size > 0)
+			index = freeIndices.pop();
+		else
+		{
+			//If the index can't be stored in a handle, no more entities can be created.
+			if(indexCount > INDEX_MASK)
+				throw new IllegalStateException("EntityManager ERROR! No more than " + (INDEX_MASK + 1) + " entities can be alive at once.");
+
+			index = indexCount++;
+			ensureCapacity(indexCount);
+		}
+
+		//Marks the index as used, and returns the handle made of the index and its current generation.
+		alive[index] = true;
+		entityCount++;
+		return (generations[index] << INDEX_BITS) | index;
 	}
-	
-	public <T extends Component> T getComponent(int entity, Class<T> componentClass)
+
+	/** Creates a new entity with no components and the given name, used to debug. Returns the entity's handle. */
+	public int createEntity(String name)
+	{
+		int entity = createEntity();
+		entityNames.put(getIndex(entity), name);
+		return entity;
+	}
+
+	/** Destroys the given entity, and removes all of its components. Does nothing if the entity was already destroyed. */
+	public void destroyEntity(int entity)
 	{
-		HashMap<Integer, ? extends Component> componentEntityMap = componentMap.get(componentClass);
+		//If the handle doesn't refer to a live entity, there is nothing to destroy.
+		if(!isAlive(entity))
+			return;
 
-		if(componentEntityMap == null)
-		{
-			System.out.println("EntityManager ERROR! No HashMap is registered to component " + componentClass);
-			return null;
-		}
-		
-		T entityComponent = (T) componentEntityMap.get(entity);
-		
-		if(entityComponent == null)
-			System.out.println("EntityManager ERROR! Component " + componentClass + " doesn't exist for entity " + entity + ". Entity Name: " + entityNames.get(entity));
-		
-		return entityComponent;
+		//Removes the entity's components from every pool.
+		for(int i = 0; i < poolList.size; i++)
+			poolList.get(i).remove(entity);
+
+		//Increments the index's generation so that the destroyed handle becomes stale, and lets a later entity re-use the index.
+		int index = getIndex(entity);
+		generations[index] = (generations[index] + 1) & GENERATION_MASK;
+		alive[index] = false;
+		freeIndices.add(index);
+		entityNames.remove(index);
+		entityCount--;
+	}
+
+	/** Returns true if the given handle refers to a live entity. Returns false for the handles of destroyed entities. */
+	public boolean isAlive(int entity)
+	{
+		int index = getIndex(entity);
+		return entity >= 0 && index < indexCount && alive[index] && generations[index] == getGeneration(entity);
+	}
+
+	/** Returns the amount of live entities. */
+	public int getEntityCount()
+	{
+		return entityCount;
+	}
+
+	/** Returns the name given to the entity when it was created, or null if it has none. */
+	public String getEntityName(int entity)
+	{
+		return isAlive(entity) ? entityNames.get(getIndex(entity)) : null;
 	}
-	
+
+	/** Gives the component to the given entity. Replaces the entity's previous component of the same class, if any. */
 	public <T extends Component> void addComponent(int entity, T component)
 	{
-		HashMap<Integer, ? extends Component> componentEntityMap = componentMap.get(component.getClass());
-		
-		if(componentEntityMap == null)
-		{
-			componentEntityMap = new HashMap<Integer, T>();
-			componentMap.put(component.getClass(), componentEntityMap);
-		}
-		
-		((HashMap<Integer, T>)componentEntityMap).put(entity, component);
-		
+		//If the entity isn't alive, it can't receive components.
+		if(!isAlive(entity))
+			throw new IllegalArgumentException("EntityManager ERROR! Component " + component.getClass() + " added to the destroyed entity " + entity + ".");
+
+		//Adds the component to the pool of its class. The class of a T is always a Class<T>, but getClass() can't express it.
+		@SuppressWarnings("unchecked")
+		Class<T> componentClass = (Class<T>)component.getClass();
+		getPool(componentClass).add(entity, component);
 	}
-	
-	public <T extends Component> Collection<T> getAllComponents(Class<T> componentClass)
+
+	/** Removes the given entity's component of the given class, and returns it. Returns null if the entity has no such component. */
+	public <T extends Component> T removeComponent(int entity, Class<T> componentClass)
 	{
-		HashMap<Integer, ? extends Component> componentEntityMap = componentMap.get(componentClass);
-		
-		if(componentEntityMap == null)
-			return new ArrayList<T>();
-		
-		return (Collection<T>)componentEntityMap.values();
+		return getPool(componentClass).remove(entity);
 	}
-	
-	public int createEntity()
+
+	/** Returns the given entity's component of the given class, or null if the entity has no such component. */
+	public <T extends Component> T getComponent(int entity, Class<T> componentClass)
 	{
-		int entity = nextUnusedEntity++;
-		
-		if(entity > Integer.MAX_VALUE)
-			System.out.println("EntityManager ERROR! Creation of entity has surpassed max integer value. Handle this error inside EntityManager.createEntity() if it ever comes up.");
-		
-		entities.add(entity);
-		
-		return entity;
+		return getPool(componentClass).get(entity);
 	}
-	
-	public int createEntity(String name)
+
+	/** Returns true if the given entity has a component of the given class. */
+	public boolean hasComponent(int entity, Class<? extends Component> componentClass)
 	{
-		int entity = nextUnusedEntity++;
-		entityNames.put(entity, name);
-		
-		if(entity > Integer.MAX_VALUE)
-			Gdx.app.error("Integer Overflow", "Creation of entity has surpassed max integer value. Handle this error inside EntityManager.createEntity() if it ever comes up.");
-		
-		entities.add(entity);
-		
-		return entity;
+		return getPool(componentClass).has(entity);
 	}
-	
-	public void destroyEntity(int entity)
+
+	/** Returns the pool storing every component of the given class. Creates the pool if it doesn't exist. Systems should retrieve their pools once, and iterate
+	 *  them directly. */
+	public <T extends Component> ComponentPool<T> getPool(Class<T> componentClass)
 	{
-		
-		for(HashMap<Integer, ? extends Component> componentEntityMap : componentMap.values())
+		//Retrieves the pool of the class, creating and registering it if no component of the class was ever stored. The pool mapped to a Class<T> always holds Ts.
+		@SuppressWarnings("unchecked")
+		ComponentPool<T> pool = (ComponentPool<T>)pools.get(componentClass);
+		if(pool == null)
 		{
-			componentEntityMap.remove(entity);
+			pool = new ComponentPool<T>(componentClass);
+			pools.put(componentClass, pool);
+			poolList.add(pool);
 		}
-		
-		entityNames.remove(entity);
-		entities.remove(entity);
+
+		return pool;
+	}
+
+	/** Returns a view iterating the entities having both a component of class A and a component of class B. Views should be created once and re-used, since
+	 *  iterating a view allocates nothing. */
+	public <A extends Component, B extends Component> EntityView<A, B> view(Class<A> classA, Class<B> classB)
+	{
+		return new EntityView<A, B>(getPool(classA), getPool(classB));
+	}
+
+	/** Grows the arrays indexed by entity index so that they can hold the given amount of indices. */
+	private void ensureCapacity(int capacity)
+	{
+		//If the arrays are big enough, they don't need to grow.
+		if(capacity <= generations.length)
+			return;
+
+		//Doubles the size of the arrays.
+		int newLength = Math.max(capacity, generations.length * 2);
+
+		int[] newGenerations = new int[newLength];
+		System.arraycopy(generations, 0, newGenerations, 0, generations.length);
+		generations = newGenerations;
+
+		boolean[] newAlive = new boolean[newLength];
+		System.arraycopy(alive, 0, newAlive, 0, alive.length);
+		alive = newAlive;
+	}
+
+	/** Returns the index of the given entity handle. Indices are dense, and are used to index the arrays of the ComponentPools. */
+	public static int getIndex(int entity)
+	{
+		return entity & INDEX_MASK;
+	}
+
+	/** Returns the generation of the given entity handle. */
+	public static int getGeneration(int entity)
+	{
+		return (entity >>> INDEX_BITS) & GENERATION_MASK;
 	}
 }
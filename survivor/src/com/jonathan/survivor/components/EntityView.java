@@ -0,0 +1,108 @@
+package com.jonathan.survivor.components;
+
+/*
+ * Iterates the entities having both a component of type A and a component of type B, without allocating. The smaller of the two pools is iterated, and its
+ * entities are looked up in the other pool. Iteration goes from the end of the pools, so the current entity may be destroyed, or lose its components, while
+ * iterating. Usage:
+ *
+ * view.reset();
+ * while(view.next())
+ * {
+ *     Position position = view.getA();
+ *     ...
+ * }
+ */
+
+public class EntityView<A extends Component, B extends Component>
+{
+	/** Stores the pools holding the components of type A and B. */
+	private ComponentPool<A> poolA;
+	private ComponentPool<B> poolB;
+
+	/** Stores the position of the current entity in the pool being iterated. */
+	private int position;
+	/** Stores true if pool A is iterated, and false if pool B is iterated. */
+	private boolean iterateA;
+
+	/** Stores the entity reached by the last call to next(), along with its components. */
+	private int entity = EntityManager.NULL_ENTITY;
+	private A componentA;
+	private B componentB;
+
+	/** Creates a view over the entities having a component in both of the given pools. */
+	public EntityView(ComponentPool<A> poolA, ComponentPool<B> poolB)
+	{
+		this.poolA = poolA;
+		this.poolB = poolB;
+		reset();
+	}
+
+	/** Restarts the iteration. Must be called before iterating the view with next(). */
+	public void reset()
+	{
+		//Iterates the smaller pool, since every entity of the view is in both pools.
+		iterateA = poolA.size() <= poolB.size();
+		position = iterateA ? poolA.size() : poolB.size();
+
+		entity = EntityManager.NULL_ENTITY;
+		componentA = null;
+		componentB = null;
+	}
+
+	/** Moves on to the next entity having both components. Returns false once every entity has been visited. */
+	public boolean next()
+	{
+		//Cycles backwards through the iterated pool.
+		while(--position >= 0)
+		{
+			//If a component was removed during iteration, the position may be past the end of the pool.
+			if(iterateA ? position >= poolA.size() : position >= poolB.size())
+				continue;
+
+			//Retrieves the entity at the current position, along with its component in the other pool.
+			if(iterateA)
+			{
+				entity = poolA.getEntity(position);
+				componentB = poolB.get(entity);
+				if(componentB == null)
+					continue;
+				componentA = poolA.getComponent(position);
+			}
+			else
+			{
+				entity = poolB.getEntity(position);
+				componentA = poolA.get(entity);
+				if(componentA == null)
+					continue;
+				componentB = poolB.getComponent(position);
+			}
+
+			//The entity has both components.
+			return true;
+		}
+
+		//Every entity has been visited.
+		entity = EntityManager.NULL_ENTITY;
+		componentA = null;
+		componentB = null;
+		return false;
+	}
+
+	/** Returns the handle of the current entity. */
+	public int getEntity()
+	{
+		return entity;
+	}
+
+	/** Returns the current entity's component of type A. */
+	public A getA()
+	{
+		return componentA;
+	}
+
+	/** Returns the current entity's component of type B. */
+	public B getB()
+	{
+		return componentB;
+	}
+}
@@ -0,0 +1,74 @@
+package com.jonathan.survivor.components;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/*
+ * Updates a list of ComponentSystems every tick, in order of priority. Systems with a lower priority are updated first, and systems with the same priority are
+ * updated in the order they were added. A system can be disabled to skip its updates without removing it.
+ */
+
+public class SystemScheduler
+{
+	/** Holds the systems, sorted by priority. */
+	private Array<ComponentSystem> systems = new Array<ComponentSystem>();
+	/** Holds the priority of each system, in the same order as the systems. */
+	private IntArray priorities = new IntArray();
+	/** Holds the systems which are currently disabled. */
+	private Array<ComponentSystem> disabledSystems = new Array<ComponentSystem>();
+
+	/** Adds a system updated after every system of a lower or equal priority. */
+	public void addSystem(ComponentSystem system, int priority)
+	{
+		//Finds the position after every system with a lower or equal priority.
+		int position = 0;
+		while(position < priorities.size && priorities.get(position) <= priority)
+			position++;
+
+		//Inserts the system at the position, keeping the systems sorted.
+		systems.insert(position, system);
+		priorities.insert(position, priority);
+	}
+
+	/** Removes the given system. Returns false if it wasn't scheduled. */
+	public boolean removeSystem(ComponentSystem system)
+	{
+		//Finds the system, compared by identity.
+		int position = systems.indexOf(system, true);
+		if(position == -1)
+			return false;
+
+		//Removes the system, along with its priority.
+		systems.removeIndex(position);
+		priorities.removeIndex(position);
+		disabledSystems.removeValue(system, true);
+		return true;
+	}
+
+	/** Sets whether or not the given system is updated. */
+	public void setEnabled(ComponentSystem system, boolean enabled)
+	{
+		//Removes the system from the disabled systems, and adds it back if it is disabled.
+		disabledSystems.removeValue(system, true);
+		if(!enabled)
+			disabledSystems.add(system);
+	}
+
+	/** Updates every enabled system, in order of priority. */
+	public void update(float deltaTime)
+	{
+		for(int i = 0; i < systems.size; i++)
+		{
+			//Stores the system, and updates it if it is enabled.
+			ComponentSystem system = systems.get(i);
+			if(disabledSystems.size == 0 || !disabledSystems.contains(system, true))
+				system.update(deltaTime);
+		}
+	}
+
+	/** Returns the amount of scheduled systems. */
+	public int getSystemCount()
+	{
+		return systems.size;
+	}
+}
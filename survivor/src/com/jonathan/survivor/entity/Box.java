@@ -1,12 +1,12 @@
 package com.jonathan.survivor.entity;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.utils.Pool.Poolable;
 import com.esotericsoftware.spine.Skeleton;
 import com.jonathan.survivor.Assets;
 import com.jonathan.survivor.Survivor;
 import com.jonathan.survivor.inventory.Charcoal;
+import com.jonathan.survivor.inventory.DropTable;
+import com.jonathan.survivor.inventory.DropTable.Entry;
 import com.jonathan.survivor.inventory.Saltpeter;
 import com.jonathan.survivor.inventory.Sulfur;
 import com.jonathan.survivor.inventory.Water;
@@ -18,6 +18,10 @@ public class Box extends InteractiveObject implements Poolable
 	public static final float COLLIDER_WIDTH = 72.9f * Survivor.WORLD_SCALE, 
 							  COLLIDER_HEIGHT = 42.45f * Survivor.WORLD_SCALE;
 	
+	/** Stores the items which can drop when a box is destroyed, along with the probability of each one dropping. */
+	public static final DropTable DROP_TABLE = new DropTable(new Entry(Water.class, 0.6f), new Entry(Wood.class, 0.3f), new Entry(Charcoal.class, 0.5f),
+															 new Entry(Saltpeter.class, 0.2f), new Entry(Sulfur.class, 0.4f));
+	
 	/** Creates a box whose bottom-center is at position (0, 0). */
 	public Box()
 	{
@@ -29,9 +33,6 @@ public class Box extends InteractiveObject implements Poolable
 	{
 		super(x, y, COLLIDER_WIDTH, COLLIDER_HEIGHT);
 		
-		//Sets up the item probability HashMap, which dictates the probability of items falling from this object when scavenged.
-		setupItemProbabilityMap();
-		
 		//Creates the skeleton used by the box to render itself. The boxSkeletonData is used to load the bone information for the skeleton.
 		setSkeleton(new Skeleton(Assets.instance.boxSkeletonData));
 		
@@ -49,22 +50,11 @@ public class Box extends InteractiveObject implements Poolable
 		updateCollider();
 	}
 	
-	/** Called on box creation in order to populate the HashMap which dictates the probability of certain items dropping when the box is destroyed. */
-	private void setupItemProbabilityMap()
+	/** Returns the items dropped when the box is destroyed. */
+	@Override
+	public DropTable getDropTable()
 	{
-		//Creates the item probability map where the key dictates which item can drop once the box is destroyed, and the float is a number from 0 to 1
-		//dicatating the probability of that item being dropped. Note that 1 means that the item will be dropped every time a box is destroyed.
-		HashMap<Class, Float> probabilityMap = new HashMap<Class, Float>();
-		
-		//Adds the items which will be dropped from the box once it is destroyed.
-		probabilityMap.put(Water.class, 0.6f);
-		probabilityMap.put(Wood.class, 0.3f);
-		probabilityMap.put(Charcoal.class, 0.5f);
-		probabilityMap.put(Saltpeter.class, 0.2f);
-		probabilityMap.put(Sulfur.class, 0.4f);
-		
-		//Sets the itemProbabilityMap of the box to the probability map created in this method. Tells the box which items will be dropped once it destroyed.
-		setItemProbabilityMap(probabilityMap);
+		return DROP_TABLE;
 	}
 	
 	/** Called when the box has been opened by the player. Tells the box to enter its SCAVENGED state. */
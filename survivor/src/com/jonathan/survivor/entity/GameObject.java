@@ -12,6 +12,10 @@ import com.jonathan.survivor.math.Vector2;
 
 public abstract class GameObject 
 {
+	/** Stores the maximum distance the GameObject can travel in one tick and still be interpolated when drawn. Longer moves are teleports, such as the
+	 *  player being placed inside a new level, and are drawn at the GameObject's current position. */
+	public static final float MAX_INTERPOLATION_DISTANCE = 5;
+	
 	/** Stores the bottom-bottom-center position of the GameObject */
 	private final Vector2 position;
 	/** Holds the GameObject's previous position before the current game tick. */
@@ -144,6 +148,30 @@ public abstract class GameObject
 		return previousPosition;
 	}
 	
+	/** Returns the x-position where the GameObject is drawn, given the fraction of a tick elapsed since the last world update. An alpha of zero returns the
+	 *  GameObject's previous x-position, and an alpha of one returns its current x-position. */
+	public float getInterpolatedX(float alpha)
+	{
+		//If the GameObject moved further than an interpolation allows, it was teleported. Draw it at its current x-position.
+		if(Math.abs(position.x - previousPosition.x) > MAX_INTERPOLATION_DISTANCE)
+			return position.x;
+		
+		//Returns the x-position linearly interpolated between the GameObject's previous and current x-position.
+		return previousPosition.x + (position.x - previousPosition.x) * alpha;
+	}
+	
+	/** Returns the y-position where the GameObject is drawn, given the fraction of a tick elapsed since the last world update. An alpha of zero returns the
+	 *  GameObject's previous y-position, and an alpha of one returns its current y-position. */
+	public float getInterpolatedY(float alpha)
+	{
+		//If the GameObject moved further than an interpolation allows, it was teleported. Draw it at its current y-position.
+		if(Math.abs(position.y - previousPosition.y) > MAX_INTERPOLATION_DISTANCE)
+			return position.y;
+		
+		//Returns the y-position linearly interpolated between the GameObject's previous and current y-position.
+		return previousPosition.y + (position.y - previousPosition.y) * alpha;
+	}
+	
 	/** Retrieves the velocity of the gameObject as a Vector2. Operations can be performed on the Vector2 using its 
 	 *  instance methods, as it is mutable. */
 	public Vector2 getVelocity() {
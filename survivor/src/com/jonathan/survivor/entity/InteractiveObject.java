@@ -1,8 +1,7 @@
 package com.jonathan.survivor.entity;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.utils.Pool.Poolable;
+import com.jonathan.survivor.inventory.DropTable;
 
 
 /*
@@ -18,10 +17,6 @@ public abstract class InteractiveObject extends GameObject implements Clickable,
 	/** Stores the current state of the interactive object for logic and rendering purposes. */
 	private InteractiveState interactiveState;
 	
-	/** Holds the HashMap of possible items that can be dropped from scavenging the Interactive GameObject. Key is the type 
-	 *  of item, and Float is the probability of it being dropped from 0 (least probable) to 1 (most probable). */
-	private HashMap<Class, Float> itemProbabilityMap;
-	
 	/** Creates the Interactive GameObject with the given bottom-center position and the given collider width and height. */
 	public InteractiveObject(float x, float y, float width, float height)
 	{
@@ -67,18 +62,6 @@ public abstract class InteractiveObject extends GameObject implements Clickable,
 		stateTime = 0;
 	}
 	
-	/** Returns the HashMap which holds which items will be dropped when this InteractiveObject is scavenged. The key is the type of the Item 
-	 *  dropped and the float is the probability of it dropping from [0,1]. */
-	public HashMap<Class, Float> getItemProbabilityMap() {
-		return itemProbabilityMap;
-	}
-
-	/** Sets the HashMap which holds which items will be dropped when this InteractiveObject is scavenged. The key is the type of the Item dropped
-	 *  and the float is the probability of it dropping from [0,1]. */
-	public void setItemProbabilityMap(HashMap<Class, Float> itemProbabilityMap) {
-		this.itemProbabilityMap = itemProbabilityMap;
-	}
-	
 	/** Called whenever this GameObject has been pushed back into a pool. In this case, we reset the box's state back to default. */
 	@Override
 	public void reset()
@@ -93,5 +76,8 @@ public abstract class InteractiveObject extends GameObject implements Clickable,
 	
 	/** Called when the Interactive GameObject has been scavenged and can no longer be targetted. */
 	public abstract void scavenged();
+	
+	/** Returns the table of items which can be dropped when this InteractiveObject is scavenged. The table is shared by every object of the same type. */
+	public abstract DropTable getDropTable();
 
 }
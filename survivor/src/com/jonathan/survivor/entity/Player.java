@@ -1,5 +1,6 @@
 package com.jonathan.survivor.entity;
 
+import com.esotericsoftware.spine.AnimationState;
 import com.esotericsoftware.spine.Skeleton;
 import com.jonathan.survivor.Assets;
 import com.jonathan.survivor.entity.Human.State;
@@ -55,6 +56,9 @@ public class Player extends Human
 	/** Stores the PlayerListener instance where methods are delegated upon player events. */
 	private PlayerListener playerListener;
 	
+	/** Controls the player's animations. Allows for crossfading between animations. Created and advanced by the World's AnimationManager. */
+	private AnimationState animationState;
+	
 	/** Creates a player whose bottom-center is at position (0, 0). */
 	public Player()
 	{
@@ -311,8 +315,8 @@ public class Player extends Human
 	/** Returns true if the player has bullets in his inventory. */
 	public boolean hasBullets() 
 	{
-		//If the value for the Bullet key inside the inventory is not null, the player has bullets in his inventory.
-		return inventory.getItemMap().get(Bullet.class) != null;
+		//If the quantity of bullets inside the inventory is positive, the player has bullets in his inventory.
+		return inventory.getQuantity(Bullet.class) > 0;
 	}
 	
 	/** Returns a float between 0 and 1 representing the charge completion of the player's ranged weapon. 1 means that the weapon is done charging completely. */
@@ -506,4 +510,14 @@ public class Player extends Human
 	{
 		playerListener = listener;
 	}
+	
+	/** Retrieves the Spine AnimationState instance used to change the player's animations and control them. */
+	public AnimationState getAnimationState() {
+		return animationState;
+	}
+
+	/** Sets the Spine AnimationState instance used to modify the player's animations and control them. */
+	public void setAnimationState(AnimationState animationState) {
+		this.animationState = animationState;
+	}
 }
@@ -1,10 +1,10 @@
 package com.jonathan.survivor.entity;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.utils.Pool.Poolable;
 import com.esotericsoftware.spine.Skeleton;
 import com.jonathan.survivor.Assets;
+import com.jonathan.survivor.inventory.DropTable;
+import com.jonathan.survivor.inventory.DropTable.Entry;
 import com.jonathan.survivor.inventory.Wood;
 
 public class Tree extends InteractiveObject
@@ -12,6 +12,9 @@ public class Tree extends InteractiveObject
 	/** Stores the width and height of a tree's rectangle collider in world units. */
 	public static final float COLLIDER_WIDTH = 2.313f, COLLIDER_HEIGHT = 4.063f;
 	
+	/** Stores the items dropped when a tree is chopped down. A tree always drops wood. */
+	public static final DropTable DROP_TABLE = new DropTable(new Entry(Wood.class, 1f));
+	
 	/** Stores the default health of the tree. */
 	public static final float DEFAULT_HEALTH = 150;
 	
@@ -29,8 +32,6 @@ public class Tree extends InteractiveObject
 	{
 		super(x, y, COLLIDER_WIDTH, COLLIDER_HEIGHT);
 		
-		setupItemProbabilityMap();
-		
 		//Creates the skeleton used by the tree to render itself. The TreeSkeletonData is used to load the bone information for the skeleton.
 		setSkeleton(new Skeleton(Assets.instance.treeSkeletonData));
 		
@@ -59,18 +60,11 @@ public class Tree extends InteractiveObject
 		setHealth(DEFAULT_HEALTH);
 	}
 	
-	/** Called on tree creation in order to populate the HashMap which dictates the probability of certain items dropping when the tree is destroyed. */
-	private void setupItemProbabilityMap()
+	/** Returns the items dropped when the tree is chopped down. */
+	@Override
+	public DropTable getDropTable()
 	{
-		//Creates the item probability map where the key dictates which item can drop once the tree is destroyed, and the float is a number from 0 to 1
-		//dicatating the probability of that item being dropped. Note that 1 means that the item will be dropped every time a tree is destroyed.
-		HashMap<Class, Float> probabilityMap = new HashMap<Class, Float>();
-		
-		//Adds the items which will be dropped from the tree once it is destroyed.
-		probabilityMap.put(Wood.class, 1f);
-		
-		//Sets the itemProbabilityMap of the tree to the probability map created in this method. Tells the tree which items will be dropped once it destroyed.
-		setItemProbabilityMap(probabilityMap);
+		return DROP_TABLE;
 	}
 
 	/** Deals damage to the tree by removing the given amount from its health. */
@@ -1,7 +1,5 @@
 package com.jonathan.survivor.entity;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.utils.Pool.Poolable;
 import com.esotericsoftware.spine.AnimationState;
 import com.esotericsoftware.spine.AnimationState.AnimationStateListener;
@@ -9,6 +7,8 @@ import com.esotericsoftware.spine.Bone;
 import com.esotericsoftware.spine.Event;
 import com.esotericsoftware.spine.Skeleton;
 import com.jonathan.survivor.Assets;
+import com.jonathan.survivor.inventory.DropTable;
+import com.jonathan.survivor.inventory.DropTable.Entry;
 import com.jonathan.survivor.inventory.Iron;
 import com.jonathan.survivor.inventory.Water;
 import com.jonathan.survivor.math.Rectangle;
@@ -38,6 +38,9 @@ public class Zombie extends Human implements Clickable
 	/** Holds the default amount of damage the CHARGE attack deals to the player. */
 	public static final float DEFAULT_CHARGE_DAMAGE = 50;
 	
+	/** Stores the items dropped when a zombie is killed. A zombie always drops iron. */
+	public static final DropTable DROP_TABLE = new DropTable(new Entry(Iron.class, 1f));
+	
 	/** Stores the multiplier of the zombie's walk animation when he is alerted and is following the player. */
 	public static final float ALERTED_ANIM_SPEED = ALERTED_WALK_SPEED / NORMAL_WALK_SPEED;
 	
@@ -67,13 +70,14 @@ public class Zombie extends Human implements Clickable
 	private Bone rightHandBone;
 	private Bone leftHandBone;
 	
-	/** Holds the HashMap of possible items that can be dropped from scavenging the Interactive GameObject. Key is the type 
-	 *  of item, and Float is the probability of it being dropped from 0 (least probable) to 1 (most probable). */
-	private HashMap<Class, Float> itemProbabilityMap;
-	
 	/** Controls the zombie's animations. Allows for crossfading between animations. */
 	private AnimationState animationState;
 	
+	/** Stores the time elapsed since the zombie was last updated, in seconds, when the ZombieScheduler skipped its updates. Given to its next update. */
+	private float skippedTime;
+	/** Stores the tick offset given to the zombie by the ZombieScheduler, which decides on which ticks a throttled zombie is updated. -1 until assigned. */
+	private int updatePhase = -1;
+	
 	/** Creates a zombie whose bottom-center is at position (0, 0). */
 	public Zombie()
 	{
@@ -108,23 +112,6 @@ public class Zombie extends Human implements Clickable
 		
 		//Give the zombie default health when instantiated.
 		setHealth(DEFAULT_HEALTH);
-		
-		//Sets up the probability map which dictates which items the zombie will drop.
-		setupItemProbabilityMap();
-	}
-	
-	/** Called on zombie creation in order to populate the HashMap which dictates the probability of certain items dropping when the zombie is killed. */
-	private void setupItemProbabilityMap()
-	{
-		//Creates the item probability map where the key dictates which item can drop once the zombie is destroyed, and the float is a number from 0 to 1
-		//dicatating the probability of that item being dropped. Note that 1 means that the item will be dropped every time a zombie is destroyed.
-		HashMap<Class, Float> probabilityMap = new HashMap<Class, Float>();
-		
-		//Adds the items which will be dropped from the zombie once it is killed.
-		probabilityMap.put(Iron.class, 1f);
-		
-		//Sets the itemProbabilityMap of the tree to the probability map created in this method. Tells the tree which items will be dropped once it destroyed.
-		setItemProbabilityMap(probabilityMap);
 	}
 	
 	/** Updates the various colliders mapped to the zombie. */
@@ -361,16 +348,29 @@ public class Zombie extends Human implements Clickable
 		this.leftHandBone = leftHandBone;
 	}
 	
-	/** Returns the HashMap which holds which items will be dropped when this InteractiveObject is scavenged. The key is the type of the Item 
-	 *  dropped and the float is the probability of it dropping from [0,1]. */
-	public HashMap<Class, Float> getItemProbabilityMap() {
-		return itemProbabilityMap;
+	/** Returns the time elapsed since the zombie was last updated, in seconds, when the ZombieScheduler skipped its updates. */
+	public float getSkippedTime() {
+		return skippedTime;
 	}
-
-	/** Sets the HashMap which holds which items will be dropped when this InteractiveObject is scavenged. The key is the type of the Item dropped
-	 *  and the float is the probability of it dropping from [0,1]. */
-	public void setItemProbabilityMap(HashMap<Class, Float> itemProbabilityMap) {
-		this.itemProbabilityMap = itemProbabilityMap;
+	
+	/** Sets the time elapsed since the zombie was last updated, in seconds. Given to the zombie's next update by the ZombieScheduler. */
+	public void setSkippedTime(float skippedTime) {
+		this.skippedTime = skippedTime;
+	}
+	
+	/** Returns the tick offset given to the zombie by the ZombieScheduler, or -1 if the zombie wasn't scheduled since it was spawned. */
+	public int getUpdatePhase() {
+		return updatePhase;
+	}
+	
+	/** Sets the tick offset of the zombie. Assigned once by the ZombieScheduler, so that the zombie keeps its update slot while other zombies come and go. */
+	public void setUpdatePhase(int updatePhase) {
+		this.updatePhase = updatePhase;
+	}
+	
+	/** Returns the table of items dropped when the zombie is killed. The table is shared by every zombie. */
+	public DropTable getDropTable() {
+		return DROP_TABLE;
 	}
 	
 	/** Called when the Zombie instance is put back into a pool. All his data fields must be reset to default. */
@@ -380,6 +380,8 @@ public class Zombie extends Human implements Clickable
 		//Resets the zombie's data fields to default
 		alerted = false;
 		targetted = false;
+		skippedTime = 0;
+		updatePhase = -1;
 		setHealth(DEFAULT_HEALTH);
 	}
 
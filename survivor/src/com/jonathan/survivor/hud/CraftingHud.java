@@ -11,8 +11,11 @@ import com.badlogic.gdx.utils.Array;
 import com.jonathan.survivor.World;
 import com.jonathan.survivor.inventory.Axe;
 import com.jonathan.survivor.inventory.Inventory;
+import com.jonathan.survivor.inventory.ItemRegistry;
 import com.jonathan.survivor.inventory.Rifle;
 import com.jonathan.survivor.inventory.Teleporter;
+import com.jonathan.survivor.managers.CraftabilityTracker;
+import com.jonathan.survivor.managers.CraftabilityTracker.Craftability;
 import com.jonathan.survivor.managers.CraftingManager;
 import com.jonathan.survivor.managers.CraftingManager.Item;
 import com.jonathan.survivor.managers.ItemManager;
@@ -42,6 +45,10 @@ public class CraftingHud extends Hud
 	public static final float BACK_BUTTON_X_OFFSET = 10;
 	public static final float BACK_BUTTON_Y_OFFSET = 5;
 	
+	/** Stores the offset used to anchor the craftable items label to the bottom-left of the backpack background. */
+	public static final float CRAFTABLE_LABEL_X_OFFSET = 20;
+	public static final float CRAFTABLE_LABEL_Y_OFFSET = 10;
+	
 	/** Holds the CraftingManager singleton which dictates whether or not an item combination forms a certain item. */
 	private CraftingManager craftingManager = CraftingManager.instance;
 	
@@ -51,6 +58,9 @@ public class CraftingHud extends Hud
 	/** Stores the item crafted from the items currently inside the crafting table. */
 	private Item craftedItem;
 	
+	/** Tracks which recipes can be crafted with the items in the player's inventory. Only re-evaluates the recipes whose items changed. */
+	private CraftabilityTracker craftabilityTracker;
+	
 	/** Stores the player's inventory in order to populate the items in the inventory list. */
 	private Inventory inventory;
 	
@@ -63,6 +73,11 @@ public class CraftingHud extends Hud
 	/** Stores the header displaying "Crafting" on top of the Hud. */
 	private Label craftingHeader;
 	
+	/** Stores the label listing the items which can be crafted with the items in the inventory, either now or by first crafting their ingredients. */
+	private Label craftableLabel;
+	/** Helper StringBuilder used to write the text of the craftable items label. Re-used to avoid allocations. */
+	private StringBuilder craftableText = new StringBuilder();
+	
 	/** Stores the list containing all the items in the player's inventory. */
 	private InventoryList inventoryList;
 	
@@ -92,6 +107,9 @@ public class CraftingHud extends Hud
 		//Stores the itemManager instance used to access Item instances in order to draw the items in the inventory.
 		this.itemManager = itemManager;
 		
+		//Creates the tracker which listens to the inventory and tells which recipes can be crafted with its items.
+		craftabilityTracker = new CraftabilityTracker(inventory);
+		
 		//Creates the backpack's background using the TextureRegion stored inside the Assets singleton.
 		backpackBg = new Image(assets.backpackBgRegion);
 		//Resizes the background according to the scaleFactor of the assets. Makes it so that the image takes the same screen space no matter screen size.
@@ -100,6 +118,9 @@ public class CraftingHud extends Hud
 		//Creates a new header for the crafting HUD using the pre-defined header's label style.
 		craftingHeader = new Label("Crafting", assets.hudHeaderStyle);
 		
+		//Creates the label listing the items which can be crafted. Its text is written whenever the crafting table is empty.
+		craftableLabel = new Label("", assets.smallLabelStyle);
+		
 		//Creates a ButtonListener instance which will receive all of the button's touch events.
 		ButtonListener buttonListener = new ButtonListener();
 		
@@ -191,13 +212,11 @@ public class CraftingHud extends Hud
 		if(itemClass == null)
 			return;
 		
-		//Adds the given quantity of items into the inventoryList. If a button corresponding to that item already exists, the number next to the item will simply be updated.
-		inventoryList.addItem(itemClass, quantity);
-		
 		//Removes 'quantity' amount of items from the crafting table. Note that this removes items from button which contains the given item by updating the number displayed.
 		craftingTable.addItem(itemClass, -quantity);
 		
-		//Add the given quantity of the item into the inventory. Note that each item is referred to by its class.
+		//Add the given quantity of the item into the inventory. Note that each item is referred to by its class. The inventoryList listens to the inventory, 
+		//and updates the number next to the item.
 		inventory.addItem(itemClass, quantity);
 		
 		//Subtracts the given item from the array of items in the crafting table. Allows the class to determine if the items in the crafting table can form another item.
@@ -214,13 +233,10 @@ public class CraftingHud extends Hud
 		if(craftingTable.isFull() && !craftingTable.containsItem(itemClass))
 			return;
 		
-		//Removes the given quantity of items from the inventoryList. The number next to the item will simply be updated.
-		inventoryList.addItem(itemClass, -quantity);
-		
 		//Adds 'quantity' amount of items to the crafting table. Note that this updates the number next to the given item. If the item isn't already in the crafting table, it is added.
 		craftingTable.addItem(itemClass, quantity);
 		
-		//Subtract the given quantity of the item from the inventory. The item will be transfered to the crafting table.
+		//Subtract the given quantity of the item from the inventory. The item will be transfered to the crafting table. The inventoryList is updated by the inventory.
 		inventory.addItem(itemClass, -quantity);
 		
 		//Adds the given item to the array of items in the crafting table. Allows class to determine if items can form another item.
@@ -265,10 +281,7 @@ public class CraftingHud extends Hud
 			//Tell the GameScreen to make the player play his TELEPORT animation.
 			hudListener.activateTeleporter();
 		
-		//Adds the craftedItem into the inventoryList. If a button corresponding to that item already exists, the number next to the item will simply be updated.
-		inventoryList.addItem(craftedItem.getItem(), craftedItem.getQuantity());
-
-		//Add the given quantity of the crafted item into the inventory. Note: must be called after 'inventoryList.addItem()'
+		//Add the given quantity of the crafted item into the inventory. The inventoryList listens to the inventory, and displays the crafted item.
 		inventory.addItem(craftedItem.getItem(), craftedItem.getQuantity());
 		
 		//Empties the crafting table of its current items. False argument specifies that the items in the crafting table will not be put back into the player's inventory.
@@ -276,6 +289,50 @@ public class CraftingHud extends Hud
 		
 		//Empty the craftedItem instance variable, since the item was just crafted, and thus is no longer in the crafting table.
 		craftedItem = null;
+		
+		//Lists the items which can be crafted now that the ingredients were consumed and the crafted item was added to the inventory.
+		updateCraftableLabel();
+	}
+	
+	/** Lists the items which can be crafted with the items in the inventory. Only called while the crafting table is empty, since the items inside the table are
+	 *  removed from the inventory. */
+	private void updateCraftableLabel()
+	{
+		craftableText.setLength(0);
+		
+		//Lists the items whose recipes can be crafted right away, followed by the ones whose missing ingredients can be crafted first.
+		appendCraftableItems("Can craft: ", Craftability.NOW);
+		appendCraftableItems("Can craft after crafting their ingredients: ", Craftability.VIA_STEPS);
+		
+		//If no item can be crafted, tell the player.
+		if(craftableText.length() == 0)
+			craftableText.append("Nothing can be crafted yet");
+		
+		//Displays the list, and resizes the label so that it stays anchored by its bottom-left corner.
+		craftableLabel.setText(craftableText);
+		craftableLabel.pack();
+	}
+	
+	/** Appends a line to the craftable items text, listing the items whose recipes have the given craftability. Nothing is appended if no recipe does. */
+	private void appendCraftableItems(String title, Craftability craftability)
+	{
+		//Stores the length of the text before the line, so that the title is only written before the first item.
+		int lineStart = craftableText.length();
+		
+		//Cycles through the recipes. The tracker only re-evaluates the recipes whose items changed since they were last queried.
+		for(int i = 0; i < craftingManager.getRecipeCount(); i++)
+		{
+			if(craftabilityTracker.getCraftability(i) != craftability)
+				continue;
+			
+			//Starts the line with its title, preceded by a line break if a line was already written. Else, separates the item from the previous one.
+			if(craftableText.length() == lineStart)
+				craftableText.append(lineStart > 0 ? "\n" : "").append(title);
+			else
+				craftableText.append(", ");
+			
+			craftableText.append(ItemRegistry.getName(craftingManager.getRecipe(i).getResultId()));
+		}
 	}
 	
 	/** Updates the item shown in the cell below the item grid. Computes if any items can be crafted using the items in the crafting table. If so, the 
@@ -333,6 +390,8 @@ public class CraftingHud extends Hud
 		
 		//Updates the inventory list to ensure that all the items in the inventory are also in the list, with the right quantity.
 		inventoryList.updateList();
+		//Lists the items which can be crafted with the items in the inventory. The crafting table is empty whenever the Hud is shown.
+		updateCraftableLabel();
 		//Creates and populates the crafting table, along with the widgets inside it.
 		//craftingTable.generateTable();
 		
@@ -354,6 +413,8 @@ public class CraftingHud extends Hud
 		craftButton.setPosition(backpackBg.getX() + backpackBg.getWidth() - craftButton.getWidth() - CRAFT_BUTTON_X_OFFSET, backpackBg.getY() + CRAFT_BUTTON_Y_OFFSET);
 		//Anchors the back button to the bottom-right of the backpack background, using the given offsets. Note that button positions are the bottom-left of the buttons.
 		backButton.setPosition(backpackBg.getX() + backpackBg.getWidth() - backButton.getWidth() - BACK_BUTTON_X_OFFSET, backpackBg.getY() + BACK_BUTTON_Y_OFFSET);
+		//Anchors the craftable items label to the bottom-left of the backpack background.
+		craftableLabel.setPosition(backpackBg.getX() + CRAFTABLE_LABEL_X_OFFSET, backpackBg.getY() + CRAFTABLE_LABEL_Y_OFFSET);
 		
 		//Adds the backpack background to the center of the stage.
 		stage.addActor(backpackBg);
@@ -363,6 +424,8 @@ public class CraftingHud extends Hud
 		stage.addActor(craftButton);
 		//Adds the back button to the stage.
 		stage.addActor(backButton);
+		//Adds the label listing the craftable items to the stage.
+		stage.addActor(craftableLabel);
 		
 		//Adds the inventoryList's button table to the stage, effectively adding the item list to the HUD.
 		stage.addActor(inventoryTable);
@@ -391,4 +454,11 @@ public class CraftingHud extends Hud
 		hudListener.onBack();
 	}
 
+	
+	/** Called when the crafting HUD is no longer used. Stops the inventory list and the craftability tracker from listening to the player's inventory. */
+	public void dispose()
+	{
+		inventoryList.dispose();
+		craftabilityTracker.dispose();
+	}
 }
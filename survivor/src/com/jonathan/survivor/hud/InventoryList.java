@@ -15,9 +15,11 @@ import com.badlogic.gdx.scenes.scene2d.utils.SpriteDrawable;
 import com.badlogic.gdx.utils.StringBuilder;
 import com.jonathan.survivor.Assets;
 import com.jonathan.survivor.inventory.Inventory;
+import com.jonathan.survivor.inventory.InventoryListener;
+import com.jonathan.survivor.inventory.ItemRegistry;
 import com.jonathan.survivor.managers.ItemManager;
 
-public class InventoryList 
+public class InventoryList implements InventoryListener
 {
 	/** Stores the width of the list in pixels for the target (480x320) resolution. */
 	public static final float LIST_WIDTH = 210;
@@ -67,6 +69,9 @@ public class InventoryList
 	/** Maps an Item subclass with a button displaying this item. */
 	private HashMap<Class, ImageTextButton> buttonMap;
 	
+	/** Stores, for each item id, whether its quantity changed while the list was off the stage. Such changes are applied the next time updateList() is called. */
+	private boolean[] dirtyItems;
+	
 	/** Accepts the itemManager from which to retrieve the items' sprites, the inventory from which to retrieve the player's items,
 	 * the ClickListener to which button clicks will be delegated, and the height of the list.
 	 */
@@ -78,16 +83,25 @@ public class InventoryList
 		this.buttonListener = buttonListener;
 		this.listHeight = height;
 		
+		//Creates the array which flags the items whose quantity changed while the list was hidden.
+		dirtyItems = new boolean[ItemRegistry.getItemCount()];
+		
 		//Populates the table with all the item buttons corresponding to the items in the player's inventory.
 		generateList();
+		
+		//Listens to the inventory, so that the list is updated whenever the quantity of an item changes.
+		inventory.addListener(this);
+	}
+	
+	/** Called when the list is no longer used. Stops listening to the inventory, which outlives the list. */
+	public void dispose()
+	{
+		inventory.removeListener(this);
 	}
 	
 	/** Populates the list with buttons corresponding to all the items in the player's inventory.  */
 	public void generateList()
 	{
-		//Stores the itemMap, which pairs each Item subclass with the quantity of that item in the player's inventory.
-		HashMap<Class, Integer> itemMap = inventory.getItemMap();
-		
 		//Creates the button table which holds all of the item buttons, and that will be later placed into the ScrollPane.
 		Table buttonTable = new Table();
 		
@@ -95,13 +109,15 @@ public class InventoryList
 		buttonMap = new HashMap<Class, ImageTextButton>();
 		
 		//Cycles through each item stored inside the player's inventory.
-		for(Class key : inventory.getItemMap().keySet())
+		for(int itemId = 0; itemId < ItemRegistry.getItemCount(); itemId++)
 		{
-			//Creates a button for the given item subclass, passing in the quantity of that item (the value of the key) as a second argument.
-			createItemButton(key, itemMap.get(key));
+			//If the player doesn't have this item, it has no button in the list.
+			if(inventory.getQuantity(itemId) <= 0)
+				continue;
 			
-			//Adds the created button into the button table to be displayed in the list.
-			buttonTable.add(buttonMap.get(key)).width(LIST_WIDTH).padLeft(3);
+			//Creates a button for the given item subclass, passing in the quantity of that item as a second argument. Adds the created button into the button 
+			//table to be displayed in the list.
+			buttonTable.add(createItemButton(ItemRegistry.getItemClass(itemId), inventory.getQuantity(itemId))).width(LIST_WIDTH).padLeft(3);
 			
 			//Skips a row for the next item button.
 			buttonTable.row();
@@ -126,69 +142,55 @@ public class InventoryList
 		scrollPaneTable.add(scrollPane).width(LIST_WIDTH).height(listHeight);
 	}
 	
-	/** Called when the contents of the inventory list must be updated. Updates the buttons inside the list, along with their quantities. */
+	/** Called when the contents of the inventory list must be updated. Updates the buttons of the items whose quantity changed while the list was hidden. */
 	public void updateList()
 	{
-		//Stores the HashMap linking each item in the inventory with the amount the player has.
-		HashMap<Class, Integer> inventoryMap = inventory.getItemMap();
-		
-		//Cycles through each item which has a button inside the list.
-		for(Class key : buttonMap.keySet())
+		//Cycles through each item whose quantity changed while the list was off the stage.
+		for(int itemId = 0; itemId < dirtyItems.length; itemId++)
 		{
-			//If the player still has this item inside his inventory, update the quantity displayed in the list.
-			if(inventoryMap.containsKey(key))
-			{				
-				//Updates the button for the given item to display the correct quantity.
-				updateItemButton(key, inventoryMap.get(key));
-			}
-			//Else, if the button represents an item that is no longer in the inventory, remove the button from the table.
-			else
+			if(dirtyItems[itemId])
 			{
-				//Removes the item from the inventory list
-				removeItemButton(key);
-			}
-		}
-		
-		//Cycles through all of the item classes inside the inventory. Creates buttons for the items if they aren't already in the inventory list.
-		for(Class key : inventoryMap.keySet())
-		{
-			//If the HashMap of buttons doesn't have a button for the item, create the button.
-			if(!buttonMap.containsKey(key))
-			{
-				System.out.println("InventoryList.updateList(): Add the button to the list for item: " + key);
-				
-				//Create a button for the item using createItemButton(itemClass, quantity):Button. Passes created button into 'addToList()' to be added in the inventory list.
-				addToList(createItemButton(key, inventory.getQuantity(key)));
-				
-				
+				//Updates the button of the item to display its current quantity, and flags the item as up-to-date.
+				applyChange(ItemRegistry.getItemClass(itemId), inventory.getQuantity(itemId));
+				dirtyItems[itemId] = false;
 			}
 		}
 	}
+	
+	/** Called when the quantity of an item changes inside the inventory. If the list is displayed, its button is updated right away. Otherwise, the item
+	 *  is flagged, and updated the next time the list is shown. This keeps item pickups in the world from creating buttons and strings. */
+	@Override
+	public void quantityChanged(int itemId, int oldQuantity, int newQuantity)
+	{
+		//If the list is on the stage, update the item's button immediately. Else, wait for the next call to updateList().
+		if(scrollPaneTable.getStage() != null)
+			applyChange(ItemRegistry.getItemClass(itemId), newQuantity);
+		else
+			dirtyItems[itemId] = true;
+	}
 
-	/** Adds the given amount of items to the inventory. If a button already exists for the item, the number shown is updated. If the quantity is negative
-	 *  and makes the amount in the inventory zero, the button is deleted. */
-	public void addItem(Class itemClass, int quantity)
+	/** Updates the list to display the given quantity of the item. If the quantity is zero, the item's button is deleted. If the item has no button, one is 
+	 *  created. */
+	private void applyChange(Class itemClass, int quantity)
 	{
-		//Adds the given quantity to the amount already in the inventory.
-		int newQuantity = quantity + inventory.getQuantity(itemClass);
-		
 		//If the item has been removed from the inventory
-		if(newQuantity <= 0)
+		if(quantity <= 0)
 		{
-			//Delete the button corresponding to the item, and remove it from the inventory list.
-			removeItemButton(itemClass);
+			//Delete the button corresponding to the item, and remove it from the inventory list, if the item was displayed.
+			if(buttonMap.containsKey(itemClass))
+				removeItemButton(itemClass);
 		}
-		//If the item was empty in the inventory before calling this method, create a new button to display the item in the inventory list.
-		else if(inventory.getQuantity(itemClass) == 0)
+		//If the item was empty in the inventory before, create a new button to display the item in the inventory list.
+		else if(!buttonMap.containsKey(itemClass))
 		{
 			//Create a new itemButton corresponding to the itemClass. Second argument is the quantity displayed on the button. The created button is then added to the list.
-			addToList(createItemButton(itemClass, newQuantity));
+			addToList(createItemButton(itemClass, quantity));
 		}
 		//Else, if the item already exists in the inventory, update the quantity displayed next to the item
 		else
 		{
 			//Update the corresponding itemButton to display the given quantity of items inside the inventory.
-			updateItemButton(itemClass, newQuantity);
+			updateItemButton(itemClass, quantity);
 		}
 	}
 
@@ -0,0 +1,63 @@
+package com.jonathan.survivor.inventory;
+
+import java.util.Random;
+
+/*
+ * Lists the items which can drop when a type of GameObject is scavenged or killed, along with the probability of each item dropping. Each entry is rolled
+ * independently, so that several items can drop at once. Tables are immutable, and each type of GameObject holds a single table shared by all its instances.
+ * Each entry pairs an item class with its probability, so that the classes are typed without creating a generic array.
+ */
+
+public class DropTable
+{
+	/** Stores the items which can drop, in the order they are rolled. */
+	private final Entry[] entries;
+
+	/** Creates a table holding the given entries, rolled in the given order. The entries are copied, so that the table cannot be modified afterwards. */
+	public DropTable(Entry... entries)
+	{
+		this.entries = new Entry[entries.length];
+		System.arraycopy(entries, 0, this.entries, 0, entries.length);
+	}
+
+	/** Returns true if the entry at the given index drops, using the given random number generator. */
+	public boolean drops(int entry, Random random)
+	{
+		//The entry drops if a random number in [0,1) is less than its probability. A probability of 1 always drops.
+		return random.nextFloat() < entries[entry].probability;
+	}
+
+	/** Returns the amount of entries in the table. */
+	public int getEntryCount()
+	{
+		return entries.length;
+	}
+
+	/** Returns the class of the item dropped by the entry at the given index. */
+	public Class<? extends Item> getItemClass(int entry)
+	{
+		return entries[entry].itemClass;
+	}
+
+	/** Returns the probability of the entry at the given index dropping, from 0 to 1. */
+	public float getProbability(int entry)
+	{
+		return entries[entry].probability;
+	}
+
+	/** Pairs an item which can drop with the probability of it dropping. Entries are immutable. */
+	public static class Entry
+	{
+		/** Stores the class of the item which can drop. */
+		private final Class<? extends Item> itemClass;
+		/** Stores the probability of the item dropping, from 0 (never) to 1 (always). */
+		private final float probability;
+
+		/** Creates an entry where the item of the given class drops with the given probability. */
+		public Entry(Class<? extends Item> itemClass, float probability)
+		{
+			this.itemClass = itemClass;
+			this.probability = probability;
+		}
+	}
+}
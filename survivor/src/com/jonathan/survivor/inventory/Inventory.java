@@ -1,72 +1,114 @@
 package com.jonathan.survivor.inventory;
 
-import java.util.HashMap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /*
- * Holds all of the items belonging to the player.
+ * Holds all of the items belonging to the player. The quantity of each item is stored in an int array indexed by the item's id in the ItemRegistry, so that
+ * adding and reading items never allocates. Listeners are notified of every change in quantity.
  */
 
-public class Inventory 
+public class Inventory
 {
-	/** Holds a map between an Item class and the amount of items of that class inside the inventory. */
-	private HashMap<Class, Integer> itemMap; 
-	
+	/** Holds the quantity of each item inside the inventory, indexed by item id. */
+	private int[] quantities;
+
+	/** Holds the listeners notified whenever the quantity of an item changes. */
+	private Array<InventoryListener> listeners;
+
 	/** Creates an empty inventory. */
 	public Inventory()
 	{
-		//Populates the item map with a HashMap.
-		itemMap = new HashMap<Class, Integer>();
+		//Creates one quantity per registered item. Every item starts with a quantity of zero.
+		quantities = new int[ItemRegistry.getItemCount()];
+
+		//Creates the array holding the inventory's listeners.
+		listeners = new Array<InventoryListener>();
+	}
+
+	/** Adds the Item of the given class inside the Inventory in the given quantity. A negative quantity removes items. */
+	public void addItem(Class itemClass, int quantity)
+	{
+		//Adds the quantity to the item with the class's id.
+		addItem(getId(itemClass), quantity);
+	}
+
+	/** Adds the item with the given id inside the Inventory in the given quantity. A negative quantity removes items. */
+	public void addItem(int itemId, int quantity)
+	{
+		//Adds the given quantity to the current amount of the item in the inventory.
+		setQuantity(itemId, quantities[itemId] + quantity);
 	}
-	
-	/** Adds the Item of the given class inside the Inventory in the given quantity. */
-	public <T extends Item> void addItem(Class<T> itemClass, int quantity)
-	{	
-		//If the entry for the item class is null
-		if(itemMap.get(itemClass) == null)
-			//Insert a new integer value for the item class key.
-			itemMap.put(itemClass, 0);
-		
-		//Add the current amount of items in the inventory to the provided quantity.
-		quantity += itemMap.get(itemClass);
-		
-		System.out.println("Inventory.addItem(): There are " + quantity + " " + itemClass + " inside the player's inventory.");
-		
-		//Insert the new quantity into the itemMap.
-		itemMap.put(itemClass, quantity);
-		
-		//If the item has just been removed from the inventory
-		if(quantity == 0)
-			//Remove the reference to the item inside the inventory, so that the item is essentially gone from the inventory.
-			itemMap.remove(itemClass);
+
+	/** Sets the quantity of the item with the given id inside the inventory. Notifies the listeners if the quantity changes. */
+	public void setQuantity(int itemId, int quantity)
+	{
+		//If the quantity doesn't change, there is nothing to do.
+		int oldQuantity = quantities[itemId];
+		if(oldQuantity == quantity)
+			return;
+
+		//Stores the new quantity, and notifies the listeners of the change.
+		quantities[itemId] = quantity;
+		for(int i = 0; i < listeners.size; i++)
+			listeners.get(i).quantityChanged(itemId, oldQuantity, quantity);
 	}
-	
-	/** Returns the quantity of items of the given class inside the inventory. */
+
+	/** Returns the quantity of items of the given class inside the inventory. Returns zero for classes which are not registered items. */
 	public int getQuantity(Class itemClass)
 	{
-		//If the entry for the item class is null
-		if(itemMap.get(itemClass) == null)
-			//Insert a new integer value for the item class key.
-			itemMap.put(itemClass, 0);
-		
-		//Returns the value stored inside the itemClass key, which corresponds to the quantity of items for the given class inside the player's inventory.
-		return itemMap.get(itemClass);
+		//Retrieves the item's id, and returns its quantity.
+		int itemId = ItemRegistry.getId(itemClass);
+		return (itemId == -1) ? 0 : quantities[itemId];
+	}
+
+	/** Returns the quantity of the item with the given id inside the inventory. */
+	public int getQuantity(int itemId)
+	{
+		return quantities[itemId];
+	}
+
+	/** Returns the amount of different items inside the inventory. */
+	public int getStackCount()
+	{
+		//Counts the items whose quantity isn't zero.
+		int stackCount = 0;
+		for(int i = 0; i < quantities.length; i++)
+			if(quantities[i] != 0)
+				stackCount++;
+
+		return stackCount;
+	}
+
+	/** Clears all of the items stored in the inventory. Notifies the listeners of each item removed. */
+	public void clear()
+	{
+		//Sets the quantity of every item to zero.
+		for(int i = 0; i < quantities.length; i++)
+			setQuantity(i, 0);
 	}
 
-	/** Clears all of the items stored in the inventory. */
-	public void clear() 
+	/** Adds a listener notified whenever the quantity of an item changes. */
+	public void addListener(InventoryListener listener)
 	{
-		//Removes every value inside the itemMap. Essentially clears the inventory.			
-		itemMap.clear();
+		listeners.add(listener);
 	}
-	
-	/** Returns the ItemMap which maps the Item classes to the amount of the item stored inside the inventory. */
-	public HashMap<Class, Integer> getItemMap() {
-		return itemMap;
+
+	/** Removes a listener added with addListener(). */
+	public void removeListener(InventoryListener listener)
+	{
+		listeners.removeValue(listener, true);
 	}
 
-	/** Sets the ItemMap which maps the Item classes to the amount of the item stored inside the inventory. */
-	public void setItemMap(HashMap<Class, Integer> itemMap) {
-		this.itemMap = itemMap;
+	/** Returns the item id of the given class. Throws an exception if the class is not a registered item, since it couldn't be saved. */
+	private int getId(Class itemClass)
+	{
+		//Retrieves the id of the item, failing if it isn't registered.
+		int itemId = ItemRegistry.getId(itemClass);
+		if(itemId == -1)
+			throw new GdxRuntimeException("The item " + itemClass + " is not registered in the ItemRegistry.");
+
+		return itemId;
 	}
-	
+
 }
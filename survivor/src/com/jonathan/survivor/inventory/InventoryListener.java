@@ -0,0 +1,13 @@
+package com.jonathan.survivor.inventory;
+
+/*
+ * Listener which is notified whenever the quantity of an item inside an Inventory changes. Lets the HUDs update the items which changed, instead of
+ * re-reading the whole inventory.
+ */
+
+public interface InventoryListener
+{
+	/** Called when the quantity of the item with the given id changes from 'oldQuantity' to 'newQuantity'. The item's class is retrieved with
+	 *  ItemRegistry.getItemClass(itemId). */
+	public void quantityChanged(int itemId, int oldQuantity, int newQuantity);
+}
@@ -0,0 +1,70 @@
+package com.jonathan.survivor.inventory;
+
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/*
+ * Assigns each Item subclass a dense int id, along with the name under which it is saved. The ids index the arrays of the Inventory, so that item quantities
+ * are stored without boxing. Ids are the position of each class in ITEM_CLASSES, and are only valid while the game runs: save files refer to items by name.
+ */
+
+public class ItemRegistry
+{
+	/** Stores the name under which each item class is saved. The names must never change once released, since older save files refer to them. */
+	private static final String[] ITEM_NAMES = { "Wood", "Iron", "Water", "Charcoal", "Saltpeter", "Sulfur", "Gunpowder", "Bullet", "Teleporter", "Axe", "Rifle" };
+	/** Stores the item classes, in the same order as their names. The index of a class is its item id. */
+	private static final Class<?>[] ITEM_CLASSES = { Wood.class, Iron.class, Water.class, Charcoal.class, Saltpeter.class, Sulfur.class, Gunpowder.class,
+												  Bullet.class, Teleporter.class, Axe.class, Rifle.class };
+
+	/** Maps each item class and each saved name to its item id. Avoids looking up classes by reflection, which is unavailable on GWT. */
+	private static final ObjectIntMap<Class<?>> idsByClass = new ObjectIntMap<Class<?>>();
+	private static final ObjectIntMap<String> idsByName = new ObjectIntMap<String>();
+
+	static
+	{
+		//Registers every item class and name under its item id.
+		for(int id = 0; id < ITEM_CLASSES.length; id++)
+		{
+			idsByClass.put(ITEM_CLASSES[id], id);
+			idsByName.put(ITEM_NAMES[id], id);
+		}
+	}
+
+	/** Returns the amount of registered items. Item ids range from 0 to getItemCount()-1. */
+	public static int getItemCount()
+	{
+		return ITEM_CLASSES.length;
+	}
+
+	/** Returns the item id of the given class, or -1 if the class is not a registered item. */
+	public static int getId(Class<?> itemClass)
+	{
+		return idsByClass.get(itemClass, -1);
+	}
+
+	/** Returns the item id saved under the given name, or -1 if no item has this name. Also accepts the fully-qualified class names written inside legacy
+	 *  JSON profiles. */
+	public static int getId(String name)
+	{
+		//If the name is fully-qualified, only keep the name of the class, without its package.
+		return idsByName.get(name.substring(name.lastIndexOf('.') + 1), -1);
+	}
+
+	/** Returns the class of the item with the given id. */
+	public static Class<?> getItemClass(int id)
+	{
+		return ITEM_CLASSES[id];
+	}
+
+	/** Returns the item class saved under the given name, or null if no item has this name. */
+	public static Class<?> getItemClass(String name)
+	{
+		int id = getId(name);
+		return (id == -1) ? null : ITEM_CLASSES[id];
+	}
+
+	/** Returns the name under which the item with the given id is saved. */
+	public static String getName(int id)
+	{
+		return ITEM_NAMES[id];
+	}
+}
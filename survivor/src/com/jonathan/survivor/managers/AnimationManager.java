@@ -0,0 +1,779 @@
+package com.jonathan.survivor.managers;
+
+import com.esotericsoftware.spine.AnimationState;
+import com.esotericsoftware.spine.AnimationState.AnimationStateListener;
+import com.esotericsoftware.spine.AnimationStateData;
+import com.esotericsoftware.spine.Bone;
+import com.esotericsoftware.spine.Event;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+import com.jonathan.survivor.Assets;
+import com.jonathan.survivor.SoundListener.Sound;
+import com.jonathan.survivor.World;
+import com.jonathan.survivor.entity.Human.Direction;
+import com.jonathan.survivor.entity.Human.Mode;
+import com.jonathan.survivor.entity.Human.State;
+import com.jonathan.survivor.entity.InteractiveObject;
+import com.jonathan.survivor.entity.InteractiveObject.InteractiveState;
+import com.jonathan.survivor.entity.Player;
+import com.jonathan.survivor.entity.Tree;
+import com.jonathan.survivor.entity.Zombie;
+import com.jonathan.survivor.inventory.Axe;
+import com.jonathan.survivor.inventory.MeleeWeapon;
+import com.jonathan.survivor.inventory.RangedWeapon;
+import com.jonathan.survivor.inventory.Rifle;
+import com.jonathan.survivor.math.Rectangle;
+
+/*
+ * Advances the Spine animations of the player, the zombies and the interactive objects, and dispatches their animation events to the World. Helper class which
+ * lets the World run its simulation without any renderer. The renderers simply read the resulting skeleton poses and draw them.
+ */
+
+public class AnimationManager
+{
+	/** Stores the integers assigned to each player event in Spine. Used to indicate which event was caught in the player's AnimationStateListener. */
+	private static final int PLAYER_HIT_TREE = 0;
+	private static final int PLAYER_HIT_ZOMBIE = 1;
+	private static final int PLAYER_SOUND_FOOTSTEP = 2;
+
+	/** Stores the integer assigned to the zombie's HIT_GROUND event in Spine. Fired when the zombie's SMASH animation hits the ground. */
+	private static final int ZOMBIE_HIT_GROUND = 0;
+
+	/** Stores the World whose methods are called when animation events are fired, such as when an Earthquake needs to be spawned. */
+	private World world;
+
+	/** Stores the Assets singleton which holds the skeleton data and the animations of every GameObject. */
+	private Assets assets = Assets.instance;
+
+	/** Defines the crossfading times between the player's animations. */
+	private AnimationStateData playerAnimStateData;
+	/** Defines the crossfading times between the zombies' animations. Shared by every zombie. */
+	private AnimationStateData zombieAnimStateData;
+
+	/** Holds the Player GameObject whose animations are advanced by this manager. */
+	private Player player;
+
+	/** Holds the bones on the player's skeleton in spine, which control the positions of the player's weapons. */
+	private Bone rightHandBone;
+	private Bone gunTipBone;
+
+	/** Stores the slots which display attachments on the player's skeleton. Typically holds images to be displayed on the player, such as a weapon. */
+	private Slot meleeWeaponSlot;
+	private Slot rangedWeaponSlot;
+	private Slot teleporterSlot;
+
+	/** Stores the RegionAttachment which store and display the images of the weapons and equipment on the player. */
+	private RegionAttachment axeAttachment;
+	private RegionAttachment rifleAttachment;
+	private RegionAttachment teleporterAttachment;
+
+	/** Creates an AnimationManager which animates the given player and dispatches animation events to the given world. */
+	public AnimationManager(World world, Player player)
+	{
+		//Stores the given constructor arguments in their respective member variables.
+		this.world = world;
+		this.player = player;
+
+		//Sets up the crossfading times used by the animations of the player and the zombies.
+		setupPlayerAnimationStates();
+		setupZombieAnimationStates();
+
+		//Retrieves the bones, slots and attachments of the player used to position his weapons and colliders.
+		setupPlayerAttachments();
+	}
+
+	/** Populates the AnimationStateData used by the player and creates the AnimationState which controls the player's animations. */
+	private void setupPlayerAnimationStates()
+	{
+		//Creates a new AnimationStateData instance from the player's skeleton to define the crossfading times between animations.
+		playerAnimStateData = new AnimationStateData(assets.playerSkeletonData);
+
+		//Defines the crossfading times between animations. First two arguments specify the crossfading animations. Third argument specifies crossfading time.
+		playerAnimStateData.setMix(assets.playerIdle, assets.playerIdle, 0);
+		playerAnimStateData.setMix(assets.playerWalk, assets.playerIdle, 0.1f);
+		playerAnimStateData.setMix(assets.playerIdle, assets.playerWalk, 0.1f);
+		playerAnimStateData.setMix(assets.playerWalk, assets.playerChopTree_Start, 0.2f);
+		playerAnimStateData.setMix(assets.playerChopTree, assets.playerIdle, 0.35f);
+		playerAnimStateData.setMix(assets.playerChopTree, assets.playerWalk, 0.27f);
+
+		//Defines the crossfading times for the animations of the player in COMBAT mode.
+		playerAnimStateData.setMix(assets.playerMelee, assets.playerHit, 0.3f);
+		playerAnimStateData.setMix(assets.playerMelee, assets.playerJump_Combat, 0.3f);
+		playerAnimStateData.setMix(assets.playerHit, assets.playerIdle_Combat, 0.4f);
+		playerAnimStateData.setMix(assets.playerHit, assets.playerJump_Combat, 0.5f);
+
+		//Creates a new AnimationState instance used to control the player's animations, and gives it to the player.
+		AnimationState animationState = new AnimationState(playerAnimStateData);
+		player.setAnimationState(animationState);
+
+		//Register the AnimationStateListener to the player's AnimationState. This will delegate player animation events to the listener.
+		animationState.addListener(new PlayerAnimationListener());
+
+		//Loop the blinking animation on track index one, so that it doesn't interrupt any other animations.
+		animationState.setAnimation(1, assets.playerBlink, true);
+	}
+
+	/** Populates the AnimationStateData instance shared by every zombie. */
+	private void setupZombieAnimationStates()
+	{
+		//Creates a new AnimationStateData instance from the zombie's skeleton to define the crossfading times between animations.
+		zombieAnimStateData = new AnimationStateData(assets.zombieSkeletonData);
+
+		//Defines the crossfading times between animations. First two arguments specify the animations to crossfade. Third argument specifies crossfading time.
+		zombieAnimStateData.setMix(assets.zombieWalk, assets.zombieIdle, 0.3f);
+		zombieAnimStateData.setMix(assets.zombieIdle, assets.zombieWalk, 0.1f);
+		zombieAnimStateData.setMix(assets.zombieIdle, assets.zombieAlerted, 0.1f);
+		zombieAnimStateData.setMix(assets.zombieIdle, assets.zombieCharge_Start, 0.1f);
+		zombieAnimStateData.setMix(assets.zombieIdle, assets.zombieSmash, 0.1f);
+		zombieAnimStateData.setMix(assets.zombieAlerted, assets.zombieIdle, 0.1f);
+		zombieAnimStateData.setMix(assets.zombieWalk, assets.zombieAlerted, 0.1f);
+		zombieAnimStateData.setMix(assets.zombieAlerted, assets.zombieWalk, 0.1f);
+		zombieAnimStateData.setMix(assets.zombieCharge_Start, assets.zombieCharge, 0.2f);
+	}
+
+	/** Retrieves the bones, slots and attachments on the player's skeleton which are modified every tick. */
+	private void setupPlayerAttachments()
+	{
+		//Stores the Spine skeleton instance used to animate the player.
+		Skeleton playerSkeleton = player.getSkeleton();
+
+		//Retrieves the bones mapped to the player's skeleton.
+		rightHandBone = playerSkeleton.findBone("R_Hand");
+		gunTipBone = playerSkeleton.findBone("Gun_Tip");
+
+		//Stores the slots which hold interchangeable attachments on the player. Each of them holds specific types of images, such as weapons or the teleporter.
+		meleeWeaponSlot = playerSkeleton.findSlot(MeleeWeapon.WEAPON_SLOT_NAME);
+		rangedWeaponSlot = playerSkeleton.findSlot(RangedWeapon.WEAPON_SLOT_NAME);
+		teleporterSlot = playerSkeleton.findSlot("Teleporter");
+
+		//Retrieves the attachments which display the images on the player. Each attachment is mapped to something called a slot.
+		axeAttachment = (RegionAttachment) playerSkeleton.getAttachment(MeleeWeapon.WEAPON_SLOT_NAME, Axe.WEAPON_ATTACHMENT_NAME);
+		rifleAttachment = (RegionAttachment) playerSkeleton.getAttachment(RangedWeapon.WEAPON_SLOT_NAME, Rifle.WEAPON_ATTACHMENT_NAME);
+		teleporterAttachment = (RegionAttachment) playerSkeleton.getAttachment("Teleporter", "Teleporter");
+	}
+
+	/** Listens to the events fired by the player's animations, and changes the player's state when his animations complete. */
+	private class PlayerAnimationListener implements AnimationStateListener
+	{
+		/** Called when an event set up inside the Spine Timeline fires in one of the player's animations. */
+		@Override
+		public void event(int trackIndex, Event event)
+		{
+			//If the player's CHOP_TREE animation is playing, and the HIT_TREE event was fired
+			if(event.getInt() == PLAYER_HIT_TREE)
+			{
+				//Deal damage to the tree the player is chopping.
+				player.hitTree();
+
+				//Play the HIT_TREE sound since the player just started hit a tree
+				world.playSound(Sound.PLAYER_HIT_TREE);
+			}
+			//Else, if the player's MELEE animation is playing, and the HIT_ZOMBIE event was fired
+			else if(event.getInt() == PLAYER_HIT_ZOMBIE)
+			{
+				//Deal damage to the zombie that the player is fighting. If the weapon does not hit the zombie, the method simply returns.
+				player.meleeHit(player.getZombieToFight());
+			}
+			//Else, if the player's footstep sound should play
+			else if(event.getInt() == PLAYER_SOUND_FOOTSTEP)
+			{
+				//Play the player's footstep sound.
+				world.playSound(Sound.PLAYER_FOOTSTEP);
+			}
+		}
+
+		@Override
+		public void complete(int trackIndex, int loopCount)
+		{
+			//If the track index of the completed animation is ONE, then the Blink animation just completed. Thus, this method should not perform any actions.
+			if(trackIndex == 1)
+				return;
+
+			//If the player has finished his double jumping animation
+			if(player.getState() == State.DOUBLE_JUMP)
+			{
+				//Set the player back to IDLE state so that he switches to IDLE state after double jumping.
+				player.setState(State.IDLE);
+			}
+			//Else, if the ENTER_COMBAT animation has just finished playing
+			else if(player.getState() == State.ENTER_COMBAT)
+			{
+				//Set the player back to IDLE state so that his correct animation plays.
+				player.setState(State.IDLE);
+			}
+			//Else, if the player has just finished his MELEE animation
+			else if(player.getState() == State.MELEE)
+			{
+				//Set the player back to IDLE state so that his correct animation plays.
+				player.setState(State.IDLE);
+			}
+			//Else, if the player has finished starting to charge his gun
+			else if(player.getState() == State.CHARGE_START)
+			{
+				//Change the player to CHARGE state, so that he can actually start charging his ranged weapon
+				player.setState(State.CHARGE);
+			}
+			//Else, if the player has finished firing his ranged weapon
+			else if(player.getState() == State.FIRE)
+			{
+				//Set the player back to default IDLE state.
+				player.setState(State.IDLE);
+			}
+			//Else, if the HIT animation just finished playing
+			else if(player.getState() == State.HIT)
+			{
+				//If the player wasn't hit while jumping, reset the player to IDLE state. Otherwise, the HIT animation continues playing until the player hits the ground.
+				if(player.getVelocity().y == 0)
+				{
+					//Set the player back to IDLE state
+					player.setState(State.IDLE);
+				}
+			}
+			//Else, if the player has just finished teleporting, he has won the game
+			else if(player.getState() == State.TELEPORT)
+			{
+				//Inform the World that the player has won the game.
+				world.winGame();
+			}
+		}
+
+		@Override
+		public void start(int trackIndex) {
+		}
+
+		@Override
+		public void end(int trackIndex) {
+		}
+	}
+
+	/** Listens to the events fired by a zombie's animations, and changes the zombie's state when his animations complete. */
+	private class ZombieAnimationListener implements AnimationStateListener
+	{
+		/** Stores the Zombie instance which delegates the methods in this listener. */
+		private Zombie zombie;
+
+		/** Creates a new AnimationListener for the given Zombie. This Zombie will delegate the listener's methods. */
+		public ZombieAnimationListener(Zombie zombie)
+		{
+			//Registers the Zombie which will trigger this listener's methods.
+			this.zombie = zombie;
+		}
+
+		@Override
+		public void event(int trackIndex, Event event)
+		{
+			//If the zombie has hit the ground while performing his SMASH animation, spawn an Earthquake at the zombie's position.
+			if(event.getInt() == ZOMBIE_HIT_GROUND)
+			{
+				//Make the zombie spawn an earthquake at his feet.
+				world.spawnEarthquake(zombie);
+			}
+		}
+
+		@Override
+		public void complete(int trackIndex, int loopCount)
+		{
+			//If the zombie just completed his ALERTED animation
+			if(zombie.getState() == State.ALERTED)
+			{
+				//Set the zombie to IDLE state so that the ZombieManager knows to make him follow the player.
+				zombie.setState(State.IDLE);
+
+				//Remove the image of the yellow exclamation point on top of the zombie's head, since his ALERTED state is over, and he thus no longer requires it.
+				zombie.getSkeleton().setAttachment("Alarm", null);
+			}
+			//Else, if the ENTER_COMBAT animation has just finished playing
+			else if(zombie.getState() == State.ENTER_COMBAT)
+			{
+				//Set the zombie back to IDLE state so that his correct animation plays.
+				zombie.setState(State.IDLE);
+			}
+			//Else, if the zombie has finished playing its charge taunting animation
+			else if(zombie.getState() == State.CHARGE_START)
+			{
+				//Tell the zombie to charge at the player.
+				zombie.setState(State.CHARGE);
+			}
+			//Else, if the zombie has completed playing its SMASH animation
+			else if(zombie.getState() == State.SMASH)
+			{
+				if(Math.random() > 0.5f)
+				{
+					zombie.setPreviousState(State.IDLE);
+					zombie.setState(State.SMASH);
+				}
+				//Set the zombie back to IDLE state so that he chooses his next move.
+				zombie.setState(State.IDLE);
+			}
+			//Else, if the zombie was hit by the player, either on the body or on the head
+			else if(zombie.getState() == State.HIT || zombie.getState() == State.HIT_HEAD)
+			{
+				//If the zombie is in COMBAT mode with the player.
+				if(zombie.getMode() == Mode.COMBAT)
+				{
+					//Set the zombie to WALK state, telling him to walk back to his starting position facing the player.
+					zombie.setState(State.WALK);
+
+					//Tell the zombie to walk to the RIGHT to go back to his original position.
+					zombie.setDirection(Direction.RIGHT);
+				}
+			}
+		}
+
+		@Override
+		public void start(int trackIndex) {
+		}
+
+		@Override
+		public void end(int trackIndex) {
+		}
+	}
+
+	/** Advances the player's animations by the given amount of time and poses his skeleton. Must be called after the player has been updated. */
+	public void updatePlayer(float deltaTime)
+	{
+		//Stores the Spine skeleton and the AnimationState used to animate the player.
+		Skeleton playerSkeleton = player.getSkeleton();
+		AnimationState animationState = player.getAnimationState();
+
+		//Flip the player's skeleton if he is looking left. The skeleton looks right by default.
+		playerSkeleton.setFlipX(player.getDirection() == Direction.LEFT);
+
+		//Set the player skeleton's bottom-center position to the bottom-center position of the Player GameObject.
+		playerSkeleton.setX(player.getX());
+		playerSkeleton.setY(player.getY());
+
+		//Updates the attachments on the player, such as his attached weapons and the colliders bound to them.
+		updatePlayerAttachments();
+
+		//Change the animation if the player's state has changed. Re-setting the AnimationState to the same animation twice causes errors.
+		if(player.getState() != player.getPreviousState())
+		{
+			//Update the player's animation since his state has changed.
+			updatePlayerAnimation();
+		}
+
+		//Updates the state of the current player animation. Any animation event is dispatched to the PlayerAnimationListener.
+		animationState.update(deltaTime);
+		//Applies the current animation to the player's skeleton.
+		animationState.apply(playerSkeleton);
+
+		//Updates the skeleton's world transform so that the position of the player's bones can be used by his colliders.
+		playerSkeleton.updateWorldTransform();
+	}
+
+	/** Updates the current animation of the player depending on his state. */
+	private void updatePlayerAnimation()
+	{
+		//Stores the Spine skeleton and the AnimationState used to animate the player.
+		Skeleton playerSkeleton = player.getSkeleton();
+		AnimationState animationState = player.getAnimationState();
+
+		//Stores the previous state of the player to determine if his state changes on the next update() call.
+		player.setPreviousState(player.getState());
+
+		//If the player has just spawned
+		if(player.getState() == State.SPAWN)
+		{
+			//Set the player's skeleton back to default pose.
+			playerSkeleton.setToSetupPose();
+
+			//Sets the character to IDLE state, indicating that the simulation has received the message that the player spawned.
+			player.setState(State.IDLE);
+		}
+		//Else, if the player is in IDLE state
+		else if(player.getState() == State.IDLE)
+		{
+			//If the player is in EXPLORATION mode
+			if(player.getMode() == Mode.EXPLORING)
+			{
+				//Sets the player to his default idle animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
+				animationState.setAnimation(0, assets.playerIdle, true);
+			}
+			//Else, if the player is in COMBAT mode
+			if(player.getMode() == Mode.COMBAT)
+			{
+				//Sets the player to his combat idle animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
+				animationState.setAnimation(0, assets.playerIdle_Combat, true);
+			}
+		}
+		else if(player.getState() == State.WALK)
+		{
+			//Plays the walk animation. First argument is an arbitrary index, and third argument specifies to loop the walk animation.
+			animationState.setAnimation(0, assets.playerWalk, true);
+		}
+		//If the player is jumping
+		if(player.getState() == State.JUMP)
+		{
+			//If the player is in EXPLORATION mode
+			if(player.getMode() == Mode.EXPLORING)
+			{
+				//Plays the regular jump animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+				animationState.setAnimation(0, assets.playerJump, false);
+			}
+			//Else, if the player is in COMBAT mode
+			if(player.getMode() == Mode.COMBAT)
+			{
+				//Plays the combat jump animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+				animationState.setAnimation(0, assets.playerJump_Combat, false);
+			}
+
+			//Play the jump sound since the player just started jumping
+			world.playSound(Sound.PLAYER_JUMP);
+		}
+		//Else, if the player is double jumping
+		else if(player.getState() == State.DOUBLE_JUMP)
+		{
+			//Plays the double jump animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.playerJump_Combat, false);
+
+			//Play the jump sound.
+			world.playSound(Sound.PLAYER_JUMP);
+		}
+		//Else, if the player is falling from one layer to the next
+		else if(player.getState() == State.FALL)
+		{
+			//Plays the player's fall animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.playerFall, false);
+
+			//Play the falling sound since the player just started falling
+			world.playSound(Sound.PLAYER_FALL);
+		}
+		//Else, if the player is chopping a tree
+		else if(player.getState() == State.CHOP_TREE)
+		{
+			//Plays the crossfading part of the ChopTree animation. First argument is an arbitrary index, and third argument specifies to play the animation once.
+			animationState.setAnimation(0, assets.playerChopTree_Start, false);
+			//Queues the ChopTree animation to play right after the start animation, and loops it.
+			animationState.addAnimation(0, assets.playerChopTree, true, 0);
+		}
+		//Else, if the player has just entered combat
+		else if(player.getState() == State.ENTER_COMBAT)
+		{
+			//Plays the ENTER_COMBAT animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.playerEnterCombat, false);
+		}
+		//Else, if the player is supposed to perform a melee attack
+		else if(player.getState() == State.MELEE)
+		{
+			//Play the player's MELEE animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.playerMelee, false);
+			//Queues the IDLE animation to play right after the MELEE animation, and loops it.
+			animationState.addAnimation(0, assets.playerIdle_Combat, true, 0);
+
+			//Plays the sound of the player swinging to perform a melee attack.
+			world.playSound(Sound.PLAYER_SWING);
+		}
+		//Else, if the player is pulling out his gun before charging it.
+		else if(player.getState() == State.CHARGE_START)
+		{
+			//Play the player's CHARGE_START animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.playerCharge_Start, false);
+
+			//Play the sound of the player pulling out his weapon, since the player just started to pull out his weapon to charge his gun.
+			world.playSound(Sound.PLAYER_PULL_OUT_WEAPON);
+		}
+		//Else, if the player is charging his gun
+		else if(player.getState() == State.CHARGE)
+		{
+			//Play the player's CHARGE animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
+			animationState.setAnimation(0, assets.playerCharge, true);
+		}
+		//Else, if the player is firing his gun
+		else if(player.getState() == State.FIRE)
+		{
+			//Play the player's FIRE animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.playerFire, false);
+
+			//Play the sound of the player firing his gun.
+			world.playSound(Sound.PLAYER_FIRE);
+		}
+		//Else, if the player was hit by a zombie
+		else if(player.getState() == State.HIT)
+		{
+			//Play the player's HIT animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.playerHit, false);
+
+			//Plays the sound of the player hit, since the player was just hit if this statement is reached.
+			world.playSound(Sound.PLAYER_HIT);
+		}
+		//Else, if the player is dead
+		else if(player.getState() == State.DEAD)
+		{
+			//Play his DEAD animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.playerDead, false);
+
+			//Plays the sound of the player hit, since the player just died if this statement is reached.
+			world.playSound(Sound.PLAYER_HIT);
+		}
+		//Else, if the player has won the game and is teleporting out of the world
+		else if(player.getState() == State.TELEPORT)
+		{
+			//Play his TELEPORT animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.playerTeleport, false);
+		}
+	}
+
+	/** Updates the attachments on the player's skeleton, along with the crosshair and the collider bound to his melee weapon. */
+	private void updatePlayerAttachments()
+	{
+		//Decides which weapons are visible on the player depending on his state and what he has equipped.
+		updateWeaponAttachments();
+
+		//Display the image of the teleporter on the player only if he is playing his TELEPORT animation.
+		teleporterSlot.setAttachment(player.getState() == State.TELEPORT ? teleporterAttachment : null);
+
+		//Updates the position of the tip of the player's gun and the crosshair of the player's ranged weapon. Allows to dictate where the gun's trajectory line should be drawn.
+		updateCrosshair();
+
+		//Updates the collider bound to the player's melee weapon which tests for hit detection with a zombie.
+		updateMeleeWeaponCollider();
+	}
+
+	/** Updates the weapon being displayed on the player, depending on the weapon that the player is currently using. */
+	private void updateWeaponAttachments()
+	{
+		//Stores the player's melee and ranged weapons, if they exist.
+		MeleeWeapon meleeWeapon = player.getLoadout().getMeleeWeapon();
+		RangedWeapon rangedWeapon = player.getLoadout().getRangedWeapon();
+
+		//Set the melee weapon slot on the player's skeleton to display the image of his melee weapon, or remove it if he has no melee weapon equipped.
+		meleeWeaponSlot.setAttachment(meleeWeapon != null ? axeAttachment : null);
+
+		//If the player has a ranged weapon and the player is playing an animation which requires his gun to be shown, make his weapon visible.
+		if(rangedWeapon != null && player.hasRangedWeaponOut())
+			rangedWeaponSlot.setAttachment(rifleAttachment);
+		//Else, remove the image of the ranged weapon from its slot.
+		else
+			rangedWeaponSlot.setAttachment(null);
+	}
+
+	/** Updates the registered position of the tip of the player's ranged weapon. Allows the crosshair to be drawn at the correct position. */
+	private void updateCrosshair()
+	{
+		//If the player does not have his ranged weapon out, his crosshair will not appear. Therefore, return this method since updating the crosshair point is useless.
+		if(!player.hasRangedWeaponOut())
+			return;
+
+		//Stores the Spine skeleton used to animate the player.
+		Skeleton playerSkeleton = player.getSkeleton();
+
+		//Calculates the position of the tip of the player's ranged weapon.
+		float gunTipX = playerSkeleton.getX() + gunTipBone.getWorldX();
+		float gunTipY = playerSkeleton.getY() + gunTipBone.getWorldY();
+
+		//Sets the crosshair point of the player at the position of the "gunTipBone", which denotes the position of the crosshair in Spine.
+		player.getCrosshairPoint().set(gunTipX, gunTipY);
+
+		//Updates the crosshair line of the player's gun, which extends from the tip of the gun up to the weapon's range.
+		player.getRangedWeapon().getCrosshair().set(gunTipX, gunTipY, gunTipX + player.getRangedWeapon().getRange(), gunTipY);
+	}
+
+	/** Updates the position and scale of the collider on the player's equipped melee weapon. */
+	private void updateMeleeWeaponCollider()
+	{
+		//If the player doesn't have a melee weapon, return this method, as its collider needn't be updated.
+		if(!player.hasMeleeWeapon())
+			return;
+
+		//Stores the Spine skeleton used to animate the player.
+		Skeleton playerSkeleton = player.getSkeleton();
+
+		//Stores the position of the player's hand in world coordinates.
+		float handX = playerSkeleton.getX() + rightHandBone.getWorldX();
+		float handY = playerSkeleton.getY() + rightHandBone.getWorldY();
+
+		//Stores the player's melee weapon and the collider which checks for collisions against zombies.
+		MeleeWeapon meleeWeapon = player.getLoadout().getMeleeWeapon();
+		Rectangle weaponCollider = meleeWeapon.getCollider();
+
+		//If the player is facing the RIGHT, his weapon is to the right of him. Thus, the collider starts at his hand.
+		if(player.getDirection() == Direction.RIGHT)
+			weaponCollider.setPosition(handX, handY);
+		//Else, if the player is facing the left, the x-position starts at the left of the weapon.
+		else
+			weaponCollider.setPosition(handX - meleeWeapon.getReach(), handY);
+
+		//Sets the size of the weapon's collider. The width is the melee weapon's reach, and its height is the height of the weapon's image.
+		weaponCollider.setSize(meleeWeapon.getReach(), axeAttachment.getHeight());
+	}
+
+	/** Advances the given zombie's animations by the given amount of time and poses his skeleton. Must be called after the zombie has been updated. */
+	public void updateZombie(Zombie zombie, float deltaTime)
+	{
+		//Retrieves the Spine skeleton used to animate and display the zombie.
+		Skeleton skeleton = zombie.getSkeleton();
+
+		//If the zombie's AnimationState instance is null, create it. Pooled zombies keep their AnimationState between uses.
+		if(zombie.getAnimationState() == null)
+		{
+			//Creates and sets a new AnimationState instance used to control the zombie's animations.
+			zombie.setAnimationState(new AnimationState(zombieAnimStateData));
+
+			//Registers a listener which knows that this zombie triggers the listener's methods.
+			zombie.getAnimationState().addListener(new ZombieAnimationListener(zombie));
+		}
+
+		//Stores the AnimationState used to change and control the zombie's animations.
+		AnimationState animationState = zombie.getAnimationState();
+
+		//Flip the zombie's skeleton if he is looking left. The skeleton looks right by default.
+		skeleton.setFlipX(zombie.getDirection() == Direction.LEFT);
+
+		//Set the zombie skeleton's bottom-center position to the bottom-center position of the Zombie GameObject.
+		skeleton.setX(zombie.getX());
+		skeleton.setY(zombie.getY());
+
+		//Update the myriad extra colliders attached to the zombie.
+		zombie.updateColliders();
+
+		//Change the animation if the zombie's state has changed. Re-setting the AnimationState to the same animation twice causes errors.
+		if(zombie.getState() != zombie.getPreviousState())
+		{
+			//Update the zombie's animation since his state has changed.
+			updateZombieAnimation(zombie);
+		}
+
+		//Updates the state of the current zombie animation. Any animation event is dispatched to the zombie's ZombieAnimationListener.
+		animationState.update(deltaTime);
+		//Applies the current animation to the zombie's skeleton.
+		animationState.apply(skeleton);
+
+		//Updates the skeleton's world transform so that the position of the zombie's bones can be used by his colliders.
+		skeleton.updateWorldTransform();
+	}
+
+	/** Updates the current animation of the zombie according to his current state. Accepts the zombie to update. */
+	private void updateZombieAnimation(Zombie zombie)
+	{
+		//Stores the Spine skeleton and the AnimationState used to animate the zombie.
+		Skeleton skeleton = zombie.getSkeleton();
+		AnimationState animationState = zombie.getAnimationState();
+
+		//Stores the previous state of the zombie to determine if his state changes on the next update() call.
+		zombie.setPreviousState(zombie.getState());
+
+		//If the zombie has just spawned
+		if(zombie.getState() == State.SPAWN)
+		{
+			//Set the zombie's skeleton back to default pose.
+			skeleton.setToSetupPose();
+
+			//Sets the zombie to IDLE state, indicating that the simulation has received the message that the zombie spawned.
+			zombie.setState(State.IDLE);
+		}
+		else if(zombie.getState() == State.IDLE)
+		{
+			//Sets the zombie to his idle animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
+			animationState.setAnimation(0, assets.zombieIdle, true);
+		}
+		else if(zombie.getState() == State.WALK)
+		{
+			//Plays the walk animation. First argument is an arbitrary index, and third argument specifies to loop the walk animation.
+			animationState.setAnimation(0, assets.zombieWalk, true);
+		}
+		//Else, if the zombie has just been alerted that the player is close to him
+		else if(zombie.getState() == State.ALERTED)
+		{
+			//Plays the alerted animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.zombieAlerted, false);
+
+			//Display the image of the yellow exclamation point on top of the zombie's head, since he is in ALERTED state.
+			skeleton.setAttachment("Alarm", "AlarmSymbol");
+
+			//Play the sound of the zombie starting to charge, which is simply a sound of a zombie growling.
+			world.playSound(Sound.ZOMBIE_CHARGE_START);
+		}
+		//Else, if the zombie has just entered combat
+		else if(zombie.getState() == State.ENTER_COMBAT)
+		{
+			//Plays the ENTER_COMBAT animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.zombieEnterCombat, false);
+		}
+		//Else, if the zombie is getting ready to charge towards the player
+		else if(zombie.getState() == State.CHARGE_START)
+		{
+			//Plays the CHARGE_START animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
+			animationState.setAnimation(0, assets.zombieCharge_Start, true);
+
+			//Play the sound of the zombie starting to charge.
+			world.playSound(Sound.ZOMBIE_CHARGE_START);
+		}
+		//Else, if the zombie is charging towards the player
+		else if(zombie.getState() == State.CHARGE)
+		{
+			//Plays the CHARGE animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
+			animationState.setAnimation(0, assets.zombieCharge, true);
+
+			//Play the sound of the zombie charging, since the zombie just started charging.
+			world.playSound(Sound.ZOMBIE_CHARGE);
+		}
+		//Else, if the zombie is performing a SMASH which will cause an earthquake
+		else if(zombie.getState() == State.SMASH)
+		{
+			//Play the zombie's SMASH animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
+			animationState.setAnimation(0, assets.zombieSmash, true);
+
+			//Play the sound of the zombie starting to charge, which is simply a sound of a zombie growling.
+			world.playSound(Sound.ZOMBIE_CHARGE_START);
+		}
+		//Else, if the zombie was hit by the player, either on the body or on the head
+		else if(zombie.getState() == State.HIT || zombie.getState() == State.HIT_HEAD)
+		{
+			//Plays the HIT_HEAD animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.zombieHitHead, false);
+
+			//Play the sound of the zombie getting hit.
+			world.playSound(Sound.ZOMBIE_HIT);
+		}
+		//Else, if the zombie is dead
+		else if(zombie.getState() == State.DEAD)
+		{
+			//Plays the zombie's DEAD animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
+			animationState.setAnimation(0, assets.zombieDead, false);
+
+			//Play the sound of the zombie getting hit.
+			world.playSound(Sound.ZOMBIE_HIT);
+		}
+
+		//Updates the speed at which the zombie's animations play, depending on the zombie's current state.
+		updateZombieTimeScale(zombie);
+	}
+
+	/** Updates the Zombie's TimeScale so that its animations play faster or slower, depending on the zombie's current state. */
+	private void updateZombieTimeScale(Zombie zombie)
+	{
+		//If the zombie is exploring the world and is alerted of the player's presence, make his animations go faster, since he is walking faster.
+		if(zombie.getMode() == Mode.EXPLORING && zombie.isAlerted())
+			zombie.getAnimationState().setTimeScale(Zombie.ALERTED_ANIM_SPEED);
+		//Else, make the zombie's animations go at normal speed.
+		else
+			zombie.getAnimationState().setTimeScale(1);
+	}
+
+	/** Handles the state transitions of the given Tree or Box which depend on the timing of their animations. Their poses are applied by the renderers. */
+	public void updateInteractiveObject(InteractiveObject gameObject)
+	{
+		//If the interactive object has just spawned
+		if(gameObject.getInteractiveState() == InteractiveState.SPAWN)
+		{
+			//Reset the object's skeleton to its setup pose to undo any changes previously done to the skeleton's bones.
+			gameObject.getSkeleton().setToSetupPose();
+
+			//Sets the object's state to IDLE, indicating that the simulation has received the message that the object has spawned.
+			gameObject.setInteractiveState(InteractiveState.IDLE);
+
+			//If the object is a tree, set its state time to a random time so that the idle animation starts playing at a random place for every tree.
+			if(gameObject instanceof Tree)
+				gameObject.setStateTime((float)Math.random() * 10);
+		}
+		//Else, if the tree was hit and its HIT animation has finished playing
+		else if(gameObject instanceof Tree && gameObject.getInteractiveState() == InteractiveState.HIT
+				&& gameObject.getStateTime() > assets.treeHit.getDuration())
+		{
+			//The tree has finished playing its HIT animation, so the tree can be reset to its CLICKED state.
+			gameObject.setInteractiveState(InteractiveState.CLICKED);
+		}
+	}
+}
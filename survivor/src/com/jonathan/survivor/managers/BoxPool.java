@@ -1,11 +1,15 @@
 package com.jonathan.survivor.managers;
 
-import com.badlogic.gdx.utils.Pool;
 import com.jonathan.survivor.entity.Box;
 
-class BoxPool extends Pool
+class BoxPool extends ManagedPool<Box>
 {
-
+	/** Creates a pool which holds 'warmCount' boxes once warmed up, and keeps at most 'maxIdle' free boxes. */
+	public BoxPool(int warmCount, int maxIdle)
+	{
+		super("Box", warmCount, maxIdle);
+	}
+	
 	/** Called when no free objects are available in the pool, and a new one must be created. */
 	@Override
 	public Box newObject()
@@ -0,0 +1,209 @@
+package com.jonathan.survivor.managers;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.jonathan.survivor.inventory.Inventory;
+import com.jonathan.survivor.inventory.InventoryListener;
+import com.jonathan.survivor.inventory.ItemRegistry;
+import com.jonathan.survivor.managers.CraftingManager.Recipe;
+
+/*
+ * Tracks which recipes of the CraftingManager the player can craft with the items in his inventory. A recipe is either craftable now, craftable by first
+ * crafting some of its ingredients (such as bullets from freshly-crafted gunpowder), or not craftable. When the quantity of an item changes, only the recipes
+ * which need this item, directly or through the recipes of their ingredients, are flagged, and they are re-evaluated the next time they are queried.
+ */
+
+public class CraftabilityTracker implements InventoryListener
+{
+	/** Describes whether or not a recipe can be crafted with the items in the inventory. */
+	public enum Craftability {
+		NONE, VIA_STEPS, NOW
+	}
+
+	/** Stores the maximum amount of intermediate recipes crafted in a chain to obtain an ingredient. Prevents recipes which craft each other from looping. */
+	private static final int MAX_STEPS = 4;
+
+	/** Holds the inventory from which the player's items are read. */
+	private Inventory inventory;
+
+	/** Holds the CraftingManager singleton which holds the recipes. */
+	private CraftingManager craftingManager = CraftingManager.instance;
+
+	/** Stores the last craftability computed for each recipe, indexed like the recipes of the CraftingManager. */
+	private Craftability[] craftabilities;
+
+	/** Stores, for each recipe, whether an item it depends on changed since its craftability was last computed. */
+	private boolean[] dirtyRecipes;
+
+	/** Stores, for each item id, the indices of the recipes which need this item, directly or through the recipes of their ingredients. */
+	private IntArray[] dependentRecipes;
+
+	/** Helper array holding the items left in the inventory while a chain of recipes is simulated. Re-used to avoid allocations. */
+	private int[] remainingItems;
+
+	/** Stores, for each recipe, whether it is part of the chain of recipes being simulated. Prevents a recipe from needing itself. */
+	private boolean[] recipesInChain;
+
+	/** Stores the amount of recipes re-evaluated since the tracker was created. Lets tests verify that unrelated changes don't re-evaluate recipes. */
+	private int evaluationCount;
+
+	/** Creates a tracker for the recipes crafted from the given inventory. Listens to the inventory until dispose() is called. */
+	public CraftabilityTracker(Inventory inventory)
+	{
+		//Stores the inventory whose items are used to craft recipes.
+		this.inventory = inventory;
+
+		//Creates the arrays holding the state of each recipe. Every recipe must be evaluated the first time it is queried.
+		int recipeCount = craftingManager.getRecipeCount();
+		craftabilities = new Craftability[recipeCount];
+		dirtyRecipes = new boolean[recipeCount];
+		recipesInChain = new boolean[recipeCount];
+		for(int i = 0; i < recipeCount; i++)
+			dirtyRecipes[i] = true;
+
+		//Creates the helper array used to simulate chains of recipes.
+		remainingItems = new int[ItemRegistry.getItemCount()];
+
+		//Creates one list of dependent recipes per item.
+		dependentRecipes = new IntArray[ItemRegistry.getItemCount()];
+		for(int itemId = 0; itemId < dependentRecipes.length; itemId++)
+			dependentRecipes[itemId] = new IntArray();
+
+		//Registers each recipe as dependent on its ingredients, and on the ingredients of the recipes crafting them.
+		for(int i = 0; i < recipeCount; i++)
+			addDependencies(i, craftingManager.getRecipe(i), 0);
+
+		//Listens to the inventory, so that recipes are flagged when an item they need changes.
+		inventory.addListener(this);
+	}
+
+	/** Registers the recipe with the given index as dependent on the ingredients of the given recipe, and recursively on the recipes crafting them. */
+	private void addDependencies(int recipeIndex, Recipe recipe, int steps)
+	{
+		for(int i = 0; i < recipe.getItemCount(); i++)
+		{
+			//Registers the recipe as dependent on the ingredient, if it isn't already.
+			int itemId = recipe.getItemId(i);
+			if(!dependentRecipes[itemId].contains(recipeIndex))
+				dependentRecipes[itemId].add(recipeIndex);
+
+			//If the ingredient can be crafted, the recipe also depends on the ingredients of the ingredient's recipe.
+			int producer = craftingManager.getProducer(itemId);
+			if(producer != -1 && producer != recipeIndex && steps < MAX_STEPS)
+				addDependencies(recipeIndex, craftingManager.getRecipe(producer), steps + 1);
+		}
+	}
+
+	/** Called when the quantity of an item changes in the inventory. Flags the recipes depending on the item so that they are re-evaluated when queried. */
+	@Override
+	public void quantityChanged(int itemId, int oldQuantity, int newQuantity)
+	{
+		//Flags every recipe which depends on the item.
+		IntArray recipes = dependentRecipes[itemId];
+		for(int i = 0; i < recipes.size; i++)
+			dirtyRecipes[recipes.get(i)] = true;
+	}
+
+	/** Returns whether or not the recipe with the given index can be crafted with the items in the inventory. */
+	public Craftability getCraftability(int recipeIndex)
+	{
+		//If an item the recipe depends on changed, re-evaluate the recipe.
+		if(dirtyRecipes[recipeIndex])
+		{
+			craftabilities[recipeIndex] = evaluate(recipeIndex);
+			dirtyRecipes[recipeIndex] = false;
+			evaluationCount++;
+		}
+
+		return craftabilities[recipeIndex];
+	}
+
+	/** Returns whether or not the item of the given class can be crafted with the items in the inventory. Returns NONE if no recipe crafts the item. */
+	public Craftability getCraftability(Class<?> itemClass)
+	{
+		//Finds the recipe which crafts the item.
+		int itemId = ItemRegistry.getId(itemClass);
+		int recipeIndex = (itemId != -1)? craftingManager.getProducer(itemId) : -1;
+
+		return (recipeIndex != -1)? getCraftability(recipeIndex) : Craftability.NONE;
+	}
+
+	/** Computes whether or not the recipe with the given index can be crafted with the items in the inventory. */
+	private Craftability evaluate(int recipeIndex)
+	{
+		//Copies the quantity of each item in the inventory, which the simulated recipes consume.
+		for(int itemId = 0; itemId < remainingItems.length; itemId++)
+			remainingItems[itemId] = inventory.getQuantity(itemId);
+
+		//If the inventory holds every ingredient, the recipe can be crafted now.
+		Recipe recipe = craftingManager.getRecipe(recipeIndex);
+		if(hasIngredients(recipe))
+			return Craftability.NOW;
+
+		//Otherwise, checks if the missing ingredients can be crafted from the items in the inventory.
+		return craft(recipeIndex, 1, 0)? Craftability.VIA_STEPS : Craftability.NONE;
+	}
+
+	/** Returns true if the remaining items hold every ingredient of the given recipe. */
+	private boolean hasIngredients(Recipe recipe)
+	{
+		for(int i = 0; i < recipe.getItemCount(); i++)
+			if(remainingItems[recipe.getItemId(i)] < recipe.getQuantity(i))
+				return false;
+
+		return true;
+	}
+
+	/** Simulates crafting the recipe with the given index the given amount of times, consuming its ingredients from the remaining items. Missing ingredients
+	 *  are crafted first, if possible. Returns false if the recipe cannot be crafted. The remaining items are left partially consumed on failure. */
+	private boolean craft(int recipeIndex, int times, int steps)
+	{
+		//Marks the recipe as part of the current chain, so that its ingredients can't require it.
+		recipesInChain[recipeIndex] = true;
+		boolean crafted = true;
+
+		Recipe recipe = craftingManager.getRecipe(recipeIndex);
+		for(int i = 0; i < recipe.getItemCount() && crafted; i++)
+		{
+			//Takes as many of the ingredient as possible from the remaining items.
+			int itemId = recipe.getItemId(i);
+			int needed = recipe.getQuantity(i) * times;
+			int taken = Math.min(remainingItems[itemId], needed);
+			remainingItems[itemId] -= taken;
+
+			//If the ingredient is missing, tries to craft the missing amount with the recipe producing it.
+			int missing = needed - taken;
+			if(missing > 0)
+			{
+				//If the ingredient cannot be crafted, or the chain is too long, the recipe cannot be crafted.
+				int producer = craftingManager.getProducer(itemId);
+				if(producer == -1 || recipesInChain[producer] || steps >= MAX_STEPS)
+				{
+					crafted = false;
+					break;
+				}
+
+				//Crafts the producer enough times to obtain the missing amount, and keeps the surplus for the next recipes.
+				int resultQuantity = craftingManager.getRecipe(producer).getResultQuantity();
+				int producerTimes = (missing + resultQuantity - 1) / resultQuantity;
+				crafted = craft(producer, producerTimes, steps + 1);
+				remainingItems[itemId] += producerTimes * resultQuantity - missing;
+			}
+		}
+
+		//Removes the recipe from the current chain.
+		recipesInChain[recipeIndex] = false;
+		return crafted;
+	}
+
+	/** Returns the amount of recipes re-evaluated since the tracker was created. */
+	public int getEvaluationCount()
+	{
+		return evaluationCount;
+	}
+
+	/** Called when the tracker is no longer used. Stops listening to the inventory, which outlives the tracker. */
+	public void dispose()
+	{
+		inventory.removeListener(this);
+	}
+}
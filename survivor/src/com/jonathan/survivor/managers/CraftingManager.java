@@ -1,226 +1,295 @@
 package com.jonathan.survivor.managers;
 
+import java.util.Arrays;
+
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.jonathan.survivor.Survivor;
-import com.jonathan.survivor.inventory.Axe;
-import com.jonathan.survivor.inventory.Bullet;
-import com.jonathan.survivor.inventory.Charcoal;
-import com.jonathan.survivor.inventory.Gunpowder;
-import com.jonathan.survivor.inventory.Iron;
-import com.jonathan.survivor.inventory.Rifle;
-import com.jonathan.survivor.inventory.Saltpeter;
-import com.jonathan.survivor.inventory.Sulfur;
-import com.jonathan.survivor.inventory.Teleporter;
-import com.jonathan.survivor.inventory.Water;
-import com.jonathan.survivor.inventory.Wood;
-
-public class CraftingManager 
+import com.jonathan.survivor.inventory.ItemRegistry;
+
+/*
+ * Holds every crafting recipe of the game. Recipes are read from a JSON data file, where each recipe names its result and the quantity of each item it
+ * consumes. Each recipe is indexed by the quantity of every item it needs, so that finding the item crafted by the contents of the crafting table is a single
+ * hash lookup, whatever the amount of recipes.
+ */
+
+public class CraftingManager
 {
 	/** Holds the singleton instance to the CraftingManager. */
 	public static final CraftingManager instance = new CraftingManager();
-	
-	/** Stores an array of all possible crafting combinations. */
-	private Array<Combination> combinations;
-	
-	/** Holds all of the possible crafting combinations. */
-	public Combination axe, rifle, gunpowder, bullet, teleporter;
-	
+
+	/** Stores the path of the internal file which holds the recipes. If the file is absent, the recipes in DEFAULT_RECIPES are used. */
+	public static final String RECIPE_FILE = "data/recipes.json";
+
+	/** Stores the recipes used when no recipe file is loaded. Follows the format of the recipe file: 'items' holds the ingredients of each recipe, and
+	 *  'debugItems' optionally replaces them in debug mode, so that items can be crafted quickly while testing. */
+	static final String DEFAULT_RECIPES =
+			"[" +
+			"{ result: Axe, quantity: 1, items: { Iron: 5, Wood: 10 }, debugItems: { Sulfur: 1 } }," +
+			"{ result: Rifle, quantity: 1, items: { Iron: 10, Wood: 15 }, debugItems: { Charcoal: 1 } }," +
+			"{ result: Gunpowder, quantity: 12, items: { Saltpeter: 12, Charcoal: 8, Sulfur: 6, Water: 4 }, debugItems: { Water: 1 } }," +
+			"{ result: Bullet, quantity: 6, items: { Iron: 2, Gunpowder: 4 }, debugItems: { Gunpowder: 4 } }," +
+			"{ result: Teleporter, quantity: 1, items: { Saltpeter: 40, Wood: 50, Sulfur: 40, Iron: 30 }, debugItems: { Wood: 1 } }" +
+			"]";
+
+	/** Stores an array of all the recipes, in the order they were read. */
+	private Array<Recipe> recipes;
+
+	/** Maps the ingredients of each recipe to the recipe. Used to find the recipe formed by the items in the crafting table. */
+	private ObjectMap<ItemSet, Recipe> recipeIndex;
+
+	/** Stores, for each item id, the index of the first recipe which crafts this item, or -1 if the item cannot be crafted. */
+	private int[] producers;
+
+	/** Helper ItemSet which holds the items in the crafting table when looking up a recipe. Re-used to avoid allocations. */
+	private ItemSet lookupKey;
+
 	private CraftingManager()
 	{
-		//Creates the array which will hold all crafting combinations.
-		combinations = new Array<Combination>();
-		
-		//Creates all of the different crafting combinations in the game.
-		axe = new Combination();
-		if(!Survivor.DEBUG_MODE)
-		{
-			axe.addItem(Iron.class, 5);
-			axe.addItem(Wood.class, 10);
-		}
-		else
+		//Creates the array which will hold all crafting recipes, along with the index used to look them up.
+		recipes = new Array<Recipe>();
+		recipeIndex = new ObjectMap<ItemSet, Recipe>();
+		producers = new int[ItemRegistry.getItemCount()];
+		lookupKey = new ItemSet();
+
+		//Reads the default recipes. They are replaced if a recipe file is loaded.
+		load(new JsonReader().parse(DEFAULT_RECIPES));
+	}
+
+	/** Replaces the current recipes with the ones read from the given JSON file. Must be called before any CraftabilityTracker is created, since a tracker
+	 *  indexes the recipes when it is created. */
+	public void load(FileHandle file)
+	{
+		load(new JsonReader().parse(file));
+	}
+
+	/** Replaces the current recipes with the ones inside the given JSON array, and indexes them. */
+	void load(JsonValue recipeArray)
+	{
+		//Removes the recipes which were previously loaded. No item can be crafted until a recipe producing it is read.
+		recipes.clear();
+		recipeIndex.clear();
+		Arrays.fill(producers, -1);
+
+		//Cycles through each recipe in the JSON array.
+		for(JsonValue recipeValue = recipeArray.child(); recipeValue != null; recipeValue = recipeValue.next())
 		{
-			axe.addItem(Sulfur.class, 1);
+			//Creates the recipe from the JSON value. In debug mode, the 'debugItems' replace the normal ingredients when they are present.
+			JsonValue itemsValue = (Survivor.DEBUG_MODE && recipeValue.has("debugItems"))? recipeValue.get("debugItems") : recipeValue.require("items");
+			Recipe recipe = new Recipe(lookupItemId(recipeValue.getString("result")), recipeValue.getInt("quantity", 1), itemsValue);
+
+			//If another recipe already uses the same ingredients, the crafting table couldn't tell them apart.
+			if(recipeIndex.containsKey(recipe.ingredients))
+				throw new GdxRuntimeException("Two recipes use the same items as the recipe for " + recipeValue.getString("result") + ".");
+
+			//Registers the recipe, indexed by its ingredients. The first recipe for an item is used to craft it during multi-step crafting.
+			recipeIndex.put(recipe.ingredients, recipe);
+			if(producers[recipe.resultId] == -1)
+				producers[recipe.resultId] = recipes.size;
+			recipes.add(recipe);
 		}
-		axe.setResult(Axe.class, 1);
-		
-		rifle = new Combination();
-		if(!Survivor.DEBUG_MODE)
+	}
+
+	/** Returns the resulting item crafted using the given array of items. If null, no result is formed using the given list of items. */
+	public Item getResult(Array<Item> items)
+	{
+		//Fills the lookup key with the quantity of each given item.
+		lookupKey.clear();
+		for(int i = 0; i < items.size; i++)
 		{
-			rifle.addItem(Iron.class, 10);
-			rifle.addItem(Wood.class, 15);
+			//If the item is not registered, it cannot be part of any recipe.
+			int itemId = ItemRegistry.getId(items.get(i).getItem());
+			if(itemId == -1)
+				return null;
+
+			lookupKey.add(itemId, items.get(i).getQuantity());
 		}
-		else
+
+		//Finds the recipe which needs exactly the given items. If null, the items don't form any possible combination.
+		Recipe recipe = recipeIndex.get(lookupKey.rehash());
+		return (recipe != null)? recipe.getResult() : null;
+	}
+
+	/** Returns the amount of recipes. */
+	public int getRecipeCount()
+	{
+		return recipes.size;
+	}
+
+	/** Returns the recipe at the given index. */
+	public Recipe getRecipe(int index)
+	{
+		return recipes.get(index);
+	}
+
+	/** Returns the index of the recipe which crafts the item with the given id, or -1 if the item cannot be crafted. */
+	public int getProducer(int itemId)
+	{
+		return producers[itemId];
+	}
+
+	/** Returns the id of the item with the given name. Throws an exception if no item has this name, since a recipe refers to an unknown item. */
+	private static int lookupItemId(String name)
+	{
+		int itemId = ItemRegistry.getId(name);
+		if(itemId == -1)
+			throw new GdxRuntimeException("Unknown item in recipe: " + name);
+
+		return itemId;
+	}
+
+	/** Describes a combination of items which together craft an item. */
+	public class Recipe
+	{
+		/** Stores the id of the item which results from the recipe, along with the amount crafted. */
+		private int resultId, resultQuantity;
+
+		/** Stores the id of each item needed by the recipe, along with the quantity needed, in the same order. */
+		private int[] itemIds, quantities;
+
+		/** Holds the quantity of every item needed by the recipe. Used as the recipe's key inside the recipe index. */
+		private ItemSet ingredients;
+
+		/** Stores the item which results from the recipe, given to the crafting HUD. */
+		private Item result;
+
+		/** Creates a recipe crafting the given item, which needs the items inside the given JSON object, mapping each item name to its quantity. */
+		private Recipe(int resultId, int resultQuantity, JsonValue itemsValue)
 		{
-			rifle.addItem(Charcoal.class, 1);
+			//Stores the result of the recipe.
+			this.resultId = resultId;
+			this.resultQuantity = resultQuantity;
+			result = new Item(ItemRegistry.getItemClass(resultId), resultQuantity);
+
+			//Reads each item of the recipe, along with its quantity.
+			itemIds = new int[itemsValue.size];
+			quantities = new int[itemsValue.size];
+			ingredients = new ItemSet();
+
+			int i = 0;
+			for(JsonValue itemValue = itemsValue.child(); itemValue != null; itemValue = itemValue.next(), i++)
+			{
+				itemIds[i] = lookupItemId(itemValue.name());
+				quantities[i] = itemValue.asInt();
+				ingredients.add(itemIds[i], quantities[i]);
+			}
+			ingredients.rehash();
 		}
-		rifle.setResult(Rifle.class, 1);
-		
-		gunpowder = new Combination();
-		if(!Survivor.DEBUG_MODE)
+
+		/** Returns the amount of different items needed by the recipe. */
+		public int getItemCount()
 		{
-			gunpowder.addItem(Saltpeter.class, 12);
-			gunpowder.addItem(Charcoal.class, 8);
-			gunpowder.addItem(Sulfur.class, 6);
-			gunpowder.addItem(Water.class, 4);
+			return itemIds.length;
 		}
-		else
+
+		/** Returns the id of the ith item needed by the recipe. */
+		public int getItemId(int i)
 		{
-			gunpowder.addItem(Water.class, 1);
+			return itemIds[i];
 		}
-		gunpowder.setResult(Gunpowder.class, 12);
-		
-		bullet = new Combination();
-		if(!Survivor.DEBUG_MODE)
+
+		/** Returns the quantity of the ith item needed by the recipe. */
+		public int getQuantity(int i)
 		{
-			bullet.addItem(Iron.class, 2);
-			bullet.addItem(Gunpowder.class, 4);
+			return quantities[i];
 		}
-		else
+
+		/** Returns the id of the item crafted by the recipe. */
+		public int getResultId()
 		{
-			bullet.addItem(Gunpowder.class, 4);
+			return resultId;
 		}
-		bullet.setResult(Bullet.class, 6);
-		
-		teleporter = new Combination();
-		if(!Survivor.DEBUG_MODE)
+
+		/** Returns the amount of items crafted by the recipe. */
+		public int getResultQuantity()
 		{
-			teleporter.addItem(Saltpeter.class, 40);
-			teleporter.addItem(Wood.class, 50);
-			teleporter.addItem(Sulfur.class, 40);
-			teleporter.addItem(Iron.class, 30);
+			return resultQuantity;
 		}
-		else
+
+		/** Returns the resulting item from the recipe. */
+		public Item getResult()
 		{
-			teleporter.addItem(Wood.class, 1);
+			return result;
 		}
-		teleporter.setResult(Teleporter.class, 1);
-		
-		//Adds all of the combinations into an array
-		combinations.add(axe);
-		combinations.add(rifle);
-		combinations.add(gunpowder);
-		combinations.add(bullet);
-		combinations.add(teleporter);
 	}
-	
-	/** Returns the resulting item crafted using the given array of items. If null, no result is formed using the given list of items. */
-	public Item getResult(Array<Item> items)
+
+	/** Holds the quantity of each item in a set of items, indexed by item id. Two sets holding the same items in the same quantities are equal, whatever the
+	 *  order in which the items were added. The hash code must be re-computed with rehash() once the set is filled. */
+	private static class ItemSet
 	{
-		//Cycles through the list of all possible combinations.
-		for(int i = 0; i < combinations.size; i++)
-		{
-			//If the combination matches the list of given items
-			if(combinations.get(i).validItems(items))
-				//Return the result of the combination which is formed by the given items.
-				return combinations.get(i).getResult();
-		}
-		
-		//If this statement is reached, the items don't form any possible combination. Thus, return null.
-		return null;
-	}
-	
-	/** Describes a combination of items which together craft an item. */
-	private class Combination
-	{		
-		/** Stores the item which results from the combination. */
-		private Item result;
-		
-		/** The array of items which must be combined to form the above the resulting item. */
-		private Array<Item> items;
-		
-		/** Creates a new, empty combination. */
-		public Combination()
+		/** Stores the quantity of each item inside the set. */
+		private int[] quantities = new int[ItemRegistry.getItemCount()];
+		/** Stores the hash code computed the last time rehash() was called. */
+		private int hash;
+
+		/** Adds the given quantity of the item to the set. */
+		public void add(int itemId, int quantity)
 		{
-			items = new Array<Item>();
+			quantities[itemId] += quantity;
 		}
-		
-		/** Adds a specific item to the combination. */
-		public void addItem(Class item, int quantity)
+
+		/** Empties the set. */
+		public void clear()
 		{
-			//Adds the item to the list of items in the combination.
-			items.add(new Item(item, quantity));
+			Arrays.fill(quantities, 0);
 		}
 
-		/** Tests if the given list of items corresponds to the items needed in this combination. Returns true if the given list of items form this combination. */
-		public boolean validItems(Array<Item> givenItems)
+		/** Computes the hash code of the set from its quantities. Returns the set for chaining. */
+		public ItemSet rehash()
 		{
-			//If the amount of given items is not the same as the amount of items in the combination, the given items don't form this combination. Thus, return false.
-			if(givenItems.size != items.size)
-				return false;
-			
-			//Cycles through the given items 
-			for(int i = 0; i < givenItems.size; i++)
-			{
-				//If the given item is not contained in this combination, return false
-				if(!this.contains(givenItems.get(i)))
-				{
-					//Return false, since the given list of items don't form this combination.
-					return false;
-				}
-			}
-			
-			//If this statement is reached, the given items produce the combination's result. So, return true.
-			return true;
+			hash = Arrays.hashCode(quantities);
+			return this;
 		}
-		
-		/** Returns true if this combination contains this item, which is needed to form this combination.	*/
-		public boolean contains(Item item)
+
+		@Override
+		public int hashCode()
 		{
-			//Cycles through all the items in the combination
-			for(int i = 0; i < items.size; i++)
-			{
-				//If the given item equals to an element in this combination
-				if(items.get(i).equals(item))
-					//Return true, since this combination contains the given item
-					return true;
-			}
-			
-			//If this statement is reached, the item is not contained in this combination. Thus, return false.
-			return false;
-		}
-		
-		/** Sets the resulting item from the crafting combination */
-		public Item getResult() {
-			return result;
+			return hash;
 		}
 
-		/** Gets the resulting item from the crafting combination */
-		public void setResult(Class item, int quantity) {
-			this.result = new Item(item, quantity);
+		@Override
+		public boolean equals(Object other)
+		{
+			//Two sets are equal if they hold the same quantity of every item.
+			return (other instanceof ItemSet) && Arrays.equals(quantities, ((ItemSet)other).quantities);
 		}
 	}
-	
+
 	/** Pairs an item with a specific quantity for use inside a Combination. */
 	public class Item
 	{
 		private int quantity;	//Stores the quantity of the item needed in a combination
 		private Class item;	//Holds the item needed in a combination
-		
+
 		/** Creates a pair between an item and a specific quantity. */
 		public Item(Class item, int quantity)
 		{
 			this.item = item;
 			this.quantity = quantity;
 		}
-		
+
 		/** Adds the given quantity to this item instance. */
 		public void add(int quantity)
 		{
 			//Increments the quantity integer by the given amount.
 			this.quantity += quantity;
 		}
-		
+
 		//Returns true if the given item is equal to this item.
 		public boolean equals(Item other)
 		{
 			return other.item.equals(this.item) && other.quantity == this.quantity;
 		}
-		
+
 		/** Gets the item class held by this instance. */
 		public Class getItem() {
 			return item;
 		}
-		
+
 		/** Sets the item class held by this instance. */
 		public void setItem(Class item) {
 			this.item = item;
@@ -230,12 +299,12 @@ public class CraftingManager
 		public int getQuantity() {
 			return quantity;
 		}
-		
+
 		/** Sets the quantity of the item. */
 		public void setQuantity(int quantity) {
 			this.quantity = quantity;
 		}
-		
+
 		public String toString()
 		{
 			return item + ": " + quantity;
@@ -1,14 +1,19 @@
 package com.jonathan.survivor.managers;
 
-import com.badlogic.gdx.utils.Pool;
 import com.jonathan.survivor.entity.Earthquake;
 
 /*
  * The pool used by the GameObjectManager to store and create Earthquake instance for zombies to fire in COMBAT mode.
  */
 
-public class EarthquakePool extends Pool<Earthquake>
+public class EarthquakePool extends ManagedPool<Earthquake>
 {
+	/** Creates a pool which holds 'warmCount' earthquakes once warmed up, and keeps at most 'maxIdle' free earthquakes. */
+	public EarthquakePool(int warmCount, int maxIdle)
+	{
+		super("Earthquake", warmCount, maxIdle);
+	}
+	
 	/** Called when a new Earthquake must be created inside the pool. */
 	@Override
 	protected Earthquake newObject()
@@ -2,7 +2,8 @@ package com.jonathan.survivor.managers;
 
 import java.util.HashMap;
 
-import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
 import com.jonathan.survivor.Assets;
 import com.jonathan.survivor.Profile;
 import com.jonathan.survivor.entity.Box;
@@ -14,13 +15,29 @@ import com.jonathan.survivor.entity.Player;
 import com.jonathan.survivor.entity.Tree;
 import com.jonathan.survivor.entity.Zombie;
 
+/*
+ * Creates the player, and stores the pools from which every other GameObject is obtained. Each pool is warmed up when the manager is created, while the game
+ * loads, so that GameObjects and their skeletons are rarely created mid-frame. The statistics of the pools are logged when the game screen is disposed.
+ */
+
 public class GameObjectManager
 {
+	/** Stores the amount of objects created in each pool while the game loads, and the maximum amount of free objects each pool keeps. The warm-up counts
+	 *  are slightly above the peak live counts logged while shifting a TerrainLevel in every direction: 57 trees, 13 boxes and 15 zombies, one per layer. */
+	public static int treeWarmCount = 64, treeMaxIdle = 96;
+	public static int boxWarmCount = 16, boxMaxIdle = 32;
+	public static int zombieWarmCount = 15, zombieMaxIdle = 20;
+	public static int itemObjectWarmCount = 8, itemObjectMaxIdle = 32;
+	public static int earthquakeWarmCount = 4, earthquakeMaxIdle = 8;
+	
 	/** Stores the player GameObject. */
 	private Player player;
 	
 	/** Stores HashMap of GameObjectPools where every GameObject class is a key to a pool of its GameObjects. Used for easy management of pools. */
-	private HashMap<Class, Pool> poolMap;
+	private HashMap<Class<?>, ManagedPool<?>> poolMap;
+	
+	/** Holds every pool, in the order they were created. Used to warm up, trim and log every pool. */
+	private Array<ManagedPool<?>> pools;
 	
 	/** Stores the Assets singleton used to access the visual assets used by the game. */
 	Assets assets = Assets.instance;
@@ -32,14 +49,61 @@ public class GameObjectManager
 		createPlayer(profile);
 		
 		//Creates a new HashMap of pools where every GameObject class is a key to a pool of its GameObjects. Used for easy management of pools.
-		poolMap = new HashMap<Class, Pool>();
+		poolMap = new HashMap<Class<?>, ManagedPool<?>>();
+		pools = new Array<ManagedPool<?>>();
 		
 		//Inserts a pool into the HashMap for each GameObject type which has a pool.
-		poolMap.put(Tree.class, new TreePool());
-		poolMap.put(Box.class, new BoxPool());
-		poolMap.put(Zombie.class, new ZombiePool());
-		poolMap.put(ItemObject.class, new ItemObjectPool());
-		poolMap.put(Earthquake.class, new EarthquakePool());
+		addPool(Tree.class, new TreePool(treeWarmCount, treeMaxIdle));
+		addPool(Box.class, new BoxPool(boxWarmCount, boxMaxIdle));
+		addPool(Zombie.class, new ZombiePool(zombieWarmCount, zombieMaxIdle));
+		addPool(ItemObject.class, new ItemObjectPool(itemObjectWarmCount, itemObjectMaxIdle));
+		addPool(Earthquake.class, new EarthquakePool(earthquakeWarmCount, earthquakeMaxIdle));
+		
+		//Fills the pools while the game is loading, before the TerrainLevel obtains its GameObjects.
+		warmUpPools();
+	}
+	
+	/** Registers the given pool as the pool storing GameObjects of the given class. The pool must hold GameObjects of that class, which getPool() relies on. */
+	private <T> void addPool(Class<T> goClass, ManagedPool<T> pool)
+	{
+		poolMap.put(goClass, pool);
+		pools.add(pool);
+	}
+	
+	/** Creates the GameObjects of every pool up to its warm-up count. */
+	public void warmUpPools()
+	{
+		for(int i = 0; i < pools.size; i++)
+			pools.get(i).warmUp();
+	}
+	
+	/** Discards the free GameObjects of every pool which holds more than its warm-up count. Called when the game is paused, to release the memory held by 
+	 *  GameObjects created during a burst of activity. */
+	public void trimPools()
+	{
+		for(int i = 0; i < pools.size; i++)
+			pools.get(i).trim();
+	}
+	
+	/** Returns the pool storing GameObjects of the given class, from which its statistics can be queried. */
+	@SuppressWarnings("unchecked")
+	public <T> ManagedPool<T> getPool(Class<T> goClass)
+	{
+		//The cast is safe, since addPool() only registers a class along with a pool of that class.
+		return (ManagedPool<T>) poolMap.get(goClass);
+	}
+	
+	/** Returns every pool of the manager. */
+	public Array<ManagedPool<?>> getPools()
+	{
+		return pools;
+	}
+	
+	/** Logs the statistics of every pool, one line per pool. Used to size the warm-up counts from real play sessions. */
+	public void logPoolStatistics()
+	{
+		for(int i = 0; i < pools.size; i++)
+			Gdx.app.log("GameObjectManager", pools.get(i).toString());
 	}
 	
 	/** Creates the player GameObject, along with his skeleton. Accepts profile to re-create the player with his old settings. */
@@ -98,14 +162,14 @@ public class GameObjectManager
 	public <T> T getGameObject(Class<T> goClass)
 	{
 		//Either returns a tree inside the pool that is free, or creates a new tree and returns it if no free ones are available.
-		return (T) poolMap.get(goClass).obtain();
+		return getPool(goClass).obtain();
 	}
 	
 	/** Frees a gameObject back inside the manager's internal GameObject pools. Tells the manager that the GameObject is no longer in use, and that the it can be
 	 *  returned when getGameObject() is called. */
-	public <T> void freeGameObject(GameObject gameObject, Class<T> goClass)
+	public <T extends GameObject> void freeGameObject(T gameObject, Class<T> goClass)
 	{
 		//Puts the gameObject back inside its respective pool for later use.
-		poolMap.get(goClass).free(gameObject);
+		getPool(goClass).free(gameObject);
 	}
 }
@@ -78,6 +78,12 @@ public class InputManager implements InputProcessor
 			//Lets the GameScreen know that the BACK button was pressed.
 			inputListener.onBack();
 		}
+		//Else, if the F3 key has been pressed on desktop
+		else if(keycode == Keys.F3)
+		{
+			//Lets the GameScreen know to show or hide the profiler's overlay.
+			inputListener.onToggleProfiler();
+		}
 		
 		return false;
 	}
@@ -101,6 +107,9 @@ public class InputManager implements InputProcessor
 	{
 		/** Called when the BACK button is pressed on Android devices. Allows the GameScreen to know to go back from wherever the user is. */
 		void onBack();
+		
+		/** Called when the F3 key is pressed on desktop. Allows the GameScreen to show or hide the profiler's overlay in debug mode. */
+		void onToggleProfiler();
 	}
 	
 	/* ..................UNUSED................................ */
@@ -1,14 +1,19 @@
 package com.jonathan.survivor.managers;
 
-import com.badlogic.gdx.utils.Pool;
 import com.jonathan.survivor.entity.ItemObject;
 
 /*
  * The pool used by the GameObjectManager to store and create Item GameObjects for the user to pick up in the game world.
  */
 
-public class ItemObjectPool extends Pool<ItemObject>
+public class ItemObjectPool extends ManagedPool<ItemObject>
 {
+	/** Creates a pool which holds 'warmCount' item GameObjects once warmed up, and keeps at most 'maxIdle' free item GameObjects. */
+	public ItemObjectPool(int warmCount, int maxIdle)
+	{
+		super("ItemObject", warmCount, maxIdle);
+	}
+	
 	/** Called when a new ItemObject must be created inside the pool. */
 	@Override
 	protected ItemObject newObject()
@@ -0,0 +1,135 @@
+package com.jonathan.survivor.managers;
+
+import com.badlogic.gdx.utils.Pool;
+import com.jonathan.survivor.utils.Tracer;
+
+/*
+ * Pool used by the GameObjectManager. It can be filled ahead of time, so that GameObjects and their skeletons are created while the game loads instead of
+ * mid-frame, and it keeps at most 'maxIdle' free objects. It also counts how it is used, so that the warm-up counts can be sized from the statistics logged
+ * when the game closes.
+ */
+
+public abstract class ManagedPool<T> extends Pool<T>
+{
+	/** Stores the name of the pool, used when its statistics are logged. */
+	private final String name;
+
+	/** Stores the amount of objects created when the pool is warmed up. */
+	private final int warmCount;
+
+	/** Stores the amount of objects obtained from the pool, along with the amount of times a new object had to be created because none were free. */
+	private int obtains, misses;
+	/** Stores the amount of objects freed back into the pool, along with the amount which were discarded because the pool already held 'maxIdle' objects. */
+	private int frees, discards;
+	/** Stores the amount of objects currently obtained and not yet freed, along with the highest amount reached. */
+	private int live, peakLive;
+
+	/** Creates a pool which is filled with 'warmCount' objects when warmed up, and which keeps at most 'maxIdle' free objects. */
+	public ManagedPool(String name, int warmCount, int maxIdle)
+	{
+		super(Math.max(warmCount, 16), maxIdle);
+
+		//Stores the name of the pool, along with its warm-up count.
+		this.name = name;
+		this.warmCount = Math.min(warmCount, maxIdle);
+	}
+
+	/** Retrieves a free object from the pool, or creates one if none are free. The creation is counted as a miss. */
+	@Override
+	public T obtain()
+	{
+		//If no objects are free, a new one is created. The miss is recorded if the session is traced.
+		if(getFree() == 0)
+		{
+			misses++;
+			Tracer.poolMissed(name, live);
+		}
+
+		//Counts the object obtained, and updates the peak amount of live objects.
+		obtains++;
+		live++;
+		peakLive = Math.max(peakLive, live);
+
+		return super.obtain();
+	}
+
+	/** Frees the object back into the pool. If the pool already holds 'maxIdle' free objects, the object is discarded. */
+	@Override
+	public void free(T object)
+	{
+		//If the pool is full, the object will be discarded.
+		if(getFree() >= max)
+			discards++;
+
+		//Counts the object freed.
+		frees++;
+		live--;
+
+		super.free(object);
+	}
+
+	/** Creates objects until the pool holds 'warmCount' free objects. Called while the game is loading, so that the objects aren't created mid-frame. */
+	public void warmUp()
+	{
+		//Creates the missing objects, and places them in the pool without counting them as freed.
+		for(int i = getFree(); i < warmCount; i++)
+			super.free(newObject());
+	}
+
+	/** Discards free objects until the pool holds no more than 'warmCount' of them. Releases the objects created during a burst of activity. */
+	public void trim()
+	{
+		//Removes free objects from the pool without counting them as obtained. They are left to the garbage collector.
+		while(getFree() > warmCount)
+			super.obtain();
+	}
+
+	/** Returns the name of the pool. */
+	public String getName()
+	{
+		return name;
+	}
+
+	/** Returns the amount of objects obtained from the pool. */
+	public int getObtains()
+	{
+		return obtains;
+	}
+
+	/** Returns the amount of times an object had to be created because the pool had no free objects. */
+	public int getMisses()
+	{
+		return misses;
+	}
+
+	/** Returns the amount of objects freed back into the pool. */
+	public int getFrees()
+	{
+		return frees;
+	}
+
+	/** Returns the amount of freed objects discarded because the pool already held 'maxIdle' free objects. */
+	public int getDiscards()
+	{
+		return discards;
+	}
+
+	/** Returns the amount of objects currently obtained and not yet freed. */
+	public int getLive()
+	{
+		return live;
+	}
+
+	/** Returns the highest amount of objects obtained at the same time. A warm-up count at least this large avoids every miss. */
+	public int getPeakLive()
+	{
+		return peakLive;
+	}
+
+	/** Returns the pool's statistics on a single line, used to log them. */
+	public String toString()
+	{
+		return name + ": obtains=" + obtains + " misses=" + misses + " frees=" + frees + " discards=" + discards + " live=" + live + " peakLive=" + peakLive
+				+ " free=" + getFree() + " warmCount=" + warmCount + " maxIdle=" + max;
+	}
+}
@@ -0,0 +1,333 @@
+package com.jonathan.survivor.managers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.LongMap.Entry;
+import com.jonathan.survivor.Profile;
+import com.jonathan.survivor.ScavengedIndex;
+import com.jonathan.survivor.inventory.Axe;
+import com.jonathan.survivor.inventory.Inventory;
+import com.jonathan.survivor.inventory.Item;
+import com.jonathan.survivor.inventory.ItemRegistry;
+import com.jonathan.survivor.inventory.Loadout;
+import com.jonathan.survivor.inventory.MeleeWeapon;
+import com.jonathan.survivor.inventory.RangedWeapon;
+import com.jonathan.survivor.inventory.Rifle;
+
+/*
+ * Converts a Profile to and from its binary save file. Integers are written as variable-length integers, so that small rows, columns and objectIds take a
+ * single byte. Each file starts with a table holding the names of the item classes it refers to. The inventory and the loadout then refer to items by their
+ * index inside this table, which keeps the file valid if the item classes are renamed or re-ordered in code. The file is built inside a memory buffer, and
+ * written to the disk in a single call.
+ */
+
+public class ProfileCodec
+{
+	/** Stores the four bytes at the start of every binary profile ("SVPF"). Used to reject files which are not profiles. */
+	public static final int MAGIC = 0x53565046;
+	/** Stores the version of the binary format written by the codec. Must be incremented whenever the layout of the file changes. Version 1 grouped the
+	 *  scavenged objects by row, then by column. Version 2 writes one entry per TerrainLayer, with its objectIds in increasing order. */
+	public static final int VERSION = 2;
+
+	/** Holds the bytes of the profile being written. Re-used between saves to avoid re-allocating the buffer. */
+	private ProfileBuffer buffer = new ProfileBuffer();
+
+	/** Helper list which holds the item classes referred to by the profile being written. The index of a class is its id inside the file's item table. */
+	private ArrayList<Class<?>> itemTable = new ArrayList<Class<?>>();
+
+	/** Writes the given profile to the given file in the binary format, overwriting the file. */
+	public void write(Profile profile, FileHandle file)
+	{
+		//Empties the buffer holding the bytes of the last profile written.
+		buffer.clear();
+
+		//Creates the stream which writes variable-length integers inside the buffer.
+		DataOutput output = new DataOutput(buffer);
+
+		try
+		{
+			//Writes the header, which identifies the file as a profile and stores the version of its layout.
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION, true);
+
+			//Writes the key member variables of the profile. Signed integers are zig-zag encoded, so that small negative values also take a single byte.
+			output.writeInt(profile.getProfileId(), true);
+			output.writeLong(profile.getDateLastModified().getTime());
+			output.writeInt(profile.getWorldSeed(), true);
+			output.writeInt(profile.getTerrainRowOffset(), false);
+			output.writeInt(profile.getTerrainColOffset(), false);
+			output.writeFloat(profile.getLastXPos());
+
+			//Writes the table of item classes, followed by the loadout and the inventory, which refer to items by their index inside the table.
+			writeItems(output, profile.getLoadout(), profile.getInventory());
+
+			//Writes the objectIds of every GameObject scavenged by the player.
+			writeScavengedLayerObjects(output, profile.getScavengedLayerObjects());
+
+			output.flush();
+		}
+		catch(IOException e)
+		{
+			throw new GdxRuntimeException("Could not write profile " + profile.getProfileId(), e);
+		}
+
+		//Writes the entire profile to the hard drive in a single call.
+		file.writeBytes(buffer.getBytes(), 0, buffer.size(), false);
+	}
+
+	/** Reads the profile stored inside the given binary file. Throws a GdxRuntimeException if the file is not a valid profile. */
+	public Profile read(FileHandle file)
+	{
+		//Reads the entire file in a single call, and creates a stream which reads variable-length integers from its bytes.
+		DataInput input = new DataInput(new ByteArrayInputStream(file.readBytes()));
+
+		//Creates an empty profile which is populated with the contents of the file. This constructor marks the profile as already saved.
+		Profile profile = new Profile();
+
+		try
+		{
+			//If the file does not start with the profile header, it is not a binary profile.
+			if(input.readInt() != MAGIC)
+				throw new GdxRuntimeException("Not a binary profile: " + file.path());
+
+			//Reads the version of the file's layout. Files written by a newer version of the game cannot be read.
+			int version = input.readInt(true);
+			if(version > VERSION)
+				throw new GdxRuntimeException("Unsupported profile version " + version + ": " + file.path());
+
+			//Reads the key member variables of the profile.
+			profile.setProfileId(input.readInt(true));
+			profile.getDateLastModified().setTime(input.readLong());
+			profile.setWorldSeed(input.readInt(true));
+			profile.setTerrainRowOffset(input.readInt(false));
+			profile.setTerrainColOffset(input.readInt(false));
+			profile.setLastXPos(input.readFloat());
+
+			//Reads the table of item classes, followed by the loadout and the inventory.
+			readItems(input, profile);
+
+			//Reads the objectIds of every GameObject scavenged by the player.
+			profile.setScavengedLayerObjects(readScavengedLayerObjects(input, version));
+		}
+		catch(IOException e)
+		{
+			throw new GdxRuntimeException("Could not read profile: " + file.path(), e);
+		}
+
+		//Returns the profile read from the file.
+		return profile;
+	}
+
+	/** Writes the file's item table, followed by the weapons of the loadout and the quantity of each item inside the inventory. */
+	private void writeItems(DataOutput output, Loadout loadout, Inventory inventory) throws IOException
+	{
+		//Stores the weapons held in the loadout.
+		MeleeWeapon meleeWeapon = loadout.getMeleeWeapon();
+		RangedWeapon rangedWeapon = loadout.getRangedWeapon();
+
+		//Builds the item table from the items referred to by the loadout and the inventory. Each class is only added once.
+		itemTable.clear();
+		if(meleeWeapon != null) addToItemTable(meleeWeapon.getClass());
+		if(rangedWeapon != null) addToItemTable(rangedWeapon.getClass());
+		for(int itemId = 0; itemId < ItemRegistry.getItemCount(); itemId++)
+			if(inventory.getQuantity(itemId) != 0)
+				addToItemTable(ItemRegistry.getItemClass(itemId));
+
+		//Writes the name of each item class in the table. Their index inside the table is their item id for the rest of the file.
+		output.writeInt(itemTable.size(), true);
+		for(int i = 0; i < itemTable.size(); i++)
+			output.writeString(ItemRegistry.getName(ItemRegistry.getId(itemTable.get(i))));
+
+		//Writes the item id of each weapon in the loadout, plus one, since zero denotes an empty slot.
+		output.writeInt((meleeWeapon != null)? itemTable.indexOf(meleeWeapon.getClass())+1 : 0, true);
+		output.writeInt((rangedWeapon != null)? itemTable.indexOf(rangedWeapon.getClass())+1 : 0, true);
+
+		//Writes the amount of item stacks inside the inventory, followed by the id and quantity of each stack.
+		output.writeInt(inventory.getStackCount(), true);
+		for(int itemId = 0; itemId < ItemRegistry.getItemCount(); itemId++)
+		{
+			//Skips the items which are absent from the inventory.
+			int quantity = inventory.getQuantity(itemId);
+			if(quantity == 0)
+				continue;
+
+			output.writeInt(itemTable.indexOf(ItemRegistry.getItemClass(itemId)), true);
+			output.writeInt(quantity, false);
+		}
+	}
+
+	/** Adds the given item class inside the item table, if it is not already inside it. Throws an exception if the class cannot be saved. */
+	private void addToItemTable(Class<?> itemClass)
+	{
+		//If the item class has no saved name, it cannot be referred to inside the file.
+		if(ItemRegistry.getId(itemClass) == -1)
+			throw new GdxRuntimeException("The item " + itemClass + " has no name in the ItemRegistry and cannot be saved.");
+
+		//Adds the item class to the table if it is not already inside it.
+		if(!itemTable.contains(itemClass))
+			itemTable.add(itemClass);
+	}
+
+	/** Reads the file's item table, followed by the profile's loadout and inventory. Items whose name is unknown are dropped from the profile. */
+	private void readItems(DataInput input, Profile profile) throws IOException
+	{
+		//Reads the item table, converting each name into its item class. Unknown names are stored as null.
+		Class<?>[] items = new Class<?>[input.readInt(true)];
+		for(int i = 0; i < items.length; i++)
+			items[i] = ItemRegistry.getItemClass(input.readString());
+
+		//Reads the weapons of the loadout. An id of zero denotes an empty slot.
+		Loadout loadout = new Loadout();
+		int meleeId = input.readInt(true);
+		int rangedId = input.readInt(true);
+		if(meleeId > 0) loadout.setMeleeWeapon((MeleeWeapon)createWeapon(items[meleeId-1]));
+		if(rangedId > 0) loadout.setRangedWeapon((RangedWeapon)createWeapon(items[rangedId-1]));
+		profile.setLoadout(loadout);
+
+		//Creates the player's inventory, and reads each of its item stacks, skipping the items which no longer exist.
+		Inventory inventory = new Inventory();
+		int stackCount = input.readInt(true);
+		for(int i = 0; i < stackCount; i++)
+		{
+			Class<?> itemClass = items[input.readInt(true)];
+			int quantity = input.readInt(false);
+
+			if(itemClass != null)
+				inventory.setQuantity(ItemRegistry.getId(itemClass), quantity);
+		}
+
+		//Gives the inventory read from the file to the profile.
+		profile.setInventory(inventory);
+	}
+
+	/** Writes the objectIds of the scavenged GameObjects. Each TerrainLayer is written as its row and column, followed by its objectIds. Since the objectIds
+	 *  are read from the index in increasing order, each one is written as its difference with the previous one. */
+	private void writeScavengedLayerObjects(DataOutput output, ScavengedIndex scavengedLayerObjects) throws IOException
+	{
+		//Writes the amount of TerrainLayers where objects were scavenged, followed by the contents of each layer.
+		output.writeInt(scavengedLayerObjects.getLayerCount(), true);
+		for(Entry<Bits> layer:scavengedLayerObjects.layers())
+		{
+			//Stores the bits of the objectIds scavenged on the TerrainLayer.
+			Bits objectIds = layer.value;
+
+			//Counts the amount of objectIds scavenged on the layer.
+			int idCount = 0;
+			for(int id = objectIds.nextSetBit(0); id >= 0; id = objectIds.nextSetBit(id+1))
+				idCount++;
+
+			//Writes the row and column of the layer, followed by the amount of objectIds.
+			output.writeInt(ScavengedIndex.unpackRow(layer.key), false);
+			output.writeInt(ScavengedIndex.unpackCol(layer.key), false);
+			output.writeInt(idCount, true);
+
+			//Writes the difference between each objectId and the previous one.
+			int previousId = 0;
+			for(int id = objectIds.nextSetBit(0); id >= 0; id = objectIds.nextSetBit(id+1))
+			{
+				output.writeInt(id - previousId, true);
+				previousId = id;
+			}
+		}
+	}
+
+	/** Reads the objectIds of the scavenged GameObjects written in the given version of the format, and returns them inside the index stored by the Profile. */
+	private ScavengedIndex readScavengedLayerObjects(DataInput input, int version) throws IOException
+	{
+		//Creates the index which holds the objectIds of each TerrainLayer.
+		ScavengedIndex scavengedLayerObjects = new ScavengedIndex();
+
+		//If the file was written in the first version of the format, the objectIds are grouped by row, then by column.
+		if(version == 1)
+		{
+			readVersion1ScavengedLayerObjects(input, scavengedLayerObjects);
+			return scavengedLayerObjects;
+		}
+
+		//Reads each TerrainLayer where objects were scavenged.
+		int layerCount = input.readInt(true);
+		for(int i = 0; i < layerCount; i++)
+		{
+			//Reads the row and column of the layer, followed by the amount of objectIds.
+			int row = input.readInt(false);
+			int col = input.readInt(false);
+			int idCount = input.readInt(true);
+
+			//Reads each objectId, which is stored as its difference with the previous one.
+			int id = 0;
+			for(int j = 0; j < idCount; j++)
+			{
+				id += input.readInt(true);
+				scavengedLayerObjects.add(row, col, id);
+			}
+		}
+
+		return scavengedLayerObjects;
+	}
+
+	/** Reads the objectIds written by the first version of the format, where TerrainLayers are grouped by row, and adds them to the given index. */
+	private void readVersion1ScavengedLayerObjects(DataInput input, ScavengedIndex scavengedLayerObjects) throws IOException
+	{
+		//Reads each row of TerrainLayers.
+		int rowCount = input.readInt(true);
+		for(int r = 0; r < rowCount; r++)
+		{
+			//Reads the row number, followed by the amount of columns stored for the row.
+			int row = input.readInt(false);
+			int colCount = input.readInt(true);
+
+			//Reads each column of the row, along with the objectIds scavenged on its TerrainLayer.
+			for(int c = 0; c < colCount; c++)
+			{
+				int col = input.readInt(false);
+				int idCount = input.readInt(true);
+
+				for(int i = 0; i < idCount; i++)
+					scavengedLayerObjects.add(row, col, input.readInt(true));
+			}
+		}
+	}
+
+	/** Creates the weapon of the given class. Returns null if the class is not a weapon, or is null. */
+	private Item createWeapon(Class<?> weaponClass)
+	{
+		//Instantiates the weapon directly, since classes cannot be instantiated by reflection on GWT.
+		if(weaponClass == Axe.class)
+			return new Axe();
+		else if(weaponClass == Rifle.class)
+			return new Rifle();
+
+		//If this statement is reached, the class is not a known weapon.
+		return null;
+	}
+
+	/** Holds the bytes of the profile being written. Unlike a plain ByteArrayOutputStream, its bytes can be cleared and written to a file without being copied. */
+	private static class ProfileBuffer extends ByteArrayOutputStream
+	{
+		/** Creates a buffer large enough to hold most profiles without growing. */
+		public ProfileBuffer()
+		{
+			super(1024);
+		}
+
+		/** Empties the buffer, keeping its allocated bytes. */
+		public void clear()
+		{
+			count = 0;
+		}
+
+		/** Returns the buffer's backing array. Only the first size() bytes belong to the profile. */
+		public byte[] getBytes()
+		{
+			return buf;
+		}
+	}
+}
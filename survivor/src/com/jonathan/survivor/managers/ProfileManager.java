@@ -5,6 +5,7 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.jonathan.survivor.Profile;
+import com.jonathan.survivor.utils.Tracer;
 
 /*
  * Manages the profiles used by the user. Used to load profiles from the hard drive, create them and save them. Also used to access the current profile used by the 
@@ -13,8 +14,12 @@ import com.jonathan.survivor.Profile;
 
 public class ProfileManager
 {
-	/** Stores the local file path for the profiles. Note that it ends with an underscore as it will be proceeded by "[id].json" */
+	/** Stores the local file path for the profiles. Note that it ends with an underscore as it will be proceeded by "[id].bin" */
 	private static final String FILE_PATH = "data/profile_";
+	/** Stores the extension of the binary profile files written by the ProfileCodec. */
+	private static final String FILE_EXTENSION = ".bin";
+	/** Stores the extension of the JSON profiles written by older versions of the game. These files are converted to binary profiles when they are read. */
+	private static final String LEGACY_FILE_EXTENSION = ".json";
 	
 	/** Stores the amount of profiles created by the player in order to determine how many should be loaded from the hard drive. */
 	private int numProfiles;
@@ -24,6 +29,9 @@ public class ProfileManager
 	/** Stores the current profile being used by the user. */
 	private Profile currentProfile;
 	
+	/** Stores the codec used to convert profiles to and from their binary files. */
+	private ProfileCodec codec;
+	
 	/** Creates a profile manager, specifying the maximum amount of profiles the user can hold. 
 	 * @param amountProfiles Specifies how many profiles the manager will retrieve from the hard drive. Should correspond to amount of profiles the user has saved. */
 	public ProfileManager(int numProfiles)
@@ -32,6 +40,9 @@ public class ProfileManager
 		this.numProfiles = numProfiles;
 		//Creates a new container for the player's profiles, where each index corresponds to the ID of the profile.
 		profiles = new Array<Profile>();
+		
+		//Creates the codec used to read and write the binary profile files.
+		codec = new ProfileCodec();
 	}
 	
 	/** Loads the profiles existing in the hard drive and populates the profiles:Profile[] array. */
@@ -91,22 +102,23 @@ public class ProfileManager
 			return currentProfile;
 		}
 		
-		//Creates a fileHandle pointing to the path of the profile with the given ID. The profile will be saved in a .json file with a path of "FILE_PATH[id].json".
-		FileHandle profileFile = Gdx.files.local(FILE_PATH + profileId + ".json");
+		//Creates a fileHandle pointing to the path of the profile with the given ID. The profile is saved in a binary file with a path of "FILE_PATH[id].bin".
+		FileHandle profileFile = Gdx.files.local(FILE_PATH + profileId + FILE_EXTENSION);
+		//Creates a fileHandle pointing to the JSON file where older versions of the game saved the profile.
+		FileHandle legacyProfileFile = Gdx.files.local(FILE_PATH + profileId + LEGACY_FILE_EXTENSION);
 		
 		//If the profile already exists on the hard drive, retrieve it and return it.
-		if(profileFile.exists())
+		if(profileFile.exists() || legacyProfileFile.exists())
 		{
 			try
 			{
-				//Creates a new Json object to convert the file into an object.
-				Json json = new Json();
-				
-				//Converts the entire profile file into a string.
-				String text = profileFile.readString().trim();
+				//If the profile was saved in the binary format, read it using the ProfileCodec. Stores the new profile as the current profile.
+				if(profileFile.exists())
+					currentProfile = codec.read(profileFile);
+				//Else, the profile was saved as JSON by an older version of the game. Read it, then convert it to the binary format.
+				else
+					currentProfile = migrateLegacyProfile(legacyProfileFile);
 				
-				//Converts the text into a Profile object using Json.fromJson(class, fileText):Profile. Stores the new profile as the current profile.
-				currentProfile = json.fromJson(Profile.class, text);
 				//Add the profile just created into the profiles array.
 				profiles.insert(profileId, currentProfile);
 			}
@@ -114,7 +126,7 @@ public class ProfileManager
 			{
 				ex.printStackTrace();
 				
-				//If an exception arises, the profile's JSON file couldn't be read. So, create a new profile, effectively erasing the old one.
+				//If an exception arises, the profile's file couldn't be read. So, create a new profile, effectively erasing the old one.
 				createProfile(profileId);
 			}
 		}
@@ -129,6 +141,26 @@ public class ProfileManager
 		return profiles.get(profileId);
 	}
 	
+	/** Reads the profile stored inside the given legacy JSON file, saves it in the binary format, and deletes the JSON file. Returns the profile read. */
+	private Profile migrateLegacyProfile(FileHandle legacyProfileFile)
+	{
+		//Creates a new Json object to convert the file into an object.
+		Json json = new Json();
+		
+		//Converts the entire profile file into a string.
+		String text = legacyProfileFile.readString().trim();
+		
+		//Converts the text into a Profile object using Json.fromJson(class, fileText):Profile.
+		Profile profile = json.fromJson(Profile.class, text);
+		
+		//Saves the profile in the binary format. The JSON file is only deleted once the binary file has been written.
+		saveProfile(profile);
+		legacyProfileFile.delete();
+		
+		//Returns the profile read from the JSON file.
+		return profile;
+	}
+	
 	/** Creates a profile with the given profile ID, and saves it to the hard drive. Also sets the created profile to be the current user profile. */
 	public Profile createProfile(int profileId)
 	{
@@ -136,7 +168,7 @@ public class ProfileManager
 		currentProfile = new Profile(profileId);
 		//Adds the created profile to the list of all profiles 
 		profiles.add(currentProfile);
-		//Saves the profile we just created to the hard drive as a JSON file.
+		//Saves the profile we just created to the hard drive as a binary file.
 		saveProfile(profiles.get(profileId));
 		
 		//Increments the amount of profiles the user has created. Note that this must be done since the user has created a new profile on the hard drive.
@@ -153,34 +185,29 @@ public class ProfileManager
 		if(profile == null)
 			throw new IllegalArgumentException("Attempting to save null Profile");
 		
-		//Create a fileHandle pointing the file path containing the profile. This file path is: "FILE_PATH[id].json". We will write the profile to this path.
-		FileHandle profileFile = Gdx.files.local(FILE_PATH + profile.getProfileId() + ".json");
-		
-		//Creates a new Json object to convert a Profile object into JSON text.
-		Json json = new Json();
-		
-		//Converts the profile object into a string readable by JSON using Json.toJson(Serializable).
-		String text = json.toJson(profile);
+		//Create a fileHandle pointing the file path containing the profile. This file path is: "FILE_PATH[id].bin". We will write the profile to this path.
+		FileHandle profileFile = Gdx.files.local(FILE_PATH + profile.getProfileId() + FILE_EXTENSION);
 		
-		//Writes the String containing the Profile object's information into the profile's JSON file, contained by profileFile:FileHandle.  
-		profileFile.writeString(text, false);
+		//Writes the profile into its binary file using the ProfileCodec, and records the save if the session is traced.
+		long traceStart = Tracer.now();
+		codec.write(profile, profileFile);
+		Tracer.profileSaved(profile.getProfileId(), traceStart);
 	}
 	
-	/** Saves the current profile to the hard drive as a JSON file. */
+	/** Saves the current profile to the hard drive as a binary file. */
 	public void saveCurrentProfile()
 	{
-		//Saves the current profile to the hard drive as a JSON file.
+		//Saves the current profile to the hard drive as a binary file.
 		saveProfile(currentProfile);
 	}
 	
 	/** Deletes a profile with the given ID from the hard drive. */
 	public void deleteProfile(int profileId)
 	{
-		//Get a file handle to the profile's JSON file. This is found under the path "FILE_PATH[profileId].json"
-		FileHandle profileFile = Gdx.files.local(FILE_PATH + profileId + ".json");
-		
-		//Delete the profile from the hard drive.
-		profileFile.delete();
+		//Delete the profile's binary file from the hard drive. This is found under the path "FILE_PATH[profileId].bin"
+		Gdx.files.local(FILE_PATH + profileId + FILE_EXTENSION).delete();
+		//Delete the profile's legacy JSON file, in case the profile was never migrated to the binary format.
+		Gdx.files.local(FILE_PATH + profileId + LEGACY_FILE_EXTENSION).delete();
 		
 		//Shifts the profiles from [profileId+1,numProfiles] to [profileId,numProfiles-1] to ensure that the empty spot from the deleted profile is filled. 
 		shiftProfiles(profileId);
@@ -197,16 +224,9 @@ public class ProfileManager
 		//Cycles from profileId+1 to numProfiles and rotates them to indices [profileId, numProfiles-1].
 		for(int i = profileId+1; i < numProfiles; i++)
 		{
-			//Get a file handle to the JSON file of profile with index i. We want to move it to the index i-1 to shift it to the left
-			FileHandle oldProfileFile = Gdx.files.local(FILE_PATH + i + ".json");
-			//Stores the file path where profile i-1 should be saved. We want to move the profile with index i to this target file.
-			FileHandle targetProfileFile = Gdx.files.local(FILE_PATH + (i-1) + ".json");
-			
-			//Move the profile to its new target file, effectively shifting the profiles to the left on the hard drive.
-			oldProfileFile.copyTo(targetProfileFile);
-			
-			//Delete the old profile which was shifted to the left by one file.
-			oldProfileFile.delete();
+			//Delete the files of profile i. The profile is re-saved under the index i-1 below, which effectively shifts the profiles to the left on the hard drive.
+			Gdx.files.local(FILE_PATH + i + FILE_EXTENSION).delete();
+			Gdx.files.local(FILE_PATH + i + LEGACY_FILE_EXTENSION).delete();
 			
 			//Retrieves the profile that has been shifted back one index
 			Profile profile = profiles.get(i);
@@ -217,7 +237,7 @@ public class ProfileManager
 			//Shift the profile one index to the left in order to fill up the spot of the deleted profile.
 			profiles.set(i-1, profile);
 			
-			//Save the profile on the hard drive, so that the profileId change gets recorded on the JSON file.
+			//Save the profile on the hard drive under its new index, so that the profileId change gets recorded on its file.
 			saveProfile(profile);
 		}
 		
@@ -1,14 +1,15 @@
 package com.jonathan.survivor.managers;
 
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
-import com.esotericsoftware.spine.Skeleton;
-import com.jonathan.survivor.Assets;
 import com.jonathan.survivor.entity.Tree;
 
-class TreePool extends Pool
+class TreePool extends ManagedPool<Tree>
 {
-
+	/** Creates a pool which holds 'warmCount' trees once warmed up, and keeps at most 'maxIdle' free trees. */
+	public TreePool(int warmCount, int maxIdle)
+	{
+		super("Tree", warmCount, maxIdle);
+	}
+	
 	/** Called when no free objects are available in the pool, and a new one must be created. */
 	@Override
 	public Tree newObject()
@@ -1,11 +1,15 @@
 package com.jonathan.survivor.managers;
 
-import com.badlogic.gdx.utils.Pool;
 import com.jonathan.survivor.entity.Zombie;
 
-class ZombiePool extends Pool<Zombie>
+class ZombiePool extends ManagedPool<Zombie>
 {
-
+	/** Creates a pool which holds 'warmCount' zombies once warmed up, and keeps at most 'maxIdle' free zombies. */
+	public ZombiePool(int warmCount, int maxIdle)
+	{
+		super("Zombie", warmCount, maxIdle);
+	}
+	
 	/** Called when no free objects are available in the pool, and a new one must be created. */
 	@Override
 	public Zombie newObject()
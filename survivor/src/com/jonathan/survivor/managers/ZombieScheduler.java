@@ -0,0 +1,186 @@
+package com.jonathan.survivor.managers;
+
+import com.jonathan.survivor.Survivor;
+import com.jonathan.survivor.World;
+import com.jonathan.survivor.entity.Human.Mode;
+import com.jonathan.survivor.entity.Human.State;
+import com.jonathan.survivor.entity.Player;
+import com.jonathan.survivor.entity.Zombie;
+
+/*
+ * Decides how often each zombie's game logic and AI are updated, according to how much it matters to the player. Zombies which can interact with the player
+ * or be seen by the camera are updated every tick, so that they never stutter on screen. Zombies outside of the camera's view are updated less often, with the
+ * time elapsed since their last update, so that they move and animate at the same speed. Each zombie is given a fixed phase the first time it is scheduled,
+ * which spreads the throttled zombies over the ticks of their interval, so that the cost of each tick stays even.
+ */
+
+public class ZombieScheduler
+{
+	/** Lists the update tiers of the zombies. Each tier stores the amount of ticks between two updates of its zombies. */
+	public enum Tier {
+		/** Zombies which are alerted, fighting, playing an animation, or on the player's row. Updated every tick. */
+		FULL(1),
+		/** Zombies on another row, but visible by the camera. Updated every tick, since a skipped update would show as a stutter. */
+		VISIBLE(1),
+		/** Zombies on another row, outside of the camera's view. Updated every fourth tick. */
+		FAR(4);
+
+		/** Stores the amount of ticks between two updates of a zombie in this tier. */
+		private final int interval;
+
+		private Tier(int interval)
+		{
+			this.interval = interval;
+		}
+
+		/** Returns the amount of ticks between two updates of a zombie in this tier. */
+		public int getInterval()
+		{
+			return interval;
+		}
+	}
+
+	/** Holds the World instance that the zombies are a part of. Used to retrieve the player, whose position decides the tier of each zombie. */
+	private World world;
+
+	/** Stores the ZombieManager which updates the game logic and the AI of the zombies. */
+	private ZombieManager zombieManager;
+	/** Holds the AnimationManager which advances the zombies' animations. */
+	private AnimationManager animationManager;
+
+	/** Stores the width and height of the camera's view, in world units. The camera is centered on the player while exploring. */
+	private float viewWidth = Survivor.DEFAULT_WORLD_WIDTH, viewHeight = Survivor.DEFAULT_WORLD_HEIGHT;
+
+	/** Stores the most ticks a zombie's update may catch up on. Caps the time given to a late update, so that the zombie never jumps. */
+	private static final int MAX_CATCH_UP_TICKS = Tier.FAR.getInterval();
+
+	/** Stores the amount of ticks scheduled since the scheduler was created. Used to decide which zombies of a tier are updated on a given tick. */
+	private int tick;
+	/** Stores the phase given to the next zombie scheduled for the first time. Cycles through the ticks of the longest interval. */
+	private int nextPhase;
+
+	/** Holds the amount of zombies in each tier during the last tick, indexed by the tier's ordinal. */
+	private int[] zombieCounts = new int[Tier.values().length];
+	/** Holds the amount of zombies of each tier which were updated during the last tick, indexed by the tier's ordinal. */
+	private int[] updateCounts = new int[Tier.values().length];
+
+	/** Creates a scheduler which updates the zombies of the given world using the given managers. */
+	public ZombieScheduler(World world, ZombieManager zombieManager, AnimationManager animationManager)
+	{
+		//Stores the given constructor arguments in their respective member variables.
+		this.world = world;
+		this.zombieManager = zombieManager;
+		this.animationManager = animationManager;
+	}
+
+	/** Called once per tick, before the zombies are scheduled. Resets the counters of the previous tick. */
+	public void begin()
+	{
+		//Moves on to the next tick.
+		tick++;
+
+		//Resets the counters of each tier.
+		for(int i = 0; i < zombieCounts.length; i++)
+		{
+			zombieCounts[i] = 0;
+			updateCounts[i] = 0;
+		}
+	}
+
+	/** Updates the given zombie if its tier is due this tick. Else, the tick's deltaTime is stored inside the zombie, and given to its next update. */
+	public void update(Zombie zombie, float deltaTime)
+	{
+		//Computes the update tier of the zombie, and counts it.
+		Tier tier = getTier(zombie);
+		zombieCounts[tier.ordinal()]++;
+
+		//If the zombie was never scheduled, gives it the next phase. The phase stays the same while other zombies enter or leave its tier.
+		if(zombie.getUpdatePhase() < 0)
+		{
+			zombie.setUpdatePhase(nextPhase);
+			nextPhase = (nextPhase + 1) % MAX_CATCH_UP_TICKS;
+		}
+
+		//Stores the time elapsed since the zombie was last updated, including the current tick. Capped, so that a late update doesn't make the zombie jump.
+		float elapsedTime = Math.min(zombie.getSkippedTime() + deltaTime, MAX_CATCH_UP_TICKS * deltaTime);
+
+		//If the zombie is not due this tick. The zombies of a tier are offset by their phase, so that each tick updates an even share of it.
+		if((tick + zombie.getUpdatePhase()) % tier.getInterval() != 0)
+		{
+			//Stores the elapsed time inside the zombie, so that its next update catches up.
+			zombie.setSkippedTime(elapsedTime);
+
+			//The zombie stays still this tick. It is off-screen, but ensures that it isn't drawn interpolating over its last movement again.
+			zombie.getPreviousPosition().set(zombie.getPosition());
+			return;
+		}
+
+		//Updates the zombie's game logic and advances its animations by the time elapsed since its last update.
+		zombie.setSkippedTime(0);
+		zombieManager.update(zombie, elapsedTime);
+		animationManager.updateZombie(zombie, elapsedTime);
+
+		//Counts the update.
+		updateCounts[tier.ordinal()]++;
+	}
+
+	/** Returns the update tier of the given zombie, according to its state and its distance from the player. */
+	public Tier getTier(Zombie zombie)
+	{
+		//If the zombie is aware of the player or fighting him, its logic must react every tick.
+		if(zombie.isAlerted() || zombie.getMode() != Mode.EXPLORING)
+			return Tier.FULL;
+
+		//If the zombie is playing an animation other than idling or walking, such as spawning or dying, its animation events must be dispatched on time.
+		if(zombie.getState() != State.IDLE && zombie.getState() != State.WALK)
+			return Tier.FULL;
+
+		//Retrieves the player, whose position dictates the zombie's importance.
+		Player player = world.getPlayer();
+
+		//If the zombie is on the player's row, the zombie can see and collide with the player. Thus, it is updated every tick.
+		if(zombie.getTerrainCell().getRow() == player.getTerrainCell().getRow())
+			return Tier.FULL;
+
+		//If the zombie can be seen by the camera, it is updated every tick so that its movement stays smooth.
+		if(isVisible(zombie, player))
+			return Tier.VISIBLE;
+
+		//Else, the zombie is off-screen, and is rarely updated.
+		return Tier.FAR;
+	}
+
+	/** Returns true if the given zombie is inside the view of the camera, which is centered on the player while exploring. */
+	private boolean isVisible(Zombie zombie, Player player)
+	{
+		//Computes the center of the camera, which follows the center of the player.
+		float cameraX = player.getX();
+		float cameraY = player.getY() + Player.COLLIDER_HEIGHT/2;
+
+		//If the zombie's collider is horizontally outside of the camera's view, the zombie isn't visible.
+		if(Math.abs(zombie.getX() - cameraX) > (viewWidth + Zombie.COLLIDER_WIDTH)/2)
+			return false;
+
+		//Returns true if the zombie's collider vertically overlaps the camera's view.
+		return zombie.getY() < cameraY + viewHeight/2 && zombie.getY() + Zombie.COLLIDER_HEIGHT > cameraY - viewHeight/2;
+	}
+
+	/** Sets the width and height of the camera's view, in world units. Used to decide which zombies are visible. */
+	public void setViewSize(float viewWidth, float viewHeight)
+	{
+		this.viewWidth = viewWidth;
+		this.viewHeight = viewHeight;
+	}
+
+	/** Returns the amount of zombies which were in the given tier during the last tick. */
+	public int getZombieCount(Tier tier)
+	{
+		return zombieCounts[tier.ordinal()];
+	}
+
+	/** Returns the amount of zombies of the given tier which were updated during the last tick. */
+	public int getUpdateCount(Tier tier)
+	{
+		return updateCounts[tier.ordinal()];
+	}
+}
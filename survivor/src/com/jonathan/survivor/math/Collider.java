@@ -32,6 +32,9 @@ public abstract class Collider
 		return position;
 	}
 	
+	/** Returns the width of the collider, measured from its position. */
+	public abstract float getWidth();
+	
 	/** Returns true if this collider intersects with another collider*/
 	public abstract boolean intersects(Collider r);
 	
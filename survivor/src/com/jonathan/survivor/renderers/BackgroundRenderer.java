@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.jonathan.survivor.World;
 import com.jonathan.survivor.entity.Background;
 import com.jonathan.survivor.entity.Player;
+import com.jonathan.survivor.renderers.RenderStats.Section;
 
 /*
  * Renders the game's FX displayed on screen, such as the crosshairs.
@@ -39,6 +40,10 @@ public class BackgroundRenderer
 		//Updates the background according to the player's position.
 		update(deltaTime);
 		
+		//Counts the background's draw calls in their own section, which is restored once the background is drawn.
+		Section section = CountingSpriteBatch.getSection(batcher);
+		CountingSpriteBatch.setSection(batcher, Section.BACKGROUND);
+		
 		//Begin batching the sprites used to draw the background.
 		batcher.begin();
 		
@@ -47,6 +52,9 @@ public class BackgroundRenderer
 
 		//Commit the background sprites and draw them on-screen.
 		batcher.end();
+		
+		//Counts the following draw calls in the section being drawn before the background.
+		CountingSpriteBatch.setSection(batcher, section);
 	}
 
 	/** Updates the Background so that it is always centered on the player. */
@@ -0,0 +1,201 @@
+package com.jonathan.survivor.renderers;
+
+import com.badlogic.gdx.graphics.GL11;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.jonathan.survivor.renderers.RenderStats.Metric;
+import com.jonathan.survivor.renderers.RenderStats.Section;
+
+/*
+ * A SpriteBatch which counts the work it submits to the GPU inside a RenderStats instance: its flushes, the flushes which issued a draw call, its texture
+ * switches, its blend function changes and the vertices it is given. The batch itself draws exactly like a SpriteBatch. The renderers which share the batch
+ * tell the statistics which section of the screen they draw with setSection().
+ */
+
+public class CountingSpriteBatch extends SpriteBatch
+{
+	/** Stores the statistics where the batch's work is counted. */
+	private RenderStats stats;
+
+	/** Stores the last texture drawn by the batch, used to count texture switches. The SpriteBatch's own texture is not visible to subclasses. */
+	private Texture lastTexture;
+	/** Stores the current blend function of the batch, used to count the calls which change it. */
+	private int blendSrcFunc = GL11.GL_SRC_ALPHA, blendDstFunc = GL11.GL_ONE_MINUS_SRC_ALPHA;
+
+	/** Creates a batch which counts its work inside the given statistics. */
+	public CountingSpriteBatch(RenderStats stats)
+	{
+		this.stats = stats;
+	}
+
+	/** Returns the statistics where the batch's work is counted. */
+	public RenderStats getStats()
+	{
+		return stats;
+	}
+
+	/** Sets the section of the screen being drawn. The draw calls which follow are counted in this section. */
+	public void setSection(Section section)
+	{
+		stats.setSection(section);
+	}
+
+	/** Sets the section being drawn if the given batch counts its work. Lets the renderers mark their sections without knowing the type of their batch. */
+	public static void setSection(SpriteBatch batch, Section section)
+	{
+		if(batch instanceof CountingSpriteBatch)
+			((CountingSpriteBatch)batch).setSection(section);
+	}
+
+	/** Returns the section being drawn if the given batch counts its work, or null otherwise. */
+	public static Section getSection(SpriteBatch batch)
+	{
+		return (batch instanceof CountingSpriteBatch) ? ((CountingSpriteBatch)batch).stats.getSection() : null;
+	}
+
+	@Override
+	public void end()
+	{
+		super.end();
+
+		//The SpriteBatch forgets its texture when it ends. Thus, the first texture drawn in the next batch is always a switch.
+		lastTexture = null;
+	}
+
+	@Override
+	public void flush()
+	{
+		//Stores the amount of draw calls issued before flushing. A flush only issues a draw call if sprites were batched.
+		int renderCalls = this.renderCalls;
+
+		super.flush();
+
+		//Counts the flush, along with the draw call it issued, if any.
+		stats.add(Metric.FLUSHES, 1);
+		stats.add(Metric.RENDER_CALLS, this.renderCalls - renderCalls);
+	}
+
+	@Override
+	public void setBlendFunction(int srcFunc, int dstFunc)
+	{
+		//If the blend function changes, count the change, since it forces the batch to flush.
+		if(srcFunc != blendSrcFunc || dstFunc != blendDstFunc)
+		{
+			stats.add(Metric.BLEND_CHANGES, 1);
+			blendSrcFunc = srcFunc;
+			blendDstFunc = dstFunc;
+		}
+
+		super.setBlendFunction(srcFunc, dstFunc);
+	}
+
+	@Override
+	public void enableBlending()
+	{
+		//If blending was disabled, count the change, since it forces the batch to flush.
+		if(isBlendingEnabled() == false)
+			stats.add(Metric.BLEND_CHANGES, 1);
+
+		super.enableBlending();
+	}
+
+	@Override
+	public void disableBlending()
+	{
+		//If blending was enabled, count the change, since it forces the batch to flush.
+		if(isBlendingEnabled())
+			stats.add(Metric.BLEND_CHANGES, 1);
+
+		super.disableBlending();
+	}
+
+	/** Counts a draw of the given amount of vertices with the given texture. Counts a texture switch if the texture differs from the last one. */
+	private void count(Texture texture, int vertices)
+	{
+		//If the texture changes, count the switch, since it forces the batch to flush.
+		if(texture != lastTexture)
+		{
+			stats.add(Metric.TEXTURE_SWITCHES, 1);
+			lastTexture = texture;
+		}
+
+		stats.add(Metric.VERTICES, vertices);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation,
+			int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY)
+	{
+		count(texture, 4);
+		super.draw(texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, srcX, srcY, srcWidth, srcHeight, flipX, flipY);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY)
+	{
+		count(texture, 4);
+		super.draw(texture, x, y, width, height, srcX, srcY, srcWidth, srcHeight, flipX, flipY);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight)
+	{
+		count(texture, 4);
+		super.draw(texture, x, y, srcX, srcY, srcWidth, srcHeight);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2)
+	{
+		count(texture, 4);
+		super.draw(texture, x, y, width, height, u, v, u2, v2);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y)
+	{
+		count(texture, 4);
+		super.draw(texture, x, y);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height)
+	{
+		count(texture, 4);
+		super.draw(texture, x, y, width, height);
+	}
+
+	@Override
+	public void draw(Texture texture, float[] spriteVertices, int offset, int count)
+	{
+		//Each vertex is made of five floats: its position, color and texture coordinates.
+		count(texture, count / 5);
+		super.draw(texture, spriteVertices, offset, count);
+	}
+
+	//Note that draw(TextureRegion, float, float) is not overridden, since the SpriteBatch delegates it to draw(TextureRegion, float, float, float, float).
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float width, float height)
+	{
+		count(region.getTexture(), 4);
+		super.draw(region, x, y, width, height);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY,
+			float rotation)
+	{
+		count(region.getTexture(), 4);
+		super.draw(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY,
+			float rotation, boolean clockwise)
+	{
+		count(region.getTexture(), 4);
+		super.draw(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation, clockwise);
+	}
+}
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Array;
 import com.jonathan.survivor.Assets;
+import com.jonathan.survivor.GameObjectRegistry;
 import com.jonathan.survivor.TerrainLevel;
 import com.jonathan.survivor.World;
 import com.jonathan.survivor.entity.GameObject;
@@ -48,13 +49,13 @@ public class GameObjectRenderer
 		//Stores the world camera where all the sprites are drawn.
 		this.worldCamera = worldCamera;
 		
-		//Creates a playerRenderer from the player GameObject, the World instance, the SpriteBatch instance to draw the player, and the worldCamera, where the Player will be drawn.
-		playerRenderer = new PlayerRenderer(world.getPlayer(), world, batcher, worldCamera);
+		//Creates a playerRenderer from the player GameObject, the SpriteBatch instance to draw the player, and the worldCamera, where the Player will be drawn.
+		playerRenderer = new PlayerRenderer(world.getPlayer(), batcher, worldCamera);
 		
 		//Creates an InteractiveObjectRenderer, passing the SpriteBatch it will use to draw the InteractiveObjects.
 		interactiveObjectRenderer = new InteractiveObjectRenderer(batcher);
 		//Instantiates the zombieRenderer used to draw all zombies to the screen. The zombies will be drawn using the given SpriteBatch argument.
-		zombieRenderer = new ZombieRenderer(world, batcher);
+		zombieRenderer = new ZombieRenderer(batcher);
 		//Instantiates the ItemObjectRenderer which will be used to draw the dropped ItemObjects. The renderer will draw the objects using the passed SpriteBatch.
 		itemObjectRenderer = new ItemObjectRenderer(batcher);
 		//Creates the ProjectileRenderer used to draw the projectiles to the screen. The projectiles will be drawn using the SpriteBatch passed as a constructor argument.
@@ -62,29 +63,54 @@ public class GameObjectRenderer
 		
 	}
 	
-	public void render(float deltaTime)
+	/** Draws the GameObjects of the world's level, along with the player. Their skeletons have already been posed by the World's update() method. Accepts the
+	 *  fraction of a tick elapsed since the last world update, used to draw the moving GameObjects between their previous and current positions. */
+	public void render(float alpha)
 	{				
 		//Sets the projection matrix of the SpriteBatch to the camera's combined matrix. Ensure everything is drawn with the camera's coordinate system.
 		batcher.setProjectionMatrix(worldCamera.combined);
 		//Starts batching sprites to be drawn to the camera.
 		batcher.begin();
 				
+		//Tells the InteractiveObjectRenderer that a new frame has started, so that the idle poses it shares between GameObjects are re-computed.
+		interactiveObjectRenderer.begin(world.getElapsedTime());
+		
 		//Renders the GameObjects stored inside the currently active level.
-		renderLevelObjects(deltaTime);
+		renderLevelObjects(alpha);
 		//Draws the player to the screen.
-		playerRenderer.render(deltaTime);
+		playerRenderer.render(alpha);
 		
 		//Draws the sprites batched inside the SpriteBatcher.
 		batcher.end();
 	}
 
-	/** Draws the GameObjects that are contained inside the world's level. */
-	private void renderLevelObjects(float deltaTime) 
+	/** Draws the GameObjects that are contained inside the world's level, interpolating the positions of the moving GameObjects by the given alpha. */
+	private void renderLevelObjects(float alpha) 
 	{
-		//Retrieves the currently active level's contained GameObjects.
-		Array<GameObject> gameObjects = world.getLevel().getGameObjects();
-		
-		//Cycles through the level's GameObjects.
+		//If the world's level is a TerrainLevel
+		if(world.getLevel() instanceof TerrainLevel)
+		{
+			//Stores the registry holding the level's GameObjects by type.
+			GameObjectRegistry registry = ((TerrainLevel)world.getLevel()).getRegistry();
+			
+			//Draws the level's GameObjects straight from the registry, one type at a time. Trees are drawn first, and items last, so that items appear in front.
+			//Each array is ordered from the top row down, so that GameObjects on the back rows are covered by the ones in front of them.
+			renderGameObjects(registry.getTrees(), alpha);
+			renderGameObjects(registry.getBoxes(), alpha);
+			renderGameObjects(registry.getZombies(), alpha);
+			renderGameObjects(registry.getItemObjects(), alpha);
+		}
+		//Else, draw the GameObjects of the level in the order they are stored.
+		else
+		{
+			renderGameObjects(world.getLevel().getGameObjects(), alpha);
+		}
+	}
+	
+	/** Draws the given GameObjects, interpolating the positions of the moving GameObjects by the given alpha. */
+	private void renderGameObjects(Array<? extends GameObject> gameObjects, float alpha)
+	{
+		//Cycles through the GameObjects.
 		for(int i = 0; i < gameObjects.size; i++)
 		{
 			//Stores the GameObject
@@ -113,7 +139,7 @@ public class GameObjectRenderer
 			//If the GameObject to draw is a Projectile
 			if(go instanceof Projectile)
 				//Delegate the draw call to the ProjectileRenderer class.
-				projectileRenderer.draw((Projectile) go);
+				projectileRenderer.draw((Projectile) go, alpha);
 			//Else, if the GameObject is an InteractiveObject
 			else if(go instanceof InteractiveObject)
 				//Pass the drawing call to the InteractiveObjectRenderer, specifying whether or not it should be drawn transparent.
@@ -121,11 +147,11 @@ public class GameObjectRenderer
 			//Else, if the GameObject that is being cycled through is a zombie.
 			else if(go instanceof Zombie)
 				//Pass the rendering call to the ZombieRenderer, which will draw the zombie to the screen.
-				zombieRenderer.draw((Zombie) go, drawTransparent, deltaTime);
+				zombieRenderer.draw((Zombie) go, drawTransparent, alpha);
 			//Else, if the GameObject is an item that has been dropped in the world
 			else if(go instanceof ItemObject)
 				//Pass the rendering to the ItemObjectRenderer, and tell it whether or not the item should be drawn transparent.
-				itemObjectRenderer.draw((ItemObject) go, drawTransparent);
+				itemObjectRenderer.draw((ItemObject) go, drawTransparent, alpha);
 		}
 		
 	}
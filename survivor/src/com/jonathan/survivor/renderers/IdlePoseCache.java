@@ -0,0 +1,274 @@
+package com.jonathan.survivor.renderers;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL11;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.esotericsoftware.spine.Animation;
+import com.esotericsoftware.spine.Event;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+/*
+ * Draws the GameObjects playing a looping idle animation without posing their own skeletons. The animation's loop is split into a fixed amount of phase
+ * buckets. Each frame, the animation is applied once per bucket to a skeleton owned by the cache, and the world vertices of its attachments are stored at the
+ * origin. A GameObject is drawn by copying the vertices of the bucket closest to its phase, translated to its position and tinted with its color. Thus, the
+ * bones of the animation are computed once per bucket, instead of once per GameObject. Only region attachments are cached.
+ */
+
+public class IdlePoseCache
+{
+	/** Stores the amount of floats used by the four vertices of a region attachment. */
+	private static final int VERTEX_SIZE = 20;
+
+	/** Stores the idle animation drawn by the cache. */
+	private Animation animation;
+
+	/** Stores the amount of phase buckets the animation's loop is split into. */
+	private int bucketCount;
+
+	/** Holds the skeleton posed for each bucket. Owned by the cache, so its pose is never modified by a GameObject. */
+	private Skeleton[] skeletons;
+
+	/** Holds the world vertices of each bucket's attachments, in draw order, computed with the skeleton at the origin. */
+	private float[][] vertices;
+	/** Holds the color of each bucket's attachments, as r, g, b and a components. The color of the GameObject is multiplied into them when drawn. */
+	private float[][] colors;
+	/** Holds the texture of each bucket's attachments. */
+	private Texture[][] textures;
+	/** Holds whether or not each bucket's attachments are drawn with additive blending. */
+	private boolean[][] additive;
+	/** Stores the amount of attachments cached for each bucket. */
+	private int[] attachmentCounts;
+
+	/** Stores the frame at which each bucket was last posed. A bucket is only posed once per frame, when the first GameObject in it is drawn. */
+	private int[] posedFrames;
+	/** Stores the current frame, incremented every time begin() is called. */
+	private int frame;
+	/** Stores the time of the world's clock for the current frame, in seconds. */
+	private float time;
+
+	/** Stores whether or not the vertex colors are premultiplied by their alpha, like the SkeletonRenderer used to draw the other skeletons. */
+	private boolean premultipliedAlpha;
+
+	/** Helper array which holds the vertices of the attachment being drawn. Avoids modifying the cached vertices. */
+	private float[] workingVertices = new float[VERTEX_SIZE];
+
+	//Helper Array that's passed to the Animation.apply() method.
+	private Array<Event> events = new Array<Event>();
+
+	/** Creates a cache which draws the given looping animation of the given SkeletonData, split into the given amount of phase buckets. */
+	public IdlePoseCache(SkeletonData skeletonData, Animation animation, int bucketCount)
+	{
+		//Stores the animation drawn by the cache, along with the amount of buckets its loop is split into.
+		this.animation = animation;
+		this.bucketCount = bucketCount;
+
+		//Creates the arrays holding the state of each bucket.
+		skeletons = new Skeleton[bucketCount];
+		vertices = new float[bucketCount][];
+		colors = new float[bucketCount][];
+		textures = new Texture[bucketCount][];
+		additive = new boolean[bucketCount][];
+		attachmentCounts = new int[bucketCount];
+		posedFrames = new int[bucketCount];
+
+		//Stores the amount of slots of the skeleton, which is the most attachments a pose can hold.
+		int slotCount = skeletonData.getSlots().size;
+
+		//Cycles through the buckets
+		for(int i = 0; i < bucketCount; i++)
+		{
+			//Creates the skeleton posed for the bucket, along with the arrays storing its attachments.
+			skeletons[i] = new Skeleton(skeletonData);
+			vertices[i] = new float[slotCount * VERTEX_SIZE];
+			colors[i] = new float[slotCount * 4];
+			textures[i] = new Texture[slotCount];
+			additive[i] = new boolean[slotCount];
+
+			//No bucket has been posed yet.
+			posedFrames[i] = -1;
+		}
+	}
+
+	/** Starts a new frame. Must be called before the GameObjects are drawn, with the world's clock. The buckets will be posed at this time when first drawn. */
+	public void begin(float time)
+	{
+		//Stores the world's clock, used as the time reference of every bucket.
+		this.time = time;
+
+		//Moves on to the next frame, so that every bucket is posed again.
+		frame++;
+	}
+
+	/** Draws a GameObject whose idle animation has been playing for 'stateTime' seconds, with its bottom-center at (x, y), tinted with the given color. The world's
+	 *  clock passed to begin() must advance at the same rate as the GameObject's stateTime. */
+	public void draw(Batch batch, float stateTime, float x, float y, Color color)
+	{
+		//Retrieves the bucket holding the pose closest to the GameObject's phase, posing it if it is not yet posed for this frame.
+		int bucket = getBucket(stateTime);
+		if(posedFrames[bucket] != frame)
+			pose(bucket);
+
+		//Stores the arrays of the bucket for quicker access.
+		float[] bucketVertices = vertices[bucket];
+		float[] bucketColors = colors[bucket];
+		Texture[] bucketTextures = textures[bucket];
+		boolean[] bucketAdditive = additive[bucket];
+
+		//Stores the source blend function used by the SkeletonRenderer.
+		int srcFunc = premultipliedAlpha ? GL11.GL_ONE : GL11.GL_SRC_ALPHA;
+
+		//Cycles through the attachments of the pose, in draw order.
+		for(int i = 0, n = attachmentCounts[bucket]; i < n; i++)
+		{
+			//Copies the attachment's vertices, and translates their positions to the GameObject's position.
+			float[] working = workingVertices;
+			System.arraycopy(bucketVertices, i * VERTEX_SIZE, working, 0, VERTEX_SIZE);
+			for(int v = 0; v < VERTEX_SIZE; v += 5)
+			{
+				working[v] += x;
+				working[v+1] += y;
+			}
+
+			//Multiplies the attachment's color by the GameObject's color, and packs it into every vertex, like RegionAttachment.updateWorldVertices() does.
+			float packedColor = packColor(bucketColors, i * 4, color, bucketAdditive[i]);
+			working[2] = working[7] = working[12] = working[17] = packedColor;
+
+			//Stores the blend function of the attachment. With premultiplied alpha, additive attachments keep the normal blend function, like the SkeletonRenderer.
+			int dstFunc = (bucketAdditive[i] && !premultipliedAlpha) ? GL11.GL_ONE : GL11.GL_ONE_MINUS_SRC_ALPHA;
+
+			//Only changes the batch's blend function if it differs, since changing it flushes the batch. Consecutive GameObjects are thus drawn in one batch.
+			if(batch.getBlendSrcFunc() != srcFunc || batch.getBlendDstFunc() != dstFunc)
+				batch.setBlendFunction(srcFunc, dstFunc);
+
+			//Draws the attachment.
+			batch.draw(bucketTextures[i], working, 0, VERTEX_SIZE);
+		}
+	}
+
+	/** Returns the bucket whose phase is closest to the phase of a GameObject whose animation has been playing for 'stateTime' seconds. */
+	private int getBucket(float stateTime)
+	{
+		//Stores the duration of the animation's loop. If it has no duration, every GameObject shares the same pose.
+		float duration = animation.getDuration();
+		if(duration <= 0)
+			return 0;
+
+		//Computes how far ahead of the world's clock the GameObject's animation is, as a fraction of the loop in [0,1).
+		float phase = ((stateTime - time) % duration) / duration;
+		if(phase < 0)
+			phase += 1;
+
+		//Rounds the phase to the closest bucket, wrapping the last half-bucket around to the first bucket.
+		return Math.round(phase * bucketCount) % bucketCount;
+	}
+
+	/** Applies the animation to the given bucket's skeleton at the current frame's time, and stores the world vertices of its attachments. */
+	private void pose(int bucket)
+	{
+		//Stores the skeleton of the bucket, placed at the origin with a white color, so that its vertices can be translated and tinted when drawn.
+		Skeleton skeleton = skeletons[bucket];
+		skeleton.setX(0);
+		skeleton.setY(0);
+		skeleton.getColor().set(Color.WHITE);
+
+		//Applies the animation at the bucket's time, which is ahead of the world's clock by the bucket's phase.
+		float bucketTime = time + animation.getDuration() * bucket / bucketCount;
+		animation.apply(skeleton, bucketTime, bucketTime, true, events);
+		events.clear();
+
+		//Computes the world transform of the bones once for every GameObject in the bucket.
+		skeleton.updateWorldTransform();
+
+		//Stores the arrays of the bucket for quicker access.
+		float[] bucketVertices = vertices[bucket];
+		float[] bucketColors = colors[bucket];
+		Texture[] bucketTextures = textures[bucket];
+		boolean[] bucketAdditive = additive[bucket];
+		int count = 0;
+
+		//Cycles through the slots of the skeleton, in draw order.
+		Array<Slot> drawOrder = skeleton.getDrawOrder();
+		for(int i = 0; i < drawOrder.size; i++)
+		{
+			//Stores the slot's attachment. Only region attachments are cached.
+			Slot slot = drawOrder.get(i);
+			Attachment attachment = slot.getAttachment();
+			if(!(attachment instanceof RegionAttachment))
+				continue;
+
+			//Computes the world vertices of the attachment, and copies them inside the bucket.
+			RegionAttachment region = (RegionAttachment)attachment;
+			region.updateWorldVertices(slot, false);
+			System.arraycopy(region.getWorldVertices(), 0, bucketVertices, count * VERTEX_SIZE, VERTEX_SIZE);
+
+			//Stores the color of the attachment, which is the slot's color multiplied by the region's color.
+			Color slotColor = slot.getColor();
+			Color regionColor = region.getColor();
+			bucketColors[count*4] = slotColor.r * regionColor.r;
+			bucketColors[count*4+1] = slotColor.g * regionColor.g;
+			bucketColors[count*4+2] = slotColor.b * regionColor.b;
+			bucketColors[count*4+3] = slotColor.a * regionColor.a;
+
+			//Stores the texture and the blending of the attachment.
+			bucketTextures[count] = region.getRegion().getTexture();
+			bucketAdditive[count] = slot.getData().getAdditiveBlending();
+
+			count++;
+		}
+
+		//Stores the amount of attachments in the pose, and marks the bucket as posed for this frame.
+		attachmentCounts[bucket] = count;
+		posedFrames[bucket] = frame;
+	}
+
+	/** Returns the packed color of the attachment whose components start at the given offset, multiplied by the given color. If the attachment is additive and
+	 *  the colors are premultiplied, the packed alpha is zero, so that the color is added to the destination without changing the blend function. */
+	private float packColor(float[] bucketColors, int offset, Color color, boolean additive)
+	{
+		//Multiplies the attachment's color by the GameObject's color.
+		float r = color.r * bucketColors[offset];
+		float g = color.g * bucketColors[offset+1];
+		float b = color.b * bucketColors[offset+2];
+		float a = color.a * bucketColors[offset+3] * 255;
+
+		//Premultiplies the color by its alpha if needed, or else scales it to [0,255].
+		if(premultipliedAlpha)
+		{
+			r *= a;
+			g *= a;
+			b *= a;
+		}
+		else
+		{
+			r *= 255;
+			g *= 255;
+			b *= 255;
+		}
+
+		//Additive attachments drawn with premultiplied alpha are packed with a zero alpha.
+		if(additive && premultipliedAlpha)
+			a = 0;
+
+		//Packs the color as an ABGR float.
+		return NumberUtils.intToFloatColor(((int)a << 24) | ((int)b << 16) | ((int)g << 8) | (int)r);
+	}
+
+	/** Sets whether or not the vertex colors are premultiplied by their alpha. Must match the SkeletonRenderer used to draw the other skeletons. */
+	public void setPremultipliedAlpha(boolean premultipliedAlpha)
+	{
+		this.premultipliedAlpha = premultipliedAlpha;
+	}
+
+	/** Returns the amount of phase buckets the animation's loop is split into. */
+	public int getBucketCount()
+	{
+		return bucketCount;
+	}
+}
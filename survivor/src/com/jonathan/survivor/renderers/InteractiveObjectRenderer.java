@@ -28,6 +28,12 @@ public class InteractiveObjectRenderer
 	//Helper Array that's passed to the Animation.set() method.
 	private Array<Event> events = new Array<Event>();
 	
+	/** Stores the amount of phase buckets used to draw the idle trees and boxes. More buckets make the phases more varied, but pose more skeletons per frame. */
+	public static final int IDLE_POSE_BUCKETS = 8;
+	
+	/** Stores the caches which pose the idle animation of the trees and the boxes once per phase bucket, instead of once per GameObject. */
+	private IdlePoseCache treeIdleCache, boxIdleCache;
+	
 	/** Accepts the SpriteBatch instance used to draw the Interactive GameObjects. */
 	public InteractiveObjectRenderer(SpriteBatch batcher)
 	{
@@ -36,6 +42,22 @@ public class InteractiveObjectRenderer
 		
 		//Helper Color instance used to avoid instantiation. Defaults to white.
 		workingColor = new Color(Color.WHITE);
+		
+		//Creates the caches which draw the idle trees and boxes from a shared set of poses.
+		treeIdleCache = new IdlePoseCache(assets.treeSkeletonData, assets.treeIdle, IDLE_POSE_BUCKETS);
+		boxIdleCache = new IdlePoseCache(assets.boxSkeletonData, assets.boxIdle, IDLE_POSE_BUCKETS);
+		
+		//Packs the cached colors the same way as the SkeletonRenderer used to draw the other skeletons.
+		treeIdleCache.setPremultipliedAlpha(assets.skeletonRenderer.getPremultipliedAlpha());
+		boxIdleCache.setPremultipliedAlpha(assets.skeletonRenderer.getPremultipliedAlpha());
+	}
+	
+	/** Called before the InteractiveObjects are drawn each frame. Accepts the world's clock, which the idle animations of every GameObject are synchronized to. */
+	public void begin(float worldTime)
+	{
+		//Tells the idle caches that a new frame has started, so that their poses are re-computed for the current time.
+		treeIdleCache.begin(worldTime);
+		boxIdleCache.begin(worldTime);
 	}
 	
 	/** Draws the given InteractiveObject. Accepts whether or not the GameObject should be drawn transparent. */
@@ -65,23 +87,16 @@ public class InteractiveObjectRenderer
 		//Set the default color of the tree to white, using the workingColor instance as a helper object.
 		workingColor.set(Color.WHITE);
 		
-		//If the tree has jump spawned
-		if(tree.getInteractiveState() == InteractiveState.SPAWN)
+		//If the tree is in IDLE state. Note that SPAWN and HIT state transitions are handled by the World's AnimationManager.
+		if(tree.getInteractiveState() == InteractiveState.IDLE)
 		{
-			//Reset the tree's skeleton to its setup pose to undo any changes previously done to the skeleton's bones.
-			skeleton.setToSetupPose();
+			//If the tree is supposed to be transparent, apply transparency to the working color.
+			if(drawTransparent)
+				workingColor.mul(TRANSPARENT_COLOR);
 			
-			//Sets the state time of the tree to a random time so that the idle animation starts playing at a random place for every tree.
-			tree.setStateTime((float)Math.random() * 10);
-			//Sets the tree's state to IDLE, indicating that the renderer has received the message that the tree has spawned.
-			tree.setInteractiveState(InteractiveState.IDLE);
-		}
-		//Else, if the tree is in IDLE state
-		else if(tree.getInteractiveState() == InteractiveState.IDLE)
-		{
-			//Apply the 'treeIdle' animation to the tree's skeleton. Second and third arguments specify how much time the tree has been idle, third indicates we want to 
-			//loop the animation, and last is an array where any possible animation events are delegated.
-			assets.treeIdle.apply(skeleton, tree.getStateTime(), tree.getStateTime(), true, events);
+			//Draws the tree from the shared pose closest to its phase in the 'treeIdle' animation, without posing the tree's own skeleton.
+			treeIdleCache.draw(batcher, tree.getStateTime(), tree.getX(), tree.getY(), workingColor);
+			return;
 		}
 		//Else, if the tree was clicked
 		else if(tree.getInteractiveState() == InteractiveState.CLICKED)
@@ -96,10 +111,6 @@ public class InteractiveObjectRenderer
 			//Apply the 'treeIdle' animation to the tree's skeleton. Second and third arguments specify how much time the tree has been idle, third indicates we want to 
 			//play the animation once, and last is an array where any possible animation events are delegated.
 			assets.treeHit.apply(skeleton, tree.getStateTime(), tree.getStateTime(), false, events);
-			
-			if(tree.getStateTime() > assets.treeHit.getDuration())
-				//The tree renderer has received the HIT message, so the tree can be reset to its CLICKED state.
-				tree.setInteractiveState(InteractiveState.CLICKED);
 		}
 		//Else, if the tree has been scavenged (i.e., its health has dropped below zero)
 		else if(tree.getInteractiveState() == InteractiveState.SCAVENGED)
@@ -137,21 +148,16 @@ public class InteractiveObjectRenderer
 		//Reset the workingColor to a blank WHITE slate. Used to modify the color white accordingly and apply it as the box's final color.
 		workingColor.set(Color.WHITE);
 		
-		//If the box has jump spawned
-		if(box.getInteractiveState() == InteractiveState.SPAWN)
+		//If the box is in IDLE state. Note that the SPAWN state transition is handled by the World's AnimationManager.
+		if(box.getInteractiveState() == InteractiveState.IDLE)
 		{
-			//Reset the box's skeleton to its setup pose to undo any changes previously done to the skeleton's bones.
-			skeleton.setToSetupPose();
+			//If the box is supposed to be transparent, apply transparency to the working color.
+			if(drawTransparent)
+				workingColor.mul(TRANSPARENT_COLOR);
 			
-			//Sets the box IDLE state, indicating that the renderer has received the message that the box has spawned.
-			box.setInteractiveState(InteractiveState.IDLE);
-		}
-		//Else, if the box is in IDLE state
-		else if(box.getInteractiveState() == InteractiveState.IDLE)
-		{
-			//Apply the 'boxIdle' animation to the box's skeleton. Second and third arguments specify how much time the box has been idle, third indicates we want to 
-			//loop the animation, and last is an array where any possible animation events are delegated.
-			assets.boxIdle.apply(skeleton, box.getStateTime(), box.getStateTime(), true, events);
+			//Draws the box from the shared pose closest to its phase in the 'boxIdle' animation, without posing the box's own skeleton.
+			boxIdleCache.draw(batcher, box.getStateTime(), box.getX(), box.getY(), workingColor);
+			return;
 		}
 		//Else, if the box was clicked
 		else if(box.getInteractiveState() == InteractiveState.CLICKED)
@@ -37,8 +37,8 @@ public class ItemObjectRenderer
 		workingColor = new Color(Color.WHITE);
 	}
 	
-	/** Accepts the ItemObject to draw, and whether or not to draw it transparent. */
-	public void draw(ItemObject itemObject, boolean transparent)
+	/** Accepts the ItemObject to draw, whether or not to draw it transparent, and the fraction of a tick elapsed since the last world update. */
+	public void draw(ItemObject itemObject, boolean transparent, float alpha)
 	{
 		//Stores the Skeleton instance owned by the ItemObject, which allows the object to be drawn to the screen.
 		Skeleton skeleton = itemObject.getSkeleton();
@@ -46,9 +46,9 @@ public class ItemObjectRenderer
 		//Sets the skeleton to display the image of the inventory item held by the ItemObject.
 		skeleton.setAttachment(Item.SLOT_NAME, itemObject.getItem().getItemAttachment());
 		
-		//Updates the position of the skeleton to that of the Item GameObject. The position for both is denoted by the bottom-center.
-		skeleton.setX(itemObject.getX());
-		skeleton.setY(itemObject.getY());
+		//Updates the position of the skeleton to the interpolated position of the Item GameObject. The position for both is denoted by the bottom-center.
+		skeleton.setX(itemObject.getInterpolatedX(alpha));
+		skeleton.setY(itemObject.getInterpolatedY(alpha));
 		
 		//Reset the working color instance to WHITE so that the helper color starts from a clean slate.
 		workingColor.set(Color.WHITE);
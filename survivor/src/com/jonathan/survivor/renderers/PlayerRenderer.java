@@ -3,33 +3,17 @@ package com.jonathan.survivor.renderers;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.esotericsoftware.spine.AnimationState;
-import com.esotericsoftware.spine.AnimationState.AnimationStateListener;
-import com.esotericsoftware.spine.AnimationStateData;
-import com.esotericsoftware.spine.Bone;
-import com.esotericsoftware.spine.Event;
 import com.esotericsoftware.spine.Skeleton;
-import com.esotericsoftware.spine.Slot;
-import com.esotericsoftware.spine.attachments.Attachment;
-import com.esotericsoftware.spine.attachments.RegionAttachment;
 import com.jonathan.survivor.Assets;
-import com.jonathan.survivor.World;
-import com.jonathan.survivor.SoundListener.Sound;
-import com.jonathan.survivor.entity.Human.Direction;
-import com.jonathan.survivor.entity.Human.Mode;
-import com.jonathan.survivor.entity.Human.State;
 import com.jonathan.survivor.entity.Player;
-import com.jonathan.survivor.inventory.Axe;
-import com.jonathan.survivor.inventory.MeleeWeapon;
-import com.jonathan.survivor.inventory.RangedWeapon;
-import com.jonathan.survivor.inventory.Rifle;
-import com.jonathan.survivor.math.Rectangle;
+
+/*
+ * Draws the player's skeleton. The player's animations and attachments are advanced by the World's AnimationManager, so this class simply reads the
+ * skeleton's resulting pose.
+ */
 
 public class PlayerRenderer 
 {	
-	/** Stores the world whose methods are called, for instance, when the player wins the game and the world needs to be informed about it. */
-	private World world;
-	
 	/** Stores the SpriteBatcher used to draw the player's sprites. */
 	private SpriteBatch batcher;	
 	
@@ -44,40 +28,9 @@ public class PlayerRenderer
 	/** Stores the Spine skeleton instance used to display the player and play his animations. */
 	private Skeleton playerSkeleton;
 	
-	/** Holds the bones on the player's skeleton in spine, which control the player's movements. */
-	private Bone rightHandBone;
-	private Bone leftHandBone;
-	private Bone gunTipBone;
-	
-	/** Stores the slots which display attachments on the player's skeleton. Typically holds images to be displayed on the player, such as a weapon. */
-	private Slot meleeWeaponSlot;
-	private Slot rangedWeaponSlot;
-	private Slot teleporterSlot;	//Stores the teleporter image
-	
-	/** Stores the RegionAttachment which store and display the images of the weapons and equipment on the player. */
-	private RegionAttachment axeAttachment;
-	private RegionAttachment rifleAttachment;
-	private RegionAttachment teleporterAttachment;
-	
-	/** Defines the crossfading times between animations. */
-	private AnimationStateData animStateData;
-	/** Controls the animation of the player and applies the animations the player's skeleton. */
-	private AnimationState animationState;
-	
-	/** Stores the AnimationStateListener that receives animation events. */
-	private AnimationStateListener animationListener;
-	
-	/** Stores the integers assigned to each event in Spine. Used to indicate which event was caught in the AnimationStateListener. */
-	private static final int HIT_TREE = 0;
-	private static final int HIT_ZOMBIE = 1;
-	private static final int SOUND_FOOTSTEP = 2;
-	
-	/** Accepts the player GameObject to render, the world whose methods are called on animation events, the SpriteBatch used to draw the player, and the world 
-	 * camera where the player is drawn. */
-	public PlayerRenderer(Player player, World world, SpriteBatch batcher, OrthographicCamera worldCamera)
+	/** Accepts the player GameObject to render, the SpriteBatch used to draw the player, and the world camera where the player is drawn. */
+	public PlayerRenderer(Player player, SpriteBatch batcher, OrthographicCamera worldCamera)
 	{
-		//Holds the world whose methods are called according to the player's animations.
-		this.world = world;
 		//Stores the SpriteBatch used to draw the player.
 		this.batcher = batcher;
 		//Stores the world camera where the player's sprites are drawn.
@@ -87,476 +40,18 @@ public class PlayerRenderer
 		this.player = player;
 		//Stores the Spine skeleton instance used to display the player and play his animations.
 		this.playerSkeleton = player.getSkeleton();
-		
-		//Retrieves the bones mapped to the player's skeleton.
-		rightHandBone = playerSkeleton.findBone("R_Hand");
-		leftHandBone = playerSkeleton.findBone("L_Hand");
-		gunTipBone = playerSkeleton.findBone("Gun_Tip");
-		
-		//Stores the slots which hold interchangeable attachments on the player. Each of them holds specific types of images, such as weapons or the teleporter.
-		meleeWeaponSlot = playerSkeleton.findSlot(MeleeWeapon.WEAPON_SLOT_NAME);
-		rangedWeaponSlot = playerSkeleton.findSlot(RangedWeapon.WEAPON_SLOT_NAME);
-		teleporterSlot = playerSkeleton.findSlot("Teleporter");
-		
-		//Retrieves the attachments which display the images on the player. Each attachment is mapped to something called a slot.
-		axeAttachment = (RegionAttachment) playerSkeleton.getAttachment(MeleeWeapon.WEAPON_SLOT_NAME, Axe.WEAPON_ATTACHMENT_NAME);
-		rifleAttachment = (RegionAttachment) playerSkeleton.getAttachment(RangedWeapon.WEAPON_SLOT_NAME, Rifle.WEAPON_ATTACHMENT_NAME);
-		teleporterAttachment = (RegionAttachment) playerSkeleton.getAttachment("Teleporter", "Teleporter");
-		
-		//Sets up the animation states of the player, along with the crossfading times between animations/
-		setupAnimationStates();
 	}
 	
-	/** Populates the AnimationStateData and AnimationData instances used by the player. */
-	private void setupAnimationStates()
+	/** Draws the player using his Spine skeleton, which has already been posed by the World's AnimationManager. Accepts the fraction of a tick elapsed since
+	 *  the last world update, used to draw the player between his previous and current position. */
+	public void render(float alpha)
 	{
-		//Creates a new AnimationStateData instance from the player's skeleton to define the crossfading times between animations.
-		animStateData = new AnimationStateData(assets.playerSkeletonData);
+		//Places the skeleton at the player's interpolated position. The bones' world positions are relative to the skeleton, so the pose does not need to be recomputed.
+		playerSkeleton.setX(player.getInterpolatedX(alpha));
+		playerSkeleton.setY(player.getInterpolatedY(alpha));
 		
-		//Defines the crossfading times between animations. First two arguments specify the crossfading animations. Third argument specifies crossfading time.
-		animStateData.setMix(assets.playerIdle, assets.playerIdle, 0);
-		animStateData.setMix(assets.playerWalk, assets.playerIdle, 0.1f);
-		animStateData.setMix(assets.playerIdle, assets.playerWalk, 0.1f);
-		animStateData.setMix(assets.playerWalk, assets.playerChopTree_Start, 0.2f);
-		animStateData.setMix(assets.playerChopTree, assets.playerIdle, 0.35f);
-		animStateData.setMix(assets.playerChopTree, assets.playerWalk, 0.27f);
-		
-		//Defines the crossfading times for the animations of the player in COMBAT mode.
-		animStateData.setMix(assets.playerMelee, assets.playerHit, 0.3f);
-		animStateData.setMix(assets.playerMelee, assets.playerJump_Combat, 0.3f);
-		animStateData.setMix(assets.playerHit, assets.playerIdle_Combat, 0.4f);
-		animStateData.setMix(assets.playerHit, assets.playerJump_Combat, 0.5f);
-		
-		//Creates a listener to listen for events coming from the player's animations.
-		animationListener = new AnimationStateListener() {
-			/** Called when an event set up inside the Spine Timeline fires in one of the player's animations. */
-			@Override
-			public void event(int trackIndex, Event event) 
-			{
-				//If the player's CHOP_TREE animation is playing, and the HIT_TREE event was fired
-				if(event.getInt() == HIT_TREE)
-				{
-					//Deal damage to the tree the player is chopping.
-					player.hitTree();
-					
-					//Play the HIT_TREE sound since the player just started hit a tree
-					world.playSound(Sound.PLAYER_HIT_TREE);
-				}
-				//Else, if the player's MELEE animation is playing, and the HIT_ZOMBIE event was fired
-				else if(event.getInt() == HIT_ZOMBIE)
-				{
-					//Deal damage to the zombie that the player is fighting. If the weapon does not hit the zombie, the method simply returns.
-					player.meleeHit(player.getZombieToFight());
-				}
-				//Else, if the player's footstep sound should play
-				else if(event.getInt() == SOUND_FOOTSTEP)
-				{
-					//Play the player's footstep sound.
-					world.playSound(Sound.PLAYER_FOOTSTEP);
-				}
-				
-			}
-
-			@Override
-			public void complete(int trackIndex, int loopCount) 
-			{
-				//If the track index of the completed animation is ONE, then the Blink animation just completed. Thus, this method should not perform any actions.
-				if(trackIndex == 1)
-					return;
-				
-				//If the player has finished his double jumping animation
-				if(player.getState() == State.DOUBLE_JUMP)
-				{
-					System.out.println("Double Jump Complete");
-					//Set the player back to IDLE state so that he switches to IDLE state after double jumping.
-					player.setState(State.IDLE);
-				}
-				//Else, if the ENTER_COMBAT animation has just finished playing
-				else if(player.getState() == State.ENTER_COMBAT)
-				{
-					//Set the player back to IDLE state so that his correct animation plays.
-					player.setState(State.IDLE);
-				}
-				//Else, if the player has just finished his MELEE animation
-				else if(player.getState() == State.MELEE)
-				{
-					//Set the player back to IDLE state so that his correct animation plays.
-					player.setState(State.IDLE);
-				}
-				//Else, if the player has finished starting to charge his gun
-				else if(player.getState() == State.CHARGE_START)
-				{
-					//Change the player to CHARGE state, so that he can actually start charging his ranged weapon
-					player.setState(State.CHARGE);
-				}
-				//Else, if the player has finished firing his ranged weapon
-				else if(player.getState() == State.FIRE)
-				{
-					//Set the player back to default IDLE state.
-					player.setState(State.IDLE);
-				}
-				//Else, if the HIT animation just finished playing
-				else if(player.getState() == State.HIT)
-				{
-					//If the player was jumping while getting hit
-					if(player.getVelocity().y != 0)
-					{
-						//Wait until the player hits the ground. He will then switch to IDLE state. Like this, the HIT animation continues playing until the player hits the ground.
-					}
-					//Else, if the player wasn't hit while jumping, reset the player to IDLE state.
-					else
-					{
-						//Set the player back to IDLE state
-						player.setState(State.IDLE);
-					}
-				}
-				//Else, if the player has just finished teleporting, he has won the game
-				else if(player.getState() == State.TELEPORT)
-				{
-					//Inform the World that the player has won the game.
-					world.winGame();
-					return;
-				}
-				
-			}
-
-			@Override
-			public void start(int trackIndex) {
-				// TODO Auto-generated method stub
-				
-			}
 
-			@Override
-			public void end(int trackIndex) {
-				// TODO Auto-generated method stub
-				
-			}
-			
-		};
-		
-		//Creates a new AnimationState instance used to control the player's animations.
-		animationState = new AnimationState(animStateData);
-		
-		//Register the AnimationStateListener to the player's AnimationState. This will delegate player animation events to the listener.
-		animationState.addListener(animationListener);
-		
-		//Loop the blinking animation on track index one, so that it doesn't interrupt any other animations.
-		animationState.setAnimation(1, assets.playerBlink, true);
-	}
-	
-	/** Draws the player using his Spine skeleton, which stores his animations, sprites, and everything needed to draw the player. */
-	public void render(float deltaTime)
-	{
-		//If the player is looking left
-		if(player.getDirection() == Direction.LEFT)
-			//Flip his skeleton to look the other way. The skeleton looks right by default.
-			playerSkeleton.setFlipX(true);
-		//Else, if the player is facing right
-		else
-			//Don't flip his skeleton, since his skeleton is made to look to the right by default.
-			playerSkeleton.setFlipX(false);
-		
-		//Set the player skeleton's bottom-center position to the bottom-center position of the Player GameObject.
-		playerSkeleton.setX(player.getX());
-		playerSkeleton.setY(player.getY());
-		
-		//Updates the attachments on the player, such as his attached weapons.
-		updateAttachments();
-		
-		//Change the animation if the player's state has changed. Re-setting the AnimationState to the same animation twice causes errors.
-		if(player.getState() != player.getPreviousState())
-		{
-			//Update the player's animation since his state has changed.
-			updateAnimation();
-		}
-		
-		//Updates the state of the current player animation.
-		animationState.update(deltaTime);
-		//Applies the current animation to the player's skeleton.
-		animationState.apply(playerSkeleton);
-		
-		//Updates the skeleton world transform. Must be done to reset SRT coordinates (or something).
-		playerSkeleton.updateWorldTransform();
-		
 		//Draws the skeleton using the universal SkeletonRenderer instance used by the game.
 		assets.skeletonRenderer.draw(batcher, playerSkeleton);
 	}
-
-	/** Updates the current animation of the player depending on his state. */
-	private void updateAnimation()
-	{
-		//Stores the previous state of the player to determine if his state changes on the next render() call.
-		player.setPreviousState(player.getState());
-		
-		//If the player has just spawned
-		if(player.getState() == State.SPAWN)
-		{
-			//Set the player's skeleton back to default pose.
-			playerSkeleton.setToSetupPose();
-			
-			//Sets the character to IDLE state, indicating that the renderer has received the message that the player spawned.
-			player.setState(State.IDLE);
-		}
-		//Else, if the player is in IDLE state
-		else if(player.getState() == State.IDLE)
-		{
-			//If the player is in EXPLORATION mode
-			if(player.getMode() == Mode.EXPLORING)
-			{
-				//Sets the player to his default idle animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
-				animationState.setAnimation(0, assets.playerIdle, true);
-			}
-			//Else, if the player is in COMBAT mode
-			if(player.getMode() == Mode.COMBAT)
-			{
-				//Sets the player to his combat idle animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
-				animationState.setAnimation(0, assets.playerIdle_Combat, true);
-			}	
-		}
-		else if(player.getState() == State.WALK)
-		{
-			//Plays the walk animation. First argument is an arbitrary index, and third argument specifies to loop the walk animation.
-			animationState.setAnimation(0, assets.playerWalk, true);
-		}
-		//If the player is jumping
-		if(player.getState() == State.JUMP)
-		{	
-			//If the player is in EXPLORATION mode
-			if(player.getMode() == Mode.EXPLORING)
-			{
-				//Plays the regular jump animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-				animationState.setAnimation(0, assets.playerJump, false);
-			}
-			//Else, if the player is in COMBAT mode
-			if(player.getMode() == Mode.COMBAT)
-			{
-				//Plays the combat jump animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-				animationState.setAnimation(0, assets.playerJump_Combat, false);
-			}
-			
-			//Play the jump sound since the player just started jumping
-			world.playSound(Sound.PLAYER_JUMP);
-		}
-		//Else, if the player is double jumping
-		else if(player.getState() == State.DOUBLE_JUMP)
-		{
-			//Plays the double jump animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-			animationState.setAnimation(0, assets.playerJump_Combat, false);
-			
-			//Play the hitting head sound.
-			world.playSound(Sound.PLAYER_JUMP);
-		}
-		//Else, if the player is falling from one layer to the next
-		else if(player.getState() == State.FALL)
-		{
-			//Plays the player's fall animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-			animationState.setAnimation(0, assets.playerFall, false);
-			
-			//Play the falling sound since the player just started falling
-			world.playSound(Sound.PLAYER_FALL);
-		}
-		//Else, if the player is melee-ing
-		else if(player.getState() == State.CHOP_TREE)
-		{
-			//Plays the crossfading part of the ChopTree animation. First argument is an arbitrary index, and third argument specifies to play the animation once.
-			animationState.setAnimation(0, assets.playerChopTree_Start, false);
-			//Queues the ChopTree animation to play after the start animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
-			//Last zero specifies that the ChopTree should play right after the ChopTree_Start animation.
-			animationState.addAnimation(0, assets.playerChopTree, true, 0);
-		}
-		//Else, if the player has just entered combat
-		else if(player.getState() == State.ENTER_COMBAT)
-		{
-			//Plays the ENTER_COMBAT animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-			animationState.setAnimation(0, assets.playerEnterCombat, false);
-		}
-		//Else, if the player is supposed to perform a melee attack
-		else if(player.getState() == State.MELEE)
-		{
-			//Play the player's MELEE animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-			animationState.setAnimation(0, assets.playerMelee, false);
-			//Queues the IDLE animation to play right after the MELEE animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
-			//Last zero specifies that the IDLE should play right after the MELEE animation.
-			animationState.addAnimation(0, assets.playerIdle_Combat, true, 0);
-			
-			//Plays the sound of the player swinging to perform a melee attack.
-			world.playSound(Sound.PLAYER_SWING);
-		}
-		//Else, if the player is pulling out his gun before charging it.
-		else if(player.getState() == State.CHARGE_START)
-		{
-			//Play the player's CHARGE_START animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-			animationState.setAnimation(0, assets.playerCharge_Start, false);
-			
-			//Play the sound of the player pulling out his weapon, since the player just started to pull out his weapon to charge his gun.
-			world.playSound(Sound.PLAYER_PULL_OUT_WEAPON);
-		}
-		//Else, if the player is charging his gun
-		else if(player.getState() == State.CHARGE)
-		{
-			//Play the player's CHARGE animation. First argument is an arbitrary index, and third argument specifies to loop the animation.
-			animationState.setAnimation(0, assets.playerCharge, true);
-		}
-		//Else, if the player is firing his gun
-		else if(player.getState() == State.FIRE)
-		{
-			//Play the player's FIRE animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-			animationState.setAnimation(0, assets.playerFire, false);
-			
-			//Play the sound of the player firing his gun.
-			world.playSound(Sound.PLAYER_FIRE);
-		}
-		//Else, if the player was hit by a zombie
-		else if(player.getState() == State.HIT)
-		{
-			//Play the player's HIT animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-			animationState.setAnimation(0, assets.playerHit, false);
-			
-			//Plays the sound of the player hit, since the player was just hit if this statement is reached.
-			world.playSound(Sound.PLAYER_HIT);
-		}
-		//Else, if the player is dead
-		else if(player.getState() == State.DEAD)
-		{
-			//Play his DEAD animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-			animationState.setAnimation(0, assets.playerDead, false);
-			
-			//Plays the sound of the player hit, since the player just died if this statement is reached.
-			world.playSound(Sound.PLAYER_HIT);
-		}
-		//Else, if the player has won the game and is teleporting out of the world
-		else if(player.getState() == State.TELEPORT)
-		{
-			//Play his TELEPORT animation. First argument is an arbitrary index, and third argument specifies to play the animation only once.
-			animationState.setAnimation(0, assets.playerTeleport, false);
-		}
-	}
-	
-	/** Updates the attachments being rendered on the player. */
-	private void updateAttachments() 
-	{
-		//Decides which weapons are visible on the player depending on his state and what he has equipped.
-		updateWeaponAttachments();
-		
-		//Updates all other attachments on the player.
-		updateOtherAttachments();
-		
-		//Updates the position of the tip of the player's gun and the crosshair of the player's ranged weapon. Allows to dictate where the gun's trajectory line should be drawn.
-		updateCrosshair();
-		
-		//Updates the collider bound to the player's melee weapon which tests for hit detection with a zombie.
-		updateAttachmentColliders();
-	}
-
-	/** Updates the weapon being displayed on the player, depending on the weapon that the player is currently using. */
-	private void updateWeaponAttachments() 
-	{
-		//Stores the player's melee weapon, if it exists.
-		MeleeWeapon meleeWeapon = player.getLoadout().getMeleeWeapon();
-		
-		//Retrieves the ranged weapon equipped on the player.
-		RangedWeapon rangedWeapon = player.getLoadout().getRangedWeapon();
-		
-		//If the player has a weapon
-		if(meleeWeapon != null)
-		{
-			//Set the melee weapon slot on the player's skeleton to display the image of the correct melee weapon. 
-			meleeWeaponSlot.setAttachment(axeAttachment);
-		}
-		//Else, if the player doesn't have a weapon
-		else
-		{
-			//Remove the melee weapon attachment from the player since he has no equipped melee weapon.
-			meleeWeaponSlot.setAttachment(null);
-		}
-		
-		//If the player has a ranged weapon and the player is playing an animation which requires his gun to be shown, make his weapon visible.
-		if(rangedWeapon != null && (player.hasRangedWeaponOut()))
-		{
-			//Tell the player to display the image of his equipped ranged weapon. An attachment is an image on the player's skeleton. It is mapped to the ranged weapon slot.
-			rangedWeaponSlot.setAttachment(rifleAttachment);
-		}
-		else
-		{
-			//Removes the attachment from the rangedWeaponSlot. This essentially removes the image from the slot which holds the ranged weapons.
-			rangedWeaponSlot.setAttachment(null);
-		}
-	}
-	
-	/** Updates the miscalaneous attachments on the player to change which images are displayed on him. */
-	private void updateOtherAttachments() 
-	{
-		//Remove the Teleporter image from the player unless he is playing his Teleporter animation.
-		if(player.getState() == State.TELEPORT)
-		{
-			//Display the image of the teleporter on the player by assigning the teleporter attachment to its appropriate slot.
-			teleporterSlot.setAttachment(teleporterAttachment);
-		}
-		//Else, if the player is not playing his TELEPORT animation
-		else
-		{
-			//Remove the image of the teleporter from the player since he is not playing his TELEPORT animation. Achieved by setting a null attachment to the teleporter slot.
-			teleporterSlot.setAttachment(null);
-		}
-	}
-
-	/** Updates the registered position of the tip of the player's ranged weapon. Allows the crosshair to be drawn at the correct position. */
-	private void updateCrosshair() 
-	{
-		//If the player does not have his ranged weapon out, his crosshair will not appear. Therefore, return this method since updating the crosshair point is useless.
-		if(!player.hasRangedWeaponOut())
-			return;
-		
-		//Calculates the position of the tip of the player's ranged weapon.
-		float gunTipX = playerSkeleton.getX() + gunTipBone.getWorldX();
-		float gunTipY = playerSkeleton.getY() + gunTipBone.getWorldY();
-		
-		//Sets the crosshair point of the player at the position of the "gunTipBone", which denotes the position of the crosshair in Spine.
-		player.getCrosshairPoint().set(gunTipX, gunTipY);
-		
-		//Computes the end-position of the ranged weapon's crosshair based on the weapon's range. Allows to compute the line where the ranged weapon can hit an enemy.
-		float crosshairEndX = gunTipX + player.getRangedWeapon().getRange();
-		float crosshairEndY = gunTipY;
-		
-		//Updates the crosshair line of the player's gun
-		player.getRangedWeapon().getCrosshair().set(gunTipX, gunTipY, crosshairEndX, crosshairEndY);
-	}
-
-	/** Updates the position and scale of the collider on the player's equipped melee weapon. */
-	private void updateAttachmentColliders() 
-	{
-		//If the player doesn't have a melee weapon, return this method, as its collider needn't be updated.
-		if(!player.hasMeleeWeapon())
-			return;
-		
-		//Stores the position of the player's hand in world coordinates.
-		float handX = playerSkeleton.getX() + rightHandBone.getWorldX();
-		float handY = playerSkeleton.getY() + rightHandBone.getWorldY();
-		
-		//Stores the player's melee weapon, if it exists.
-		MeleeWeapon meleeWeapon = player.getLoadout().getMeleeWeapon();
-		
-		//Stores the collider mapped to the player's melee weapon, which checks for collisions against zombies.
-		Rectangle weaponCollider = meleeWeapon.getCollider();
-		
-		//Finds the size of the melee weapon's image. It is equivalent to the size of the image displaying the axe.
-		float meleeWeaponWidth = axeAttachment.getWidth();
-		float meleeWeaponHeight = axeAttachment.getHeight();
-		
-		//If the player is facing the RIGHT, his weapon is to the right of him
-		if(player.getDirection() == Direction.RIGHT)
-		{
-			//Set the weapon's collider to be at the position of the hand
-			weaponCollider.setPosition(handX, handY);
-		}
-		//Else, if the player is facing the left, his weapon is to the left of him.
-		else
-		{
-			//Set the weapon's collider to be at the position of the hand. The x-position starts at the left of the weapon.
-			weaponCollider.setPosition(handX - meleeWeapon.getReach(), handY);
-		}
-		
-		//Sets the size of the weapon's collider. The width is the melee weapon's reach, and its height is the height of the weapon's image.
-		weaponCollider.setSize(meleeWeapon.getReach(), meleeWeaponHeight);
-	}
 }
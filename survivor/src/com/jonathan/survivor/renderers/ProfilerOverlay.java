@@ -0,0 +1,202 @@
+package com.jonathan.survivor.renderers;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.jonathan.survivor.renderers.RenderStats.Section;
+import com.jonathan.survivor.utils.Profiler;
+import com.jonathan.survivor.utils.Profiler.Phase;
+
+/*
+ * Draws the timings measured by the Profiler in the top-right corner of the screen. Each line shows the 50th, 95th and 99th percentiles of one phase, in
+ * milliseconds. A flame-style bar at the bottom of the screen shows the average time of each phase as a fraction of a 60 FPS frame, with the phases which
+ * ran inside another phase drawn on the row above it. Toggled on and off, and only created in debug mode.
+ */
+
+public class ProfilerOverlay
+{
+	/** Stores the gap between the overlay and the edges of the screen, in GUI units. */
+	private static final float MARGIN = 10;
+	/** Stores the horizontal position of the text, as a fraction of the screen's width. */
+	private static final float TEXT_X = 0.55f;
+	/** Stores the height of a row of the flame bar, in GUI units. */
+	private static final float ROW_HEIGHT = 12;
+
+	/** Stores the duration of a frame at 60 FPS, in milliseconds. The flame bar spans the width of the screen for this duration. */
+	private static final float FRAME_BUDGET = 1000f / 60f;
+
+	/** Stores the colors of the phases. A phase's text and bars have the same color, so that the text acts as the flame bar's legend. */
+	private static final Color[] COLORS = { new Color(0.8f, 0.3f, 0.2f, 1), new Color(0.2f, 0.5f, 0.8f, 1), new Color(0.3f, 0.7f, 0.3f, 1),
+											new Color(0.8f, 0.6f, 0.1f, 1), new Color(0.6f, 0.3f, 0.7f, 1), new Color(0.2f, 0.7f, 0.7f, 1),
+											new Color(0.5f, 0.5f, 0.5f, 1) };
+
+	/** Holds every phase, since Phase.values() creates a new array on every call. */
+	private static final Phase[] phases = Phase.values();
+
+	/** Stores the SpriteBatch used to draw the overlay's text. */
+	private SpriteBatch batcher;
+	/** Stores the font used to draw the overlay's text. */
+	private BitmapFont font;
+	/** Stores the ShapeRenderer used to draw the flame bar. */
+	private ShapeRenderer shapeRenderer;
+
+	/** Holds the camera used to place the overlay in GUI coordinates. */
+	private OrthographicCamera guiCamera;
+
+	/** Stores whether or not the overlay is drawn. */
+	private boolean visible;
+
+	/** Holds the text of a line of the overlay. Re-used every frame to avoid creating new Strings. */
+	private StringBuilder text = new StringBuilder();
+
+	/** Stores the left x-position of each phase's bar, along with the x-position where the next phase running inside it is placed. */
+	private float[] barX = new float[phases.length], nextChildX = new float[phases.length];
+	/** Stores the row of each phase's bar. Phases which ran inside no other phase are placed on the first row. */
+	private int[] barRow = new int[phases.length];
+
+	/** Creates an overlay displaying the Profiler's timings, drawn with the given SpriteBatch and font. */
+	public ProfilerOverlay(SpriteBatch batcher, BitmapFont font)
+	{
+		//Stores the given constructor arguments in their respective member variables.
+		this.batcher = batcher;
+		this.font = font;
+
+		//Creates the ShapeRenderer used to draw the flame bar, along with the camera which places the overlay in GUI coordinates.
+		shapeRenderer = new ShapeRenderer();
+		guiCamera = new OrthographicCamera();
+	}
+
+	/** Draws the percentiles of each phase, along with the flame bar. Does nothing if the overlay is hidden. */
+	public void render()
+	{
+		//If the overlay is hidden, don't draw anything.
+		if(!visible)
+			return;
+
+		//Draws the flame bar, then the text.
+		renderFlameBar();
+		renderText();
+	}
+
+	/** Draws one line per phase, holding the phase's percentiles, in the phase's color. */
+	private void renderText()
+	{
+		//Counts the overlay's draw calls in their own section.
+		CountingSpriteBatch.setSection(batcher, Section.OVERLAY);
+
+		batcher.setProjectionMatrix(guiCamera.combined);
+		batcher.begin();
+
+		//Stores the x-position of the text, and the y-position of its first line.
+		float x = guiCamera.viewportWidth * TEXT_X;
+		float y = guiCamera.viewportHeight - MARGIN;
+
+		//Writes the header, followed by one line per phase.
+		font.setColor(Color.DARK_GRAY);
+		font.draw(batcher, "phase: p50 / p95 / p99 ms", x, y);
+
+		for(int i = 0; i < phases.length; i++)
+		{
+			//Moves down a line.
+			y -= font.getLineHeight();
+
+			//Writes the name of the phase, followed by its percentiles.
+			text.setLength(0);
+			text.append(phases[i].name().toLowerCase()).append(':');
+			appendTime(Profiler.getPercentile(phases[i], 0.5f));
+			appendTime(Profiler.getPercentile(phases[i], 0.95f));
+			appendTime(Profiler.getPercentile(phases[i], 0.99f));
+
+			font.setColor(COLORS[i % COLORS.length]);
+			font.draw(batcher, text, x, y);
+		}
+
+		batcher.end();
+	}
+
+	/** Draws the average time of each phase as a bar at the bottom of the screen. A phase's bar is drawn above the phase it ran inside, next to its siblings. */
+	private void renderFlameBar()
+	{
+		//Stores the width of a millisecond on screen, so that the bar spans the width of the screen for one frame at 60 FPS.
+		float msWidth = (guiCamera.viewportWidth - 2 * MARGIN) / FRAME_BUDGET;
+		//Stores the x-position where the next phase which ran inside no other phase is placed.
+		float nextRootX = MARGIN;
+
+		shapeRenderer.setProjectionMatrix(guiCamera.combined);
+		shapeRenderer.begin(ShapeType.Filled);
+
+		//Cycles through the phases. A phase is listed after the phases it runs inside, so its parent was placed before it.
+		for(int i = 0; i < phases.length; i++)
+		{
+			//Retrieves the phase which the phase last ran inside.
+			Phase parent = Profiler.getParent(phases[i]);
+
+			//If the phase ran inside another phase which was placed, place it next to its siblings, on the row above its parent.
+			if(parent != null && parent.ordinal() < i)
+			{
+				barX[i] = nextChildX[parent.ordinal()];
+				barRow[i] = barRow[parent.ordinal()] + 1;
+			}
+			//Else, place it next to the previous phase on the first row.
+			else
+			{
+				barX[i] = nextRootX;
+				barRow[i] = 0;
+			}
+
+			//Computes the width of the bar from the average time of the phase.
+			float width = Profiler.getAverage(phases[i]) * msWidth;
+
+			//Moves the position of the next sibling past this bar. Children of this phase start at its left edge.
+			if(barRow[i] == 0)
+				nextRootX += width;
+			else
+				nextChildX[parent.ordinal()] += width;
+			nextChildX[i] = barX[i];
+
+			//Draws the bar in the phase's color.
+			shapeRenderer.setColor(COLORS[i % COLORS.length]);
+			shapeRenderer.rect(barX[i], MARGIN + barRow[i] * ROW_HEIGHT, width, ROW_HEIGHT - 1);
+		}
+
+		//Draws a thin line marking the end of the frame budget.
+		shapeRenderer.setColor(Color.BLACK);
+		shapeRenderer.rect(guiCamera.viewportWidth - MARGIN, MARGIN, 1, ROW_HEIGHT * 4);
+
+		shapeRenderer.end();
+	}
+
+	/** Appends the given time to the text, rounded to two decimals. String.format() is avoided, since it is not available on every backend. */
+	private void appendTime(float time)
+	{
+		text.append(' ').append(Math.round(time * 100) / 100f);
+	}
+
+	/** Shows the overlay if it is hidden, or hides it if it is shown. */
+	public void toggle()
+	{
+		visible = !visible;
+	}
+
+	/** Returns whether or not the overlay is drawn. */
+	public boolean isVisible()
+	{
+		return visible;
+	}
+
+	/** Resizes the GUI camera used to place the overlay. Called whenever the screen is resized. */
+	public void resize(float guiWidth, float guiHeight)
+	{
+		//Places the camera so that its bottom-left corner is at the origin.
+		guiCamera.setToOrtho(false, guiWidth, guiHeight);
+	}
+
+	/** Disposes of the ShapeRenderer used to draw the flame bar. */
+	public void dispose()
+	{
+		shapeRenderer.dispose();
+	}
+}
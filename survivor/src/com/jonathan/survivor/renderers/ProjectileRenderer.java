@@ -32,15 +32,15 @@ public class ProjectileRenderer
 		workingColor = new Color(Color.WHITE);
 	}
 	
-	/** Draws the given Projectile on-screen. */
-	public void draw(Projectile projectile)
+	/** Draws the given Projectile on-screen. Accepts the fraction of a tick elapsed since the last world update, used to interpolate the projectile's position. */
+	public void draw(Projectile projectile, float alpha)
 	{
 		//Stores the Skeleton instance owned by the Projectile, which allows the object to be drawn to the screen.
 		Skeleton skeleton = projectile.getSkeleton();
 		
-		//Updates the position of the skeleton to that of the Projectile GameObject. The position for both is denoted by the bottom-center.
-		skeleton.setX(projectile.getX());
-		skeleton.setY(projectile.getY());
+		//Updates the position of the skeleton to the interpolated position of the Projectile GameObject. The position for both is denoted by the bottom-center.
+		skeleton.setX(projectile.getInterpolatedX(alpha));
+		skeleton.setY(projectile.getInterpolatedY(alpha));
 		
 		//Reset the working color instance to WHITE so that the helper color starts from a clean slate.
 		workingColor.set(Color.WHITE);
@@ -0,0 +1,172 @@
+package com.jonathan.survivor.renderers;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/*
+ * Counts the work submitted to the GPU by a CountingSpriteBatch each frame, broken down by the section of the screen being drawn. The counts of the last
+ * frames are kept in a ring buffer, from which a rolling average is computed for the debug overlay. Each frame can also be appended as a line to a CSV file.
+ */
+
+public class RenderStats
+{
+	/** Lists the sections of the screen whose draw calls are counted separately. */
+	public enum Section {
+		LEVEL, GAME_OBJECTS, ANIMATIONS, EFFECTS, BACKGROUND, HUD, OVERLAY
+	}
+
+	/** Lists the values counted for each section. */
+	public enum Metric {
+		FLUSHES, RENDER_CALLS, TEXTURE_SWITCHES, BLEND_CHANGES, VERTICES
+	}
+
+	/** Stores the amount of sections and metrics. Each frame holds one count per section and metric. */
+	private static final int SECTION_COUNT = Section.values().length, METRIC_COUNT = Metric.values().length;
+
+	/** Stores the amount of frames kept in the ring buffer, over which the rolling averages are computed. */
+	public static final int DEFAULT_WINDOW = 60;
+
+	/** Stores the amount of frames buffered before their CSV lines are written to the file. */
+	private static final int CSV_FLUSH_INTERVAL = 60;
+
+	/** Holds the counts of the frame being drawn, indexed by section * METRIC_COUNT + metric. */
+	private int[] current = new int[SECTION_COUNT * METRIC_COUNT];
+
+	/** Holds the counts of the last frames, used as a ring buffer. */
+	private int[][] history;
+	/** Holds the sum of every count in the ring buffer. Updated as frames enter and leave the buffer. */
+	private long[] sums = new long[SECTION_COUNT * METRIC_COUNT];
+	/** Stores the index in the ring buffer where the next frame is stored, along with the amount of frames in the buffer. */
+	private int head, size;
+
+	/** Stores the section currently being drawn. Every count is added to this section. */
+	private Section section = Section.LEVEL;
+
+	/** Stores the file where each frame is appended as a CSV line, or null if the frames are not dumped. */
+	private FileHandle csvFile;
+	/** Holds the CSV lines which have not yet been written to the file. */
+	private StringBuilder csvBuffer = new StringBuilder();
+	/** Stores the amount of frames completed since the statistics were created. */
+	private int frameCount;
+
+	/** Creates statistics whose rolling averages are computed over the last DEFAULT_WINDOW frames. */
+	public RenderStats()
+	{
+		this(DEFAULT_WINDOW);
+	}
+
+	/** Creates statistics whose rolling averages are computed over the given amount of frames. */
+	public RenderStats(int window)
+	{
+		history = new int[window][SECTION_COUNT * METRIC_COUNT];
+	}
+
+	/** Sets the section of the screen being drawn. The draw calls which follow are counted in this section. */
+	public void setSection(Section section)
+	{
+		this.section = section;
+	}
+
+	/** Returns the section of the screen being drawn. */
+	public Section getSection()
+	{
+		return section;
+	}
+
+	/** Adds the given amount to a metric of the current section. */
+	public void add(Metric metric, int amount)
+	{
+		current[section.ordinal() * METRIC_COUNT + metric.ordinal()] += amount;
+	}
+
+	/** Called once the frame has been drawn. Stores the frame's counts in the ring buffer, appends them to the CSV file, and starts counting a new frame. */
+	public void endFrame()
+	{
+		//Stores the counts of the frame in the ring buffer, replacing the oldest frame once the buffer is full.
+		int[] frame = history[head];
+		for(int i = 0; i < current.length; i++)
+		{
+			//If the buffer is full, the oldest frame leaves the rolling sums.
+			if(size == history.length)
+				sums[i] -= frame[i];
+
+			frame[i] = current[i];
+			sums[i] += current[i];
+		}
+
+		//Moves on to the next slot of the ring buffer.
+		head = (head + 1) % history.length;
+		size = Math.min(size + 1, history.length);
+		frameCount++;
+
+		//If the frames are dumped to a CSV file, append the frame's counts.
+		if(csvFile != null)
+			appendCsv();
+
+		//Resets the counts for the next frame.
+		for(int i = 0; i < current.length; i++)
+			current[i] = 0;
+	}
+
+	/** Returns the average of the given metric for the given section over the frames in the ring buffer. */
+	public float getAverage(Section section, Metric metric)
+	{
+		return (size == 0) ? 0 : (float)sums[section.ordinal() * METRIC_COUNT + metric.ordinal()] / size;
+	}
+
+	/** Returns the average of the given metric over the frames in the ring buffer, summed for every section. */
+	public float getAverage(Metric metric)
+	{
+		//Sums the averages of each section.
+		float average = 0;
+		for(Section section : Section.values())
+			average += getAverage(section, metric);
+
+		return average;
+	}
+
+	/** Starts appending each frame as a line to the given CSV file, which is overwritten. Each line holds the frame number, followed by every metric of every
+	 *  section. Passing null stops the dump. */
+	public void setCsvFile(FileHandle csvFile)
+	{
+		//Writes the lines buffered for the previous file.
+		flushCsv();
+
+		this.csvFile = csvFile;
+
+		//If a file was given, write the header of the CSV file.
+		if(csvFile != null)
+		{
+			StringBuilder header = new StringBuilder("frame");
+			for(Section section : Section.values())
+				for(Metric metric : Metric.values())
+					header.append(',').append(section.name().toLowerCase()).append('_').append(metric.name().toLowerCase());
+			header.append('\n');
+
+			csvFile.writeString(header.toString(), false);
+		}
+	}
+
+	/** Appends the counts of the current frame to the CSV buffer. The buffer is written to the file every CSV_FLUSH_INTERVAL frames. */
+	private void appendCsv()
+	{
+		//Appends the frame number, followed by the counts of the frame.
+		csvBuffer.append(frameCount);
+		for(int i = 0; i < current.length; i++)
+			csvBuffer.append(',').append(current[i]);
+		csvBuffer.append('\n');
+
+		//Writes the buffered lines if enough frames were buffered.
+		if(frameCount % CSV_FLUSH_INTERVAL == 0)
+			flushCsv();
+	}
+
+	/** Writes the buffered CSV lines to the CSV file. Should be called before the application exits, so that the last frames are not lost. */
+	public void flushCsv()
+	{
+		//If there is a file and lines to write, append the lines to the file.
+		if(csvFile != null && csvBuffer.length() > 0)
+			csvFile.writeString(csvBuffer.toString(), true);
+
+		csvBuffer.setLength(0);
+	}
+}
@@ -0,0 +1,88 @@
+package com.jonathan.survivor.renderers;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.jonathan.survivor.renderers.RenderStats.Metric;
+import com.jonathan.survivor.renderers.RenderStats.Section;
+
+/*
+ * Draws the rolling averages of a RenderStats instance in the top-left corner of the screen. Each line shows the flushes, draw calls, texture switches, blend
+ * changes and vertices of one section of the screen, followed by the totals. Only drawn in debug mode.
+ */
+
+public class RenderStatsOverlay
+{
+	/** Stores the gap between the overlay and the edges of the screen, in GUI units. */
+	private static final float MARGIN = 10;
+
+	/** Stores the color of the overlay's text. */
+	private static final Color TEXT_COLOR = new Color(0.2f, 0.2f, 0.2f, 1);
+
+	/** Stores the statistics displayed by the overlay. */
+	private RenderStats stats;
+
+	/** Stores the SpriteBatch used to draw the overlay's text. */
+	private SpriteBatch batcher;
+	/** Stores the font used to draw the overlay's text. */
+	private BitmapFont font;
+
+	/** Holds the camera used to place the overlay in GUI coordinates. */
+	private OrthographicCamera guiCamera;
+
+	/** Holds the text of the overlay. Re-used every frame to avoid creating new Strings. */
+	private StringBuilder text = new StringBuilder();
+
+	/** Creates an overlay displaying the given statistics, drawn with the given SpriteBatch and font. */
+	public RenderStatsOverlay(RenderStats stats, SpriteBatch batcher, BitmapFont font)
+	{
+		//Stores the given constructor arguments in their respective member variables.
+		this.stats = stats;
+		this.batcher = batcher;
+		this.font = font;
+
+		//Creates the camera which places the overlay in GUI coordinates.
+		guiCamera = new OrthographicCamera();
+	}
+
+	/** Draws the rolling averages of the statistics. Counted in the OVERLAY section, so that the overlay's own draw calls can be told apart from the game's. */
+	public void render()
+	{
+		//Counts the overlay's draw calls in their own section.
+		CountingSpriteBatch.setSection(batcher, Section.OVERLAY);
+
+		//Writes one line per section, followed by the totals of every section.
+		text.setLength(0);
+		text.append("section: flushes / calls / textures / blends / vertices");
+		for(Section section : Section.values())
+		{
+			text.append('\n').append(section.name().toLowerCase()).append(':');
+			for(Metric metric : Metric.values())
+				appendAverage(stats.getAverage(section, metric));
+		}
+		text.append("\ntotal:");
+		for(Metric metric : Metric.values())
+			appendAverage(stats.getAverage(metric));
+
+		//Draws the text in the top-left corner of the GUI camera.
+		batcher.setProjectionMatrix(guiCamera.combined);
+		batcher.begin();
+		font.setColor(TEXT_COLOR);
+		font.drawMultiLine(batcher, text, MARGIN, guiCamera.viewportHeight - MARGIN);
+		batcher.end();
+	}
+
+	/** Appends the given average to the text, rounded to one decimal. String.format() is avoided, since it is not available on every backend. */
+	private void appendAverage(float average)
+	{
+		text.append(' ').append(Math.round(average * 10) / 10f);
+	}
+
+	/** Resizes the GUI camera used to place the overlay. Called whenever the screen is resized. */
+	public void resize(float guiWidth, float guiHeight)
+	{
+		//Places the camera so that its bottom-left corner is at the origin.
+		guiCamera.setToOrtho(false, guiWidth, guiHeight);
+	}
+}
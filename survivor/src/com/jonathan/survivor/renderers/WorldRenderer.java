@@ -6,6 +6,9 @@ import com.jonathan.survivor.Survivor;
 import com.jonathan.survivor.World;
 import com.jonathan.survivor.World.WorldState;
 import com.jonathan.survivor.entity.Player;
+import com.jonathan.survivor.renderers.RenderStats.Section;
+import com.jonathan.survivor.utils.Profiler;
+import com.jonathan.survivor.utils.Profiler.Phase;
 
 /**
  * Renders the world and its GameObjects. Also stores the camera used to view the world.
@@ -58,15 +61,16 @@ public class WorldRenderer
 		effectRenderer = new EffectRenderer(world, batcher, worldCamera);
 	}
 	
-	/** Called every frame when the game is running to update the position of the camera. MUST be called before render() method. */
-	public void updateCamera()
+	/** Called every frame when the game is running to update the position of the camera. MUST be called before render() method. Accepts the fraction of a 
+	 *  tick elapsed since the last world update, used to follow the player's interpolated position. */
+	public void updateCamera(float alpha)
 	{
 		//If the player is not in combat mode, the camera follows the center of the player.
 		if(world.getWorldState() != WorldState.COMBAT && world.getWorldState() != WorldState.KO_ANIMATION)
 		{
 			//Make the camera follow the center of the player.
-			worldCamera.position.x = world.getPlayer().getX();
-			worldCamera.position.y = world.getPlayer().getY() + Player.COLLIDER_HEIGHT/2;
+			worldCamera.position.x = world.getPlayer().getInterpolatedX(alpha);
+			worldCamera.position.y = world.getPlayer().getInterpolatedY(alpha) + Player.COLLIDER_HEIGHT/2;
 		}
 		//Else, if the player is in combat mode
 		else
@@ -80,20 +84,33 @@ public class WorldRenderer
 		worldCamera.update();
 	}
 	
-	/** Called every frame to render the contents of the world and update the camera. */
-	public void render(float deltaTime)
+	/** Called every frame to render the contents of the world and update the camera. Accepts the fraction of a tick elapsed since the last world update, 
+	 *  used to interpolate the positions of the GameObjects between two ticks. */
+	public void render(float deltaTime, float alpha)
 	{				
 		//Draws the world's currently active level to the screen using the LevelRenderer.
+		CountingSpriteBatch.setSection(batcher, Section.LEVEL);
+		Profiler.begin(Phase.RENDER_LEVEL);
 		levelRenderer.render(world.getLevel());
+		Profiler.end(Phase.RENDER_LEVEL);
 		
 		//Render the gameObjects of the world to the screen.
-		goRenderer.render(deltaTime);
+		CountingSpriteBatch.setSection(batcher, Section.GAME_OBJECTS);
+		Profiler.begin(Phase.RENDER_GAME_OBJECTS);
+		goRenderer.render(alpha);
+		Profiler.end(Phase.RENDER_GAME_OBJECTS);
 		
 		//Renders all of the Spine overlay animations that should be shown.
+		CountingSpriteBatch.setSection(batcher, Section.ANIMATIONS);
+		Profiler.begin(Phase.RENDER_ANIMATIONS);
 		animationRenderer.render(deltaTime);
+		Profiler.end(Phase.RENDER_ANIMATIONS);
 		
 		//Draws all of the small effects to the screen, such as the crosshairs or trajectory lines for each weapon.
+		CountingSpriteBatch.setSection(batcher, Section.EFFECTS);
+		Profiler.begin(Phase.RENDER_EFFECTS);
 		effectRenderer.render(deltaTime);
+		Profiler.end(Phase.RENDER_EFFECTS);
 	}
 	
 	/** Retrieves the world camera used to render the world. */
@@ -119,6 +136,9 @@ public class WorldRenderer
 		worldCamera.viewportWidth = worldWidth;
 		worldCamera.viewportHeight = worldHeight;
 		
+		//Tells the zombie scheduler the size of the camera's view, so that it knows which zombies are visible.
+		world.getZombieScheduler().setViewSize(worldWidth, worldHeight);
+		
 		//Tells the level renderer to resize the lines drawn by the given screen scale for resolution independency.
 		levelRenderer.resize(screenScale);
 	}
@@ -26,7 +26,15 @@ import com.jonathan.survivor.managers.GestureManager;
 import com.jonathan.survivor.managers.InputManager;
 import com.jonathan.survivor.managers.InputManager.InputListener;
 import com.jonathan.survivor.managers.ItemManager;
+import com.jonathan.survivor.renderers.CountingSpriteBatch;
+import com.jonathan.survivor.renderers.ProfilerOverlay;
+import com.jonathan.survivor.renderers.RenderStats;
+import com.jonathan.survivor.renderers.RenderStats.Section;
+import com.jonathan.survivor.renderers.RenderStatsOverlay;
 import com.jonathan.survivor.renderers.WorldRenderer;
+import com.jonathan.survivor.utils.Profiler;
+import com.jonathan.survivor.utils.Profiler.Phase;
+import com.jonathan.survivor.utils.Tracer;
 
 /*
  * Renders the world, updates it, and displays the UI depending on the world's state.
@@ -47,6 +55,11 @@ public class GameScreen extends Screen
 	/** Holds true if the game is paused. Prevents the world and the graphics from being updated. */
 	private boolean paused;
 	
+	/** Stores the amount of time, in seconds, which has elapsed but has not yet been simulated by the world. The world is only updated in fixed ticks. */
+	private float accumulator;
+	/** Holds the fraction of a tick elapsed since the last world update, between 0 and 1. Used to interpolate the positions of the drawn GameObjects. */
+	private float alpha;
+	
 	/** Stores the profile used to create the world. */
 	private Profile profile;
 	
@@ -66,6 +79,15 @@ public class GameScreen extends Screen
 	/** Stores the stage instance where all hud elements will be placed and drawn. */
 	private Stage stage;
 	
+	/** Holds the statistics counting the work submitted to the GPU each frame. Null unless the game is in debug mode. */
+	private RenderStats renderStats;
+	/** Stores the SpriteBatch used by the stage to draw the HUD. Counts its work inside the renderStats in debug mode. Null if the stage owns its batch. */
+	private CountingSpriteBatch hudBatcher;
+	/** Holds the overlay displaying the rolling averages of the renderStats. Null unless the game is in debug mode. */
+	private RenderStatsOverlay renderStatsOverlay;
+	/** Holds the overlay displaying the timings measured by the Profiler. Toggled with F3. Null unless the profiler is enabled. */
+	private ProfilerOverlay profilerOverlay;
+	
 	/** Class allowing us to set multiple instance of InputListeners to receive input events. */
 	private InputMultiplexer inputMultiplexer;
 	
@@ -122,8 +144,26 @@ public class GameScreen extends Screen
 		//Creates an InputManager with the given world. This manager receives all touch events and reacts by calling appropriate GameObject methods. 
 		gestureManager = new GestureManager(world);
 		
-		//Creates a new stage where 2d widgets for the ui will be displayed.
-		stage = new Stage();
+		//If the batcher counts its work, the HUD is drawn with a separate batch counting inside the same statistics. The stage leaves the batch's projection
+		//and color modified, so it is not shared with the world's renderers.
+		if(batcher instanceof CountingSpriteBatch)
+		{
+			//Retrieves the statistics, and creates the batch used to draw the HUD, along with the overlay which displays the statistics.
+			renderStats = ((CountingSpriteBatch)batcher).getStats();
+			hudBatcher = new CountingSpriteBatch(renderStats);
+			renderStatsOverlay = new RenderStatsOverlay(renderStats, batcher, assets.sanchezRegular_17);
+			
+			//If the platform can write local files, dump the statistics of each frame to a CSV file.
+			if(Gdx.files.isLocalStorageAvailable())
+				renderStats.setCsvFile(Gdx.files.local("render_stats.csv"));
+		}
+		
+		//If the profiler measures the phases of each frame, create the overlay which displays its timings.
+		if(Profiler.ENABLED)
+			profilerOverlay = new ProfilerOverlay(batcher, assets.sanchezRegular_17);
+		
+		//Creates a new stage where 2d widgets for the ui will be displayed. If the hudBatcher is null, the stage creates its own batch.
+		stage = new Stage(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), false, hudBatcher);
 		
 		//Creates the multiplexer to link several InputListeners together.
 		inputMultiplexer = new InputMultiplexer();
@@ -369,6 +409,15 @@ public class GameScreen extends Screen
 			//Inform the GameScreen that the Back button has been pressed, so that the user can go back one UI layer.
 			backPressed();
 		}
+		
+		/** Delegated when the F3 key is pressed on desktop. */
+		@Override
+		public void onToggleProfiler()
+		{
+			//Shows or hides the profiler's overlay, if the profiler is enabled.
+			if(profilerOverlay != null)
+				profilerOverlay.toggle();
+		}
 	}
 	
 	/** Receives events whenever a sound effect needs to be played. */
@@ -482,32 +531,57 @@ public class GameScreen extends Screen
 	public void render(float deltaTime)
 	{
 		//Cap the deltaTime to 0.1f to avoid entities from teleporting from one place to another. If deltaTime were greater than 0.1, then there might have been a lag spike.
+		//This also bounds the number of ticks the world must simulate in a single frame.
 		if(deltaTime > 0.1f)
 			deltaTime = 0.1f;
 		
+		//Stores the time at which the frame started, recorded if the session is traced.
+		long frameStart = Tracer.now();
+		Profiler.begin(Phase.FRAME);
+		
 		//Updates the world.
 		update(deltaTime);
 		//Draws the world, along with the UI.
 		draw(deltaTime);
 		
+		//Stores the time spent in each phase of this frame, and moves on to the next frame.
+		Profiler.end(Phase.FRAME);
+		Profiler.endFrame();
+		Tracer.frameEnded(frameStart);
+		
 		//If the player has finished his TELEPORT animation, and has won the game
 		if(gameState == GameState.WIN)
 			//Revert the player back to the main menu. Must be done after the render method. Otherwise, statements would be executed while screens were being switched.
 			goToMainMenu();
 	}
 	
-	/** Updates the world and the world camera. */
+	/** Updates the world and the world camera. The world is updated in fixed ticks, as many times as needed to catch up with the elapsed time. */
 	private void update(float deltaTime)
 	{
 		//If the game is not paused
 		if(!paused)
 		{
-			//Update the world and its GameObjects. 
-			world.update(deltaTime);
+			//Stores the duration of a tick, in seconds. The tick rate is read from the settings so that it can be changed while the game runs.
+			float tickTime = 1f / settings.getTickRate();
+			
+			//Adds the time elapsed since the last frame to the time which has not yet been simulated.
+			accumulator += deltaTime;
+			
+			//While a full tick of time has not yet been simulated
+			while(accumulator >= tickTime)
+			{
+				//Update the world and its GameObjects by one tick.
+				world.update(tickTime);
+				//Consume the tick that was just simulated.
+				accumulator -= tickTime;
+			}
+			
+			//Computes the fraction of a tick left over in the accumulator. The GameObjects are drawn this fraction of the way from their previous to their current position.
+			alpha = accumulator / tickTime;
 		}			
 		
-		//Update the camera used to view the world.
-		worldRenderer.updateCamera();
+		//Update the camera used to view the world. The camera follows the player's interpolated position.
+		worldRenderer.updateCamera(alpha);
 	}
 
 	/** Draws the UI, along with the world and its contained GameObjects. */
@@ -518,17 +592,35 @@ public class GameScreen extends Screen
 		//Clears the screen.
 		super.render(deltaTime);
 
+		Profiler.begin(Phase.RENDER);
+		
 		//If the game is not paused
 		if(!paused)
-			//Render and draw the world using the worldRenderer.
-			worldRenderer.render(deltaTime);
+			//Render and draw the world using the worldRenderer. The GameObjects are drawn at their positions interpolated by the leftover fraction of a tick.
+			worldRenderer.render(deltaTime, alpha);
 		//Else, if the game is paused
 		else 
 			//Render the world with a deltaTime of zero. Pauses animations to ensure that they don't advance in time.
-			worldRenderer.render(0);
+			worldRenderer.render(0, alpha);
+		
+		Profiler.end(Phase.RENDER);
 		
 		//Draws the HUD to the screen, depending on game state.
+		CountingSpriteBatch.setSection(hudBatcher, Section.HUD);
+		Profiler.begin(Phase.HUD);
 		hud.draw(deltaTime);
+		Profiler.end(Phase.HUD);
+		
+		//If the render statistics are being counted, display their rolling averages, and move on to the next frame.
+		if(renderStats != null)
+		{
+			renderStatsOverlay.render();
+			renderStats.endFrame();
+		}
+		
+		//If the profiler is enabled, display the timings of the previous frames. Does nothing if the overlay is hidden.
+		if(profilerOverlay != null)
+			profilerOverlay.render();
 	}
 	
 	/** Delegates when either the hardware back button is pressed, or the back button is pressed from the HUD. */
@@ -725,6 +817,9 @@ public class GameScreen extends Screen
 			//Empties the crafting table. True argument ensures that all items in the crafting table are transfered back into the inventory so that the items aren't lost.
 			craftingHud.emptyCraftingTable(true);
 		
+		//Releases the GameObjects created during bursts of activity, since the application may stay in the background.
+		world.getGOManager().trimPools();
+		
 		//Updates the profile used by the player according to the world's state, and saves the profile to the hard drive.
 		settings.save();
 	}
@@ -738,6 +833,25 @@ public class GameScreen extends Screen
 	@Override 
 	public void dispose()
 	{		
+		//Logs how the GameObject pools were used, so that their warm-up counts can be sized from real play sessions.
+		world.getGOManager().logPoolStatistics();
+		
+		//Releases the resources held by the world, such as its worker threads.
+		world.dispose();
+		//Stops the crafting HUD from listening to the player's inventory, which is kept inside the profile.
+		craftingHud.dispose();
+		
+		//If the render statistics were counted, write the last frames to the CSV file, and dispose of the HUD's batch, which the stage does not own.
+		if(renderStats != null)
+		{
+			renderStats.flushCsv();
+			hudBatcher.dispose();
+		}
+		
+		//Disposes of the profiler's overlay, if any.
+		if(profilerOverlay != null)
+			profilerOverlay.dispose();
+		
 		//Dispose of the assets used by the GameScreen.
 		super.dispose();
 	}
@@ -758,6 +872,13 @@ public class GameScreen extends Screen
 		//how to re-position and resize its widgets accordingly.
 		hud.reset(guiWidth, guiHeight);
 		
+		//Resizes the overlay displaying the render statistics, if any, so that it is placed in GUI coordinates.
+		if(renderStatsOverlay != null)
+			renderStatsOverlay.resize(guiWidth, guiHeight);
+		//Resizes the profiler's overlay, if any.
+		if(profilerOverlay != null)
+			profilerOverlay.resize(guiWidth, guiHeight);
+		
 		//Resizes the camera used by the world renderer. We specify the worldWidth and worldHeight. They store the desired size of a camera which displays the world.
 		//These values were resized according to the aspect ratio of the screen so that nothing is stretched, and that the world coordinate system stays the same. The
 		//third parameter passes the smaller of scaleX and scaleY, telling the renderer to render lines at a larger or smaller thickness depending on how much the
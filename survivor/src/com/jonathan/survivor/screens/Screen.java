@@ -10,6 +10,8 @@ import com.jonathan.survivor.managers.MusicManager;
 import com.jonathan.survivor.managers.PreferencesManager;
 import com.jonathan.survivor.managers.ProfileManager;
 import com.jonathan.survivor.managers.SoundManager;
+import com.jonathan.survivor.renderers.CountingSpriteBatch;
+import com.jonathan.survivor.renderers.RenderStats;
 
 public abstract class Screen implements com.badlogic.gdx.Screen
 {
@@ -66,7 +68,8 @@ public abstract class Screen implements com.badlogic.gdx.Screen
 		settings = game.getSettings();
 		
 		//Create a new SpriteBatch which can batch one hundred sprites at once. This is a convenience variable, since virtually all screens need a batcher.
-		batcher = new SpriteBatch();
+		//In debug mode, the batcher counts the draw calls, flushes, texture switches and blend changes it submits to the GPU.
+		batcher = Survivor.DEBUG_MODE ? new CountingSpriteBatch(new RenderStats()) : new SpriteBatch();
 	}
 	
 	/** Called every frame to update game logic or draw graphics to the screen */
@@ -0,0 +1,137 @@
+package com.jonathan.survivor.utils;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.TimeUtils;
+import com.jonathan.survivor.Survivor;
+
+/*
+ * Measures the time spent in each phase of a frame, such as updating the zombies or drawing the GameObjects. Each phase is surrounded by a begin() and end()
+ * marker, and the time between them is summed over the frame. When the frame ends, the total of each phase is stored in a ring buffer holding the last
+ * FRAME_COUNT frames, from which percentiles are computed. Every buffer is allocated up front. When ENABLED is false, the markers return immediately, and
+ * since ENABLED is a constant, the compiler removes their bodies, so that the markers can stay in release builds.
+ */
+
+public class Profiler
+{
+	/** Stores whether or not the markers measure time. A constant, so that the markers compile to nothing in release builds. */
+	public static final boolean ENABLED = Survivor.DEBUG_MODE;
+
+	/** Stores the amount of frames kept for each phase. Percentiles are computed over these frames. */
+	public static final int FRAME_COUNT = 120;
+
+	/** Lists the phases of a frame which are measured. A phase which begins while another phase is running is drawn below it in the flame bar. */
+	public enum Phase {
+		FRAME, WORLD, PLAYER, COLLISIONS, LEVEL_OBJECTS, ZOMBIES, SPATIAL_INDICES, TERRAIN_SHIFT, RENDER, RENDER_LEVEL, RENDER_GAME_OBJECTS, RENDER_ANIMATIONS,
+		RENDER_EFFECTS, HUD
+	}
+
+	/** Holds every phase, since Phase.values() creates a new array on every call. */
+	private static final Phase[] phases = Phase.values();
+
+	/** Stores the time at which each phase last began, in nanoseconds. */
+	private static final long[] startTimes = new long[phases.length];
+	/** Stores the time spent in each phase since the frame began, in nanoseconds. */
+	private static final long[] frameTimes = new long[phases.length];
+
+	/** Stores the time spent in each phase during the last FRAME_COUNT frames, in milliseconds. Indexed by phase, then by frame. */
+	private static final float[][] history = new float[phases.length][FRAME_COUNT];
+	/** Stores the index in the history where the next frame is written, along with the amount of frames written, up to FRAME_COUNT. */
+	private static int frameIndex, framesRecorded;
+
+	/** Holds the phases which are currently running, from the outermost to the innermost. */
+	private static final Phase[] stack = new Phase[phases.length];
+	/** Stores the amount of phases currently running. */
+	private static int depth;
+	/** Stores, for each phase, the phase which was running when it last began. Null for phases which began while no other phase was running. */
+	private static final Phase[] parents = new Phase[phases.length];
+
+	/** Helper array where the history of a phase is copied and sorted to compute its percentiles. */
+	private static final float[] sortedTimes = new float[FRAME_COUNT];
+
+	/** Marks the beginning of the given phase. Must be followed by a call to end() with the same phase. */
+	public static void begin(Phase phase)
+	{
+		if(!ENABLED)
+			return;
+
+		//Stores the phase which is running around this one, and pushes this phase on top of the running phases.
+		parents[phase.ordinal()] = (depth > 0)? stack[depth-1] : null;
+		stack[depth++] = phase;
+
+		//Stores the time at which the phase began.
+		startTimes[phase.ordinal()] = TimeUtils.nanoTime();
+	}
+
+	/** Marks the end of the given phase. The time elapsed since begin() is added to the phase's time for this frame. */
+	public static void end(Phase phase)
+	{
+		if(!ENABLED)
+			return;
+
+		//Adds the time elapsed since the phase began, and pops the phase from the running phases.
+		frameTimes[phase.ordinal()] += TimeUtils.nanoTime() - startTimes[phase.ordinal()];
+		depth--;
+	}
+
+	/** Called once every frame is done. Stores the time spent in each phase during the frame inside the history, and starts a new frame. */
+	public static void endFrame()
+	{
+		if(!ENABLED)
+			return;
+
+		//Moves the time of each phase into the history, converted into milliseconds, and resets it for the next frame.
+		for(int i = 0; i < phases.length; i++)
+		{
+			history[i][frameIndex] = frameTimes[i] / 1000000f;
+			frameTimes[i] = 0;
+		}
+
+		//Moves on to the next frame in the ring buffer.
+		frameIndex = (frameIndex + 1) % FRAME_COUNT;
+		framesRecorded = Math.min(framesRecorded + 1, FRAME_COUNT);
+	}
+
+	/** Returns the time, in milliseconds, under which the given phase ran for the given fraction of the recorded frames. For instance, a fraction of 0.95
+	 *  returns the 95th percentile. Returns 0 if no frames were recorded. */
+	public static float getPercentile(Phase phase, float fraction)
+	{
+		//If no frames were recorded, the phase has no timings.
+		if(framesRecorded == 0)
+			return 0;
+
+		//Copies the recorded times of the phase, and sorts them.
+		System.arraycopy(history[phase.ordinal()], 0, sortedTimes, 0, framesRecorded);
+		Arrays.sort(sortedTimes, 0, framesRecorded);
+
+		//Returns the time at the given fraction of the sorted times.
+		return sortedTimes[Math.min((int)(fraction * framesRecorded), framesRecorded - 1)];
+	}
+
+	/** Returns the average time spent in the given phase per frame, in milliseconds, over the recorded frames. */
+	public static float getAverage(Phase phase)
+	{
+		//If no frames were recorded, the phase has no timings.
+		if(framesRecorded == 0)
+			return 0;
+
+		//Sums the recorded times of the phase, and divides them by the amount of frames.
+		float sum = 0;
+		for(int i = 0; i < framesRecorded; i++)
+			sum += history[phase.ordinal()][i];
+
+		return sum / framesRecorded;
+	}
+
+	/** Returns the phase which was running when the given phase last began, or null if no other phase was running. */
+	public static Phase getParent(Phase phase)
+	{
+		return parents[phase.ordinal()];
+	}
+
+	/** Returns the amount of frames recorded, up to FRAME_COUNT. */
+	public static int getFramesRecorded()
+	{
+		return framesRecorded;
+	}
+}
@@ -0,0 +1,122 @@
+package com.jonathan.survivor.utils;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.esotericsoftware.spine.SkeletonBinary;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.SkeletonJson;
+
+/*
+ * Loads Spine skeletons through an AssetManager. The skeleton's attachments are found in a TextureAtlas, which is loaded first as a dependency of the
+ * skeleton. The skeleton is parsed on the AssetManager's loading thread, so that the render thread keeps drawing the loading screen. Files ending in ".skel"
+ * are read with a SkeletonBinary, and any other file is parsed with a SkeletonJson. Each skeleton is scaled by the amount given in its parameters.
+ */
+
+public class SkeletonDataLoader extends AsynchronousAssetLoader<SkeletonData, SkeletonDataLoader.SkeletonDataParameter>
+{
+	/** Stores the extension of the binary skeletons. Any other file is assumed to be a JSON skeleton. */
+	public static final String BINARY_EXTENSION = ".skel";
+
+	/** Stores the skeleton read by loadAsync(), which is returned by loadSync(). The AssetManager loads one asset at a time, so one field suffices. */
+	private SkeletonData skeletonData;
+
+	/** Creates a loader which resolves the skeleton files using the given resolver. */
+	public SkeletonDataLoader(FileHandleResolver resolver)
+	{
+		super(resolver);
+	}
+
+	/** Returns the TextureAtlas holding the skeleton's attachments, if it must be loaded by the AssetManager. The raw AssetDescriptor type is the one
+	 *  declared by AssetLoader.getDependencies(), so it must be kept to override the method. */
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, SkeletonDataParameter parameter)
+	{
+		//Every skeleton needs the atlas holding its attachments.
+		if(parameter == null)
+			throw new GdxRuntimeException("The atlas of the skeleton " + fileName + " must be given in a SkeletonDataParameter.");
+
+		//If the atlas was loaded outside of the AssetManager, the skeleton has no dependencies.
+		if(parameter.atlasFileName == null)
+			return null;
+
+		//Else, the atlas is loaded by the AssetManager before the skeleton.
+		Array<AssetDescriptor> dependencies = new Array<AssetDescriptor>();
+		dependencies.add(new AssetDescriptor<TextureAtlas>(parameter.atlasFileName, TextureAtlas.class));
+		return dependencies;
+	}
+
+	/** Parses the skeleton on the AssetManager's loading thread. Only reads the atlas, whose textures have already been loaded. */
+	@Override
+	public void loadAsync(AssetManager manager, String fileName, FileHandle file, SkeletonDataParameter parameter)
+	{
+		//Retrieves the atlas holding the skeleton's attachments, either from the parameter, or from the AssetManager.
+		TextureAtlas atlas = (parameter.atlasFileName != null) ? manager.get(parameter.atlasFileName, TextureAtlas.class) : parameter.atlas;
+		if(atlas == null)
+			throw new GdxRuntimeException("The atlas of the skeleton " + fileName + " has not been loaded.");
+
+		//Reads the skeleton, which is returned by loadSync().
+		skeletonData = read(file, atlas, parameter.scale);
+	}
+
+	/** Returns the skeleton parsed by loadAsync(). */
+	@Override
+	public SkeletonData loadSync(AssetManager manager, String fileName, FileHandle file, SkeletonDataParameter parameter)
+	{
+		//Returns the parsed skeleton, and releases the loader's reference to it.
+		SkeletonData skeletonData = this.skeletonData;
+		this.skeletonData = null;
+		return skeletonData;
+	}
+
+	/** Reads the skeleton stored in the given file. Its attachments are found in the given atlas, and its bones, images and animations are scaled by the given
+	 *  amount. Reads the file with a SkeletonBinary if it ends in ".skel", or with a SkeletonJson otherwise. */
+	public static SkeletonData read(FileHandle file, TextureAtlas atlas, float scale)
+	{
+		//If the file is a binary skeleton, read it with a SkeletonBinary.
+		if(file.name().endsWith(BINARY_EXTENSION))
+		{
+			SkeletonBinary skeletonBinary = new SkeletonBinary(atlas);
+			skeletonBinary.setScale(scale);
+			return skeletonBinary.readSkeletonData(file);
+		}
+
+		//Else, parse the file with a SkeletonJson.
+		SkeletonJson skeletonJson = new SkeletonJson(atlas);
+		skeletonJson.setScale(scale);
+		return skeletonJson.readSkeletonData(file);
+	}
+
+	/** Holds the atlas and the scale used to load a skeleton. */
+	public static class SkeletonDataParameter extends AssetLoaderParameters<SkeletonData>
+	{
+		/** Stores the file name of the atlas holding the skeleton's attachments. The atlas is loaded by the AssetManager as a dependency of the skeleton. */
+		public String atlasFileName;
+		/** Stores the atlas holding the skeleton's attachments, if it was loaded outside of the AssetManager. Only used if 'atlasFileName' is null, and may be
+		 *  set after the skeleton is queued, as long as it is set before the AssetManager loads the skeleton. */
+		public TextureAtlas atlas;
+		/** Stores the amount the skeleton's bones, images and animations are scaled by. */
+		public float scale = 1;
+
+		/** Creates a parameter which loads the skeleton at the given scale, with the atlas of the given file name loaded by the AssetManager. */
+		public SkeletonDataParameter(String atlasFileName, float scale)
+		{
+			this.atlasFileName = atlasFileName;
+			this.scale = scale;
+		}
+
+		/** Creates a parameter which loads the skeleton at the given scale, with the given atlas loaded outside of the AssetManager. */
+		public SkeletonDataParameter(TextureAtlas atlas, float scale)
+		{
+			this.atlas = atlas;
+			this.scale = scale;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.jonathan.survivor.utils;
+
+import com.jonathan.survivor.TerrainPrefetcher.Shift;
+
+/*
+ * Receives the events recorded by the Tracer. Implemented on the desktop by the writers of the survivor-tools project, which record the events for later
+ * inspection. Methods are called on the render thread, so implementations must return quickly and leave any I/O to another thread. Times are in nanoseconds,
+ * as returned by Tracer.now().
+ */
+
+public interface TraceListener
+{
+	/** Called once a frame has been updated and drawn. */
+	void frameEnded(long startTime, long endTime);
+
+	/** Called when the TerrainLevel shifts its layers. The row and column are those of the first layer re-purposed by the shift. */
+	void layersShifted(Shift shift, int row, int col, int objectsSpawned, long startTime, long endTime);
+
+	/** Called when a GameObject pool had no free objects, and had to create a new one mid-game. */
+	void poolMissed(String poolName, int liveObjects);
+
+	/** Called once a group of assets has been loaded, such as the assets loaded by the AssetManager or the fonts created afterwards. */
+	void assetsLoaded(String group, long startTime, long endTime);
+
+	/** Called once a profile has been saved to the hard drive. */
+	void profileSaved(int profileId, long startTime, long endTime);
+
+	/** Called when the player enters combat with a zombie. */
+	void combatEntered();
+
+	/** Called when the player leaves combat. 'playerDied' is true if the player lost the fight. */
+	void combatExited(boolean playerDied);
+}
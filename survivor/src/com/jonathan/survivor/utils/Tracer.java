@@ -0,0 +1,89 @@
+package com.jonathan.survivor.utils;
+
+import com.badlogic.gdx.utils.TimeUtils;
+import com.jonathan.survivor.TerrainPrefetcher.Shift;
+
+/*
+ * Records structured events about a play session, such as layer shifts, pool misses or profile saves, and forwards them to a TraceListener. The game itself
+ * records nothing; a desktop launcher registers one of the writers from the survivor-tools project to trace a session. When no listener is registered, every
+ * method returns immediately.
+ */
+
+public class Tracer
+{
+	/** Stores the listener receiving the events. Null if the session isn't traced. */
+	private static TraceListener listener;
+
+	/** Registers the listener which receives the events. Pass null to stop tracing. */
+	public static void setListener(TraceListener listener)
+	{
+		Tracer.listener = listener;
+	}
+
+	/** Returns the listener receiving the events, or null if the session isn't traced. */
+	public static TraceListener getListener()
+	{
+		return listener;
+	}
+
+	/** Returns true if the session is traced. */
+	public static boolean isEnabled()
+	{
+		return listener != null;
+	}
+
+	/** Returns the current time in nanoseconds, used to time the traced events. */
+	public static long now()
+	{
+		return TimeUtils.nanoTime();
+	}
+
+	/** Records the end of a frame which started at the given time. */
+	public static void frameEnded(long startTime)
+	{
+		if(listener != null)
+			listener.frameEnded(startTime, now());
+	}
+
+	/** Records a shift of the TerrainLevel's layers which started at the given time. */
+	public static void layersShifted(Shift shift, int row, int col, int objectsSpawned, long startTime)
+	{
+		if(listener != null)
+			listener.layersShifted(shift, row, col, objectsSpawned, startTime, now());
+	}
+
+	/** Records a miss of the pool with the given name. */
+	public static void poolMissed(String poolName, int liveObjects)
+	{
+		if(listener != null)
+			listener.poolMissed(poolName, liveObjects);
+	}
+
+	/** Records the loading of a group of assets which started at the given time. */
+	public static void assetsLoaded(String group, long startTime)
+	{
+		if(listener != null)
+			listener.assetsLoaded(group, startTime, now());
+	}
+
+	/** Records the save of a profile which started at the given time. */
+	public static void profileSaved(int profileId, long startTime)
+	{
+		if(listener != null)
+			listener.profileSaved(profileId, startTime, now());
+	}
+
+	/** Records the player entering combat. */
+	public static void combatEntered()
+	{
+		if(listener != null)
+			listener.combatEntered();
+	}
+
+	/** Records the player leaving combat. */
+	public static void combatExited(boolean playerDied)
+	{
+		if(listener != null)
+			listener.combatExited(playerDied);
+	}
+}